@@ -0,0 +1,74 @@
+package br.com.maicon.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.maicon.data.dto.v1.ProfissionaisDTO;
+import br.com.maicon.data.dto.v1.utils.DtoUtils;
+import br.com.maicon.data.dto.v1.utils.FieldFilteredList;
+
+/**
+ * Compara a serialização da resposta de listagem pelo caminho antigo, com um {@link Map} intermediário por DTO
+ * ({@link DtoUtils#convertToMap(Object)} / {@link DtoUtils#filterFields(Object, List)}), com a serialização direta
+ * através dos {@link com.fasterxml.jackson.databind.ObjectWriter} em cache de {@link FieldFilteredList}.
+ *
+ * <p>Execução: {@code mvn -Pjmh test-compile exec:exec -Djmh.args="DtoSerializationBenchmark -prof gc"}</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DtoSerializationBenchmark {
+
+    @Param({"1", "1000"})
+    public int size;
+
+    @Param({"", "id,nome"})
+    public String fields;
+
+    private final ObjectMapper responseMapper = new ObjectMapper();
+    private List<ProfissionaisDTO> dtos;
+    private List<String> fieldList;
+
+    @Setup
+    public void setUp() {
+        dtos = Fixtures.profissionaisDtos(size);
+        fieldList = fields.isEmpty() ? List.of() : List.of(fields.split(","));
+    }
+
+    @Benchmark
+    public void mapPerDto() throws IOException {
+        List<Map<String, Object>> maps = dtos.stream()
+                .map(dto -> fieldList.isEmpty() ? DtoUtils.convertToMap(dto) : DtoUtils.filterFields(dto, fieldList))
+                .toList();
+        responseMapper.writeValue(OutputStream.nullOutputStream(), maps);
+    }
+
+    @Benchmark
+    public void cachedFilteringWriter() throws IOException {
+        responseMapper.writeValue(OutputStream.nullOutputStream(),
+                new FieldFilteredList<>(dtos, ProfissionaisDTO.class, fieldList));
+    }
+}
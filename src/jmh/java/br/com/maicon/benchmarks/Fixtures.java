@@ -0,0 +1,52 @@
+package br.com.maicon.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import br.com.maicon.data.dto.v1.ProfissionaisDTO;
+import br.com.maicon.models.Profissionais;
+
+/**
+ * Massa de dados compartilhada pelos benchmarks.
+ *
+ * <p>Os registros gerados são válidos segundo as regras de {@link br.com.maicon.services.validation.ProfissionaisValidator},
+ * para que os benchmarks de validação meçam o caminho de sucesso, que é o mais frequente.</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+final class Fixtures {
+
+    private static final String[] CARGOS = {"Desenvolvedor", "Designer", "Suporte", "Tester"};
+
+    private Fixtures() {}
+
+    static List<Profissionais> profissionais(int size) {
+        List<Profissionais> entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Profissionais entity = new Profissionais();
+            entity.setId((long) i);
+            entity.setNome("Nome Teste " + i);
+            entity.setCargo(CARGOS[i % CARGOS.length]);
+            entity.setNascimento(new Date());
+            entity.setCreatedDate(new Date());
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    static List<ProfissionaisDTO> profissionaisDtos(int size) {
+        List<ProfissionaisDTO> dtos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ProfissionaisDTO dto = new ProfissionaisDTO();
+            dto.setId((long) i);
+            dto.setNome("Nome Teste " + i);
+            dto.setCargo(CARGOS[i % CARGOS.length]);
+            dto.setNascimento(new Date());
+            dto.setCreatedDate(new Date());
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.maicon.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.maicon.data.dto.v1.ProfissionaisDTO;
+import br.com.maicon.data.dto.v1.utils.DtoUtils;
+import br.com.maicon.mapper.DozerMapper;
+import br.com.maicon.models.Profissionais;
+import br.com.maicon.services.validation.ProfissionaisValidator;
+import br.com.maicon.services.validation.base.ValidatorBase;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Benchmarks dos componentes executados em toda requisição de listagem e de escrita: mapeamento entidade → DTO,
+ * filtragem de campos, validação e serialização Jackson da lista de DTOs.
+ *
+ * <p>Cada benchmark é executado com listas de 1, 1.000 e 100.000 elementos, em dois modos: {@link Mode#Throughput}
+ * (operações por segundo) e {@link Mode#SampleTime} (latência, com os percentis p50, p90, p99, p99.9...).
+ * A taxa de alocação é obtida com o profiler {@code gc}, habilitado por padrão no perfil {@code jmh} do Maven.</p>
+ *
+ * <b>Execução:</b>
+ * <ul>
+ *   <li>Todos: {@code mvn -Pjmh test-compile exec:exec}</li>
+ *   <li>Apenas um tamanho: {@code mvn -Pjmh test-compile exec:exec -Djmh.args="HotPathBenchmark -p size=1000 -prof gc"}</li>
+ * </ul>
+ *
+ * <p>Os resultados são gravados em {@code target/jmh-result.json}, que pode ser comparado entre execuções
+ * para acompanhar regressões.</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HotPathBenchmark {
+
+    private static final List<String> FIELDS = List.of("id", "nome");
+
+    @Param({"1", "1000", "100000"})
+    public int size;
+
+    private List<Profissionais> entities;
+    private List<ProfissionaisDTO> dtos;
+    private ValidatorFactory validatorFactory;
+    private ValidatorBase<ProfissionaisDTO> validatorBase;
+    private ProfissionaisValidator profissionaisValidator;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        entities = Fixtures.profissionais(size);
+        dtos = Fixtures.profissionaisDtos(size);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validatorBase = new ValidatorBase<>(validatorFactory.getValidator());
+        profissionaisValidator = new ProfissionaisValidator(validatorFactory.getValidator());
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public List<ProfissionaisDTO> parseListObjects() {
+        return DozerMapper.parseListObjects(entities, ProfissionaisDTO.class);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> filterFields() {
+        List<Map<String, Object>> maps = new ArrayList<>(dtos.size());
+        for (ProfissionaisDTO dto : dtos) {
+            maps.add(DtoUtils.filterFields(dto, FIELDS));
+        }
+        return maps;
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> convertToMap() {
+        List<Map<String, Object>> maps = new ArrayList<>(dtos.size());
+        for (ProfissionaisDTO dto : dtos) {
+            maps.add(DtoUtils.convertToMap(dto));
+        }
+        return maps;
+    }
+
+    @Benchmark
+    public void validateBase(Blackhole blackhole) {
+        for (ProfissionaisDTO dto : dtos) {
+            blackhole.consume(validatorBase.validateBase(dto));
+        }
+    }
+
+    @Benchmark
+    public void profissionaisValidator(Blackhole blackhole) {
+        for (ProfissionaisDTO dto : dtos) {
+            blackhole.consume(profissionaisValidator.validate(dto));
+        }
+    }
+
+    @Benchmark
+    public void jacksonSerialization() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), dtos);
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.maicon.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+
+import br.com.maicon.data.dto.v1.ProfissionaisDTO;
+import br.com.maicon.mapper.DozerMapper;
+import br.com.maicon.models.Profissionais;
+
+/**
+ * Compara o custo por objeto e a alocação do mapeamento entidade → DTO pelo Dozer (reflexivo, implementação
+ * anterior) com os mapeadores gerados pelo MapStruct, acessados através de {@link DozerMapper}.
+ *
+ * <p>Com {@code size = 1} o resultado corresponde ao custo de um único objeto ({@code findById});
+ * com {@code size = 1000}, ao de uma listagem. A alocação por operação é informada pelo profiler
+ * {@code gc} ({@code gc.alloc.rate.norm}).</p>
+ *
+ * <p>Execução: {@code mvn -Pjmh test-compile exec:exec -Djmh.args="MappingBenchmark -prof gc"}</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MappingBenchmark {
+
+    @Param({"1", "1000"})
+    public int size;
+
+    private Mapper dozer;
+    private List<Profissionais> entities;
+
+    @Setup
+    public void setUp() {
+        dozer = DozerBeanMapperBuilder.buildDefault();
+        entities = Fixtures.profissionais(size);
+    }
+
+    @Benchmark
+    public List<ProfissionaisDTO> dozerReflective() {
+        List<ProfissionaisDTO> dtos = new ArrayList<>(entities.size());
+        for (Profissionais entity : entities) {
+            dtos.add(dozer.map(entity, ProfissionaisDTO.class));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<ProfissionaisDTO> generatedMapper() {
+        return DozerMapper.parseListObjects(entities, ProfissionaisDTO.class);
+    }
+}
@@ -0,0 +1,151 @@
+package br.com.maicon.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Teste de carga do {@code ProfissionaisController} para comparar o servidor com threads de plataforma e com
+ * virtual threads ({@code spring.threads.virtual.enabled}).
+ *
+ * <p>Para cada nível de concorrência (por padrão 100, 1.000 e 10.000 conexões simultâneas), cada conexão é simulada
+ * por uma virtual thread que envia requisições {@code GET} em sequência durante o tempo de medição, após um período
+ * de aquecimento. Ao final de cada nível são impressos, em CSV, a vazão (requisições por segundo) e as latências
+ * p50, p99 e máxima.</p>
+ *
+ * <b>Execução:</b>
+ * <ol>
+ *   <li>Iniciar a aplicação com threads de plataforma: {@code VIRTUAL_THREADS_ENABLED=false mvn spring-boot:run}</li>
+ *   <li>Executar a carga: {@code mvn -Pjmh test-compile exec:java -Dexec.classpathScope=test
+ *       -Dexec.mainClass=br.com.maicon.benchmarks.ProfissionaisLoadComparison
+ *       -Dexec.args="http://localhost:8080/api/profissionais/v1 30 100,1000,10000"}</li>
+ *   <li>Repetir com {@code VIRTUAL_THREADS_ENABLED=true} e comparar as duas tabelas.</li>
+ * </ol>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>Os argumentos (todos opcionais) são a URL, a duração da medição em segundos e os níveis de concorrência.</li>
+ *   <li>Com 10.000 conexões, o limite de arquivos abertos do sistema operacional ({@code ulimit -n}) deve ser
+ *       ajustado no cliente e no servidor.</li>
+ *   <li>Requisições com status diferente de 2xx/304 ou com falha de conexão são contadas como erros e não entram
+ *       nos percentis.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public final class ProfissionaisLoadComparison {
+
+    private static final String DEFAULT_URL = "http://localhost:8080/api/profissionais/v1";
+    private static final int DEFAULT_SECONDS = 30;
+    private static final int[] DEFAULT_CONCURRENCY = {100, 1_000, 10_000};
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private ProfissionaisLoadComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI target = URI.create(args.length > 0 ? args[0] : DEFAULT_URL);
+        Duration measurement = Duration.ofSeconds(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SECONDS);
+        int[] levels = args.length > 2
+                ? Arrays.stream(args[2].split(",")).mapToInt(level -> Integer.parseInt(level.trim())).toArray()
+                : DEFAULT_CONCURRENCY;
+
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build()) {
+            System.out.println("connections,requests,errors,throughput_rps,p50_ms,p99_ms,max_ms");
+            for (int connections : levels) {
+                run(client, target, connections, WARMUP);
+                Result result = run(client, target, connections, measurement);
+                System.out.println(result.toCsv(connections, measurement));
+            }
+        }
+    }
+
+    private static Result run(HttpClient client, URI target, int connections, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(target).timeout(REQUEST_TIMEOUT).GET().build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Result>> workers = new ArrayList<>(connections);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < connections; i++) {
+                workers.add(executor.submit(() -> {
+                    Result result = new Result();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status < 300 || status == 304) {
+                                result.add(System.nanoTime() - start);
+                            } else {
+                                result.errors++;
+                            }
+                        } catch (IOException ex) {
+                            result.errors++;
+                        }
+                    }
+                    return result;
+                }));
+            }
+        }
+
+        Result total = new Result();
+        for (Future<Result> worker : workers) {
+            total.merge(worker.get());
+        }
+        return total;
+    }
+
+    private static final class Result {
+
+        private long[] latencies = new long[256];
+        private int count;
+        private long errors;
+
+        void add(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        void merge(Result other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+
+        String toCsv(int connections, Duration measurement) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            double throughput = count / (measurement.toMillis() / 1000.0);
+            return String.format(Locale.ROOT, "%d,%d,%d,%.1f,%.2f,%.2f,%.2f", connections, count, errors, throughput,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), count == 0 ? 0.0 : sorted[count - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package br.com.maicon.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.slf4j.MDC;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import br.com.maicon.datasource.ConsistencyToken;
+import br.com.maicon.diagnostics.StatementCounter;
+
+/**
+ * Base dos caches em memória de DTOs, indexados pelo ID da entidade.
+ *
+ * <p>Cada cache é limitado em quantidade de entradas (as menos utilizadas são descartadas primeiro) e em tempo
+ * de vida desde a gravação. As buscas por ID consultam o cache antes do banco de dados; as escritas invalidam as
+ * entradas afetadas, de modo que a leitura seguinte recarregue o registro.</p>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>Quando a invalidação ocorre dentro de uma transação, ela é repetida após o {@code commit}, para descartar
+ *       um valor antigo que tenha sido carregado por outra requisição antes de a alteração ficar visível.</li>
+ *   <li>Os DTOs em cache são compartilhados entre as requisições e não devem ser modificados.</li>
+ *   <li>O carregamento é executado em uma virtual thread própria, fora do {@code compute} do mapa interno: a consulta
+ *       JDBC nunca ocorre dentro de um bloco {@code synchronized}, que fixaria (pinning) a thread portadora da
+ *       virtual thread da requisição durante toda a consulta.</li>
+ *   <li>As estatísticas de acertos, faltas e descartes estão disponíveis em {@link #stats()} e, como métricas do
+ *       Micrometer, através de {@link DtoCacheMetrics}.</li>
+ * </ul>
+ *
+ * @param <V> O tipo do DTO armazenado.
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public abstract class AbstractDtoCache<V> {
+
+    private static final Executor LOAD_EXECUTOR = task -> Thread.ofVirtual().name("dto-cache-loader").start(task);
+
+    private final String name;
+    private final AsyncCache<Long, V> asyncCache;
+    private final Cache<Long, V> cache;
+
+    /**
+     * Cria o cache com os limites informados.
+     *
+     * @param name Nome do cache, utilizado nas estatísticas.
+     * @param maximumSize Quantidade máxima de entradas.
+     * @param expireAfterWrite Tempo de vida de cada entrada desde a gravação.
+     */
+    protected AbstractDtoCache(String name, long maximumSize, Duration expireAfterWrite) {
+        this.name = name;
+        this.asyncCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+        this.cache = asyncCache.synchronous();
+    }
+
+    /**
+     * Retorna o nome do cache.
+     *
+     * @return O nome do cache.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retorna o DTO do ID informado, carregando-o com a função informada se ele não estiver em cache.
+     *
+     * <p>Requisições simultâneas pelo mesmo ID aguardam um único carregamento. Exceções lançadas pela função
+     * são propagadas e nada é armazenado.</p>
+     *
+     * <p>A função é executada em uma virtual thread separada enquanto a thread chamadora aguarda o resultado; uma
+     * virtual thread aguardando dessa forma libera a sua thread portadora. O contexto de log (MDC) da requisição que
+     * dispara o carregamento é copiado para essa virtual thread, para que os logs da função mantenham o identificador
+     * e a amostragem da requisição, assim como o {@link StatementCounter} da requisição, para que as instruções SQL
+     * da função sejam contadas nela.</p>
+     *
+     * <p>Como as entradas são compartilhadas entre as requisições, a função é executada exigindo
+     * {@link ConsistencyToken#CURRENT_PRIMARY}: a leitura só é atendida por uma réplica que já tenha aplicado a posição
+     * atual do WAL do primário, e nunca armazena um registro anterior à última invalidação. Uma requisição que envia
+     * um {@link ConsistencyToken} não consulta nem alimenta o cache: a função é executada diretamente na thread
+     * chamadora, respeitando a posição exigida, pois uma entrada em cache não informa a posição em que foi lida.</p>
+     *
+     * @param id O ID da entidade.
+     * @param loader Função que carrega o DTO a partir do banco de dados.
+     * @return O DTO.
+     */
+    public V get(Long id, Function<Long, V> loader) {
+        if (ConsistencyToken.required() > 0) {
+            return loader.apply(id);
+        }
+        CompletableFuture<V> future = asyncCache.get(id,
+                (key, executor) -> {
+                    Map<String, String> logContext = MDC.getCopyOfContextMap();
+                    StatementCounter statementCounter = StatementCounter.current();
+                    return CompletableFuture.supplyAsync(
+                            () -> load(key, loader, logContext, statementCounter), LOAD_EXECUTOR);
+                });
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            asyncCache.asMap().remove(id, future);
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Remove do cache o DTO do ID informado.
+     *
+     * @param id O ID da entidade.
+     */
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+        afterCommit(() -> cache.invalidate(id));
+    }
+
+    /**
+     * Remove do cache os DTOs que satisfazem a condição informada.
+     *
+     * <p>Percorre apenas as entradas em cache, sem acessar o banco de dados.</p>
+     *
+     * @param condition Condição avaliada para cada DTO em cache.
+     */
+    public void invalidateIf(Predicate<V> condition) {
+        cache.asMap().values().removeIf(condition);
+        afterCommit(() -> cache.asMap().values().removeIf(condition));
+    }
+
+    /**
+     * Retorna as estatísticas acumuladas do cache.
+     *
+     * @return As estatísticas do cache.
+     */
+    public CacheStatistics stats() {
+        cache.cleanUp();
+        CacheStats stats = cache.stats();
+        return new CacheStatistics(name, cache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), stats.averageLoadPenalty());
+    }
+
+    /**
+     * Retorna o cache do Caffeine, para o registro das métricas.
+     *
+     * @return A visão síncrona do cache.
+     */
+    Cache<Long, V> nativeCache() {
+        return cache;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private static <V> V load(Long id, Function<Long, V> loader, Map<String, String> logContext,
+            StatementCounter statementCounter) {
+        if (logContext != null) {
+            MDC.setContextMap(logContext);
+        }
+        ConsistencyToken.require(ConsistencyToken.CURRENT_PRIMARY);
+        StatementCounter.attach(statementCounter);
+        try {
+            return loader.apply(id);
+        } finally {
+            MDC.clear();
+            ConsistencyToken.clear();
+            StatementCounter.stop();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.maicon.cache;
+
+import lombok.Data;
+
+/**
+ * Classe que representa as estatísticas acumuladas de um cache desde o início da aplicação.
+ *
+ * <b>Campos:</b>
+ * <ul>
+ *   <li>{@link #name}: Nome do cache.</li>
+ *   <li>{@link #size}: Quantidade aproximada de entradas em cache.</li>
+ *   <li>{@link #hitCount}: Quantidade de buscas atendidas pelo cache.</li>
+ *   <li>{@link #missCount}: Quantidade de buscas que precisaram acessar o banco de dados.</li>
+ *   <li>{@link #hitRate}: Proporção de buscas atendidas pelo cache, entre 0 e 1.</li>
+ *   <li>{@link #evictionCount}: Quantidade de entradas descartadas por limite de tamanho ou expiração.</li>
+ *   <li>{@link #averageLoadPenaltyNanos}: Tempo médio de carregamento de uma entrada, em nanossegundos.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Data
+public class CacheStatistics {
+
+    /**
+     * Nome do cache.
+     */
+    private final String name;
+
+    /**
+     * Quantidade aproximada de entradas em cache.
+     */
+    private final long size;
+
+    /**
+     * Quantidade de buscas atendidas pelo cache.
+     */
+    private final long hitCount;
+
+    /**
+     * Quantidade de buscas que precisaram acessar o banco de dados.
+     */
+    private final long missCount;
+
+    /**
+     * Proporção de buscas atendidas pelo cache, entre 0 e 1.
+     */
+    private final double hitRate;
+
+    /**
+     * Quantidade de entradas descartadas por limite de tamanho ou expiração.
+     */
+    private final long evictionCount;
+
+    /**
+     * Tempo médio de carregamento de uma entrada, em nanossegundos.
+     */
+    private final double averageLoadPenaltyNanos;
+}
@@ -0,0 +1,41 @@
+package br.com.maicon.cache;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Registra as estatísticas dos caches de DTOs ({@link AbstractDtoCache}) como métricas do Micrometer.
+ *
+ * <p>Para cada cache são publicadas as métricas {@code cache.gets} (acertos e faltas), {@code cache.size},
+ * {@code cache.evictions} e {@code cache.load.duration}, com a tag {@code cache} igual ao nome do cache
+ * ({@link AbstractDtoCache#getName()}).</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Component
+public class DtoCacheMetrics implements MeterBinder {
+
+    private final List<AbstractDtoCache<?>> caches;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param caches Os caches de DTOs da aplicação.
+     */
+    public DtoCacheMetrics(List<AbstractDtoCache<?>> caches) {
+        this.caches = caches;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (AbstractDtoCache<?> cache : caches) {
+            CaffeineCacheMetrics.monitor(registry, cache.nativeCache(), cache.getName());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.maicon.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import br.com.maicon.data.dto.v1.ProfissionaisDTO;
+
+/**
+ * Cache em memória dos {@link ProfissionaisDTO} retornados pela busca por ID.
+ *
+ * @see AbstractDtoCache
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Component
+public class ProfissionaisCache extends AbstractDtoCache<ProfissionaisDTO> {
+
+    /**
+     * Construtor que cria o cache com os limites configurados.
+     *
+     * @param maximumSize Quantidade máxima de entradas.
+     * @param expireAfterWrite Tempo de vida de cada entrada desde a gravação.
+     */
+    public ProfissionaisCache(@Value("${app.cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        super("profissionais", maximumSize, expireAfterWrite);
+    }
+}
@@ -0,0 +1,130 @@
+package br.com.maicon.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.maicon.datasource.ConsistencyToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Agrupa leituras idênticas e simultâneas em uma única consulta ao banco de dados (single-flight).
+ *
+ * <p>A primeira requisição de uma leitura a executa em uma transação somente leitura; as requisições com a mesma chave
+ * que chegam enquanto ela está em andamento aguardam e recebem o mesmo resultado, sem abrir transações nem obter
+ * conexões. Terminada a leitura, a chave é removida: as requisições seguintes executam uma nova leitura, de modo que
+ * nenhum resultado é mantido além da duração da própria consulta.</p>
+ *
+ * <b>Métodos principais:</b>
+ * <ul>
+ *   <li>{@link #execute(Object, Supplier)}: Executa a leitura, ou aguarda a leitura idêntica em andamento.</li>
+ * </ul>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>A chave deve identificar o método e todos os seus argumentos, e implementar {@code equals} e {@code hashCode}
+ *       (por exemplo, {@code Arrays.asList("profissionais.findAll", q, after, limit)}). A posição do WAL exigida pelo
+ *       {@link ConsistencyToken} da requisição também faz parte da chave, para que uma requisição que precisa ler as
+ *       próprias escritas não receba o resultado de uma leitura feita em uma réplica desatualizada.</li>
+ *   <li>Os resultados são compartilhados entre as requisições e não devem ser modificados.</li>
+ *   <li>A quantidade de leituras em andamento é limitada por {@code app.coalescing.max-in-flight}; acima dela, as
+ *       leituras são executadas sem agrupamento.</li>
+ *   <li>Uma exceção lançada pela leitura é propagada para todas as requisições que a aguardavam.</li>
+ *   <li>As leituras por ID não passam por aqui: o carregamento dos caches de DTOs já é compartilhado entre as
+ *       requisições simultâneas (ver {@link AbstractDtoCache#get(Long, java.util.function.Function)}).</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Component
+public class ReadCoalescer {
+
+    /**
+     * Nome da métrica com a quantidade de leituras atendidas pelo resultado de uma leitura idêntica em andamento.
+     */
+    public static final String METRIC_NAME = "app.coalescing.shared";
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxInFlight;
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter shared;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param transactionManager Gerenciador de transações, utilizado para executar as leituras em transações somente
+     *        leitura.
+     * @param maxInFlight Quantidade máxima de leituras em andamento agrupáveis.
+     * @param registry Registro de métricas da aplicação.
+     */
+    public ReadCoalescer(PlatformTransactionManager transactionManager,
+            @Value("${app.coalescing.max-in-flight:1000}") int maxInFlight, MeterRegistry registry) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxInFlight = maxInFlight;
+        this.shared = Counter.builder(METRIC_NAME)
+                .description("Reads served by an identical in-flight read")
+                .register(registry);
+        registry.gaugeMapSize("app.coalescing.in-flight", Tags.empty(), inFlight);
+    }
+
+    /**
+     * Executa uma leitura em uma transação somente leitura, ou aguarda o resultado de uma leitura idêntica em andamento.
+     *
+     * @param <T> O tipo do resultado.
+     * @param key Chave que identifica o método e os argumentos da leitura.
+     * @param read A leitura.
+     * @return O resultado da leitura.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Supplier<T> read) {
+        if (inFlight.size() >= maxInFlight) {
+            return readOnlyTransaction.execute(status -> read.get());
+        }
+
+        Key flightKey = new Key(key, ConsistencyToken.required());
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            shared.increment();
+            return (T) join(existing);
+        }
+
+        try {
+            T result = readOnlyTransaction.execute(status -> read.get());
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    private record Key(Object key, long requiredLsn) {}
+}
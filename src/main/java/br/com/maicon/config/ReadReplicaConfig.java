@@ -0,0 +1,104 @@
+package br.com.maicon.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import br.com.maicon.datasource.ReplicaDataSources;
+import br.com.maicon.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuração do roteamento das leituras para réplicas do PostgreSQL.
+ *
+ * <p>Ativada apenas quando {@code app.datasource.replica-urls} contém uma ou mais URLs JDBC de réplicas, separadas por
+ * vírgula. Nesse caso, o {@link DataSource} da aplicação passa a ser um {@link ReplicaRoutingDataSource} envolvido por
+ * um {@link LazyConnectionDataSourceProxy}, e o pool do primário é criado a partir das propriedades
+ * {@code spring.datasource.*} e {@code spring.datasource.hikari.*}, como faria a autoconfiguração do Spring Boot.</p>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>As réplicas utilizam as mesmas configurações de pool do primário, com conexões somente leitura. O usuário e a
+ *       senha são os de {@code app.datasource.replica-username} e {@code app.datasource.replica-password}, ou os do
+ *       primário, se não forem informados.</li>
+ *   <li>Os pools não são registrados como beans, para que o {@code DataSource} da aplicação continue único; suas métricas
+ *       são publicadas diretamente no {@link MeterRegistry}, com os nomes {@code primary} e {@code replica-N}.</li>
+ *   <li>Sem réplicas configuradas, a autoconfiguração padrão do Spring Boot é mantida.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnExpression("'${app.datasource.replica-urls:}' != ''")
+public class ReadReplicaConfig {
+
+    /**
+     * Cria os pools de conexões do primário e das réplicas.
+     *
+     * @param properties Propriedades {@code spring.datasource.*} do primário.
+     * @param environment Ambiente da aplicação, utilizado para aplicar as propriedades {@code spring.datasource.hikari.*}.
+     * @param registry Registro de métricas da aplicação.
+     * @param replicaUrls URLs JDBC das réplicas.
+     * @param replicaUsername Usuário das réplicas.
+     * @param replicaPassword Senha das réplicas.
+     * @return Os pools do primário e das réplicas.
+     */
+    @Bean
+    public ReplicaDataSources replicaDataSources(DataSourceProperties properties, Environment environment, MeterRegistry registry,
+            @Value("${app.datasource.replica-urls}") List<String> replicaUrls,
+            @Value("${app.datasource.replica-username:${spring.datasource.username}}") String replicaUsername,
+            @Value("${app.datasource.replica-password:${spring.datasource.password}}") String replicaPassword) {
+        HikariDataSource primary = pool(properties, environment, registry, "primary",
+                properties.determineUrl(), properties.determineUsername(), properties.determinePassword());
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            HikariDataSource replica = pool(properties, environment, registry, "replica-" + replicas.size(),
+                    url.trim(), replicaUsername, replicaPassword);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaDataSources(primary, replicas);
+    }
+
+    /**
+     * Cria o {@link DataSource} da aplicação, que roteia as transações somente leitura para as réplicas.
+     *
+     * @param dataSources Pools de conexões do primário e das réplicas.
+     * @return O {@link DataSource} da aplicação.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaDataSources dataSources) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(dataSources));
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, Environment environment, MeterRegistry registry,
+            String name, String url, String username, String password) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(name);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        return dataSource;
+    }
+}
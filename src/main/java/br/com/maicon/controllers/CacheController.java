@@ -0,0 +1,60 @@
+package br.com.maicon.controllers;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.maicon.cache.AbstractDtoCache;
+import br.com.maicon.cache.CacheStatistics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controlador REST que expõe as estatísticas dos caches em memória da aplicação.
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/cache/v1")
+@Tag(name = "Cache", description = "Endpoint for cache statistics")
+public class CacheController {
+
+    private final List<AbstractDtoCache<?>> caches;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param caches Caches em memória registrados na aplicação.
+     */
+    public CacheController(List<AbstractDtoCache<?>> caches) {
+        this.caches = caches;
+    }
+
+    /**
+     * Retorna as estatísticas acumuladas de cada cache: quantidade de entradas, acertos, faltas, taxa de acerto,
+     * descartes e tempo médio de carregamento.
+     *
+     * @return Lista com as estatísticas de cada cache.
+     */
+    @GetMapping(value = "/stats", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Finds cache statistics", description = "Returns hit, miss and eviction statistics of each cache",
+        tags = {"Cache"},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Success",
+                content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = CacheStatistics.class)))),
+            @ApiResponse(responseCode = "500", description = "Internal Error", content = @Content)
+        }
+    )
+    public List<CacheStatistics> stats() {
+        return caches.stream().map(AbstractDtoCache::stats).toList();
+    }
+}
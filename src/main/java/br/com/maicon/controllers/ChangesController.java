@@ -0,0 +1,69 @@
+package br.com.maicon.controllers;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import br.com.maicon.data.dto.v1.ChangeEventDTO;
+import br.com.maicon.services.ChangeStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controlador REST que expõe o fluxo de alterações de profissionais e contatos por Server-Sent Events (SSE).
+ *
+ * <p>Os clientes que mantêm listagens atualizadas podem se conectar ao fluxo em vez de consultá-las repetidamente:
+ * cada criação, atualização ou deleção é enviada como um evento {@value ChangeStreamService#CHANGE_EVENT} (ver
+ * {@link ChangeStreamService}).</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/changes/v1")
+@Tag(name = "Alteracoes", description = "Endpoint for the stream of changes to professionals and contacts")
+public class ChangesController {
+
+    private final ChangeStreamService service;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param service Serviço do fluxo de alterações.
+     */
+    public ChangesController(ChangeStreamService service) {
+        this.service = service;
+    }
+
+    /**
+     * Conecta o cliente ao fluxo de alterações.
+     *
+     * <p>O {@code id} de cada evento é a sua posição no fluxo. Ao reconectar, o cliente (ou o {@code EventSource} do
+     * navegador, automaticamente) envia o cabeçalho {@code Last-Event-ID} e recebe as alterações ocorridas durante a
+     * desconexão. Se elas não estiverem mais disponíveis, o evento {@value ChangeStreamService#RESET_EVENT} é enviado,
+     * indicando que as listagens devem ser recarregadas.</p>
+     *
+     * @param lastEventId Posição do último evento recebido pelo cliente (opcional).
+     * @return O {@link SseEmitter} da conexão.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Streams changes to professionals and contacts",
+        description = "Sends a Server-Sent Event for each create, update or delete; resumes from the Last-Event-ID header",
+        tags = {"Alteracoes"},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Success",
+                content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = ChangeEventDTO.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Error", content = @Content)
+        }
+    )
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return service.subscribe(lastEventId);
+    }
+}
@@ -1,9 +1,10 @@
 package br.com.maicon.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -13,14 +14,24 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import br.com.maicon.data.dto.v1.ContatosDTO;
-import br.com.maicon.data.dto.v1.utils.DtoUtils;
+import br.com.maicon.data.dto.v1.utils.FieldFilteredList;
 import br.com.maicon.services.ContatosService;
+import br.com.maicon.services.IdempotencyService;
 import br.com.maicon.utils.ApiRestResponse;
+import br.com.maicon.utils.BatchResponse;
+import br.com.maicon.utils.ExportFormat;
+import br.com.maicon.utils.ImportResponse;
+import br.com.maicon.utils.KeysetPage;
+import br.com.maicon.utils.ResourceVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -44,25 +55,45 @@ import jakarta.validation.Valid;
 public class ContatosController {
 
     private final ContatosService service;
+    private final IdempotencyService idempotencyService;
 
     /**
      * Construtor para injeção de dependências.
      * 
      * @param service Serviço que lida com a lógica de negócios para {@link ContatosDTO}.
+     * @param idempotencyService Serviço que torna idempotentes as criações enviadas com o cabeçalho {@code Idempotency-Key}.
      */
-    public ContatosController(ContatosService service) {
+    public ContatosController(ContatosService service, IdempotencyService idempotencyService) {
         this.service = service;
+        this.idempotencyService = idempotencyService;
     }
 
     /**
      * Retorna a lista de todos os contatos profissionais cadastrados, possivelmente filtrada por campos específicos.
      * 
      * <p>Se um parâmetro de pesquisa (q) for fornecido, os contatos cujo nome ou cargo contenham o texto
-     * serão retornados. Se a lista de campos (fields) for fornecida, apenas os campos especificados serão incluídos
-     * na resposta. Se não houver contatos cadastrados, uma lista vazia será retornada.</p>
+     * serão retornados. Se a lista de campos (fields) for fornecida, apenas os campos especificados são lidos do
+     * banco de dados e incluídos na resposta; campos fora da lista de campos projetáveis do recurso resultam em
+     * uma resposta HTTP 400 (Bad Request). Se não houver contatos cadastrados, uma lista vazia será retornada.</p>
+     * 
+     * <p>A resposta é paginada por cursor: no máximo {@code limit} registros são retornados (limitado a
+     * {@link KeysetPage#MAX_LIMIT} pelo servidor) e, se houver uma próxima página, os cabeçalhos {@code Link}
+     * ({@code rel="next"}) e {@value KeysetPage#NEXT_CURSOR_HEADER} indicam o cursor a ser enviado no parâmetro
+     * {@code after}.</p>
+     * 
+     * <p>Na busca por termo ({@code q}), que ignora acentos e maiúsculas/minúsculas, os contatos são ordenados por
+     * relevância e apenas os {@code limit} primeiros são retornados, sem cursor de próxima página.</p>
+     * 
+     * <p>A resposta inclui os cabeçalhos {@code ETag} e {@code Last-Modified}, calculados a partir da quantidade de
+     * contatos e da data da última alteração (ver {@link ContatosService#findListVersion()}). Se os cabeçalhos
+     * {@code If-None-Match} ou {@code If-Modified-Since} da requisição indicarem que nada mudou, a resposta HTTP 304
+     * (Not Modified) é enviada sem corpo, antes que a página seja buscada no banco de dados.</p>
      * 
      * @param q Texto para filtrar contatos pelo nome ou cargo (opcional).
      * @param fields Lista de campos a serem retornados (opcional).
+     * @param after Cursor opaco da página anterior, obtido do cabeçalho {@value KeysetPage#NEXT_CURSOR_HEADER} (opcional).
+     * @param limit Quantidade máxima de registros da página (opcional).
+     * @param request Requisição atual, utilizada na verificação dos cabeçalhos condicionais.
      * @return Lista de contatos cadastrados, possivelmente filtrada pelos campos especificados.
      */
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
@@ -72,27 +103,62 @@ public class ContatosController {
             @ApiResponse(responseCode = "200", description = "Success",
                 content = @Content(mediaType = "application/json",
                     array = @ArraySchema(schema = @Schema(implementation = ContatosDTO.class)))),
+            @ApiResponse(responseCode = "304", description = "Not Modified", content = @Content),
             @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
             @ApiResponse(responseCode = "404", description = "Not Found", content = @Content),
             @ApiResponse(responseCode = "500", description = "Internal Error", content = @Content)
         }
     )
-    public ResponseEntity<List<Map<String, Object>>> findAll(
+    public ResponseEntity<FieldFilteredList<ContatosDTO>> findAll(
         @RequestParam(required = false) String q,
-        @RequestParam(required = false) List<String> fields) {
-
-        List<ContatosDTO> contatos = service.findAll(q);
+        @RequestParam(required = false) List<String> fields,
+        @RequestParam(required = false) String after,
+        @RequestParam(required = false) Integer limit,
+        WebRequest request) {
 
-        if (fields != null && !fields.isEmpty()) {
-            List<Map<String, Object>> filteredResponse = contatos.stream()
-                .map(contato -> DtoUtils.filterFields(contato, fields))
-                .collect(Collectors.toList());
-            return ResponseEntity.ok(filteredResponse);
+        int pageSize = KeysetPage.resolveLimit(limit);
+        Long cursor = KeysetPage.decodeCursor(after);
+        ResourceVersion version = service.findListVersion();
+        if (request.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
         }
+        KeysetPage<ContatosDTO> page = service.findAll(q, fields, cursor, pageSize);
 
-        return ResponseEntity.ok(contatos.stream()
-                .map(DtoUtils::convertToMap)
-                .collect(Collectors.toList()));
+        return ResponseEntity.ok()
+                .headers(page.toHeaders(pageSize))
+                .body(new FieldFilteredList<>(page.getContent(), ContatosDTO.class, fields));
+    }
+
+    /**
+     * Exporta todos os contatos em NDJSON ou CSV.
+     * 
+     * <p>A resposta é transmitida ao cliente à medida que os registros são lidos do banco de dados, sem que a
+     * lista completa seja carregada em memória. O parâmetro {@code format} aceita {@code ndjson} (padrão)
+     * ou {@code csv}; qualquer outro valor resulta em uma resposta HTTP 400 (Bad Request).</p>
+     * 
+     * @param format Formato de exportação (opcional).
+     * @return Corpo da resposta transmitido incrementalmente.
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Exports all professional contacts", description = "Streams all professional contacts as NDJSON or CSV",
+        tags = {"Contatos"},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Success",
+                content = {
+                    @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = ContatosDTO.class)),
+                    @Content(mediaType = "text/csv")
+                }),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal Error", content = @Content)
+        }
+    )
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = out -> service.export(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"contatos." + exportFormat.getExtension() + "\"")
+                .body(body);
     }
 
     /**
@@ -101,7 +167,13 @@ public class ContatosController {
      * <p>Se o ID fornecido não corresponder a um contato existente, 
      * uma exceção {@link br.com.maicon.exception.ResourceNotFoundException} será lançada.</p>
      * 
+     * <p>A resposta inclui os cabeçalhos {@code ETag}, formado pelo ID e pela versão do contato, e {@code Last-Modified}.
+     * Se os cabeçalhos {@code If-None-Match} ou {@code If-Modified-Since} da requisição indicarem que o contato não
+     * mudou, a resposta HTTP 304 (Not Modified) é enviada sem corpo. Como o contato é lido do cache, a verificação
+     * normalmente não acessa o banco de dados.</p>
+     * 
      * @param id ID do contato a ser encontrado.
+     * @param request Requisição atual, utilizada na verificação dos cabeçalhos condicionais.
      * @return Contato correspondente ao ID fornecido.
      * @throws br.com.maicon.exception.ResourceNotFoundException se o contato não for encontrado.
      */
@@ -111,12 +183,18 @@ public class ContatosController {
     responses = {
         @ApiResponse(responseCode = "200", description = "Success",
             content = @Content(schema = @Schema(implementation = ContatosDTO.class))),
+        @ApiResponse(responseCode = "304", description = "Not Modified", content = @Content),
         @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
         @ApiResponse(responseCode = "404", description = "Not Found", content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal Error", content = @Content)
     })
-    public ContatosDTO findById(@PathVariable Long id) {
-        return service.findById(id);
+    public ResponseEntity<ContatosDTO> findById(@PathVariable Long id, WebRequest request) {
+        ContatosDTO contato = service.findById(id);
+        ResourceVersion version = ResourceVersion.of(contato.getId(), contato.getVersion(), contato.getUpdatedDate());
+        if (request.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok(contato);
     }
 
     /**
@@ -126,7 +204,12 @@ public class ContatosController {
      * uma exceção {@link org.springframework.web.bind.MethodArgumentNotValidException} será lançada.
      * O campo `createdDate` é gerado automaticamente pelo sistema e não deve ser fornecido no corpo da requisição.</p>
      * 
+     * <p>Se o cabeçalho {@code Idempotency-Key} for enviado, uma nova tentativa com a mesma chave e o mesmo corpo
+     * recebe a resposta da criação original, sem que o contato seja criado novamente (ver {@link IdempotencyService}).
+     * A mesma chave com um corpo diferente resulta em uma resposta HTTP 400 (Bad Request).</p>
+     * 
      * @param contato Dados do novo contato a ser criado.
+     * @param idempotencyKey Chave de idempotência da criação (opcional).
      * @return Resposta contendo o status da operação e uma mensagem de sucesso.
      */
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -138,8 +221,9 @@ public class ContatosController {
         @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal Error", content = @Content)
     })
-    public ResponseEntity<ApiRestResponse> create(@RequestBody ContatosDTO contato) {
-        ApiRestResponse response = service.create(contato);
+    public ResponseEntity<ApiRestResponse> create(@RequestBody ContatosDTO contato,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        ApiRestResponse response = idempotencyService.execute("contatos", idempotencyKey, contato, () -> service.create(contato));
         if (response.isSuccess()) {
             return new ResponseEntity<>(response, HttpStatus.CREATED);
         } else {
@@ -147,6 +231,84 @@ public class ContatosController {
         }
     }
 
+    /**
+     * Cria contatos em lote a partir de um array JSON.
+     * 
+     * <p>O corpo da requisição é lido de forma incremental, sem que o array completo seja carregado em memória.
+     * Cada item é validado e gravado de forma independente, e o resultado de cada um (ID gerado ou motivo da
+     * rejeição) é retornado na ordem do array recebido. A resposta tem status HTTP 201 (Created) se todos os itens
+     * forem gravados, ou 207 (Multi-Status) se algum item for rejeitado. Um corpo que não seja um array JSON bem
+     * formado resulta em uma resposta HTTP 400 (Bad Request).</p>
+     * 
+     * @param body Corpo da requisição contendo o array JSON de contatos.
+     * @return Resposta contendo o resultado de cada item.
+     * @throws IOException se ocorrer um erro de leitura do corpo da requisição.
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Adds contacts in batch", description = "Adds contacts from a JSON array, reporting the result of each item",
+    tags = {"Contatos"},
+    responses = {
+        @ApiResponse(responseCode = "201", description = "Created",
+            content = @Content(schema = @Schema(implementation = BatchResponse.class))),
+        @ApiResponse(responseCode = "207", description = "Partially created",
+            content = @Content(schema = @Schema(implementation = BatchResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal Error", content = @Content)
+    })
+    public ResponseEntity<BatchResponse> createBatch(InputStream body) throws IOException {
+        BatchResponse response = service.createBatch(body);
+        return new ResponseEntity<>(response, response.isComplete() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+    }
+
+    /**
+     * Importa contatos em massa a partir de um arquivo CSV enviado como corpo da requisição ({@code text/csv}).
+     * 
+     * <p>O arquivo deve conter uma linha de cabeçalho com as colunas {@code nome}, {@code contato} e
+     * {@code profissionalId}. O conteúdo é lido de forma incremental e gravado com o comando {@code COPY} do
+     * PostgreSQL. Linhas inválidas ou associadas a profissionais inexistentes são rejeitadas individualmente e
+     * informadas na resposta; um arquivo sem as colunas obrigatórias resulta em uma resposta HTTP 400 (Bad Request).</p>
+     * 
+     * @param body Conteúdo do arquivo CSV, em UTF-8.
+     * @return Resposta contendo a quantidade de contatos importados e as linhas rejeitadas.
+     * @throws IOException se ocorrer um erro de leitura do arquivo.
+     */
+    @PostMapping(value = "/import", consumes = "text/csv", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Imports contacts from CSV", description = "Bulk imports contacts from a CSV request body",
+    tags = {"Contatos"},
+    responses = {
+        @ApiResponse(responseCode = "200", description = "Success",
+            content = @Content(schema = @Schema(implementation = ImportResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal Error", content = @Content)
+    })
+    public ResponseEntity<ImportResponse> importCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(service.importCsv(body));
+    }
+
+    /**
+     * Importa contatos em massa a partir de um arquivo CSV enviado como formulário ({@code multipart/form-data}).
+     * 
+     * <p>Equivalente a {@link #importCsv(InputStream)}, para clientes que enviam o arquivo no campo {@code file}.</p>
+     * 
+     * @param file Arquivo CSV, em UTF-8.
+     * @return Resposta contendo a quantidade de contatos importados e as linhas rejeitadas.
+     * @throws IOException se ocorrer um erro de leitura do arquivo.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Imports contacts from an uploaded CSV file", description = "Bulk imports contacts from a multipart CSV upload",
+    tags = {"Contatos"},
+    responses = {
+        @ApiResponse(responseCode = "200", description = "Success",
+            content = @Content(schema = @Schema(implementation = ImportResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal Error", content = @Content)
+    })
+    public ResponseEntity<ImportResponse> importCsvFile(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(service.importCsv(in));
+        }
+    }
+
     /**
      * Atualiza os dados de um contato existente.
      * 
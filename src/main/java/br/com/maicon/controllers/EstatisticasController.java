@@ -0,0 +1,72 @@
+package br.com.maicon.controllers;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import br.com.maicon.data.dto.v1.EstatisticasDTO;
+import br.com.maicon.services.EstatisticasService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controlador REST que expõe as estatísticas agregadas de profissionais e contatos.
+ *
+ * <p>As estatísticas são lidas de views materializadas atualizadas periodicamente (ver {@link EstatisticasService}),
+ * o que evita que os relatórios precisem exportar e agregar as listas completas de profissionais e contatos.</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/stats/v1")
+@Tag(name = "Estatisticas", description = "Endpoint for aggregated statistics")
+public class EstatisticasController {
+
+    private final EstatisticasService service;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param service Serviço das estatísticas.
+     */
+    public EstatisticasController(EstatisticasService service) {
+        this.service = service;
+    }
+
+    /**
+     * Retorna as estatísticas agregadas: profissionais por cargo, distribuição de contatos por profissional e
+     * contratações por mês.
+     *
+     * <p>A resposta inclui o cabeçalho {@code Last-Modified} com o instante da última atualização das estatísticas. Se
+     * o cabeçalho {@code If-Modified-Since} da requisição indicar que não houve atualização, a resposta HTTP 304
+     * (Not Modified) é enviada sem corpo.</p>
+     *
+     * @param request Requisição atual, utilizada na verificação dos cabeçalhos condicionais.
+     * @return As estatísticas agregadas.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Finds aggregated statistics",
+        description = "Returns professionals per cargo, contacts per professional and hires per month",
+        tags = {"Estatisticas"},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Success",
+                content = @Content(schema = @Schema(implementation = EstatisticasDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Not Modified", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal Error", content = @Content)
+        }
+    )
+    public ResponseEntity<EstatisticasDTO> findEstatisticas(WebRequest request) {
+        EstatisticasDTO estatisticas = service.findEstatisticas();
+        if (request.checkNotModified(estatisticas.getAtualizadoEm().getTime())) {
+            return null;
+        }
+        return ResponseEntity.ok(estatisticas);
+    }
+}
@@ -1,9 +1,10 @@
 package br.com.maicon.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -13,14 +14,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import br.com.maicon.data.dto.v1.ProfissionaisDTO;
 import br.com.maicon.data.dto.v1.utils.DtoUtils;
+import br.com.maicon.data.dto.v1.utils.FieldFilteredList;
+import br.com.maicon.services.IdempotencyService;
 import br.com.maicon.services.ProfissionaisService;
 import br.com.maicon.utils.ApiRestResponse;
+import br.com.maicon.utils.BatchResponse;
+import br.com.maicon.utils.ExportFormat;
+import br.com.maicon.utils.KeysetPage;
+import br.com.maicon.utils.ResourceVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -44,25 +54,51 @@ import jakarta.validation.Valid;
 public class ProfissionaisController {
 
     private final ProfissionaisService service;
+    private final IdempotencyService idempotencyService;
 
     /**
      * Construtor para injeção de dependências.
      * 
      * @param service Serviço que lida com a lógica de negócios para {@link ProfissionaisDTO}.
+     * @param idempotencyService Serviço que torna idempotentes as criações enviadas com o cabeçalho {@code Idempotency-Key}.
      */
-    public ProfissionaisController(ProfissionaisService service) {
+    public ProfissionaisController(ProfissionaisService service, IdempotencyService idempotencyService) {
         this.service = service;
+        this.idempotencyService = idempotencyService;
     }
 
     /**
      * Retorna a lista de todos os profissionais cadastrados, possivelmente filtrada por campos específicos.
      * 
      * <p>Se um parâmetro de pesquisa (q) for fornecido, os profissionais cujo nome ou cargo contenham o texto
-     * serão retornados. Se a lista de campos (fields) for fornecida, apenas os campos especificados serão incluídos
-     * na resposta. Se não houver profissionais cadastrados, uma lista vazia será retornada.</p>
+     * serão retornados. Se a lista de campos (fields) for fornecida, apenas os campos especificados são lidos do
+     * banco de dados e incluídos na resposta; campos fora da lista de campos projetáveis do recurso resultam em
+     * uma resposta HTTP 400 (Bad Request). Se não houver profissionais cadastrados, uma lista vazia será retornada.</p>
+     * 
+     * <p>A resposta é paginada por cursor: no máximo {@code limit} registros são retornados (limitado a
+     * {@link KeysetPage#MAX_LIMIT} pelo servidor) e, se houver uma próxima página, os cabeçalhos {@code Link}
+     * ({@code rel="next"}) e {@value KeysetPage#NEXT_CURSOR_HEADER} indicam o cursor a ser enviado no parâmetro
+     * {@code after}.</p>
+     * 
+     * <p>Na busca por termo ({@code q}), que ignora acentos e maiúsculas/minúsculas, os profissionais são ordenados por
+     * relevância e apenas os {@code limit} primeiros são retornados, sem cursor de próxima página.</p>
+     * 
+     * <p>A resposta inclui os cabeçalhos {@code ETag} e {@code Last-Modified}, calculados a partir da quantidade de
+     * profissionais e da data da última alteração (ver {@link ProfissionaisService#findListVersion()}). Se os cabeçalhos
+     * {@code If-None-Match} ou {@code If-Modified-Since} da requisição indicarem que nada mudou, a resposta HTTP 304
+     * (Not Modified) é enviada sem corpo, antes que a página seja buscada no banco de dados.</p>
+     * 
+     * <p>Com {@code expand=contatos}, cada profissional inclui a lista dos seus contatos, carregados para a página inteira
+     * com uma única consulta (ver {@link ProfissionaisService#expandContatos(List)}). Nesse caso, as validações
+     * condicionais também consideram as alterações nos contatos. Expansões não suportadas resultam em uma resposta
+     * HTTP 400 (Bad Request).</p>
      * 
      * @param q Texto para filtrar profissionais pelo nome ou cargo (opcional).
      * @param fields Lista de campos a serem retornados (opcional).
+     * @param expand Lista de recursos relacionados a serem incluídos na resposta; apenas {@code contatos} (opcional).
+     * @param after Cursor opaco da página anterior, obtido do cabeçalho {@value KeysetPage#NEXT_CURSOR_HEADER} (opcional).
+     * @param limit Quantidade máxima de registros da página (opcional).
+     * @param request Requisição atual, utilizada na verificação dos cabeçalhos condicionais.
      * @return Lista de profissionais cadastrados, possivelmente filtrada pelos campos especificados.
      */
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
@@ -72,27 +108,71 @@ public class ProfissionaisController {
             @ApiResponse(responseCode = "200", description = "Success",
                 content = @Content(mediaType = "application/json",
                     array = @ArraySchema(schema = @Schema(implementation = ProfissionaisDTO.class)))),
+            @ApiResponse(responseCode = "304", description = "Not Modified", content = @Content),
             @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
             @ApiResponse(responseCode = "404", description = "Not Found", content = @Content),
             @ApiResponse(responseCode = "500", description = "Internal Error", content = @Content)
         }
     )
-    public ResponseEntity<List<Map<String, Object>>> findAll(
+    public ResponseEntity<FieldFilteredList<ProfissionaisDTO>> findAll(
         @RequestParam(required = false) String q,
-        @RequestParam(required = false) List<String> fields) {
-
-        List<ProfissionaisDTO> profissionais = service.findAll(q);
+        @RequestParam(required = false) List<String> fields,
+        @RequestParam(required = false) List<String> expand,
+        @RequestParam(required = false) String after,
+        @RequestParam(required = false) Integer limit,
+        WebRequest request) {
 
-        if (fields != null && !fields.isEmpty()) {
-            List<Map<String, Object>> filteredResponse = profissionais.stream()
-                .map(profissional -> DtoUtils.filterFields (profissional, fields))
-                .collect(Collectors.toList());
-            return ResponseEntity.ok(filteredResponse);
+        int pageSize = KeysetPage.resolveLimit(limit);
+        Long cursor = KeysetPage.decodeCursor(after);
+        boolean expandContatos = expandsContatos(expand);
+        ResourceVersion version = expandContatos ? service.findExpandedListVersion() : service.findListVersion();
+        if (request.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
         }
+        if (!expandContatos) {
+            KeysetPage<ProfissionaisDTO> page = service.findAll(q, fields, cursor, pageSize);
+            return ResponseEntity.ok()
+                    .headers(page.toHeaders(pageSize))
+                    .body(new FieldFilteredList<>(page.getContent(), ProfissionaisDTO.class, fields));
+        }
+
+        KeysetPage<ProfissionaisDTO> page = service.findAll(q, DtoUtils.withField(fields, "id"), cursor, pageSize);
+        return ResponseEntity.ok()
+                .headers(page.toHeaders(pageSize))
+                .body(new FieldFilteredList<>(service.expandContatos(page.getContent()), ProfissionaisDTO.class,
+                        DtoUtils.withField(fields, ProfissionaisService.EXPAND_CONTATOS)));
+    }
 
-        return ResponseEntity.ok(profissionais.stream()
-                .map(DtoUtils::convertToMap)
-                .collect(Collectors.toList()));
+    /**
+     * Exporta todos os profissionais não deletados em NDJSON ou CSV.
+     * 
+     * <p>A resposta é transmitida ao cliente à medida que os registros são lidos do banco de dados, sem que a
+     * lista completa seja carregada em memória. O parâmetro {@code format} aceita {@code ndjson} (padrão)
+     * ou {@code csv}; qualquer outro valor resulta em uma resposta HTTP 400 (Bad Request).</p>
+     * 
+     * @param format Formato de exportação (opcional).
+     * @return Corpo da resposta transmitido incrementalmente.
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Exports all professionals", description = "Streams all professionals as NDJSON or CSV",
+        tags = {"Profissionais"},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Success",
+                content = {
+                    @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = ProfissionaisDTO.class)),
+                    @Content(mediaType = "text/csv")
+                }),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal Error", content = @Content)
+        }
+    )
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = out -> service.export(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"profissionais." + exportFormat.getExtension() + "\"")
+                .body(body);
     }
 
     /**
@@ -101,7 +181,17 @@ public class ProfissionaisController {
      * <p>Se o ID fornecido não corresponder a um profissional existente, não deletado, 
      * uma exceção {@link br.com.maicon.exception.ResourceNotFoundException} será lançada.</p>
      * 
+     * <p>A resposta inclui os cabeçalhos {@code ETag}, formado pelo ID e pela versão do profissional, e {@code Last-Modified}.
+     * Se os cabeçalhos {@code If-None-Match} ou {@code If-Modified-Since} da requisição indicarem que o profissional não
+     * mudou, a resposta HTTP 304 (Not Modified) é enviada sem corpo. Como o profissional é lido do cache, a verificação
+     * normalmente não acessa o banco de dados.</p>
+     * 
+     * <p>Com {@code expand=contatos}, o profissional inclui a lista dos seus contatos, e a ETag também reflete as
+     * alterações nos contatos (ver {@link ProfissionaisService#findExpandedVersion(ProfissionaisDTO)}).</p>
+     * 
      * @param id ID do profissional a ser encontrado.
+     * @param expand Lista de recursos relacionados a serem incluídos na resposta; apenas {@code contatos} (opcional).
+     * @param request Requisição atual, utilizada na verificação dos cabeçalhos condicionais.
      * @return Profissional correspondente ao ID fornecido.
      * @throws br.com.maicon.exception.ResourceNotFoundException se o profissional não for encontrado.
      */
@@ -111,13 +201,28 @@ public class ProfissionaisController {
     responses = {
         @ApiResponse(responseCode = "200", description = "Success",
             content = @Content(schema = @Schema(implementation = ProfissionaisDTO.class))),
+        @ApiResponse(responseCode = "304", description = "Not Modified", content = @Content),
         @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
         @ApiResponse(responseCode = "404", description = "Not Found", content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal Error", content = @Content)
 	    }
 	)
-    public ProfissionaisDTO findById(@PathVariable Long id) {
-        return service.findById(id);
+    public ResponseEntity<ProfissionaisDTO> findById(@PathVariable Long id,
+        @RequestParam(required = false) List<String> expand,
+        WebRequest request) {
+
+        boolean expandContatos = expandsContatos(expand);
+        ProfissionaisDTO profissional = service.findById(id);
+        ResourceVersion version = expandContatos
+                ? service.findExpandedVersion(profissional)
+                : ResourceVersion.of(profissional.getId(), profissional.getVersion(), profissional.getUpdatedDate());
+        if (request.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+        if (expandContatos) {
+            profissional = service.expandContatos(List.of(profissional)).get(0);
+        }
+        return ResponseEntity.ok(profissional);
     }
 
     /**
@@ -127,7 +232,12 @@ public class ProfissionaisController {
      * uma exceção {@link org.springframework.web.bind.MethodArgumentNotValidException} será lançada.
      * O campo `createdDate` é gerado automaticamente pelo sistema e não deve ser fornecido no corpo da requisição.</p>
      * 
+     * <p>Se o cabeçalho {@code Idempotency-Key} for enviado, uma nova tentativa com a mesma chave e o mesmo corpo
+     * recebe a resposta da criação original, sem que o profissional seja criado novamente (ver {@link IdempotencyService}).
+     * A mesma chave com um corpo diferente resulta em uma resposta HTTP 400 (Bad Request).</p>
+     * 
      * @param profissional Dados do novo profissional a ser criado.
+     * @param idempotencyKey Chave de idempotência da criação (opcional).
      * @return Resposta contendo o status da operação e uma mensagem de sucesso.
      */
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -140,8 +250,9 @@ public class ProfissionaisController {
         @ApiResponse(responseCode = "500", description = "Internal Error", content = @Content)
 	    }
 	)
-    public ResponseEntity<ApiRestResponse> create(@RequestBody ProfissionaisDTO profissional) {
-        ApiRestResponse response = service.create(profissional);
+    public ResponseEntity<ApiRestResponse> create(@RequestBody ProfissionaisDTO profissional,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        ApiRestResponse response = idempotencyService.execute("profissionais", idempotencyKey, profissional, () -> service.create(profissional));
         if (response.isSuccess()) {
             return new ResponseEntity<>(response, HttpStatus.CREATED);
         } else {
@@ -149,6 +260,35 @@ public class ProfissionaisController {
         }
     }
 
+    /**
+     * Cria profissionais em lote a partir de um array JSON.
+     * 
+     * <p>O corpo da requisição é lido de forma incremental, sem que o array completo seja carregado em memória.
+     * Cada item é validado e gravado de forma independente, e o resultado de cada um (ID gerado ou motivo da
+     * rejeição) é retornado na ordem do array recebido. A resposta tem status HTTP 201 (Created) se todos os itens
+     * forem gravados, ou 207 (Multi-Status) se algum item for rejeitado. Um corpo que não seja um array JSON bem
+     * formado resulta em uma resposta HTTP 400 (Bad Request).</p>
+     * 
+     * @param body Corpo da requisição contendo o array JSON de profissionais.
+     * @return Resposta contendo o resultado de cada item.
+     * @throws IOException se ocorrer um erro de leitura do corpo da requisição.
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Adds professionals in batch", description = "Adds professionals from a JSON array, reporting the result of each item",
+    tags = {"Profissionais"},
+    responses = {
+        @ApiResponse(responseCode = "201", description = "Created",
+            content = @Content(schema = @Schema(implementation = BatchResponse.class))),
+        @ApiResponse(responseCode = "207", description = "Partially created",
+            content = @Content(schema = @Schema(implementation = BatchResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
+        @ApiResponse(responseCode = "500", description = "Internal Error", content = @Content)
+    })
+    public ResponseEntity<BatchResponse> createBatch(InputStream body) throws IOException {
+        BatchResponse response = service.createBatch(body);
+        return new ResponseEntity<>(response, response.isComplete() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+    }
+
     /**
      * Atualiza os dados de um profissional existente.
      * 
@@ -210,4 +350,9 @@ public class ProfissionaisController {
         ApiRestResponse response = service.delete(id);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
-}
\ No newline at end of file
+
+    private static boolean expandsContatos(List<String> expand) {
+        DtoUtils.requireExpandableFields(expand, ProfissionaisService.EXPANDABLE_FIELDS);
+        return expand != null && expand.contains(ProfissionaisService.EXPAND_CONTATOS);
+    }
+}
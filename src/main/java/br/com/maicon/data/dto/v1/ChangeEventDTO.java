@@ -0,0 +1,84 @@
+package br.com.maicon.data.dto.v1;
+
+import java.io.Serializable;
+import java.util.Date;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Data;
+
+/**
+ * Data Transfer Object (DTO) de um evento do fluxo de alterações de profissionais e contatos.
+ *
+ * <p>
+ * O evento é compacto: identifica apenas o registro alterado e a operação. O cliente que precisar dos dados atualizados
+ * deve buscá-los pelo ID.
+ * </p>
+ *
+ * <b>Campos:</b>
+ * <ul>
+ *   <li>{@link #posicao}: Posição do evento no fluxo, enviada como o {@code id} do evento SSE.</li>
+ *   <li>{@link #recurso}: Recurso alterado ({@code profissionais} ou {@code contatos}).</li>
+ *   <li>{@link #id}: ID do registro alterado.</li>
+ *   <li>{@link #operacao}: Operação realizada.</li>
+ *   <li>{@link #ocorridoEm}: Data e hora da alteração.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Data
+public class ChangeEventDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Posição do evento no fluxo de alterações. Não é incluída no corpo do evento, pois já é enviada como o seu
+     * {@code id}.
+     */
+    @JsonIgnore
+    private long posicao;
+
+    /**
+     * Recurso alterado.
+     */
+    private String recurso;
+
+    /**
+     * ID do registro alterado.
+     */
+    private Long id;
+
+    /**
+     * Operação realizada.
+     */
+    private Operacao operacao;
+
+    /**
+     * Data e hora da alteração.
+     */
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", timezone = "GMT-3")
+    private Date ocorridoEm;
+
+    /**
+     * Operações registradas no fluxo de alterações.
+     */
+    public enum Operacao {
+
+        /**
+         * Registro criado.
+         */
+        CREATED,
+
+        /**
+         * Registro atualizado.
+         */
+        UPDATED,
+
+        /**
+         * Registro deletado, ou deixou de ser listado por ter o seu profissional deletado.
+         */
+        DELETED
+    }
+}
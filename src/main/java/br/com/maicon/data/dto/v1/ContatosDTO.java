@@ -5,6 +5,7 @@ import java.util.Date;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import br.com.maicon.models.Contatos;
 import jakarta.validation.constraints.NotBlank;
@@ -26,6 +27,8 @@ import lombok.Data;
  *   <li>{@link #contato}: Informações de contato, como telefone ou email.</li>
  *   <li>{@link #createdDate}: Data em que o registro do contato foi criado no sistema.</li>
  *   <li>{@link #profissionalId}: Identificador do profissional associado a este contato.</li>
+ *   <li>{@link #version}: Versão do registro, incrementada a cada alteração.</li>
+ *   <li>{@link #updatedDate}: Data e hora da última alteração do registro.</li>
  * </ul>
  * 
  * <b>Considerações:</b>
@@ -96,6 +99,23 @@ public class ContatosDTO implements Serializable {
     @JsonIgnore
     private Boolean deletedProfissional;
 
+    /**
+     * Versão do registro, incrementada a cada alteração.
+     * 
+     * <p>Somente leitura: compõe a ETag da resposta e é ignorada no corpo das requisições.</p>
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    /**
+     * Data e hora da última alteração do registro.
+     * 
+     * <p>Somente leitura: corresponde ao cabeçalho {@code Last-Modified} da resposta e é ignorada no corpo das requisições.</p>
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", timezone = "GMT-3")
+    private Date updatedDate;
+
     /**
      * Método para definir a data de criação, ignorado durante a serialização JSON.
      * 
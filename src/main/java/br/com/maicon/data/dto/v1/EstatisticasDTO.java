@@ -0,0 +1,127 @@
+package br.com.maicon.data.dto.v1;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.Data;
+
+/**
+ * Data Transfer Object (DTO) com as estatísticas agregadas de profissionais e contatos.
+ *
+ * <p>
+ * Os valores são lidos de views materializadas atualizadas periodicamente (ver
+ * {@link br.com.maicon.services.EstatisticasService}) e podem estar defasados em até um intervalo de atualização.
+ * </p>
+ *
+ * <b>Campos:</b>
+ * <ul>
+ *   <li>{@link #atualizadoEm}: Data e hora da última atualização das estatísticas.</li>
+ *   <li>{@link #totalProfissionais}: Quantidade de profissionais ativos.</li>
+ *   <li>{@link #totalContatos}: Quantidade de contatos ativos de profissionais ativos.</li>
+ *   <li>{@link #profissionaisPorCargo}: Quantidade de profissionais ativos em cada cargo.</li>
+ *   <li>{@link #contatosPorProfissional}: Quantidade de profissionais ativos por quantidade de contatos.</li>
+ *   <li>{@link #contratacoesPorMes}: Quantidade de profissionais cadastrados em cada mês.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Data
+public class EstatisticasDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Data e hora da última atualização das views materializadas, por qualquer instância da aplicação.
+     *
+     * <p>Lida da tabela {@code estatisticas_atualizacao}, compartilhada entre as instâncias e preenchida pela migração
+     * {@code V9}; nunca é {@code null}.</p>
+     */
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", timezone = "GMT-3")
+    private Date atualizadoEm;
+
+    /**
+     * Quantidade de profissionais ativos.
+     */
+    private long totalProfissionais;
+
+    /**
+     * Quantidade de contatos ativos de profissionais ativos.
+     */
+    private long totalContatos;
+
+    /**
+     * Quantidade de profissionais ativos em cada cargo, ordenada pelo cargo.
+     */
+    private List<CargoTotal> profissionaisPorCargo;
+
+    /**
+     * Quantidade de profissionais ativos por quantidade de contatos, ordenada pela quantidade de contatos.
+     */
+    private List<ContatosTotal> contatosPorProfissional;
+
+    /**
+     * Quantidade de profissionais cadastrados em cada mês, ordenada pelo mês.
+     */
+    private List<MesTotal> contratacoesPorMes;
+
+    /**
+     * Quantidade de profissionais de um cargo.
+     */
+    @Data
+    public static class CargoTotal implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Cargo dos profissionais.
+         */
+        private final String cargo;
+
+        /**
+         * Quantidade de profissionais ativos no cargo.
+         */
+        private final long total;
+    }
+
+    /**
+     * Quantidade de profissionais que possuem uma determinada quantidade de contatos.
+     */
+    @Data
+    public static class ContatosTotal implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Quantidade de contatos.
+         */
+        private final long contatos;
+
+        /**
+         * Quantidade de profissionais ativos com essa quantidade de contatos.
+         */
+        private final long profissionais;
+    }
+
+    /**
+     * Quantidade de profissionais cadastrados em um mês.
+     */
+    @Data
+    public static class MesTotal implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Mês do cadastro, no formato {@code yyyy-MM}.
+         */
+        private final String mes;
+
+        /**
+         * Quantidade de profissionais cadastrados no mês.
+         */
+        private final long total;
+    }
+}
@@ -2,9 +2,12 @@ package br.com.maicon.data.dto.v1;
 
 import java.io.Serializable;
 import java.util.Date;
+import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import br.com.maicon.models.Profissionais;
 import jakarta.validation.constraints.NotBlank;
@@ -28,6 +31,9 @@ import lombok.Data;
  *   <li>{@link #createdDate}: Data em que o registro do profissional foi criado no sistema.</li>
  *   <li>{@link #deleted}: Indica se o profissional foi marcado como deletado (exclusão lógica).</li>
  *   <li>{@link #deletedDate}: Data em que o profissional foi marcado como deletado.</li>
+ *   <li>{@link #version}: Versão do registro, incrementada a cada alteração.</li>
+ *   <li>{@link #updatedDate}: Data e hora da última alteração do registro.</li>
+ *   <li>{@link #contatos}: Contatos do profissional, preenchidos apenas quando solicitados com {@code expand=contatos}.</li>
  * </ul>
  * 
  * <b>Considerações:</b>
@@ -114,6 +120,34 @@ public class ProfissionaisDTO implements Serializable {
 	 */
     @JsonIgnore
     private Date deletedDate;
+
+    /**
+     * Versão do registro, incrementada a cada alteração.
+     * 
+     * <p>Somente leitura: compõe a ETag da resposta e é ignorada no corpo das requisições.</p>
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    /**
+     * Data e hora da última alteração do registro.
+     * 
+     * <p>Somente leitura: corresponde ao cabeçalho {@code Last-Modified} da resposta e é ignorada no corpo das requisições.</p>
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", timezone = "GMT-3")
+    private Date updatedDate;
+
+    /**
+     * Contatos do profissional.
+     * 
+     * <p>Somente leitura e preenchido apenas quando a expansão {@code contatos} é solicitada; caso contrário, permanece
+     * {@code null} e é omitido do JSON. Os contatos de todos os profissionais de uma página são carregados com uma
+     * única consulta (ver {@link br.com.maicon.services.ProfissionaisService#expandContatos(List)}).</p>
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<ContatosDTO> contatos;
     
     /**
      * Define a data de criação do registro.
@@ -1,10 +1,29 @@
 package br.com.maicon.data.dto.v1.utils;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import br.com.maicon.exception.BadRequestException;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
 
 /**
  * Classe utilitária para manipulação e conversão de objetos DTO.
@@ -18,6 +37,18 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  * <ul>
  *   <li>{@link #filterFields(T, List)}: Filtra os campos de um objeto DTO de acordo com uma lista de campos especificados.</li>
  *   <li>{@link #convertToMap(T)}: Converte um objeto DTO em um {@link Map} com suas propriedades como chaves.</li>
+ *   <li>{@link #requireProjectableFields(List, List)}: Verifica se os campos solicitados podem ser projetados.</li>
+ *   <li>{@link #requireExpandableFields(List, List)}: Verifica se as expansões solicitadas são suportadas pelo recurso.</li>
+ *   <li>{@link #withField(List, String)}: Acrescenta um campo a uma lista de campos solicitados.</li>
+ *   <li>{@link #fromTuple(Tuple, Class)}: Cria um objeto DTO a partir de uma linha de uma consulta de projeção.</li>
+ *   <li>{@link #writerFor(Class, Collection)}: Retorna um {@link ObjectWriter} em cache que serializa apenas os campos especificados.</li>
+ * </ul>
+ * 
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>Os controladores utilizam {@link #writerFor(Class, Collection)} (através de {@link FieldFilteredList}) para serializar
+ *       os DTOs diretamente na resposta. Os métodos {@link #filterFields(T, List)} e {@link #convertToMap(T)} criam um
+ *       {@link Map} intermediário por objeto e devem ser evitados em caminhos críticos.</li>
  * </ul>
  * 
  * @author Maicon
@@ -25,6 +56,22 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  */
 public class DtoUtils {
 
+    /**
+     * Quantidade máxima de {@link ObjectWriter} mantidos em cache.
+     */
+    private static final int MAX_CACHED_WRITERS = 256;
+
+    /**
+     * {@link ObjectMapper} compartilhado pelos {@link ObjectWriter} com filtro de campos.
+     */
+    private static final ObjectMapper FILTERING_MAPPER = new ObjectMapper()
+            .setAnnotationIntrospector(new ClassNameFilterIntrospector());
+
+    /**
+     * Cache de {@link ObjectWriter} por classe do DTO e conjunto de campos.
+     */
+    private static final Map<WriterKey, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
     /**
      * Filtra os campos de um objeto DTO com base em uma lista de campos especificados.
      * 
@@ -56,4 +103,135 @@ public class DtoUtils {
         ObjectMapper mapper = new ObjectMapper();
         return mapper.convertValue(dto, new TypeReference<Map<String, Object>>() {});
     }
+
+    /**
+     * Verifica se todos os campos solicitados pertencem à lista de campos projetáveis do recurso.
+     * 
+     * @param fields Lista de campos solicitados pelo cliente.
+     * @param projectable Lista de campos projetáveis do recurso.
+     * @throws BadRequestException se algum campo não puder ser projetado.
+     */
+    public static void requireProjectableFields(List<String> fields, List<String> projectable) {
+        for (String field : fields) {
+            if (!projectable.contains(field)) {
+                throw new BadRequestException("Campo inválido: " + field + ". Campos permitidos: " + String.join(", ", projectable) + ".");
+            }
+        }
+    }
+
+    /**
+     * Verifica se todas as expansões solicitadas pertencem à lista de expansões suportadas pelo recurso.
+     * 
+     * @param expand Lista de expansões solicitadas pelo cliente (opcional).
+     * @param expandable Lista de expansões suportadas pelo recurso.
+     * @throws BadRequestException se alguma expansão não for suportada.
+     */
+    public static void requireExpandableFields(List<String> expand, List<String> expandable) {
+        if (expand == null) {
+            return;
+        }
+        for (String field : expand) {
+            if (!expandable.contains(field)) {
+                throw new BadRequestException("Expansão inválida: " + field + ". Expansões permitidas: " + String.join(", ", expandable) + ".");
+            }
+        }
+    }
+
+    /**
+     * Acrescenta um campo a uma lista de campos solicitados.
+     * 
+     * <p>Uma lista nula ou vazia significa "todos os campos" e é retornada sem alteração, assim como uma lista que já
+     * contenha o campo.</p>
+     * 
+     * @param fields Lista de campos solicitados pelo cliente (opcional).
+     * @param field Campo a ser acrescentado.
+     * @return A lista de campos contendo o campo informado.
+     */
+    public static List<String> withField(List<String> fields, String field) {
+        if (fields == null || fields.isEmpty() || fields.contains(field)) {
+            return fields;
+        }
+        List<String> result = new ArrayList<>(fields);
+        result.add(field);
+        return result;
+    }
+
+    /**
+     * Cria um objeto DTO a partir de uma linha de uma consulta de projeção.
+     * 
+     * <p>Cada elemento do {@link Tuple} é atribuído à propriedade do DTO cujo nome corresponde ao seu alias.
+     * As propriedades não selecionadas na consulta permanecem nulas.</p>
+     * 
+     * @param <T> O tipo do objeto DTO.
+     * @param tuple Linha retornada pela consulta de projeção.
+     * @param type Classe do objeto DTO.
+     * @return Um novo objeto do tipo {@link T} preenchido com os valores do {@link Tuple}.
+     */
+    public static <T> T fromTuple(Tuple tuple, Class<T> type) {
+        T dto = BeanUtils.instantiateClass(type);
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(dto);
+        for (TupleElement<?> element : tuple.getElements()) {
+            wrapper.setPropertyValue(element.getAlias(), tuple.get(element));
+        }
+        return dto;
+    }
+
+    /**
+     * Retorna um {@link ObjectWriter} que serializa objetos da classe informada apenas com os campos especificados.
+     * 
+     * <p>Os {@link ObjectWriter} são imutáveis e seguros para uso concorrente, e são mantidos em cache por classe e
+     * conjunto de campos, de modo que os serializadores do Jackson sejam construídos uma única vez. Como os campos
+     * são validados contra a lista de campos projetáveis de cada recurso, a quantidade de combinações é limitada.</p>
+     * 
+     * @param type Classe do objeto DTO a ser filtrado.
+     * @param fields Campos a serem serializados, ou {@code null}/vazio para serializar todos.
+     * @return Um {@link ObjectWriter} configurado com o filtro de campos.
+     */
+    public static ObjectWriter writerFor(Class<?> type, Collection<String> fields) {
+        WriterKey key = new WriterKey(type, fields == null ? Set.of() : Set.copyOf(fields));
+        ObjectWriter writer = WRITERS.get(key);
+        if (writer != null) {
+            return writer;
+        }
+        writer = createWriter(key);
+        if (WRITERS.size() < MAX_CACHED_WRITERS) {
+            WRITERS.putIfAbsent(key, writer);
+        }
+        return writer;
+    }
+
+    private static ObjectWriter createWriter(WriterKey key) {
+        SimpleBeanPropertyFilter filter = key.fields().isEmpty()
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(key.fields());
+        SimpleFilterProvider filters = new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .addFilter(key.type().getName(), filter);
+        return FILTERING_MAPPER.writer(filters).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Chave do cache de {@link ObjectWriter}.
+     */
+    private record WriterKey(Class<?> type, Set<String> fields) {}
+
+    /**
+     * Introspector que associa a cada classe um filtro identificado pelo seu nome completo.
+     * 
+     * <p>Dessa forma, o filtro de campos é aplicado apenas à classe do DTO solicitada, sem a necessidade de
+     * anotar os DTOs com {@code @JsonFilter}. As demais classes utilizam o filtro padrão, que serializa todos os campos.</p>
+     */
+    private static class ClassNameFilterIntrospector extends JacksonAnnotationIntrospector {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Object findFilterId(Annotated annotated) {
+            Object filterId = super.findFilterId(annotated);
+            if (filterId == null && annotated instanceof AnnotatedClass) {
+                return annotated.getRawType().getName();
+            }
+            return filterId;
+        }
+    }
 }
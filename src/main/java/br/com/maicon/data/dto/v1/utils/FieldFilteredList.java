@@ -0,0 +1,61 @@
+package br.com.maicon.data.dto.v1.utils;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * Lista de DTOs serializada apenas com os campos solicitados pelo cliente.
+ * 
+ * <p>Esta classe é retornada pelos endpoints de listagem. Ao ser serializada pelo conversor JSON do Spring MVC,
+ * ela delega a escrita para o {@link com.fasterxml.jackson.databind.ObjectWriter} em cache obtido através de
+ * {@link DtoUtils#writerFor(Class, java.util.Collection)}, escrevendo os DTOs diretamente no corpo da resposta,
+ * sem a criação de um {@link java.util.Map} intermediário por registro.</p>
+ * 
+ * @param <T> O tipo do DTO.
+ * 
+ * @author Maicon
+ * @version 1.0
+ */
+public class FieldFilteredList<T> implements JsonSerializable {
+
+    private final List<T> content;
+    private final Class<T> type;
+    private final List<String> fields;
+
+    /**
+     * Construtor que inicializa a lista com os DTOs e os campos a serem serializados.
+     * 
+     * @param content DTOs a serem serializados.
+     * @param type Classe dos DTOs.
+     * @param fields Campos a serem serializados, ou {@code null}/vazio para serializar todos.
+     */
+    public FieldFilteredList(List<T> content, Class<T> type, List<String> fields) {
+        this.content = content;
+        this.type = type;
+        this.fields = fields;
+    }
+
+    /**
+     * Retorna os DTOs da lista.
+     * 
+     * @return Os DTOs da lista.
+     */
+    public List<T> getContent() {
+        return content;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        DtoUtils.writerFor(type, fields).writeValue(gen, content);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
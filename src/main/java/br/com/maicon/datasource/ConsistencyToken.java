@@ -0,0 +1,125 @@
+package br.com.maicon.datasource;
+
+import java.util.Locale;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Token de consistência que garante a leitura das próprias escritas quando as leituras são atendidas por réplicas.
+ *
+ * <p>O token é a posição do log de transações (WAL) do PostgreSQL primário após uma escrita, no formato do tipo
+ * {@code pg_lsn} (por exemplo, {@code 16/B374D848}). Ele é retornado no cabeçalho {@value #HEADER} das respostas de
+ * requisições que gravaram dados, e pode ser enviado no mesmo cabeçalho das requisições seguintes: enquanto nenhuma
+ * réplica tiver aplicado o WAL até essa posição, as leituras da requisição são atendidas pelo primário.</p>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>A posição exigida pela requisição corrente é associada à thread através de um {@link ThreadLocal}. Ela não é
+ *       herdada pelas threads criadas durante a requisição; a virtual thread de carregamento dos caches de DTOs
+ *       exige {@link #CURRENT_PRIMARY} (ver {@link br.com.maicon.cache.AbstractDtoCache#get(Long, java.util.function.Function)}).</li>
+ *   <li>Após uma escrita, a própria requisição passa a exigir a posição emitida, e suas leituras seguintes também são
+ *       atendidas pelo primário ou por uma réplica já atualizada.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public final class ConsistencyToken {
+
+    /**
+     * Nome do cabeçalho HTTP que transporta o token, tanto na resposta das escritas quanto nas requisições seguintes.
+     */
+    public static final String HEADER = "X-Consistency-Token";
+
+    /**
+     * Posição exigida por um token inválido: nenhuma réplica a alcança, e as leituras são atendidas pelo primário.
+     */
+    public static final long PRIMARY_ONLY = Long.MAX_VALUE;
+
+    /**
+     * Posição exigida pelos carregamentos dos caches compartilhados: a posição atual do WAL do primário, consultada
+     * quando a conexão é obtida. Uma réplica só atende a leitura se já tiver aplicado todas as escritas confirmadas até
+     * esse momento.
+     */
+    public static final long CURRENT_PRIMARY = Long.MAX_VALUE - 1;
+
+    private static final ThreadLocal<Long> REQUIRED = new ThreadLocal<>();
+
+    private ConsistencyToken() {}
+
+    /**
+     * Define a posição do WAL que as réplicas devem ter aplicado para atender as leituras da thread atual.
+     *
+     * @param lsn A posição exigida.
+     */
+    public static void require(long lsn) {
+        Long current = REQUIRED.get();
+        if (current == null || current < lsn) {
+            REQUIRED.set(lsn);
+        }
+    }
+
+    /**
+     * Retorna a posição do WAL exigida pela thread atual.
+     *
+     * @return A posição exigida, ou {@code 0} se nenhuma posição for exigida.
+     */
+    public static long required() {
+        Long current = REQUIRED.get();
+        return current == null ? 0L : current;
+    }
+
+    /**
+     * Remove a posição exigida pela thread atual.
+     */
+    public static void clear() {
+        REQUIRED.remove();
+    }
+
+    /**
+     * Registra a posição do WAL de uma escrita concluída na requisição corrente: a requisição passa a exigi-la, e o
+     * token é enviado no cabeçalho {@value #HEADER} da sua resposta.
+     *
+     * <p>Fora de uma requisição HTTP (por exemplo, em tarefas agendadas), nada é feito, para que a posição não
+     * permaneça associada a threads reutilizadas.</p>
+     *
+     * @param lsn A posição do WAL após a escrita.
+     */
+    public static void issue(long lsn) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes && servletAttributes.getResponse() != null) {
+            require(lsn);
+            servletAttributes.getResponse().setHeader(HEADER, format(lsn));
+        }
+    }
+
+    /**
+     * Converte um valor do tipo {@code pg_lsn} para um número comparável.
+     *
+     * @param token O valor no formato {@code XXXXXXXX/XXXXXXXX}, em hexadecimal.
+     * @return A posição correspondente.
+     * @throws IllegalArgumentException se o valor não estiver no formato esperado.
+     */
+    public static long parse(String token) {
+        int separator = token == null ? -1 : token.indexOf('/');
+        if (separator <= 0 || separator > 8 || token.length() - separator - 1 > 8 || separator == token.length() - 1
+                || !token.chars().allMatch(c -> c == '/' || Character.digit(c, 16) >= 0)) {
+            throw new IllegalArgumentException("Invalid consistency token: " + token);
+        }
+        long high = Long.parseLong(token.substring(0, separator), 16);
+        long low = Long.parseLong(token.substring(separator + 1), 16);
+        return (high << 32) | low;
+    }
+
+    /**
+     * Converte uma posição do WAL para o formato do tipo {@code pg_lsn}.
+     *
+     * @param lsn A posição.
+     * @return O valor no formato {@code XXXXXXXX/XXXXXXXX}, em hexadecimal.
+     */
+    public static String format(long lsn) {
+        return (Long.toHexString(lsn >>> 32) + "/" + Long.toHexString(lsn & 0xFFFFFFFFL)).toUpperCase(Locale.ROOT);
+    }
+}
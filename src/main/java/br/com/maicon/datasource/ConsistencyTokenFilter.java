@@ -0,0 +1,50 @@
+package br.com.maicon.datasource;
+
+import java.io.IOException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filtro que associa à requisição a posição do WAL exigida pelo cabeçalho {@value ConsistencyToken#HEADER}.
+ *
+ * <p>As leituras da requisição só são enviadas a réplicas que já tenham aplicado essa posição (ver
+ * {@link ReplicaRoutingDataSource}). Um token inválido faz com que todas as leituras da requisição sejam atendidas
+ * pelo primário, que sempre contém as escritas mais recentes.</p>
+ *
+ * <p>Registrado apenas quando há réplicas configuradas em {@code app.datasource.replica-urls}.</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@ConditionalOnExpression("'${app.datasource.replica-urls:}' != ''")
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = request.getHeader(ConsistencyToken.HEADER);
+        if (token != null && !token.isBlank()) {
+            try {
+                ConsistencyToken.require(ConsistencyToken.parse(token.trim()));
+            } catch (IllegalArgumentException ex) {
+                ConsistencyToken.require(ConsistencyToken.PRIMARY_ONLY);
+            }
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ConsistencyToken.clear();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package br.com.maicon.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Pools de conexões do PostgreSQL primário e das réplicas de leitura, utilizados pelo {@link ReplicaRoutingDataSource}.
+ *
+ * <p>Periodicamente, a cada {@code app.datasource.replica-lag-poll-ms} milissegundos, a posição do WAL já aplicada por
+ * cada réplica ({@code pg_last_wal_replay_lsn()}) é consultada e mantida em memória. Uma leitura que exige um
+ * {@link ConsistencyToken} só é enviada a uma réplica cuja última posição conhecida seja igual ou posterior à do token,
+ * sem consultas adicionais no caminho da requisição.</p>
+ *
+ * <b>Métodos principais:</b>
+ * <ul>
+ *   <li>{@link #selectReplica(long)}: Escolhe, em rodízio, uma réplica disponível que já tenha aplicado a posição exigida.</li>
+ *   <li>{@link #currentPrimaryLsn()}: Retorna a posição atual do WAL do primário, utilizada como token após as escritas.</li>
+ *   <li>{@link #refreshReplayedLsn()}: Atualiza a posição aplicada por cada réplica.</li>
+ * </ul>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>Uma réplica que não responde é considerada indisponível até a próxima consulta bem-sucedida, e suas leituras
+ *       são atendidas pelas demais réplicas ou pelo primário.</li>
+ *   <li>Se a réplica não estiver em recuperação (por exemplo, uma segunda instância independente usada em testes
+ *       locais), a posição atual do seu próprio WAL é utilizada.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public class ReplicaDataSources implements DisposableBean {
+
+    private static final String REPLAYED_LSN_SQL = "SELECT COALESCE(pg_last_wal_replay_lsn(), pg_current_wal_lsn())::text";
+    private static final String CURRENT_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Logger logger = LoggerFactory.getLogger(ReplicaDataSources.class);
+
+    /**
+     * Construtor que inicializa os pools.
+     *
+     * @param primary Pool de conexões do primário.
+     * @param replicas Pools de conexões das réplicas.
+     */
+    public ReplicaDataSources(HikariDataSource primary, List<HikariDataSource> replicas) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+    }
+
+    /**
+     * Retorna o pool de conexões do primário.
+     *
+     * @return O pool do primário.
+     */
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    /**
+     * Retorna as réplicas configuradas.
+     *
+     * @return As réplicas, na ordem da configuração.
+     */
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Escolhe, em rodízio, uma réplica disponível que já tenha aplicado a posição do WAL exigida.
+     *
+     * @param requiredLsn A posição exigida, ou {@code 0} se qualquer réplica disponível puder atender a leitura.
+     * @return A réplica escolhida, ou vazio se nenhuma réplica puder atender a leitura.
+     */
+    public Optional<Replica> selectReplica(long requiredLsn) {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.canServe(requiredLsn)) {
+                return Optional.of(replica);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Retorna a posição atual do WAL do primário.
+     *
+     * @return A posição atual.
+     * @throws SQLException se a consulta falhar.
+     */
+    public long currentPrimaryLsn() throws SQLException {
+        return queryLsn(primary, CURRENT_LSN_SQL);
+    }
+
+    /**
+     * Atualiza a posição do WAL aplicada por cada réplica.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica-lag-poll-ms:500}")
+    public void refreshReplayedLsn() {
+        for (Replica replica : replicas) {
+            try {
+                replica.replayedLsn = queryLsn(replica.dataSource, REPLAYED_LSN_SQL);
+                replica.available = true;
+            } catch (SQLException ex) {
+                if (replica.available) {
+                    logger.warn("Replica {} is unavailable: {}", replica.getName(), ex.getMessage());
+                }
+                replica.available = false;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.dataSource.close());
+        primary.close();
+    }
+
+    private static long queryLsn(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return ConsistencyToken.parse(resultSet.getString(1));
+        }
+    }
+
+    /**
+     * Réplica de leitura e a última posição do WAL aplicada por ela.
+     */
+    public static class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile long replayedLsn = -1L;
+        private volatile boolean available = true;
+
+        Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        /**
+         * Retorna o nome da réplica, que é o nome do seu pool de conexões.
+         *
+         * @return O nome da réplica.
+         */
+        public String getName() {
+            return dataSource.getPoolName();
+        }
+
+        /**
+         * Retorna o pool de conexões da réplica.
+         *
+         * @return O pool da réplica.
+         */
+        public HikariDataSource getDataSource() {
+            return dataSource;
+        }
+
+        /**
+         * Retorna a última posição do WAL aplicada pela réplica.
+         *
+         * @return A posição, ou {@code -1} se ainda não foi consultada.
+         */
+        public long getReplayedLsn() {
+            return replayedLsn;
+        }
+
+        boolean canServe(long requiredLsn) {
+            return available && (requiredLsn <= 0 || replayedLsn >= requiredLsn);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.maicon.datasource;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link javax.sql.DataSource} que envia as transações somente leitura às réplicas e as demais ao primário.
+ *
+ * <p>A decisão é tomada quando a conexão física é obtida, a partir do estado da transação do Spring: transações
+ * {@code @Transactional(readOnly = true)} são atendidas por uma réplica escolhida por {@link ReplicaDataSources},
+ * respeitando o {@link ConsistencyToken} exigido pela requisição (quando a posição exigida é
+ * {@link ConsistencyToken#CURRENT_PRIMARY}, a posição atual do WAL do primário é consultada); transações de escrita e
+ * acessos fora de transação utilizam o primário. Por isso, este {@code DataSource} deve ser envolvido por um
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, que adia a obtenção da conexão até a
+ * primeira instrução, quando o estado da transação já está definido.</p>
+ *
+ * <p>Ao final de cada transação de escrita confirmada, a posição atual do WAL do primário é emitida como
+ * {@link ConsistencyToken}.</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Chave de roteamento do primário.
+     */
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaDataSources dataSources;
+    private final TransactionSynchronization tokenIssuer = new TokenIssuer();
+    private final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    /**
+     * Construtor que registra o primário e as réplicas como destinos do roteamento.
+     *
+     * @param dataSources Pools de conexões do primário e das réplicas.
+     */
+    public ReplicaRoutingDataSource(ReplicaDataSources dataSources) {
+        this.dataSources = dataSources;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, dataSources.getPrimary());
+        dataSources.getReplicas().forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(dataSources.getPrimary());
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerTokenIssuer();
+            return PRIMARY;
+        }
+        return dataSources.selectReplica(requiredLsn())
+                .map(ReplicaDataSources.Replica::getName)
+                .orElse(PRIMARY);
+    }
+
+    private long requiredLsn() {
+        long requiredLsn = ConsistencyToken.required();
+        if (requiredLsn != ConsistencyToken.CURRENT_PRIMARY) {
+            return requiredLsn;
+        }
+        try {
+            return dataSources.currentPrimaryLsn();
+        } catch (SQLException ex) {
+            logger.warn("Could not read the primary WAL position: {}", ex.getMessage());
+            return ConsistencyToken.PRIMARY_ONLY;
+        }
+    }
+
+    private void registerTokenIssuer() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.getSynchronizations().contains(tokenIssuer)) {
+            TransactionSynchronizationManager.registerSynchronization(tokenIssuer);
+        }
+    }
+
+    /**
+     * Emite o token de consistência após a confirmação de uma transação de escrita.
+     */
+    private class TokenIssuer implements TransactionSynchronization {
+
+        @Override
+        public void afterCommit() {
+            try {
+                ConsistencyToken.issue(dataSources.currentPrimaryLsn());
+            } catch (SQLException ex) {
+                logger.warn("Could not read the primary WAL position: {}", ex.getMessage());
+            }
+        }
+    }
+}
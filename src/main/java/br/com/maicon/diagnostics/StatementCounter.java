@@ -0,0 +1,170 @@
+package br.com.maicon.diagnostics;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contagem das instruções SQL executadas durante uma requisição HTTP.
+ *
+ * <p>O {@link StatementCountingFilter} inicia um contador no começo de cada requisição ({@link #start()}) e o encerra
+ * ao final ({@link #stop()}); enquanto isso, o {@link StatementCountingListener} registra no contador corrente cada
+ * instrução executada através do {@code DataSource}. As instruções são classificadas pelo seu primeiro comando
+ * ({@code SELECT}, {@code INSERT}, {@code UPDATE}, {@code DELETE} ou outros).</p>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>O contador é associado à thread da requisição através de um {@link ThreadLocal}. Ele não é herdado pelas
+ *       threads criadas durante a requisição, que podem sobreviver a ela (como as do fluxo de alterações); as que
+ *       executam trabalho da requisição, como a virtual thread de carregamento dos caches de DTOs, recebem o contador
+ *       explicitamente através de {@link #attach(StatementCounter)}.</li>
+ *   <li>Cada execução conta como uma instrução; um lote JDBC ({@code executeBatch}) é enviado em uma única ida ao banco
+ *       de dados e conta como uma instrução do tipo do seu primeiro comando.</li>
+ *   <li>Instruções executadas fora de uma requisição, como as migrações do Flyway, não são contadas.</li>
+ *   <li>O contador é armazenado no atributo de requisição {@link #REQUEST_ATTRIBUTE}, de onde pode ser lido pelos
+ *       testes de integração.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public class StatementCounter {
+
+    /**
+     * Nome do atributo de requisição que contém o contador da requisição.
+     */
+    public static final String REQUEST_ATTRIBUTE = StatementCounter.class.getName();
+
+    private static final ThreadLocal<StatementCounter> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder select = new LongAdder();
+    private final LongAdder insert = new LongAdder();
+    private final LongAdder update = new LongAdder();
+    private final LongAdder delete = new LongAdder();
+    private final LongAdder other = new LongAdder();
+
+    /**
+     * Inicia um novo contador e o associa à thread atual.
+     *
+     * @return O contador iniciado.
+     */
+    public static StatementCounter start() {
+        StatementCounter counter = new StatementCounter();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    /**
+     * Associa à thread atual um contador iniciado em outra thread, para que as instruções executadas por ela sejam
+     * registradas na mesma requisição. A associação deve ser desfeita com {@link #stop()}.
+     *
+     * @param counter O contador, ou {@code null} para não associar nenhum.
+     */
+    public static void attach(StatementCounter counter) {
+        if (counter != null) {
+            CURRENT.set(counter);
+        }
+    }
+
+    /**
+     * Retorna o contador associado à thread atual.
+     *
+     * @return O contador, ou {@code null} se a thread não estiver atendendo uma requisição.
+     */
+    public static StatementCounter current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Desassocia o contador da thread atual.
+     */
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Registra a execução de uma instrução SQL.
+     *
+     * @param sql O texto da instrução.
+     */
+    public void record(String sql) {
+        switch (command(sql)) {
+            case "SELECT", "WITH" -> select.increment();
+            case "INSERT" -> insert.increment();
+            case "UPDATE" -> update.increment();
+            case "DELETE" -> delete.increment();
+            default -> other.increment();
+        }
+    }
+
+    /**
+     * Retorna a quantidade de instruções {@code SELECT} executadas.
+     *
+     * @return A quantidade de instruções.
+     */
+    public long getSelect() {
+        return select.sum();
+    }
+
+    /**
+     * Retorna a quantidade de instruções {@code INSERT} executadas.
+     *
+     * @return A quantidade de instruções.
+     */
+    public long getInsert() {
+        return insert.sum();
+    }
+
+    /**
+     * Retorna a quantidade de instruções {@code UPDATE} executadas.
+     *
+     * @return A quantidade de instruções.
+     */
+    public long getUpdate() {
+        return update.sum();
+    }
+
+    /**
+     * Retorna a quantidade de instruções {@code DELETE} executadas.
+     *
+     * @return A quantidade de instruções.
+     */
+    public long getDelete() {
+        return delete.sum();
+    }
+
+    /**
+     * Retorna a quantidade de outras instruções executadas, como DDL e {@code ANALYZE}.
+     *
+     * @return A quantidade de instruções.
+     */
+    public long getOther() {
+        return other.sum();
+    }
+
+    /**
+     * Retorna a quantidade total de instruções executadas.
+     *
+     * @return A soma de todos os tipos de instrução.
+     */
+    public long getTotal() {
+        return getSelect() + getInsert() + getUpdate() + getDelete() + getOther();
+    }
+
+    @Override
+    public String toString() {
+        return "select=" + getSelect() + ", insert=" + getInsert() + ", update=" + getUpdate()
+                + ", delete=" + getDelete() + ", other=" + getOther();
+    }
+
+    private static String command(String sql) {
+        int start = 0;
+        while (start < sql.length() && (Character.isWhitespace(sql.charAt(start)) || sql.charAt(start) == '(')) {
+            start++;
+        }
+        int end = start;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return sql.substring(start, end).toUpperCase(Locale.ROOT);
+    }
+}
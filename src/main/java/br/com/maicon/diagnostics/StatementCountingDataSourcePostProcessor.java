@@ -0,0 +1,40 @@
+package br.com.maicon.diagnostics;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Envolve o {@link DataSource} da aplicação em um proxy do {@code datasource-proxy} que registra cada instrução
+ * executada no {@link StatementCounter} da requisição corrente (ver {@link StatementCountingListener}).
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>O proxy delega {@code unwrap}, de modo que o pool (HikariCP) e suas métricas continuam acessíveis, assim como a
+ *       conexão do driver do PostgreSQL utilizada na importação por {@code COPY}. Os dados enviados por {@code COPY}
+ *       não passam por um {@code Statement} e não são contados.</li>
+ *   <li>A contagem pode ser desativada com {@code app.sql.statement-counting.enabled=false}.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "app.sql.statement-counting.enabled", matchIfMissing = true)
+public class StatementCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new StatementCountingListener())
+                    .build();
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.maicon.diagnostics;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filtro que conta as instruções SQL executadas em cada requisição HTTP e registra no log as requisições que
+ * excedem o orçamento configurado ({@code app.sql.statement-budget}).
+ *
+ * <p>A quantidade de instruções de cada requisição também é publicada na métrica {@value #METRIC_NAME}, com as tags
+ * {@code method} e {@code uri} (o padrão do endpoint, como {@code /api/profissionais/v1/{id}}), o que permite
+ * identificar endpoints com consultas N+1 sem depender do log.</p>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>Em requisições assíncronas, como as exportações, a contagem é concluída quando a resposta termina de ser
+ *       enviada, e inclui as instruções executadas pela thread que escreve a resposta.</li>
+ *   <li>A contagem é feita pelo {@link StatementCountingDataSourcePostProcessor}; o filtro apenas delimita a
+ *       requisição.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "app.sql.statement-counting.enabled", matchIfMissing = true)
+public class StatementCountingFilter extends OncePerRequestFilter {
+
+    /**
+     * Nome da métrica com a quantidade de instruções SQL por requisição.
+     */
+    public static final String METRIC_NAME = "http.server.requests.sql.statements";
+
+    private final int budget;
+    private final MeterRegistry registry;
+    private final Logger statementLogger = LoggerFactory.getLogger(StatementCountingFilter.class);
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param budget Quantidade máxima de instruções SQL esperada por requisição.
+     * @param registry Registro de métricas da aplicação.
+     */
+    public StatementCountingFilter(@Value("${app.sql.statement-budget:10}") int budget, MeterRegistry registry) {
+        this.budget = budget;
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementCounter counter = StatementCounter.start();
+        request.setAttribute(StatementCounter.REQUEST_ATTRIBUTE, counter);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            StatementCounter.stop();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        report(request, counter);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                report(request, counter);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, StatementCounter counter) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        long total = counter.getTotal();
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements executed per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                .register(registry)
+                .record(total);
+        if (total > budget) {
+            statementLogger.warn("Request {} {} executed {} SQL statements (budget {}): {}", request.getMethod(),
+                    request.getRequestURI(), total, budget, counter);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.maicon.diagnostics;
+
+import java.util.List;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Listener do {@code datasource-proxy} que registra cada instrução executada no {@link StatementCounter} da
+ * requisição corrente.
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public class StatementCountingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        StatementCounter counter = StatementCounter.current();
+        if (counter != null && !queryInfoList.isEmpty()) {
+            counter.record(queryInfoList.get(0).getQuery());
+        }
+    }
+}
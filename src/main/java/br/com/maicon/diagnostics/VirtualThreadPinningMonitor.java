@@ -0,0 +1,143 @@
+package br.com.maicon.diagnostics;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Monitora, através do JFR, os eventos em que uma virtual thread fica fixada (pinned) à sua thread portadora.
+ *
+ * <p>Uma virtual thread que bloqueia dentro de um bloco {@code synchronized} ou de uma chamada nativa não libera a
+ * thread portadora; se isso ocorrer em operações de I/O, como consultas JDBC, as poucas threads portadoras se esgotam
+ * e o ganho de concorrência das virtual threads se perde. Este componente assina o evento
+ * {@value #EVENT_NAME} em um {@link RecordingStream} e registra cada ocorrência acima do limite configurado no
+ * {@link Timer} {@value #METRIC_NAME}, disponível em {@code /actuator/metrics/jvm.threads.virtual.pinned}.</p>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>O componente só é criado quando as virtual threads estão habilitadas ({@code spring.threads.virtual.enabled}).</li>
+ *   <li>O limite de duração ({@code app.virtual-threads.pinning-threshold}) evita o custo de registrar fixações
+ *       curtas e inofensivas.</li>
+ *   <li>O primeiro quadro da aplicação ou de bibliotecas (fora do JDK) de cada ponto de fixação é registrado no log
+ *       uma única vez, para identificar a origem sem repetir a mensagem a cada ocorrência.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    /**
+     * Nome do evento JFR de fixação de virtual threads.
+     */
+    public static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+
+    /**
+     * Nome da métrica com a quantidade e a duração das fixações.
+     */
+    public static final String METRIC_NAME = "jvm.threads.virtual.pinned";
+
+    private final Timer pinned;
+    private final Duration threshold;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private RecordingStream stream;
+
+    /**
+     * Construtor que registra a métrica de fixações.
+     *
+     * @param registry Registro de métricas da aplicação.
+     * @param threshold Duração mínima de uma fixação para que ela seja registrada.
+     */
+    public VirtualThreadPinningMonitor(MeterRegistry registry,
+            @Value("${app.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+        this.pinned = Timer.builder(METRIC_NAME)
+                .description("Virtual thread pinning events above the configured threshold, recorded by JFR")
+                .register(registry);
+        this.threshold = threshold;
+    }
+
+    /**
+     * Inicia a gravação JFR do evento {@value #EVENT_NAME} em segundo plano.
+     */
+    @Override
+    public synchronized void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+        recording.onEvent(EVENT_NAME, event -> record(event.getDuration(), site(event.getStackTrace())));
+        recording.startAsync();
+        stream = recording;
+        logger.info("Monitoring virtual thread pinning above {} ms", threshold.toMillis());
+    }
+
+    /**
+     * Encerra a gravação JFR.
+     */
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    /**
+     * Indica se a gravação JFR está em andamento.
+     *
+     * @return {@code true} se a gravação estiver em andamento.
+     */
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * Registra uma fixação na métrica e, na primeira ocorrência do ponto de fixação, no log.
+     *
+     * @param duration Duração da fixação.
+     * @param site Quadro da pilha que originou a fixação.
+     */
+    public void record(Duration duration, String site) {
+        pinned.record(duration);
+        if (reportedSites.add(site)) {
+            logger.warn("Virtual thread pinned for {} ms at {}", duration.toMillis(), site);
+        }
+    }
+
+    private static String site(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        String first = null;
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            String location = type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return location;
+            }
+            if (first == null) {
+                first = location;
+            }
+        }
+        return first == null ? "unknown" : first;
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.maicon.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção personalizada lançada quando um parâmetro da requisição é inválido.
+ *
+ * <p>Esta exceção é usada para sinalizar que o cliente enviou um valor que não pode ser interpretado,
+ * como um cursor de paginação corrompido. Ela é anotada com {@link ResponseStatus}, o que faz com que
+ * o Spring MVC retorne um status HTTP 400 (Bad Request) quando a exceção for lançada.</p>
+ *
+ * <b>Campos:</b>
+ * <ul>
+ *   <li>{@link #serialVersionUID}: Identificador de versão para serialização.</li>
+ * </ul>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>Esta exceção estende {@link RuntimeException}, permitindo que seja lançada sem ser explicitamente declarada.</li>
+ * </ul>
+ *
+ * @see RuntimeException
+ * @see ResponseStatus
+ * @see HttpStatus
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BadRequestException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Construtor que inicializa a exceção com uma mensagem específica.
+     *
+     * @param ex A mensagem de erro associada à exceção
+     */
+    public BadRequestException(String ex) {
+        super(ex);
+    }
+}
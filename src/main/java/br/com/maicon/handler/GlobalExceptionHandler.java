@@ -4,12 +4,14 @@ import java.util.Date;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import br.com.maicon.exception.BadRequestException;
 import br.com.maicon.exception.ExceptionResponse;
 import br.com.maicon.exception.ResourceNotFoundException;
 
@@ -23,6 +25,8 @@ import br.com.maicon.exception.ResourceNotFoundException;
  * <b>Métodos principais:</b>
  * <ul>
  *   <li>{@link #handleResourceNotFoundException(ResourceNotFoundException, WebRequest)}: Lida com exceções de recurso não encontrado.</li>
+ *   <li>{@link #handleBadRequestException(BadRequestException, WebRequest)}: Lida com exceções de parâmetros inválidos.</li>
+ *   <li>{@link #handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException, WebRequest)}: Lida com atualizações concorrentes do mesmo registro.</li>
  *   <li>{@link #handleGlobalException(Exception, WebRequest)}: Lida com todas as outras exceções não tratadas.</li>
  * </ul>
  * 
@@ -64,6 +68,48 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Manipula exceções do tipo {@link BadRequestException}.
+     * 
+     * <p>Este método cria uma resposta personalizada com status HTTP 400 (Bad Request) quando um parâmetro
+     * da requisição não pode ser interpretado. A resposta inclui a data e hora da exceção, a mensagem de erro,
+     * e detalhes adicionais.</p>
+     * 
+     * @param ex A exceção lançada quando um parâmetro é inválido
+     * @param request A requisição atual, usada para obter detalhes adicionais sobre a exceção
+     * @return Um {@link ResponseEntity} contendo um {@link ExceptionResponse} com detalhes do erro
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ExceptionResponse> handleBadRequestException(BadRequestException ex, WebRequest request) {
+        ExceptionResponse response = new ExceptionResponse(
+                new Date(),
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Manipula exceções do tipo {@link ObjectOptimisticLockingFailureException}.
+     * 
+     * <p>Este método cria uma resposta personalizada com status HTTP 409 (Conflict) quando um registro é alterado
+     * por outra requisição entre a leitura e a gravação, detectado pelo bloqueio otimista ({@code @Version}) das
+     * entidades. O cliente pode buscar o registro novamente e repetir a operação.</p>
+     * 
+     * @param ex A exceção lançada quando a versão do registro gravado não corresponde à do banco de dados
+     * @param request A requisição atual, usada para obter detalhes adicionais sobre a exceção
+     * @return Um {@link ResponseEntity} contendo um {@link ExceptionResponse} com detalhes do erro
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ExceptionResponse> handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException ex, WebRequest request) {
+        ExceptionResponse response = new ExceptionResponse(
+                new Date(),
+                "O registro foi alterado por outra requisição. Tente novamente.",
+                request.getDescription(false)
+        );
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
     /**
      * Manipula todas as outras exceções não tratadas.
      * 
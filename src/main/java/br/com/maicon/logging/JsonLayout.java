@@ -0,0 +1,110 @@
+package br.com.maicon.logging;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.LayoutBase;
+
+/**
+ * Layout do Logback que escreve cada evento como um objeto JSON em uma única linha.
+ *
+ * <p>Cada linha contém os campos {@code @timestamp}, {@code level}, {@code logger}, {@code thread} e {@code message},
+ * seguidos das entradas do MDC (como {@code requestId}, registrado pelo {@link RequestLoggingFilter}), dos pares
+ * chave-valor do evento (como {@code durationMs}), dos marcadores e, se houver, da pilha da exceção em
+ * {@code stackTrace}. A mensagem já vem formatada pelo SLF4J; o layout apenas a escapa.</p>
+ *
+ * <p>O layout é executado pela thread do appender assíncrono, fora das threads das requisições.</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public class JsonLayout extends LayoutBase<ILoggingEvent> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Override
+    public String doLayout(ILoggingEvent event) {
+        StringWriter writer = new StringWriter(256);
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(writer)) {
+            json.writeStartObject();
+            json.writeStringField("@timestamp", Instant.ofEpochMilli(event.getTimeStamp()).toString());
+            json.writeStringField("level", event.getLevel().toString());
+            json.writeStringField("logger", event.getLoggerName());
+            json.writeStringField("thread", event.getThreadName());
+            json.writeStringField("message", event.getFormattedMessage());
+            writeMdc(json, event.getMDCPropertyMap());
+            writeKeyValuePairs(json, event.getKeyValuePairs());
+            writeMarkers(json, event.getMarkerList());
+            writeThrowable(json, event.getThrowableProxy());
+            json.writeEndObject();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return writer.append(CoreConstants.LINE_SEPARATOR).toString();
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/json";
+    }
+
+    private static void writeMdc(JsonGenerator json, Map<String, String> mdc) throws IOException {
+        if (mdc == null) {
+            return;
+        }
+        for (Map.Entry<String, String> entry : mdc.entrySet()) {
+            if (!RequestLoggingFilter.MDC_SAMPLED.equals(entry.getKey())) {
+                json.writeStringField(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private static void writeKeyValuePairs(JsonGenerator json, List<KeyValuePair> pairs) throws IOException {
+        if (pairs == null) {
+            return;
+        }
+        for (KeyValuePair pair : pairs) {
+            json.writeFieldName(pair.key);
+            if (pair.value instanceof Long || pair.value instanceof Integer) {
+                json.writeNumber(((Number) pair.value).longValue());
+            } else if (pair.value instanceof Boolean bool) {
+                json.writeBoolean(bool);
+            } else if (pair.value == null) {
+                json.writeNull();
+            } else {
+                json.writeString(pair.value.toString());
+            }
+        }
+    }
+
+    private static void writeMarkers(JsonGenerator json, List<Marker> markers) throws IOException {
+        if (markers == null || markers.isEmpty()) {
+            return;
+        }
+        json.writeArrayFieldStart("markers");
+        for (Marker marker : markers) {
+            json.writeString(marker.getName());
+        }
+        json.writeEndArray();
+    }
+
+    private static void writeThrowable(JsonGenerator json, IThrowableProxy throwable) throws IOException {
+        if (throwable != null) {
+            json.writeStringField("stackTrace", ThrowableProxyUtil.asString(throwable));
+        }
+    }
+}
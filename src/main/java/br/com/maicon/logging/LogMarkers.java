@@ -0,0 +1,21 @@
+package br.com.maicon.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * Marcadores SLF4J utilizados pela aplicação.
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public final class LogMarkers {
+
+    /**
+     * Marca os logs de auditoria, como criações, atualizações e deleções. Esses logs nunca são descartados pela
+     * amostragem do {@link SamplingTurboFilter}.
+     */
+    public static final Marker AUDIT = MarkerFactory.getMarker("AUDIT");
+
+    private LogMarkers() {}
+}
@@ -0,0 +1,156 @@
+package br.com.maicon.logging;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filtro que identifica cada requisição HTTP nos logs, decide se os seus logs {@code INFO} serão amostrados e
+ * registra a sua conclusão com o tempo de resposta.
+ *
+ * <p>O identificador da requisição é lido do cabeçalho {@value #HEADER} ou, na sua ausência, gerado, e é devolvido no
+ * mesmo cabeçalho da resposta. Durante a requisição, ele fica no MDC ({@value #MDC_REQUEST_ID}) e é incluído em todos
+ * os logs pelo {@link JsonLayout}.</p>
+ *
+ * <p>A fração {@code app.logging.sample-rate} das requisições é amostrada. Nas demais, os logs {@code INFO} são
+ * descartados pelo {@link SamplingTurboFilter} antes mesmo de serem formatados, de modo que o custo dos logs do
+ * caminho de sucesso permanece limitado sob carga.</p>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>A conclusão da requisição é registrada com os campos {@code method}, {@code path}, {@code status} e
+ *       {@code durationMs}; respostas com status 5xx são sempre registradas, em nível {@code WARN}.</li>
+ *   <li>Em requisições assíncronas, como as exportações, a conclusão é registrada quando a resposta termina de ser
+ *       enviada.</li>
+ *   <li>Os identificadores gerados não usam {@link UUID#randomUUID()}, que depende de um gerador seguro e
+ *       sincronizado; a unicidade basta para correlacionar os logs.</li>
+ *   <li>Identificadores recebidos com caracteres inválidos ou mais de {@value #MAX_REQUEST_ID_LENGTH} caracteres são
+ *       substituídos por um identificador gerado, para que não seja possível injetar conteúdo nos logs.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    /**
+     * Cabeçalho com o identificador da requisição.
+     */
+    public static final String HEADER = "X-Request-Id";
+
+    /**
+     * Chave do MDC com o identificador da requisição.
+     */
+    public static final String MDC_REQUEST_ID = "requestId";
+
+    /**
+     * Chave do MDC que indica se os logs {@code INFO} da requisição são amostrados.
+     */
+    public static final String MDC_SAMPLED = "sampled";
+
+    /**
+     * Tamanho máximo de um identificador de requisição recebido.
+     */
+    public static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1," + MAX_REQUEST_ID_LENGTH + "}");
+
+    private final double sampleRate;
+    private final Logger requestLogger = LoggerFactory.getLogger(RequestLoggingFilter.class);
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param sampleRate Fração das requisições cujos logs {@code INFO} são registrados, entre {@code 0} e {@code 1}.
+     */
+    public RequestLoggingFilter(@Value("${app.logging.sample-rate:0.1}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        String requestId = requestId(request);
+        boolean sampled = sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+        response.setHeader(HEADER, requestId);
+        MDC.put(MDC_REQUEST_ID, requestId);
+        MDC.put(MDC_SAMPLED, Boolean.toString(sampled));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        MDC.put(MDC_REQUEST_ID, requestId);
+                        try {
+                            logCompletion(request, response, sampled, start);
+                        } finally {
+                            MDC.remove(MDC_REQUEST_ID);
+                        }
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                logCompletion(request, response, sampled, start);
+            }
+            MDC.remove(MDC_REQUEST_ID);
+            MDC.remove(MDC_SAMPLED);
+        }
+    }
+
+    private void logCompletion(HttpServletRequest request, HttpServletResponse response, boolean sampled, long start) {
+        int status = response.getStatus();
+        if (!sampled && status < 500) {
+            return;
+        }
+        requestLogger.atLevel(status < 500 ? Level.INFO : Level.WARN)
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("path", request.getRequestURI())
+                .addKeyValue("status", status)
+                .addKeyValue("durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .log("Request completed");
+    }
+
+    private static String requestId(HttpServletRequest request) {
+        String requestId = request.getHeader(HEADER);
+        if (requestId != null && VALID_REQUEST_ID.matcher(requestId).matches()) {
+            return requestId;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+}
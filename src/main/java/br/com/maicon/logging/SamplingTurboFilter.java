@@ -0,0 +1,44 @@
+package br.com.maicon.logging;
+
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Filtro do Logback que descarta os logs {@code INFO} das requisições não amostradas.
+ *
+ * <p>A decisão de amostragem é tomada uma única vez por requisição pelo {@link RequestLoggingFilter}, que a registra
+ * no MDC ({@value RequestLoggingFilter#MDC_SAMPLED}). Assim, uma requisição amostrada tem todos os seus logs
+ * registrados, e uma requisição não amostrada não tem nenhum log {@code INFO} registrado. Como o filtro é avaliado
+ * antes da criação do evento, os logs descartados não formatam mensagens nem ocupam a fila do appender assíncrono.</p>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>Logs {@code WARN} e {@code ERROR} nunca são descartados.</li>
+ *   <li>Logs com o marcador {@link LogMarkers#AUDIT} nunca são descartados.</li>
+ *   <li>Logs fora de uma requisição HTTP, como os de tarefas agendadas, não são amostrados.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.toInt() != Level.INFO_INT) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!"false".equals(MDC.get(RequestLoggingFilter.MDC_SAMPLED))) {
+            return FilterReply.NEUTRAL;
+        }
+        if (marker != null && marker.contains(LogMarkers.AUDIT)) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.maicon.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import br.com.maicon.data.dto.v1.ContatosDTO;
+import br.com.maicon.models.Contatos;
+
+/**
+ * Mapeador entre a entidade {@link Contatos} e o DTO {@link ContatosDTO}.
+ *
+ * <p>A implementação desta interface é gerada pelo MapStruct em tempo de compilação, com chamadas diretas
+ * aos getters e setters, sem reflexão em tempo de execução.</p>
+ *
+ * <b>Métodos principais:</b>
+ * <ul>
+ *   <li>{@link #toDto(Contatos)}: Converte a entidade para o DTO.</li>
+ *   <li>{@link #toEntity(ContatosDTO)}: Converte o DTO para a entidade.</li>
+ * </ul>
+ *
+ * @see DozerMapper
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Mapper
+public interface ContatosMapper {
+
+    /**
+     * Instância da implementação gerada.
+     */
+    ContatosMapper INSTANCE = Mappers.getMapper(ContatosMapper.class);
+
+    /**
+     * Converte a entidade para o DTO.
+     *
+     * @param entity Entidade de origem.
+     * @return O DTO com os campos copiados, ou {@code null} se a entidade for {@code null}.
+     */
+    ContatosDTO toDto(Contatos entity);
+
+    /**
+     * Converte o DTO para a entidade.
+     *
+     * @param dto DTO de origem.
+     * @return A entidade com os campos copiados, ou {@code null} se o DTO for {@code null}.
+     */
+    Contatos toEntity(ContatosDTO dto);
+}
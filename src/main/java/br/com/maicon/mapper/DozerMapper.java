@@ -1,19 +1,27 @@
 package br.com.maicon.mapper;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
-import com.github.dozermapper.core.DozerBeanMapperBuilder;
-import com.github.dozermapper.core.Mapper;
+import br.com.maicon.data.dto.v1.ContatosDTO;
+import br.com.maicon.data.dto.v1.ProfissionaisDTO;
+import br.com.maicon.models.Contatos;
+import br.com.maicon.models.Profissionais;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 
 /**
- * Classe utilitária para mapeamento de objetos usando o Dozer.
+ * Classe utilitária para mapeamento de objetos entre entidades e DTOs.
  * 
  * <p>
  * Esta classe fornece métodos para converter um objeto de um tipo para outro,
- * bem como para converter listas de objetos. O mapeamento é realizado pelo
- * framework Dozer, que permite a transformação de objetos complexos em objetos
- * de diferentes tipos.
+ * bem como para converter listas de objetos. O mapeamento é delegado aos mapeadores
+ * gerados pelo MapStruct em tempo de compilação ({@link ProfissionaisMapper} e
+ * {@link ContatosMapper}), que copiam os campos com chamadas diretas aos getters e
+ * setters, sem reflexão em tempo de execução.
  * </p>
  * 
  * <b>Métodos principais:</b>
@@ -24,13 +32,18 @@ import com.github.dozermapper.core.Mapper;
  * 
  * <b>Considerações:</b>
  * <ul>
- *   <li>A classe utiliza uma instância singleton de {@link Mapper}, criada através do {@link DozerBeanMapperBuilder}.</li>
- *   <li>Os métodos desta classe são estáticos, facilitando o acesso e uso em toda a aplicação.</li>
- *   <li>O framework Dozer é utilizado para mapear automaticamente os campos entre objetos, desde que os nomes dos campos sejam compatíveis ou estejam configurados adequadamente.</li>
+ *   <li>O nome da classe e a assinatura dos métodos foram mantidos da implementação anterior, baseada no Dozer,
+ *       para não alterar os pontos de uso.</li>
+ *   <li>Apenas os pares de tipos registrados em {@link #MAPPINGS} são suportados; qualquer outro par
+ *       resulta em {@link IllegalArgumentException}.</li>
+ *   <li>Subclasses da origem (como proxies do Hibernate) utilizam o mapeamento registrado para a superclasse.</li>
+ *   <li>A duração de cada conversão é registrada no {@link Timer} {@value #METRIC_NAME} do registro global do
+ *       Micrometer, com as tags {@code destination} (tipo de destino) e {@code operation} ({@code object} ou
+ *       {@code list}); uma lista é registrada como uma única medição.</li>
  * </ul>
  * 
- * @see Mapper
- * @see DozerBeanMapperBuilder
+ * @see ProfissionaisMapper
+ * @see ContatosMapper
  * 
  * @author Maicon
  * @version 1.0
@@ -38,42 +51,101 @@ import com.github.dozermapper.core.Mapper;
 public class DozerMapper {
 	
 	public DozerMapper() {}
-    
-    private static Mapper mapper = DozerBeanMapperBuilder.buildDefault();
+
+    /**
+     * Nome da métrica com a duração das conversões.
+     */
+    public static final String METRIC_NAME = "app.mapper";
+
+    private record MappingKey(Class<?> origin, Class<?> destination) {}
+
+    private static final ClassValue<Timer> OBJECT_TIMERS = timers("object");
+
+    private static final ClassValue<Timer> LIST_TIMERS = timers("list");
+
+    private static final Map<MappingKey, Function<Object, Object>> MAPPINGS = new HashMap<>();
+
+    static {
+        register(Profissionais.class, ProfissionaisDTO.class, ProfissionaisMapper.INSTANCE::toDto);
+        register(ProfissionaisDTO.class, Profissionais.class, ProfissionaisMapper.INSTANCE::toEntity);
+        register(Contatos.class, ContatosDTO.class, ContatosMapper.INSTANCE::toDto);
+        register(ContatosDTO.class, Contatos.class, ContatosMapper.INSTANCE::toEntity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <O, D> void register(Class<O> origin, Class<D> destination, Function<O, D> mapping) {
+        MAPPINGS.put(new MappingKey(origin, destination), (Function<Object, Object>) mapping);
+    }
     
     /**
      * Converte um objeto de um tipo para outro.
      * 
-     * <p>Este método usa o Dozer para mapear os campos de um objeto de origem
-     * para um objeto de destino do tipo especificado.</p>
+     * <p>Este método usa o mapeador gerado para o par de tipos informado para copiar
+     * os campos de um objeto de origem para um novo objeto do tipo de destino.</p>
      * 
      * @param <O> O tipo do objeto de origem
      * @param <D> O tipo do objeto de destino
      * @param origin O objeto de origem a ser convertido
      * @param destination A classe do objeto de destino
-     * @return Um novo objeto do tipo de destino, com os campos mapeados a partir do objeto de origem
+     * @return Um novo objeto do tipo de destino, com os campos mapeados a partir do objeto de origem,
+     *         ou {@code null} se a origem for {@code null}
+     * @throws IllegalArgumentException se não houver mapeamento registrado para o par de tipos
      */
     public static <O, D> D parseObject(O origin, Class<D> destination) {
-        return mapper.map(origin, destination);
+        if (origin == null) {
+            return null;
+        }
+        return OBJECT_TIMERS.get(destination).record(() -> map(origin, destination));
     }
     
     /**
      * Converte uma lista de objetos de um tipo para outro.
      * 
      * <p>Este método itera sobre uma lista de objetos de origem, convertendo
-     * cada um deles para o tipo especificado de destino usando o Dozer.</p>
+     * cada um deles para o tipo especificado de destino com o mapeador gerado.</p>
      * 
      * @param <O> O tipo dos objetos de origem
      * @param <D> O tipo dos objetos de destino
      * @param origin A lista de objetos de origem a ser convertida
      * @param destination A classe dos objetos de destino
      * @return Uma nova lista de objetos do tipo de destino, com os campos mapeados a partir dos objetos de origem
+     * @throws IllegalArgumentException se não houver mapeamento registrado para o par de tipos
      */
     public static <O, D> List<D> parseListObjects(List<O> origin, Class<D> destination) {
-        List<D> destinationObjects = new ArrayList<D>();
-        for (O o : origin) {
-            destinationObjects.add(mapper.map(o, destination));
+        return LIST_TIMERS.get(destination).record(() -> {
+            List<D> destinationObjects = new ArrayList<D>(origin.size());
+            for (O o : origin) {
+                destinationObjects.add(o == null ? null : map(o, destination));
+            }
+            return destinationObjects;
+        });
+    }
+
+    private static <O, D> D map(O origin, Class<D> destination) {
+        return destination.cast(resolve(origin.getClass(), destination).apply(origin));
+    }
+
+    private static ClassValue<Timer> timers(String operation) {
+        return new ClassValue<>() {
+            @Override
+            protected Timer computeValue(Class<?> destination) {
+                return Timer.builder(METRIC_NAME)
+                        .description("Time spent mapping between entities and DTOs")
+                        .tag("destination", destination.getSimpleName())
+                        .tag("operation", operation)
+                        .register(Metrics.globalRegistry);
+            }
+        };
+    }
+
+    private static Function<Object, Object> resolve(Class<?> origin, Class<?> destination) {
+        for (Class<?> type = origin; type != null; type = type.getSuperclass()) {
+            Function<Object, Object> mapping = MAPPINGS.get(new MappingKey(type, destination));
+            if (mapping != null) {
+                return mapping;
+            }
         }
-        return destinationObjects;
+        throw new IllegalArgumentException("No mapping registered from " + origin.getName()
+                + " to " + destination.getName());
     }
 }
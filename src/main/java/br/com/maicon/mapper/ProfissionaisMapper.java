@@ -0,0 +1,53 @@
+package br.com.maicon.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+import br.com.maicon.data.dto.v1.ProfissionaisDTO;
+import br.com.maicon.models.Profissionais;
+
+/**
+ * Mapeador entre a entidade {@link Profissionais} e o DTO {@link ProfissionaisDTO}.
+ *
+ * <p>A implementação desta interface é gerada pelo MapStruct em tempo de compilação, com chamadas diretas
+ * aos getters e setters, sem reflexão em tempo de execução.</p>
+ *
+ * <b>Métodos principais:</b>
+ * <ul>
+ *   <li>{@link #toDto(Profissionais)}: Converte a entidade para o DTO.</li>
+ *   <li>{@link #toEntity(ProfissionaisDTO)}: Converte o DTO para a entidade.</li>
+ * </ul>
+ *
+ * @see DozerMapper
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Mapper
+public interface ProfissionaisMapper {
+
+    /**
+     * Instância da implementação gerada.
+     */
+    ProfissionaisMapper INSTANCE = Mappers.getMapper(ProfissionaisMapper.class);
+
+    /**
+     * Converte a entidade para o DTO.
+     *
+     * <p>Os contatos não fazem parte da entidade e são preenchidos apenas sob demanda, pelo serviço.</p>
+     *
+     * @param entity Entidade de origem.
+     * @return O DTO com os campos copiados, ou {@code null} se a entidade for {@code null}.
+     */
+    @Mapping(target = "contatos", ignore = true)
+    ProfissionaisDTO toDto(Profissionais entity);
+
+    /**
+     * Converte o DTO para a entidade.
+     *
+     * @param dto DTO de origem.
+     * @return A entidade com os campos copiados, ou {@code null} se o DTO for {@code null}.
+     */
+    Profissionais toEntity(ProfissionaisDTO dto);
+}
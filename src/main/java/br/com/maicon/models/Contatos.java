@@ -1,16 +1,21 @@
 package br.com.maicon.models;
 
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.Date;
 
+import org.hibernate.annotations.UpdateTimestamp;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
+import jakarta.persistence.Version;
 import lombok.Data;
 
 /**
@@ -29,6 +34,8 @@ import lombok.Data;
  *   <li><b>{@code contato}:</b> Informações de contato, como telefone ou email.</li>
  *   <li><b>{@code createdDate}:</b> Data em que o registro do contato foi criado no sistema.</li>
  *   <li><b>{@code profissionalId}:</b> Identificador do profissional associado a este contato.</li>
+ *   <li><b>{@code version}:</b> Versão do registro, incrementada a cada alteração (bloqueio otimista).</li>
+ *   <li><b>{@code updatedDate}:</b> Instante da última alteração do registro.</li>
  * </ul>
  * 
  * <b>Considerações:</b>
@@ -49,9 +56,14 @@ public class Contatos implements Serializable {
 
     /**
      * Identificador único do contato.
+     * 
+     * <p>Gerado pela sequência {@code contatos_id_seq} com o otimizador {@code pooled}: cada chamada a {@code nextval}
+     * reserva um bloco de {@code allocationSize} IDs (o incremento da sequência, ajustado na migração V7),
+     * o que permite ao Hibernate agrupar os {@code INSERT}s em lotes JDBC.</p>
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contatos_id_seq")
+    @SequenceGenerator(name = "contatos_id_seq", sequenceName = "contatos_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -84,4 +96,22 @@ public class Contatos implements Serializable {
      */
     @Column(name = "deleted_profissional")
     private Boolean deletedProfissional;
+
+    /**
+     * Versão do registro, incrementada pelo Hibernate a cada alteração.
+     * 
+     * <p>Utilizada no bloqueio otimista das atualizações e na ETag do contato.</p>
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * Instante da última alteração do registro, preenchido pelo Hibernate na inclusão e em cada atualização.
+     * 
+     * <p>O maior valor entre os contatos compõe a ETag e o {@code Last-Modified} da listagem.</p>
+     */
+    @UpdateTimestamp
+    @Column(name = "updated_date", nullable = false)
+    private Instant updatedDate;
 }
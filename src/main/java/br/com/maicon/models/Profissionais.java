@@ -1,16 +1,21 @@
 package br.com.maicon.models;
 
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.Date;
 
+import org.hibernate.annotations.UpdateTimestamp;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
+import jakarta.persistence.Version;
 import lombok.Data;
 
 /**
@@ -31,6 +36,8 @@ import lombok.Data;
  *   <li><b>{@code createdDate}:</b> Data em que o registro do profissional foi criado no sistema.</li>
  *   <li><b>{@code deleted}:</b> Campo que informa se o registro do profissional foi deletado no sistema.</li>
  *   <li><b>{@code deletedDate}:</b> Data em que o registro do profissional foi deletado do sistema.</li>
+ *   <li><b>{@code version}:</b> Versão do registro, incrementada a cada alteração (bloqueio otimista).</li>
+ *   <li><b>{@code updatedDate}:</b> Instante da última alteração do registro.</li>
  * </ul>
  * 
  * <b>Considerações:</b>
@@ -51,9 +58,14 @@ public class Profissionais implements Serializable {
 
     /**
      * Identificador único do profissional.
+     * 
+     * <p>Gerado pela sequência {@code profissionais_id_seq} com o otimizador {@code pooled}: cada chamada a {@code nextval}
+     * reserva um bloco de {@code allocationSize} IDs (o incremento da sequência, ajustado na migração V7),
+     * o que permite ao Hibernate agrupar os {@code INSERT}s em lotes JDBC.</p>
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "profissionais_id_seq")
+    @SequenceGenerator(name = "profissionais_id_seq", sequenceName = "profissionais_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -92,4 +104,22 @@ public class Profissionais implements Serializable {
      */
     @Column(name = "deleted_date")
     private Date deletedDate;
+
+    /**
+     * Versão do registro, incrementada pelo Hibernate a cada alteração.
+     * 
+     * <p>Utilizada no bloqueio otimista das atualizações e na ETag do profissional.</p>
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * Instante da última alteração do registro, preenchido pelo Hibernate na inclusão e em cada atualização.
+     * 
+     * <p>O maior valor entre os profissionais ativos compõe a ETag e o {@code Last-Modified} da listagem.</p>
+     */
+    @UpdateTimestamp
+    @Column(name = "updated_date", nullable = false)
+    private Instant updatedDate;
 }
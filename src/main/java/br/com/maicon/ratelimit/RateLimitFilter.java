@@ -0,0 +1,239 @@
+package br.com.maicon.ratelimit;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.maicon.exception.ExceptionResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filtro que limita a taxa de requisições de cada cliente e descarta requisições quando a aplicação está sobrecarregada.
+ *
+ * <p>Cada cliente, identificado pelo cabeçalho {@code app.rate-limit.client-header} (por padrão {@code X-API-Key}) quando
+ * o seu valor é uma das chaves configuradas em {@code app.rate-limit.api-keys} ou, caso contrário, pelo endereço IP,
+ * possui um {@link TokenBucket} com capacidade {@code app.rate-limit.capacity},
+ * reabastecido à taxa de {@code app.rate-limit.refill-per-second} tokens por segundo. Cada requisição consome a
+ * quantidade de tokens da sua {@link RouteCost}, configurada em {@code app.rate-limit.cost.*}: pesquisas, exportações
+ * e importações custam mais que a busca por ID. Sem tokens suficientes, a resposta HTTP 429 (Too Many Requests) é
+ * enviada com o cabeçalho {@code Retry-After}, sem que a requisição chegue aos controladores ou ao banco de dados.</p>
+ *
+ * <p>Independentemente do cliente, se houver {@code app.rate-limit.max-concurrent-requests} requisições em
+ * andamento, as novas requisições são descartadas com a resposta HTTP 503 (Service Unavailable). Essa verificação
+ * ocorre antes do consumo dos tokens, de modo que uma requisição descartada não reduz a cota do cliente.</p>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>Apenas os caminhos {@code /api/**} são limitados; o Actuator e a documentação da API não consomem tokens.</li>
+ *   <li>O cabeçalho do cliente não é autenticado: uma chave desconhecida é ignorada, pois, se cada valor enviado
+ *       recebesse um balde próprio, um cliente poderia contornar o limite variando a chave e, ao exceder
+ *       {@code app.rate-limit.max-clients}, descartar os baldes dos demais clientes.</li>
+ *   <li>Os baldes de clientes inativos são descartados após o tempo necessário para reabastecê-los por completo, pois
+ *       um balde cheio é equivalente a um balde novo. A quantidade de baldes em memória é limitada por
+ *       {@code app.rate-limit.max-clients}.</li>
+ *   <li>As rejeições são publicadas na métrica {@value #METRIC_NAME}, com as tags {@code reason}
+ *       ({@code rate_limit} ou {@code overload}) e {@code route} (a {@link RouteCost} da requisição).</li>
+ *   <li>Atrás de um proxy reverso, o endereço IP do cliente só é considerado se o Spring Boot estiver configurado para
+ *       confiar nos cabeçalhos encaminhados ({@code server.forward-headers-strategy}).</li>
+ *   <li>As conexões do fluxo de alterações ({@code text/event-stream}) consomem tokens ao serem abertas, mas deixam de
+ *       ser contadas como requisições em andamento assim que a resposta é iniciada, pois permanecem abertas por até
+ *       {@code app.changes.emitter-timeout} e esgotariam o limite de {@code app.rate-limit.max-concurrent-requests}.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(name = "app.rate-limit.enabled", matchIfMissing = true)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * Nome da métrica com a quantidade de requisições rejeitadas.
+     */
+    public static final String METRIC_NAME = "app.rate-limit.rejected";
+
+    private static final String API_PATH_PREFIX = "/api/";
+
+    private final long capacity;
+    private final double refillPerSecond;
+    private final Map<RouteCost, Long> costs = new EnumMap<>(RouteCost.class);
+    private final int maxConcurrentRequests;
+    private final String clientHeader;
+    private final Set<String> apiKeys;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry registry;
+    private final Cache<String, TokenBucket> buckets;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param capacity Quantidade máxima de tokens de cada cliente.
+     * @param refillPerSecond Quantidade de tokens reabastecidos por segundo para cada cliente.
+     * @param findByIdCost Custo da busca por ID.
+     * @param listCost Custo de uma página da listagem.
+     * @param searchCost Custo de uma pesquisa.
+     * @param exportCost Custo de uma exportação ou streaming.
+     * @param writeCost Custo de uma criação, atualização ou exclusão.
+     * @param bulkWriteCost Custo de uma criação em lote ou importação.
+     * @param maxConcurrentRequests Quantidade máxima de requisições em andamento, ou {@code 0} para não limitar.
+     * @param maxClients Quantidade máxima de clientes com balde em memória.
+     * @param clientHeader Cabeçalho que identifica o cliente.
+     * @param apiKeys Valores do cabeçalho do cliente que recebem um balde próprio.
+     * @param objectMapper {@link ObjectMapper} utilizado para escrever o corpo das respostas de rejeição.
+     * @param registry Registro de métricas da aplicação.
+     * @throws IllegalArgumentException se algum custo for maior que a capacidade, pois a requisição nunca seria aceita.
+     */
+    public RateLimitFilter(@Value("${app.rate-limit.capacity:200}") long capacity,
+            @Value("${app.rate-limit.refill-per-second:100}") double refillPerSecond,
+            @Value("${app.rate-limit.cost.find-by-id:1}") long findByIdCost,
+            @Value("${app.rate-limit.cost.list:2}") long listCost,
+            @Value("${app.rate-limit.cost.search:10}") long searchCost,
+            @Value("${app.rate-limit.cost.export:50}") long exportCost,
+            @Value("${app.rate-limit.cost.write:2}") long writeCost,
+            @Value("${app.rate-limit.cost.bulk-write:50}") long bulkWriteCost,
+            @Value("${app.rate-limit.max-concurrent-requests:1000}") int maxConcurrentRequests,
+            @Value("${app.rate-limit.max-clients:100000}") long maxClients,
+            @Value("${app.rate-limit.client-header:X-API-Key}") String clientHeader,
+            @Value("${app.rate-limit.api-keys:}") Set<String> apiKeys,
+            ObjectMapper objectMapper, MeterRegistry registry) {
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        costs.put(RouteCost.FIND_BY_ID, findByIdCost);
+        costs.put(RouteCost.LIST, listCost);
+        costs.put(RouteCost.SEARCH, searchCost);
+        costs.put(RouteCost.EXPORT, exportCost);
+        costs.put(RouteCost.WRITE, writeCost);
+        costs.put(RouteCost.BULK_WRITE, bulkWriteCost);
+        costs.forEach((route, cost) -> {
+            if (cost > capacity) {
+                throw new IllegalArgumentException("Rate limit cost of " + route + " (" + cost
+                        + ") exceeds the bucket capacity (" + capacity + ")");
+            }
+        });
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.clientHeader = clientHeader;
+        this.apiKeys = Set.copyOf(apiKeys);
+        this.objectMapper = objectMapper;
+        this.registry = registry;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofNanos(Math.max(1L, (long) (capacity / refillPerSecond * 1_000_000_000L))))
+                .build();
+        registry.gauge("app.rate-limit.in-flight", inFlight);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + API_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RouteCost route = RouteCost.of(request);
+        if (maxConcurrentRequests > 0 && inFlight.incrementAndGet() > maxConcurrentRequests) {
+            inFlight.decrementAndGet();
+            reject(request, response, route, HttpStatus.SERVICE_UNAVAILABLE, 1L,
+                    "Servidor sobrecarregado. Tente novamente em instantes.");
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            TokenBucket bucket = buckets.get(clientKey(request), key -> new TokenBucket(capacity, refillPerSecond, now));
+            long waitNanos = bucket.tryConsume(costs.get(route), now);
+            if (waitNanos > 0) {
+                long retryAfter = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+                reject(request, response, route, HttpStatus.TOO_MANY_REQUESTS, retryAfter,
+                        "Limite de requisições excedido. Tente novamente em " + retryAfter + " segundo(s).");
+                return;
+            }
+            filterChain.doFilter(request, response);
+        } finally {
+            if (maxConcurrentRequests > 0) {
+                release(request, response);
+            }
+        }
+    }
+
+    private void release(HttpServletRequest request, HttpServletResponse response) {
+        if (!request.isAsyncStarted() || isEventStream(response)) {
+            inFlight.decrementAndGet();
+            return;
+        }
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                inFlight.decrementAndGet();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    private static boolean isEventStream(HttpServletResponse response) {
+        String contentType = response.getContentType();
+        return contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String apiKey = request.getHeader(clientHeader);
+        if (apiKey != null && apiKeys.contains(apiKey)) {
+            return "key:" + apiKey;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, RouteCost route, HttpStatus status,
+            long retryAfter, String message) throws IOException {
+        Counter.builder(METRIC_NAME)
+                .description("HTTP requests rejected by the rate limiter")
+                .tag("reason", status == HttpStatus.TOO_MANY_REQUESTS ? "rate_limit" : "overload")
+                .tag("route", route.name())
+                .register(registry)
+                .increment();
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(),
+                new ExceptionResponse(new Date(), message, "uri=" + request.getRequestURI()));
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.maicon.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Classes de custo das rotas da API, utilizadas pelo {@link RateLimitFilter} para definir quantos tokens cada
+ * requisição consome.
+ *
+ * <p>A classificação é feita a partir do método HTTP, do caminho e dos parâmetros da requisição, antes de o Spring MVC
+ * escolher o controlador, para que as requisições rejeitadas não consumam nenhum outro recurso.</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public enum RouteCost {
+
+    /**
+     * Busca de um único recurso, como {@code GET /api/contatos/v1/{id}}.
+     */
+    FIND_BY_ID,
+
+    /**
+     * Página de uma listagem sem pesquisa, como {@code GET /api/contatos/v1}.
+     */
+    LIST,
+
+    /**
+     * Listagem com pesquisa textual, como {@code GET /api/contatos/v1?q=...}.
+     */
+    SEARCH,
+
+    /**
+     * Exportação ou streaming da listagem completa, como {@code GET /api/contatos/v1/export}.
+     */
+    EXPORT,
+
+    /**
+     * Criação, atualização ou exclusão de um único recurso.
+     */
+    WRITE,
+
+    /**
+     * Criação em lote ou importação, como {@code POST /api/contatos/v1/batch}.
+     */
+    BULK_WRITE;
+
+    /**
+     * Classifica a requisição.
+     *
+     * @param request A requisição.
+     * @return A classe de custo da requisição.
+     */
+    public static RouteCost of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            if (path.endsWith("/export") || path.endsWith("/stream")) {
+                return EXPORT;
+            }
+            if (path.endsWith("/v1")) {
+                String q = request.getParameter("q");
+                return q != null && !q.isEmpty() ? SEARCH : LIST;
+            }
+            return FIND_BY_ID;
+        }
+        if (path.endsWith("/batch") || path.endsWith("/import")) {
+            return BULK_WRITE;
+        }
+        return WRITE;
+    }
+}
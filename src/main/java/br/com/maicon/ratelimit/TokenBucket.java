@@ -0,0 +1,73 @@
+package br.com.maicon.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Balde de tokens sem bloqueios, utilizado pelo {@link RateLimitFilter} para limitar as requisições de um cliente.
+ *
+ * <p>O balde comporta até {@code capacity} tokens e é reabastecido continuamente à taxa configurada. Em vez de manter
+ * a quantidade de tokens e o instante do último reabastecimento, o estado é um único instante, o "tempo teórico de
+ * chegada" (GCRA): o instante em que o balde estaria cheio novamente. A quantidade de tokens disponíveis é
+ * {@code capacity - (tat - agora) / intervalo}, e cada consumo avança o instante em {@code custo * intervalo}. Com o
+ * estado em um único {@link AtomicLong}, o consumo é feito com uma operação {@code compareAndSet}, sem
+ * {@code synchronized} e sem fixar (pinning) as virtual threads das requisições.</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public final class TokenBucket {
+
+    private final long capacity;
+    private final long nanosPerToken;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * Cria um balde cheio.
+     *
+     * @param capacity Quantidade máxima de tokens.
+     * @param tokensPerSecond Quantidade de tokens reabastecidos por segundo.
+     * @param now Instante atual, em nanossegundos ({@link System#nanoTime()}).
+     * @throws IllegalArgumentException se a capacidade ou a taxa não forem positivas.
+     */
+    public TokenBucket(long capacity, double tokensPerSecond, long now) {
+        if (capacity <= 0 || tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("Token bucket capacity and rate must be positive");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1L, (long) (1_000_000_000L / tokensPerSecond));
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * Tenta consumir tokens do balde.
+     *
+     * @param cost Quantidade de tokens a consumir.
+     * @param now Instante atual, em nanossegundos ({@link System#nanoTime()}).
+     * @return {@code 0} se os tokens foram consumidos, ou o tempo, em nanossegundos, até que haja tokens suficientes.
+     */
+    public long tryConsume(long cost, long now) {
+        long tolerance = capacity * nanosPerToken;
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = (current - now > 0 ? current : now) + cost * nanosPerToken;
+            long excess = next - now - tolerance;
+            if (excess > 0) {
+                return excess;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Retorna a quantidade de tokens disponíveis.
+     *
+     * @param now Instante atual, em nanossegundos ({@link System#nanoTime()}).
+     * @return A quantidade de tokens disponíveis.
+     */
+    public long available(long now) {
+        long debt = Math.max(0L, theoreticalArrival.get() - now);
+        return capacity - (debt + nanosPerToken - 1) / nanosPerToken;
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.maicon.reactive;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import br.com.maicon.data.dto.v1.ContatosDTO;
+import br.com.maicon.exception.ResourceNotFoundException;
+import br.com.maicon.mapper.DozerMapper;
+import br.com.maicon.repositories.ReactiveContatosRepository;
+import br.com.maicon.utils.KeysetPage;
+import br.com.maicon.utils.ResourceVersion;
+import reactor.core.publisher.Mono;
+
+/**
+ * Endpoints reativos de leitura de contatos, equivalentes aos endpoints de leitura do
+ * {@link br.com.maicon.controllers.ContatosController}.
+ *
+ * <b>Métodos principais:</b>
+ * <ul>
+ *   <li>{@link #findAll(ServerRequest)}: Retorna uma página de contatos ou, com o parâmetro {@code q},
+ *       os contatos mais relevantes para o termo de pesquisa.</li>
+ *   <li>{@link #stream(ServerRequest)}: Transmite todos os contatos, um por linha, em NDJSON.</li>
+ *   <li>{@link #findById(ServerRequest)}: Retorna um contato pelo seu ID.</li>
+ * </ul>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>A paginação por cursor segue as mesmas regras da API MVC (parâmetros {@code after} e {@code limit} e cabeçalhos
+ *       {@code Link} e {@value KeysetPage#NEXT_CURSOR_HEADER}).</li>
+ *   <li>O parâmetro {@code fields} da API MVC não é suportado: os registros são sempre retornados completos.</li>
+ *   <li>Nenhum método bloqueia a thread da requisição; os registros são lidos através do
+ *       {@link ReactiveContatosRepository}.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Component
+public class ContatosHandler {
+
+    private final ReactiveContatosRepository repository;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param repository Repositório reativo de contatos.
+     */
+    public ContatosHandler(ReactiveContatosRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Retorna uma página de contatos, ou os resultados da busca por termo quando o parâmetro {@code q}
+     * é informado.
+     *
+     * <p>A página é lida com {@code limit + 1} registros para determinar o cursor da próxima página (ver
+     * {@link KeysetPage#of(java.util.List, int, java.util.function.Function)}). Os resultados da busca por termo são
+     * ordenados por relevância, sem cursor de próxima página, e transmitidos à medida que são lidos.</p>
+     *
+     * @param request A requisição atual.
+     * @return A resposta com os contatos em JSON ou NDJSON.
+     */
+    public Mono<ServerResponse> findAll(ServerRequest request) {
+        int limit = ReactiveResponses.limit(request);
+        Optional<String> q = request.queryParam("q").filter(value -> !value.isEmpty());
+        if (q.isPresent()) {
+            return ReactiveResponses.stream(request,
+                    repository.search(q.get(), limit).map(row -> DozerMapper.parseObject(row, ContatosDTO.class)),
+                    ContatosDTO.class);
+        }
+        Long after = KeysetPage.decodeCursor(request.queryParam("after").orElse(null));
+        return repository.findAllAfter(after, limit + 1)
+                .map(row -> DozerMapper.parseObject(row, ContatosDTO.class))
+                .collectList()
+                .flatMap(rows -> ReactiveResponses.page(request, KeysetPage.of(rows, limit, ContatosDTO::getId),
+                        limit, ContatosDTO.class));
+    }
+
+    /**
+     * Transmite todos os contatos em NDJSON, ordenados pelo ID.
+     *
+     * <p>Os registros são lidos do banco de dados conforme o cliente os consome: se o cliente ler devagar, a leitura
+     * do cursor do PostgreSQL é suspensa, sem acumular registros em memória.</p>
+     *
+     * @param request A requisição atual.
+     * @return A resposta com os contatos em NDJSON.
+     */
+    public Mono<ServerResponse> stream(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(repository.streamAll().map(row -> DozerMapper.parseObject(row, ContatosDTO.class)),
+                        ContatosDTO.class);
+    }
+
+    /**
+     * Retorna um contato pelo seu ID.
+     *
+     * <p>Assim como na API MVC, a resposta inclui os cabeçalhos {@code ETag} e {@code Last-Modified} e, se a requisição
+     * indicar que o cliente já possui a versão atual, a resposta HTTP 304 (Not Modified) é enviada sem corpo.</p>
+     *
+     * @param request A requisição atual.
+     * @return A resposta com o contato.
+     * @throws ResourceNotFoundException (como erro do {@link Mono}) se o contato não existir.
+     */
+    public Mono<ServerResponse> findById(ServerRequest request) {
+        Long id = ReactiveResponses.id(request);
+        return repository.findById(id)
+                .map(row -> DozerMapper.parseObject(row, ContatosDTO.class))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Contato não encontrado")))
+                .flatMap(dto -> {
+                    ResourceVersion version = ResourceVersion.of(dto.getId(), dto.getVersion(), dto.getUpdatedDate());
+                    Instant lastModified = Instant.ofEpochMilli(version.getLastModified());
+                    return request.checkNotModified(lastModified, version.getETag())
+                            .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                                    .eTag(version.getETag())
+                                    .lastModified(lastModified)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .bodyValue(dto)));
+                });
+    }
+}
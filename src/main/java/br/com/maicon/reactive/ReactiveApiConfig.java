@@ -0,0 +1,110 @@
+package br.com.maicon.reactive;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ServletHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.maicon.exception.BadRequestException;
+import br.com.maicon.exception.ResourceNotFoundException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Configuração da API reativa de leitura, publicada sob o prefixo {@value #PATH_PREFIX}.
+ *
+ * <p>Uma aplicação Spring Boot utiliza uma única pilha web, e esta aplicação utiliza o Spring MVC. Os endpoints
+ * funcionais do WebFlux são, por isso, publicados no mesmo Tomcat através de um {@link ServletHttpHandlerAdapter}
+ * registrado no caminho {@value #PATH_PREFIX}{@code /*}, que utiliza a API de I/O não bloqueante do Servlet: as
+ * respostas são escritas à medida que o cliente consome os dados, e a demanda do cliente é propagada até as
+ * consultas R2DBC (backpressure).</p>
+ *
+ * <b>Endpoints:</b>
+ * <ul>
+ *   <li>{@code GET /api/reactive/profissionais/v1} e {@code GET /api/reactive/contatos/v1}: Listagem paginada por
+ *       cursor ou busca por termo ({@code q}), em JSON ou NDJSON.</li>
+ *   <li>{@code GET /api/reactive/profissionais/v1/stream} e {@code GET /api/reactive/contatos/v1/stream}: Todos os
+ *       registros em NDJSON.</li>
+ *   <li>{@code GET /api/reactive/profissionais/v1/{id}} e {@code GET /api/reactive/contatos/v1/{id}}: Registro
+ *       pelo ID.</li>
+ * </ul>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>A serialização utiliza o {@link ObjectMapper} da aplicação, de modo que os DTOs são idênticos aos da API MVC.</li>
+ *   <li>Os erros são convertidos em respostas no formato de {@link br.com.maicon.exception.ExceptionResponse}, com os
+ *       mesmos status do {@code GlobalExceptionHandler}.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Configuration
+public class ReactiveApiConfig {
+
+    /**
+     * Prefixo dos endpoints da API reativa.
+     */
+    public static final String PATH_PREFIX = "/api/reactive";
+
+    /**
+     * Monta as rotas da API reativa, relativas a {@value #PATH_PREFIX}.
+     *
+     * @param profissionais Endpoints de profissionais.
+     * @param contatos Endpoints de contatos.
+     * @return As rotas da API reativa.
+     */
+    public static RouterFunction<ServerResponse> routes(ProfissionaisHandler profissionais, ContatosHandler contatos) {
+        return route(GET("/profissionais/v1"), profissionais::findAll)
+                .andRoute(GET("/profissionais/v1/stream"), profissionais::stream)
+                .andRoute(GET("/profissionais/v1/{id}"), profissionais::findById)
+                .andRoute(GET("/contatos/v1"), contatos::findAll)
+                .andRoute(GET("/contatos/v1/stream"), contatos::stream)
+                .andRoute(GET("/contatos/v1/{id}"), contatos::findById)
+                // Exceções lançadas antes da montagem do Mono (como parâmetros inválidos) também passam pelo onError.
+                .filter((request, next) -> Mono.defer(() -> next.handle(request)))
+                .onError(ResourceNotFoundException.class,
+                        (ex, request) -> ReactiveResponses.error(HttpStatus.NOT_FOUND, ex, request))
+                .onError(BadRequestException.class,
+                        (ex, request) -> ReactiveResponses.error(HttpStatus.BAD_REQUEST, ex, request));
+    }
+
+    /**
+     * Registra o servlet que publica a API reativa.
+     *
+     * @param profissionais Endpoints de profissionais.
+     * @param contatos Endpoints de contatos.
+     * @param objectMapper {@link ObjectMapper} da aplicação.
+     * @return O registro do servlet.
+     */
+    @Bean
+    public ServletRegistrationBean<ServletHttpHandlerAdapter> reactiveApiServlet(ProfissionaisHandler profissionais,
+            ContatosHandler contatos, ObjectMapper objectMapper) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(configurer -> {
+                    configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(routes(profissionais, contatos), strategies);
+
+        ServletRegistrationBean<ServletHttpHandlerAdapter> registration =
+                new ServletRegistrationBean<>(new ServletHttpHandlerAdapter(httpHandler), PATH_PREFIX + "/*");
+        registration.setName("reactiveApiServlet");
+        registration.setAsyncSupported(true);
+        registration.setLoadOnStartup(1);
+        return registration;
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.maicon.reactive;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+/**
+ * Pool de conexões R2DBC utilizado pela API reativa de leitura.
+ *
+ * <p>As conexões são abertas pelo driver {@code r2dbc-postgresql} no mesmo banco de dados e com as mesmas
+ * credenciais do {@code DataSource} JDBC ({@code spring.datasource.username} e {@code spring.datasource.password}),
+ * e as consultas são executadas através do {@link DatabaseClient} retornado por {@link #client()}.</p>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>O pool não é registrado como um bean {@code ConnectionFactory}: a presença desse bean desativaria a
+ *       configuração automática do {@code DataSource} utilizado pelo JPA. Pelo mesmo motivo, a configuração automática
+ *       do R2DBC do Spring Boot é excluída em {@code application.yml}.</li>
+ *   <li>A API reativa é somente leitura e não participa das transações JPA.</li>
+ *   <li>O pool é fechado no encerramento da aplicação.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Component
+public class ReactiveDatabase implements DisposableBean {
+
+    private final ConnectionPool pool;
+    private final DatabaseClient client;
+    private final Logger logger = LoggerFactory.getLogger(ReactiveDatabase.class);
+
+    /**
+     * Construtor que cria o pool de conexões.
+     *
+     * @param url URL R2DBC do banco de dados ({@code app.r2dbc.url}).
+     * @param username Usuário do banco de dados.
+     * @param password Senha do banco de dados.
+     * @param initialSize Quantidade de conexões abertas na criação do pool.
+     * @param maxSize Quantidade máxima de conexões do pool.
+     */
+    public ReactiveDatabase(@Value("${app.r2dbc.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${app.r2dbc.pool.initial-size:5}") int initialSize,
+            @Value("${app.r2dbc.pool.max-size:20}") int maxSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive-read-pool")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxIdleTime(Duration.ofMinutes(10))
+                .build());
+        this.client = DatabaseClient.create(pool);
+        logger.info("Created R2DBC connection pool with up to {} connections", maxSize);
+    }
+
+    /**
+     * Retorna o cliente utilizado nas consultas reativas.
+     *
+     * @return O {@link DatabaseClient} associado ao pool.
+     */
+    public DatabaseClient client() {
+        return client;
+    }
+
+    /**
+     * Fecha o pool de conexões.
+     */
+    @Override
+    public void destroy() {
+        pool.dispose();
+    }
+}
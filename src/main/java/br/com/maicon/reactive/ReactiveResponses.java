@@ -0,0 +1,119 @@
+package br.com.maicon.reactive;
+
+import java.util.Date;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import br.com.maicon.exception.BadRequestException;
+import br.com.maicon.exception.ExceptionResponse;
+import br.com.maicon.utils.KeysetPage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Classe utilitária que monta as respostas dos endpoints da API reativa.
+ *
+ * <p>As respostas de listagem são enviadas em JSON (um array) ou, quando o cabeçalho {@code Accept} da requisição
+ * solicita {@code application/x-ndjson}, em NDJSON (um registro por linha). Em ambos os casos os registros são
+ * serializados à medida que são emitidos pelo {@link Flux}.</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+final class ReactiveResponses {
+
+    private ReactiveResponses() {}
+
+    /**
+     * Indica se a requisição solicita explicitamente uma resposta em NDJSON.
+     *
+     * <p>Curingas como {@code *}{@code /*} não são considerados, de modo que o JSON continua sendo o formato padrão.</p>
+     *
+     * @param request A requisição atual.
+     * @return {@code true} se o cabeçalho {@code Accept} contiver {@code application/x-ndjson}.
+     */
+    static boolean acceptsNdjson(ServerRequest request) {
+        return request.headers().accept().stream()
+                .anyMatch(type -> type.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON));
+    }
+
+    /**
+     * Resolve o tamanho de página a partir do parâmetro {@code limit} da requisição.
+     *
+     * @param request A requisição atual.
+     * @return Tamanho de página entre 1 e {@link KeysetPage#MAX_LIMIT}.
+     * @throws BadRequestException se o parâmetro não for um número inteiro maior que zero.
+     */
+    static int limit(ServerRequest request) {
+        try {
+            return KeysetPage.resolveLimit(request.queryParam("limit").map(Integer::valueOf).orElse(null));
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException("O parâmetro limit deve ser um número inteiro.");
+        }
+    }
+
+    /**
+     * Converte a variável de caminho {@code id} da requisição.
+     *
+     * @param request A requisição atual.
+     * @return O ID informado.
+     * @throws BadRequestException se o ID não for um número inteiro.
+     */
+    static Long id(ServerRequest request) {
+        try {
+            return Long.valueOf(request.pathVariable("id"));
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException("O ID deve ser um número inteiro.");
+        }
+    }
+
+    /**
+     * Monta a resposta de uma página obtida por paginação por cursor, com os cabeçalhos de navegação.
+     *
+     * @param <T> O tipo dos registros.
+     * @param request A requisição atual.
+     * @param page A página de registros.
+     * @param limit Tamanho da página utilizado na requisição.
+     * @param type Classe dos registros.
+     * @return A resposta HTTP 200 em JSON ou NDJSON.
+     */
+    static <T> Mono<ServerResponse> page(ServerRequest request, KeysetPage<T> page, int limit, Class<T> type) {
+        return ServerResponse.ok()
+                .headers(headers -> headers.addAll(page.toHeaders(limit, UriComponentsBuilder.fromUri(request.uri()))))
+                .contentType(acceptsNdjson(request) ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(Flux.fromIterable(page.getContent()), type);
+    }
+
+    /**
+     * Monta a resposta de uma listagem transmitida à medida que os registros são emitidos.
+     *
+     * @param <T> O tipo dos registros.
+     * @param request A requisição atual.
+     * @param records Os registros.
+     * @param type Classe dos registros.
+     * @return A resposta HTTP 200 em JSON ou NDJSON.
+     */
+    static <T> Mono<ServerResponse> stream(ServerRequest request, Flux<T> records, Class<T> type) {
+        return ServerResponse.ok()
+                .contentType(acceptsNdjson(request) ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(records, type);
+    }
+
+    /**
+     * Monta a resposta de erro no mesmo formato utilizado pelo {@code GlobalExceptionHandler} da API MVC.
+     *
+     * @param status Status HTTP da resposta.
+     * @param ex Exceção que originou o erro.
+     * @param request A requisição atual.
+     * @return A resposta de erro.
+     */
+    static Mono<ServerResponse> error(HttpStatus status, Throwable ex, ServerRequest request) {
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ExceptionResponse(new Date(), ex.getMessage(), "uri=" + request.uri().getPath()));
+    }
+}
@@ -1,14 +1,22 @@
 package br.com.maicon.repositories;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import br.com.maicon.models.Contatos;
+import jakarta.persistence.QueryHint;
 
 /**
  * Interface responsável por fornecer métodos de acesso ao banco de dados
@@ -33,7 +41,16 @@ import br.com.maicon.models.Contatos;
  * 
  * <b>Métodos Personalizados:</b>
  * <ul>
- *   <li>{@link #findByQuery(String)}: Retorna uma lista de contatos cujos nomes, informações de contato ou IDs de profissionais correspondam ao termo de pesquisa fornecido.</li>
+ *   <li>{@link #findAllAfter(Long, Limit)}: Retorna uma página de contatos com ID maior que o cursor informado.</li>
+ *   <li>{@link #findActiveByProfissionalIdIn(Collection)}: Retorna, em uma única consulta, os contatos ativos de vários profissionais.</li>
+ *   <li>{@link #markDeletedByProfissionalId(Long)}: Marca como deletados, em uma única instrução, todos os contatos de um profissional.</li>
+ *   <li>{@link #findVersionSummary()}: Retorna a contagem e a data da última alteração dos contatos.</li>
+ *   <li>{@link #findVersionSummaryByProfissionalId(Long)}: Retorna a contagem e a data da última alteração dos contatos de um profissional.</li>
+ *   <li>{@link #streamAll()}: Retorna um {@link Stream} com todos os contatos, lido do banco de dados sob demanda.</li>
+ *   <li>{@link #streamUpdatedSince(Instant)}: Retorna um {@link Stream} com os contatos alterados a partir de um instante.</li>
+ *   <li>{@link #countSearchable()}: Retorna a quantidade de contatos de profissionais não deletados.</li>
+ *   <li>{@link #findProjectedAfter(java.util.Collection, Long, int)}: Retorna uma página de contatos contendo apenas os campos solicitados (herdado de {@link ContatosRepositoryCustom}).</li>
+ *   <li>{@link #search(String, int)}: Busca contatos de profissionais não deletados que correspondam ao termo de pesquisa, ordenados por relevância, sem diferenciar acentos (herdado de {@link ContatosRepositoryCustom}).</li>
  * </ul>
  *
  * @see JpaRepository
@@ -43,7 +60,12 @@ import br.com.maicon.models.Contatos;
  * @version 1.0
  */
 @Repository
-public interface ContatosRepository extends JpaRepository<Contatos, Long> {
+public interface ContatosRepository extends JpaRepository<Contatos, Long>, ContatosRepositoryCustom {
+
+    /**
+     * Quantidade de linhas buscadas por vez no cursor JDBC das consultas de exportação.
+     */
+    int EXPORT_FETCH_SIZE = 1000;
 
     /**
      * Retorna uma lista de todos os contatos que não foram deletados logicamente.
@@ -72,19 +94,113 @@ public interface ContatosRepository extends JpaRepository<Contatos, Long> {
     Optional<Contatos> findByIdAndActive(@Param("id") Long id);
     
     /**
-     * Realiza uma busca por contatos com base em um termo de pesquisa.
+     * Retorna uma página de contatos cujo ID seja maior que o cursor informado.
+     * 
+     * <p>Esta consulta implementa a paginação baseada em cursor (keyset): a condição {@code c.id > :after}
+     * combinada com a ordenação pelo ID permite que o banco de dados percorra apenas o trecho necessário
+     * do índice da chave primária, em vez de descartar registros com {@code OFFSET}.</p>
+     * 
+     * @param after O ID do último contato da página anterior ({@code 0} para a primeira página).
+     * @param limit A quantidade máxima de registros a ser retornada.
+     * @return Uma lista de contatos ordenada pelo ID.
+     */
+    @Query("SELECT c FROM Contatos c WHERE c.id > :after ORDER BY c.id")
+    List<Contatos> findAllAfter(@Param("after") Long after, Limit limit);
+
+    /**
+     * Retorna os contatos ativos dos profissionais informados, ordenados pelo profissional e pelo ID.
+     * 
+     * <p>Utilizado na expansão {@code expand=contatos} da listagem de profissionais: os contatos de todos os profissionais
+     * da página são lidos com uma única instrução {@code WHERE profissional_id IN (...)}, apoiada pelo índice
+     * {@code contatos_profissional_id_idx}, em vez de uma consulta por profissional (N+1) ou de uma junção que repetiria
+     * as colunas do profissional em cada linha.</p>
+     * 
+     * @param profissionalIds Os IDs dos profissionais; no máximo {@link br.com.maicon.utils.KeysetPage#MAX_LIMIT} por página.
+     * @return Os contatos encontrados, ordenados pelo profissional e pelo ID.
+     */
+    @Query("SELECT c FROM Contatos c WHERE c.profissionalId IN :profissionalIds AND c.deletedProfissional <> true "
+            + "ORDER BY c.profissionalId, c.id")
+    List<Contatos> findActiveByProfissionalIdIn(@Param("profissionalIds") Collection<Long> profissionalIds);
+
+    /**
+     * Marca como deletados todos os contatos associados a um profissional.
+     * 
+     * <p>A atualização é executada diretamente no banco de dados com uma única instrução {@code UPDATE},
+     * apoiada pelo índice {@code contatos_profissional_id_idx}, sem carregar os contatos em memória.
+     * Por não passar pelo contexto de persistência, este método deve ser chamado dentro de uma transação.</p>
+     * 
+     * <p>A instrução também incrementa o {@code version} e atualiza o {@code updatedDate} de cada contato, que não
+     * são mantidos pelo Hibernate em atualizações em massa, para que as ETags dos contatos afetados mudem.</p>
+     * 
+     * @param profissionalId O ID do profissional cujos contatos serão marcados como deletados.
+     * @return A quantidade de contatos atualizados.
+     */
+    @Modifying
+    @Query("UPDATE Contatos c SET c.deletedProfissional = true, c.version = c.version + 1, c.updatedDate = current_instant "
+            + "WHERE c.profissionalId = :profissionalId")
+    int markDeletedByProfissionalId(@Param("profissionalId") Long profissionalId);
+
+    /**
+     * Retorna a quantidade de contatos e o instante da alteração mais recente entre eles.
      * 
-     * <p>Este método procura contatos cujos nomes, informações de contato ou IDs de profissionais contenham
-     * o termo de pesquisa fornecido. A busca é insensível a maiúsculas/minúsculas e os resultados
-     * são ordenados pelo identificador do contato.</p>
+     * <p>Utilizado no cálculo da ETag da listagem. A consulta é atendida pelo índice {@code contatos_updated_date_idx}
+     * (migração V8) com um index-only scan, sem carregar entidades.</p>
+     * 
+     * @return O resumo de versão dos contatos.
+     */
+    @Query("SELECT count(c) AS total, max(c.updatedDate) AS lastModified FROM Contatos c")
+    VersionSummary findVersionSummary();
+
+    /**
+     * Retorna a quantidade de contatos de um profissional e o instante da alteração mais recente entre eles.
+     * 
+     * <p>Utilizado no cálculo da ETag de um profissional com os contatos expandidos, antes que os contatos sejam
+     * carregados. A consulta é apoiada pelo índice {@code contatos_profissional_id_idx}.</p>
+     * 
+     * @param profissionalId O ID do profissional.
+     * @return O resumo de versão dos contatos do profissional.
+     */
+    @Query("SELECT count(c) AS total, max(c.updatedDate) AS lastModified FROM Contatos c WHERE c.profissionalId = :profissionalId")
+    VersionSummary findVersionSummaryByProfissionalId(@Param("profissionalId") Long profissionalId);
+
+    /**
+     * Retorna um {@link Stream} com todos os contatos, ordenados pelo ID.
+     * 
+     * <p>Os registros são lidos do banco de dados em blocos de {@value #EXPORT_FETCH_SIZE} linhas através de um
+     * cursor JDBC, em vez de serem carregados de uma só vez. Este método deve ser chamado dentro de uma transação
+     * somente leitura, e o {@link Stream} deve ser fechado após o uso.</p>
+     * 
+     * @return Um {@link Stream} de contatos.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Contatos c ORDER BY c.id")
+    Stream<Contatos> streamAll();
+
+    /**
+     * Retorna um {@link Stream} com os contatos alterados a partir do instante informado, incluindo os de
+     * profissionais deletados.
+     * 
+     * <p>Utilizado na sincronização do índice de busca na inicialização da aplicação. A consulta é apoiada pelo índice
+     * {@code contatos_updated_date_idx}; as mesmas condições de {@link #streamAll()} se aplicam.</p>
+     * 
+     * @param since O instante a partir do qual as alterações são lidas.
+     * @return Um {@link Stream} de contatos.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Contatos c WHERE c.updatedDate >= :since ORDER BY c.id")
+    Stream<Contatos> streamUpdatedSince(@Param("since") Instant since);
+
+    /**
+     * Retorna a quantidade de contatos de profissionais não deletados, isto é, dos contatos pesquisáveis.
      * 
-     * @param q O termo de pesquisa a ser usado para a busca.
-     * @return Uma lista de contatos que correspondam ao termo de pesquisa fornecido.
+     * @return A quantidade de contatos.
      */
-	@Query("SELECT c FROM Contatos c WHERE "
-		     + "LOWER(c.nome) LIKE LOWER(CONCAT('%', :q, '%')) "
-		     + "OR LOWER(c.contato) LIKE LOWER(CONCAT('%', :q, '%')) "
-		     + "OR STR(c.profissionalId) LIKE CONCAT('%', :q, '%') "
-		     + "AND c.deletedProfissional <> true ORDER BY c.id")
-	List<Contatos> findByQuery(@Param("q") String q);
+    @Query("SELECT count(c) FROM Contatos c WHERE c.deletedProfissional IS NULL OR c.deletedProfissional = false")
+    long countSearchable();
 }
@@ -0,0 +1,92 @@
+package br.com.maicon.repositories;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import br.com.maicon.models.Contatos;
+import jakarta.persistence.Tuple;
+
+/**
+ * Fragmento de repositório com consultas da entidade {@link Contatos} que não podem ser expressas
+ * por uma única anotação {@link org.springframework.data.jpa.repository.Query}.
+ *
+ * <p>A implementação é fornecida por {@link ContatosRepositoryCustomImpl} e incorporada automaticamente
+ * pelo Spring Data JPA ao {@link ContatosRepository}.</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public interface ContatosRepositoryCustom {
+
+    /**
+     * Campos do contato que podem ser solicitados através do parâmetro {@code fields}.
+     */
+    List<String> PROJECTABLE_FIELDS = List.of("id", "nome", "contato", "profissionalId");
+
+    /**
+     * Contato já validado a ser importado, identificado pela linha do arquivo de origem.
+     *
+     * @param line Linha do arquivo em que o registro começa.
+     * @param nome Nome do contato.
+     * @param contato Informação de contato.
+     * @param profissionalId ID do profissional associado.
+     */
+    record StagedContato(long line, String nome, String contato, Long profissionalId) {
+    }
+
+    /**
+     * Retorna uma página de contatos contendo apenas os campos informados.
+     *
+     * <p>Somente as colunas correspondentes aos campos solicitados (e o {@code id}, necessário para o cursor)
+     * são selecionadas no banco de dados.</p>
+     *
+     * @param fields Campos a serem selecionados, contidos em {@link #PROJECTABLE_FIELDS}.
+     * @param after O ID do último contato da página anterior ({@code 0} para a primeira página).
+     * @param limit A quantidade máxima de registros a ser retornada.
+     * @return Uma lista de {@link Tuple} ordenada pelo ID, cujos elementos possuem o nome do campo como alias.
+     */
+    List<Tuple> findProjectedAfter(Collection<String> fields, Long after, int limit);
+
+    /**
+     * Busca contatos de profissionais não deletados cujo nome, contato ou ID do profissional correspondam ao termo de pesquisa, ordenados por relevância.
+     *
+     * <p>A busca ignora acentos e maiúsculas/minúsculas. Ela é resolvida no índice Lucene
+     * ({@link br.com.maicon.search.ContatosSearchIndex}) quando este está pronto e, caso contrário, nos índices GIN
+     * de texto e de trigramas criados na migração {@code V5} (ver {@link SearchQuery}).</p>
+     *
+     * @param q O termo de pesquisa.
+     * @param limit A quantidade máxima de registros a ser retornada.
+     * @return Uma lista de contatos ordenada da maior para a menor relevância.
+     */
+    List<Contatos> search(String q, int limit);
+
+    /**
+     * Busca contatos de profissionais não deletados que correspondam ao termo de pesquisa, contendo apenas os campos informados.
+     *
+     * <p>Aplica os mesmos critérios e a mesma ordenação de {@link #search(String, int)}.</p>
+     *
+     * @param fields Campos a serem selecionados, contidos em {@link #PROJECTABLE_FIELDS}.
+     * @param q O termo de pesquisa.
+     * @param limit A quantidade máxima de registros a ser retornada.
+     * @return Uma lista de {@link Tuple} ordenada por relevância, cujos elementos possuem o nome do campo como alias.
+     */
+    List<Tuple> findProjectedByQuery(Collection<String> fields, String q, int limit);
+
+    /**
+     * Importa contatos em massa através de uma tabela de preparação (staging).
+     *
+     * <p>Os registros são enviados a uma tabela temporária com o comando {@code COPY} do PostgreSQL à medida que são
+     * lidos do {@link Iterator}, sem serem acumulados em memória. Em seguida, são inseridos em {@code contatos} com
+     * uma única instrução {@code INSERT ... SELECT}, que verifica o {@code profissional_id} através de uma junção com
+     * os profissionais ativos. Este método deve ser chamado dentro de uma transação; a tabela temporária é descartada
+     * no {@code commit}.</p>
+     *
+     * @param rows Contatos a serem importados, lidos sob demanda.
+     * @param onImported Função que recebe os contatos inseridos, em blocos.
+     * @param onRejected Função que recebe a linha de cada contato rejeitado por não possuir um profissional ativo.
+     */
+    void importStaged(Iterator<StagedContato> rows, Consumer<List<Contatos>> onImported, LongConsumer onRejected);
+}
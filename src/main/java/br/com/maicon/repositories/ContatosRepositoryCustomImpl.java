@@ -0,0 +1,238 @@
+package br.com.maicon.repositories;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import br.com.maicon.models.Contatos;
+import br.com.maicon.search.ContatosSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+
+/**
+ * Implementação do fragmento {@link ContatosRepositoryCustom}.
+ *
+ * <p>As consultas de projeção são montadas com a Criteria API através de {@link FieldProjectionQuery}, de modo
+ * que apenas as colunas solicitadas sejam lidas do banco de dados. As buscas por termo utilizam SQL nativo
+ * sobre as colunas {@code search_text} e {@code search_vector} (ver {@link SearchQuery}).</p>
+ *
+ * <p>Quando o índice Lucene ({@link ContatosSearchIndex}) está pronto, as buscas por termo são resolvidas no índice, sem
+ * acessar o PostgreSQL para a correspondência e a ordenação: apenas os registros dos IDs retornados são lidos.
+ * A busca nativa é utilizada enquanto o índice não existe ou está em reconstrução.</p>
+ *
+ * <p>A importação em massa utiliza diretamente a conexão JDBC da transação corrente, através da API
+ * {@code CopyManager} do driver do PostgreSQL.</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public class ContatosRepositoryCustomImpl implements ContatosRepositoryCustom {
+
+    static final String SEARCH_SQL = """
+            SELECT %s FROM contatos c
+            WHERE c.deleted_profissional <> true
+              AND (c.search_vector @@ to_tsquery('simple', f_unaccent(:tsquery))
+                   OR c.search_text LIKE f_unaccent(lower(:pattern))
+                   OR f_unaccent(lower(:term)) <%% c.search_text%s)
+            ORDER BY ts_rank(c.search_vector, to_tsquery('simple', f_unaccent(:tsquery)))
+                     + word_similarity(f_unaccent(lower(:term)), c.search_text) DESC, c.id
+            LIMIT :limit
+            """;
+
+    static final String PROFISSIONAL_CRITERIA = "\n       OR c.profissional_id = :profissionalId";
+
+    private static final String FIND_BY_IDS_JPQL = "SELECT c FROM Contatos c WHERE c.id IN :ids AND c.deletedProfissional <> true";
+
+    private static final String CREATE_STAGING_SQL = """
+            CREATE TEMPORARY TABLE contatos_import (
+                line_number bigint NOT NULL,
+                nome varchar(50) NOT NULL,
+                contato varchar(100) NOT NULL,
+                profissional_id bigint NOT NULL
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_SQL =
+            "COPY contatos_import (line_number, nome, contato, profissional_id) FROM STDIN WITH (FORMAT csv)";
+
+    /**
+     * Incremento da sequência {@code contatos_id_seq}, igual ao {@code allocationSize} de {@link Contatos}.
+     */
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Insere as linhas aceitas reservando os IDs como o otimizador {@code pooled} do Hibernate: um {@code nextval} por
+     * bloco de {@value #ID_ALLOCATION_SIZE} linhas, cujo valor é o último ID do bloco, e a posição de cada linha no
+     * bloco somada ao primeiro ID. O {@code DEFAULT} da coluna consumiria um bloco inteiro da sequência por linha.
+     */
+    private static final String MERGE_SQL = """
+            WITH accepted AS (
+                SELECT s.line_number, s.nome, s.contato, s.profissional_id,
+                       row_number() OVER (ORDER BY s.line_number) - 1 AS position
+                FROM contatos_import s
+                JOIN profissionais p ON p.id = s.profissional_id AND p.deleted <> true
+            ), blocks AS (
+                SELECT block, nextval('contatos_id_seq') - %1$d + 1 AS first_id
+                FROM generate_series(0, ((SELECT count(*) FROM accepted) + %1$d - 1) / %1$d - 1) AS block
+            )
+            INSERT INTO contatos (id, nome, contato, created_date, profissional_id, deleted_profissional)
+            SELECT b.first_id + mod(a.position, %1$d), a.nome, a.contato, CURRENT_TIMESTAMP, a.profissional_id, false
+            FROM accepted a
+            JOIN blocks b ON b.block = a.position / %1$d
+            ORDER BY a.line_number
+            RETURNING id, nome, contato, created_date, profissional_id
+            """.formatted(ID_ALLOCATION_SIZE);
+
+    private static final String REJECTED_SQL = """
+            SELECT s.line_number FROM contatos_import s
+            WHERE NOT EXISTS (SELECT 1 FROM profissionais p WHERE p.id = s.profissional_id AND p.deleted <> true)
+            ORDER BY s.line_number
+            """;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final int IMPORT_CHUNK_SIZE = 1000;
+
+    private final EntityManager entityManager;
+    private final ContatosSearchIndex searchIndex;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param entityManager {@link EntityManager} utilizado nas consultas.
+     * @param searchIndex Índice de busca Lucene.
+     */
+    public ContatosRepositoryCustomImpl(EntityManager entityManager, ContatosSearchIndex searchIndex) {
+        this.entityManager = entityManager;
+        this.searchIndex = searchIndex;
+    }
+
+    @Override
+    public List<Tuple> findProjectedAfter(Collection<String> fields, Long after, int limit) {
+        return FieldProjectionQuery.execute(entityManager, Contatos.class, fields, null, after, limit);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Contatos> search(String q, int limit) {
+        if (searchIndex.isReady()) {
+            List<Long> ids = searchIndex.search(q, limit);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            List<Contatos> rows = entityManager.createQuery(FIND_BY_IDS_JPQL, Contatos.class)
+                    .setParameter("ids", ids)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultList();
+            return SearchQuery.inOrder(ids, rows, Contatos::getId);
+        }
+        return searchQuery("c.*", q, limit, Contatos.class).getResultList();
+    }
+
+    @Override
+    public List<Tuple> findProjectedByQuery(Collection<String> fields, String q, int limit) {
+        List<Long> ids = searchIndex.isReady()
+                ? searchIndex.search(q, limit)
+                : SearchQuery.toIds(searchQuery("c.id", q, limit, null).getResultList());
+        return FieldProjectionQuery.executeForIds(entityManager, Contatos.class, fields, ids);
+    }
+
+    @Override
+    public void importStaged(Iterator<StagedContato> rows, Consumer<List<Contatos>> onImported, LongConsumer onRejected) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_SQL);
+            }
+            copyToStaging(connection.unwrap(PGConnection.class), rows);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE contatos_import");
+            }
+            mergeStaging(connection, onImported);
+            try (Statement statement = connection.createStatement();
+                 ResultSet rejected = statement.executeQuery(REJECTED_SQL)) {
+                while (rejected.next()) {
+                    onRejected.accept(rejected.getLong(1));
+                }
+            }
+        });
+    }
+
+    private static void copyToStaging(PGConnection connection, Iterator<StagedContato> rows) throws SQLException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(connection, COPY_SQL, COPY_BUFFER_SIZE), StandardCharsets.UTF_8))) {
+            while (rows.hasNext()) {
+                StagedContato row = rows.next();
+                writer.write(Long.toString(row.line()));
+                writer.write(',');
+                writer.write(quoteCsv(row.nome()));
+                writer.write(',');
+                writer.write(quoteCsv(row.contato()));
+                writer.write(',');
+                writer.write(Long.toString(row.profissionalId()));
+                writer.write('\n');
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void mergeStaging(Connection connection, Consumer<List<Contatos>> onImported) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setFetchSize(IMPORT_CHUNK_SIZE);
+            try (ResultSet inserted = statement.executeQuery(MERGE_SQL)) {
+                List<Contatos> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+                while (inserted.next()) {
+                    Contatos contato = new Contatos();
+                    contato.setId(inserted.getLong("id"));
+                    contato.setNome(inserted.getString("nome"));
+                    contato.setContato(inserted.getString("contato"));
+                    contato.setCreatedDate(inserted.getTimestamp("created_date"));
+                    contato.setProfissionalId(inserted.getLong("profissional_id"));
+                    contato.setDeletedProfissional(false);
+                    chunk.add(contato);
+                    if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                        onImported.accept(chunk);
+                        chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    onImported.accept(chunk);
+                }
+            }
+        }
+    }
+
+    private static String quoteCsv(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private Query searchQuery(String select, String q, int limit, Class<?> resultType) {
+        Optional<Long> profissionalId = SearchQuery.number(q);
+        String sql = String.format(SEARCH_SQL, select, profissionalId.isPresent() ? PROFISSIONAL_CRITERIA : "");
+        Query query = resultType == null
+                ? entityManager.createNativeQuery(sql)
+                : entityManager.createNativeQuery(sql, resultType);
+        profissionalId.ifPresent(id -> query.setParameter("profissionalId", id));
+        return SearchQuery.bind(query, q, limit);
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.maicon.repositories;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import br.com.maicon.data.dto.v1.EstatisticasDTO;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Repositório das estatísticas agregadas de profissionais e contatos.
+ *
+ * <p>As estatísticas são lidas das views materializadas criadas na migração V9, que contêm apenas uma linha por
+ * cargo, por quantidade de contatos e por mês: cada consulta lê poucas linhas, independentemente do tamanho das
+ * tabelas de profissionais e contatos.</p>
+ *
+ * <b>Métodos principais:</b>
+ * <ul>
+ *   <li>{@link #findProfissionaisPorCargo()}: Retorna a quantidade de profissionais ativos por cargo.</li>
+ *   <li>{@link #findContatosPorProfissional()}: Retorna a distribuição da quantidade de contatos por profissional.</li>
+ *   <li>{@link #findContratacoesPorMes()}: Retorna a quantidade de profissionais cadastrados por mês.</li>
+ *   <li>{@link #findAtualizadoEm()}: Retorna o instante da última atualização das views.</li>
+ *   <li>{@link #refresh()}: Atualiza as views, se nenhuma outra instância estiver atualizando.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Repository
+public class EstatisticasRepository {
+
+    /**
+     * Chave do advisory lock do PostgreSQL que impede atualizações simultâneas por instâncias diferentes.
+     */
+    private static final long REFRESH_LOCK_KEY = 0x45535441L;
+
+    private static final List<String> VIEWS = List.of(
+            "estatisticas_profissionais_por_cargo",
+            "estatisticas_contatos_por_profissional",
+            "estatisticas_contratacoes_por_mes");
+
+    private final EntityManager entityManager;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param entityManager {@link EntityManager} utilizado nas consultas.
+     */
+    public EstatisticasRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Retorna a quantidade de profissionais ativos por cargo, ordenada pelo cargo.
+     *
+     * @return A quantidade de profissionais de cada cargo.
+     */
+    public List<EstatisticasDTO.CargoTotal> findProfissionaisPorCargo() {
+        return rows("SELECT cargo, total FROM estatisticas_profissionais_por_cargo ORDER BY cargo").stream()
+                .map(row -> new EstatisticasDTO.CargoTotal((String) row[0], ((Number) row[1]).longValue()))
+                .toList();
+    }
+
+    /**
+     * Retorna a quantidade de profissionais ativos por quantidade de contatos, ordenada pela quantidade de contatos.
+     *
+     * @return A distribuição da quantidade de contatos por profissional.
+     */
+    public List<EstatisticasDTO.ContatosTotal> findContatosPorProfissional() {
+        return rows("SELECT contatos, profissionais FROM estatisticas_contatos_por_profissional ORDER BY contatos").stream()
+                .map(row -> new EstatisticasDTO.ContatosTotal(((Number) row[0]).longValue(), ((Number) row[1]).longValue()))
+                .toList();
+    }
+
+    /**
+     * Retorna a quantidade de profissionais cadastrados por mês, ordenada pelo mês.
+     *
+     * @return A quantidade de profissionais cadastrados em cada mês.
+     */
+    public List<EstatisticasDTO.MesTotal> findContratacoesPorMes() {
+        return rows("SELECT to_char(mes, 'YYYY-MM'), total FROM estatisticas_contratacoes_por_mes ORDER BY mes").stream()
+                .map(row -> new EstatisticasDTO.MesTotal((String) row[0], ((Number) row[1]).longValue()))
+                .toList();
+    }
+
+    /**
+     * Retorna o instante da última atualização das views, registrado por {@link #refresh()}.
+     *
+     * @return O instante da última atualização.
+     */
+    public Instant findAtualizadoEm() {
+        Object value = entityManager.createNativeQuery("SELECT atualizado_em FROM estatisticas_atualizacao WHERE id = 1")
+                .getSingleResult();
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.toInstant();
+        }
+        if (value instanceof Date date) {
+            return date.toInstant();
+        }
+        return (Instant) value;
+    }
+
+    /**
+     * Atualiza as views materializadas com {@code REFRESH MATERIALIZED VIEW CONCURRENTLY}, que não bloqueia as leituras.
+     *
+     * <p>Deve ser chamado dentro de uma transação. Um advisory lock de transação garante que apenas uma instância da
+     * aplicação atualize as views por vez; se outra instância já estiver atualizando, nada é feito.</p>
+     *
+     * @return {@code true} se as views foram atualizadas, ou {@code false} se outra instância estava atualizando.
+     */
+    public boolean refresh() {
+        Boolean locked = (Boolean) entityManager.createNativeQuery("SELECT pg_try_advisory_xact_lock(:key)")
+                .setParameter("key", REFRESH_LOCK_KEY)
+                .getSingleResult();
+        if (!Boolean.TRUE.equals(locked)) {
+            return false;
+        }
+        for (String view : VIEWS) {
+            entityManager.createNativeQuery("REFRESH MATERIALIZED VIEW CONCURRENTLY " + view).executeUpdate();
+        }
+        entityManager.createNativeQuery("UPDATE estatisticas_atualizacao SET atualizado_em = CURRENT_TIMESTAMP WHERE id = 1")
+                .executeUpdate();
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> rows(String sql) {
+        return entityManager.createNativeQuery(sql).getResultList();
+    }
+}
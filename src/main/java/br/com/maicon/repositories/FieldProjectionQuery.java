@@ -0,0 +1,114 @@
+package br.com.maicon.repositories;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import org.hibernate.jpa.HibernateHints;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Classe utilitária que monta consultas de projeção dinâmica para os repositórios.
+ *
+ * <p>Em vez de carregar a entidade completa, a consulta seleciona apenas as colunas correspondentes aos campos
+ * solicitados pelo cliente (parâmetro {@code fields}), retornando cada linha como um {@link Tuple} cujos
+ * elementos possuem o nome do campo como alias. A consulta utiliza a mesma paginação baseada em cursor
+ * (keyset) das consultas de listagem ou, nas buscas por termo, uma lista de IDs já ordenada por relevância.</p>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>O campo {@code id} é sempre selecionado, pois é necessário para calcular o cursor da próxima página.</li>
+ *   <li>Os nomes dos campos devem ser validados contra a lista de campos projetáveis de cada recurso antes
+ *       de chegarem a esta classe.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+final class FieldProjectionQuery {
+
+    private FieldProjectionQuery() {}
+
+    /**
+     * Executa uma consulta de projeção paginada por cursor.
+     *
+     * @param <E> O tipo da entidade consultada.
+     * @param entityManager {@link EntityManager} utilizado na consulta.
+     * @param type Classe da entidade consultada.
+     * @param fields Campos a serem selecionados.
+     * @param filter Função que monta o filtro adicional da consulta, ou {@code null} se não houver.
+     * @param after O ID do último registro da página anterior.
+     * @param limit A quantidade máxima de registros a ser retornada.
+     * @return Uma lista de {@link Tuple} ordenada pelo ID, com um elemento por campo selecionado.
+     */
+    static <E> List<Tuple> execute(EntityManager entityManager, Class<E> type, Collection<String> fields,
+            BiFunction<CriteriaBuilder, Root<E>, Predicate> filter, Long after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(type);
+
+        query.multiselect(selections(root, fields));
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.greaterThan(root.<Long>get("id"), after));
+        if (filter != null) {
+            predicates.add(filter.apply(cb, root));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+
+    /**
+     * Executa uma consulta de projeção para os IDs informados, preservando a ordem da lista.
+     *
+     * <p>Utilizado pelas buscas por termo, que primeiro obtêm os IDs ordenados por relevância
+     * (ver {@link SearchQuery}) e depois selecionam apenas as colunas solicitadas.</p>
+     *
+     * @param <E> O tipo da entidade consultada.
+     * @param entityManager {@link EntityManager} utilizado na consulta.
+     * @param type Classe da entidade consultada.
+     * @param fields Campos a serem selecionados.
+     * @param ids IDs dos registros, na ordem em que devem ser retornados.
+     * @return Uma lista de {@link Tuple} na ordem de {@code ids}, com um elemento por campo selecionado.
+     */
+    static <E> List<Tuple> executeForIds(EntityManager entityManager, Class<E> type, Collection<String> fields,
+            List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(type);
+        query.multiselect(selections(root, fields));
+        query.where(root.get("id").in(ids));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+        return SearchQuery.inOrder(ids, rows, tuple -> tuple.get("id", Long.class));
+    }
+
+    private static <E> List<Selection<?>> selections(Root<E> root, Collection<String> fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        selected.addAll(fields);
+        return selected.stream()
+                .<Selection<?>>map(field -> root.get(field).alias(field))
+                .toList();
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.maicon.repositories;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Repositório das chaves de idempotência das criações de profissionais e contatos.
+ *
+ * <p>Cada chave é gravada na tabela {@code idempotency_keys} (migração V10) junto com o hash do corpo da requisição e
+ * a mensagem da resposta de sucesso. A chave primária {@code (escopo, idempotency_key)} garante que apenas uma
+ * requisição seja processada por chave, mesmo entre instâncias diferentes da aplicação.</p>
+ *
+ * <b>Métodos principais:</b>
+ * <ul>
+ *   <li>{@link #claim(String, String, String)}: Reserva a chave para a requisição corrente.</li>
+ *   <li>{@link #find(String, String)}: Retorna a resposta gravada para a chave.</li>
+ *   <li>{@link #complete(String, String, String)}: Grava a mensagem da resposta da chave reservada.</li>
+ *   <li>{@link #deleteCreatedBefore(Instant)}: Remove as chaves expiradas.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Repository
+public class IdempotencyKeyRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param entityManager {@link EntityManager} utilizado nas consultas.
+     */
+    public IdempotencyKeyRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Reserva a chave para a requisição corrente, inserindo-a sem mensagem de resposta.
+     *
+     * <p>Deve ser chamado dentro de uma transação. Se outra transação tiver inserido a mesma chave e ainda não tiver
+     * terminado, o PostgreSQL aguarda o seu término: a chave só é considerada ocupada se a outra transação for
+     * confirmada.</p>
+     *
+     * @param escopo Recurso da criação.
+     * @param key Chave de idempotência.
+     * @param requestHash Hash do corpo da requisição.
+     * @return {@code true} se a chave foi reservada, ou {@code false} se ela já existia.
+     */
+    public boolean claim(String escopo, String key, String requestHash) {
+        return entityManager.createNativeQuery("INSERT INTO idempotency_keys (escopo, idempotency_key, request_hash) "
+                + "VALUES (:escopo, :key, :hash) ON CONFLICT (escopo, idempotency_key) DO NOTHING")
+                .setParameter("escopo", escopo)
+                .setParameter("key", key)
+                .setParameter("hash", requestHash)
+                .executeUpdate() == 1;
+    }
+
+    /**
+     * Retorna a resposta gravada para a chave.
+     *
+     * @param escopo Recurso da criação.
+     * @param key Chave de idempotência.
+     * @return A resposta gravada, ou vazio se a chave não existir.
+     */
+    public Optional<StoredResponse> find(String escopo, String key) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(
+                "SELECT request_hash, message FROM idempotency_keys WHERE escopo = :escopo AND idempotency_key = :key")
+                .setParameter("escopo", escopo)
+                .setParameter("key", key)
+                .getResultList();
+        return rows.stream().findFirst().map(row -> new StoredResponse((String) row[0], (String) row[1]));
+    }
+
+    /**
+     * Grava a mensagem da resposta de sucesso da chave reservada por {@link #claim(String, String, String)}.
+     *
+     * @param escopo Recurso da criação.
+     * @param key Chave de idempotência.
+     * @param message Mensagem da resposta.
+     */
+    public void complete(String escopo, String key, String message) {
+        entityManager.createNativeQuery(
+                "UPDATE idempotency_keys SET message = :message WHERE escopo = :escopo AND idempotency_key = :key")
+                .setParameter("message", message)
+                .setParameter("escopo", escopo)
+                .setParameter("key", key)
+                .executeUpdate();
+    }
+
+    /**
+     * Remove as chaves gravadas antes do instante informado.
+     *
+     * @param instant Instante limite.
+     * @return A quantidade de chaves removidas.
+     */
+    public int deleteCreatedBefore(Instant instant) {
+        return entityManager.createNativeQuery("DELETE FROM idempotency_keys WHERE created_date < :instant")
+                .setParameter("instant", OffsetDateTime.ofInstant(instant, ZoneOffset.UTC))
+                .executeUpdate();
+    }
+
+    /**
+     * Resposta gravada para uma chave de idempotência.
+     *
+     * @param requestHash Hash do corpo da requisição que reservou a chave.
+     * @param message Mensagem da resposta de sucesso.
+     */
+    public record StoredResponse(String requestHash, String message) {}
+}
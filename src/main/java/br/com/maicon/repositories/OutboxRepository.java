@@ -0,0 +1,212 @@
+package br.com.maicon.repositories;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Repository;
+
+import br.com.maicon.data.dto.v1.ChangeEventDTO;
+import br.com.maicon.data.dto.v1.ChangeEventDTO.Operacao;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Repositório do outbox transacional com os eventos de alteração de profissionais e contatos.
+ *
+ * <p>Os eventos são gravados na tabela {@code outbox_events} (migração V11) na mesma transação que a alteração e, em
+ * seguida, publicados: a publicação atribui a cada evento uma posição sequencial e sem lacunas, que é o
+ * {@code Last-Event-ID} dos clientes do fluxo de alterações.</p>
+ *
+ * <b>Métodos principais:</b>
+ * <ul>
+ *   <li>{@link #record(String, Long, Operacao)}: Grava o evento de uma alteração.</li>
+ *   <li>{@link #recordAll(String, Collection, Operacao)}: Grava os eventos de uma alteração em lote, com uma única instrução.</li>
+ *   <li>{@link #recordProfissionalDeleted(Long)}: Grava os eventos da deleção de um profissional e dos seus contatos.</li>
+ *   <li>{@link #publishPending(int)}: Atribui posições aos eventos ainda não publicados.</li>
+ *   <li>{@link #findPublishedAfter(long, int)}: Retorna os eventos publicados após uma posição.</li>
+ *   <li>{@link #findLastPosicao()}: Retorna a última posição publicada.</li>
+ *   <li>{@link #deletePublishedBefore(Instant)}: Remove os eventos expirados.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Repository
+public class OutboxRepository {
+
+    /**
+     * Recurso dos eventos de profissionais.
+     */
+    public static final String PROFISSIONAIS = "profissionais";
+
+    /**
+     * Recurso dos eventos de contatos.
+     */
+    public static final String CONTATOS = "contatos";
+
+    private final EntityManager entityManager;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param entityManager {@link EntityManager} utilizado nas consultas.
+     */
+    public OutboxRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Grava o evento de uma alteração. Deve ser chamado na transação da alteração.
+     *
+     * @param recurso Recurso alterado.
+     * @param id ID do registro alterado.
+     * @param operacao Operação realizada.
+     */
+    public void record(String recurso, Long id, Operacao operacao) {
+        entityManager.createNativeQuery("INSERT INTO outbox_events (recurso, recurso_id, operacao) "
+                + "VALUES (:recurso, :id, :operacao)")
+                .setParameter("recurso", recurso)
+                .setParameter("id", id)
+                .setParameter("operacao", operacao.name())
+                .executeUpdate();
+    }
+
+    /**
+     * Grava os eventos de uma alteração em lote, na ordem dos IDs informados, com uma única instrução. Deve ser chamado
+     * na transação da alteração.
+     *
+     * @param recurso Recurso alterado.
+     * @param ids IDs dos registros alterados.
+     * @param operacao Operação realizada.
+     */
+    public void recordAll(String recurso, Collection<Long> ids, Operacao operacao) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        entityManager.createNativeQuery("INSERT INTO outbox_events (recurso, recurso_id, operacao) "
+                + "SELECT :recurso, ids.id, :operacao FROM unnest(CAST(:ids AS bigint[])) WITH ORDINALITY AS ids(id, n) "
+                + "ORDER BY ids.n")
+                .setParameter("recurso", recurso)
+                .setParameter("ids", ids.stream().map(String::valueOf).collect(Collectors.joining(",", "{", "}")))
+                .setParameter("operacao", operacao.name())
+                .executeUpdate();
+    }
+
+    /**
+     * Grava os eventos da deleção de um profissional e de todos os seus contatos, que deixam de ser listados, com uma
+     * única instrução. Deve ser chamado na transação da deleção.
+     *
+     * @param profissionalId ID do profissional deletado.
+     */
+    public void recordProfissionalDeleted(Long profissionalId) {
+        entityManager.createNativeQuery("INSERT INTO outbox_events (recurso, recurso_id, operacao) "
+                + "SELECT :profissionais, CAST(:id AS bigint), :operacao "
+                + "UNION ALL SELECT :contatos, c.id, :operacao FROM contatos c WHERE c.profissional_id = :id")
+                .setParameter("profissionais", PROFISSIONAIS)
+                .setParameter("contatos", CONTATOS)
+                .setParameter("id", profissionalId)
+                .setParameter("operacao", Operacao.DELETED.name())
+                .executeUpdate();
+    }
+
+    /**
+     * Atribui posições sequenciais, a partir da última posição publicada, aos eventos ainda não publicados, na ordem em
+     * que foram gravados.
+     *
+     * <p>Deve ser chamado dentro de uma transação. O registro de {@code outbox_publication} é bloqueado com
+     * {@code FOR UPDATE SKIP LOCKED}: se outra instância da aplicação estiver publicando, nada é feito, sem aguardar.
+     * Como apenas uma transação publica por vez, as posições são confirmadas em ordem e sem lacunas, e todas as
+     * instâncias podem acompanhar o fluxo pela posição.</p>
+     *
+     * @param limit Quantidade máxima de eventos publicados.
+     * @return A quantidade de eventos publicados.
+     */
+    public int publishPending(int limit) {
+        @SuppressWarnings("unchecked")
+        List<Object> lease = entityManager.createNativeQuery(
+                "SELECT last_posicao FROM outbox_publication WHERE id = 1 FOR UPDATE SKIP LOCKED")
+                .getResultList();
+        if (lease.isEmpty()) {
+            return 0;
+        }
+        long lastPosicao = ((Number) lease.get(0)).longValue();
+        int published = entityManager.createNativeQuery("WITH pending AS ("
+                + "SELECT id, row_number() OVER (ORDER BY id) AS n FROM outbox_events WHERE posicao IS NULL "
+                + "ORDER BY id LIMIT :limit) "
+                + "UPDATE outbox_events e SET posicao = :lastPosicao + pending.n FROM pending WHERE e.id = pending.id")
+                .setParameter("limit", limit)
+                .setParameter("lastPosicao", lastPosicao)
+                .executeUpdate();
+        if (published > 0) {
+            entityManager.createNativeQuery("UPDATE outbox_publication SET last_posicao = :posicao WHERE id = 1")
+                    .setParameter("posicao", lastPosicao + published)
+                    .executeUpdate();
+        }
+        return published;
+    }
+
+    /**
+     * Retorna os eventos publicados após a posição informada, ordenados pela posição.
+     *
+     * @param posicao Posição do último evento recebido.
+     * @param limit Quantidade máxima de eventos.
+     * @return Os eventos publicados após a posição.
+     */
+    public List<ChangeEventDTO> findPublishedAfter(long posicao, int limit) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(
+                "SELECT posicao, recurso, recurso_id, operacao, created_date FROM outbox_events "
+                + "WHERE posicao > :posicao ORDER BY posicao LIMIT :limit")
+                .setParameter("posicao", posicao)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream().map(OutboxRepository::toChangeEvent).toList();
+    }
+
+    /**
+     * Retorna a última posição publicada.
+     *
+     * @return A última posição publicada, ou {@code 0} se nenhum evento foi publicado.
+     */
+    public long findLastPosicao() {
+        return ((Number) entityManager.createNativeQuery("SELECT last_posicao FROM outbox_publication WHERE id = 1")
+                .getSingleResult()).longValue();
+    }
+
+    /**
+     * Remove os eventos publicados gravados antes do instante informado.
+     *
+     * @param instant Instante limite.
+     * @return A quantidade de eventos removidos.
+     */
+    public int deletePublishedBefore(Instant instant) {
+        return entityManager.createNativeQuery(
+                "DELETE FROM outbox_events WHERE created_date < :instant AND posicao IS NOT NULL")
+                .setParameter("instant", OffsetDateTime.ofInstant(instant, ZoneOffset.UTC))
+                .executeUpdate();
+    }
+
+    private static ChangeEventDTO toChangeEvent(Object[] row) {
+        ChangeEventDTO event = new ChangeEventDTO();
+        event.setPosicao(((Number) row[0]).longValue());
+        event.setRecurso((String) row[1]);
+        event.setId(((Number) row[2]).longValue());
+        event.setOperacao(Operacao.valueOf((String) row[3]));
+        event.setOcorridoEm(toDate(row[4]));
+        return event;
+    }
+
+    private static Date toDate(Object value) {
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return Date.from(offsetDateTime.toInstant());
+        }
+        if (value instanceof Instant instant) {
+            return Date.from(instant);
+        }
+        return (Date) value;
+    }
+}
@@ -1,14 +1,21 @@
 package br.com.maicon.repositories;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import br.com.maicon.models.Profissionais;
+import jakarta.persistence.QueryHint;
 
 /**
  * Interface responsável por fornecer métodos de acesso ao banco de dados
@@ -35,7 +42,13 @@ import br.com.maicon.models.Profissionais;
  * <ul>
  *   <li>{@link #findAllActive()}: Retorna uma lista de todos os profissionais ativos (não deletados).</li>
  *   <li>{@link #findByIdAndActive(Long)}: Retorna um profissional específico pelo seu ID, desde que ele não esteja deletado.</li>
- *   <li>{@link #findByQuery(String)}: Retorna uma lista de profissionais cujos nomes, cargos ou datas de nascimento correspondam ao termo de pesquisa fornecido, e que não estejam deletados.</li>
+ *   <li>{@link #findActiveIds(Collection)}: Retorna, dentre os IDs informados, os que pertencem a profissionais ativos.</li>
+ *   <li>{@link #findActiveAfter(Long, Limit)}: Retorna uma página de profissionais ativos com ID maior que o cursor informado.</li>
+ *   <li>{@link #findActiveVersionSummary()}: Retorna a contagem e a data da última alteração dos profissionais ativos.</li>
+ *   <li>{@link #streamAllActive()}: Retorna um {@link Stream} com todos os profissionais não deletados, lido do banco de dados sob demanda.</li>
+ *   <li>{@link #streamUpdatedSince(Instant)}: Retorna um {@link Stream} com os profissionais alterados a partir de um instante.</li>
+ *   <li>{@link #findProjectedAfter(java.util.Collection, Long, int)}: Retorna uma página de profissionais ativos contendo apenas os campos solicitados (herdado de {@link ProfissionaisRepositoryCustom}).</li>
+ *   <li>{@link #search(String, int)}: Busca profissionais ativos que correspondam ao termo de pesquisa, ordenados por relevância, sem diferenciar acentos (herdado de {@link ProfissionaisRepositoryCustom}).</li>
  * </ul>
  *
  * @see JpaRepository
@@ -45,7 +58,12 @@ import br.com.maicon.models.Profissionais;
  * @version 1.0
  */
 @Repository
-public interface ProfissionaisRepository extends JpaRepository<Profissionais, Long> {
+public interface ProfissionaisRepository extends JpaRepository<Profissionais, Long>, ProfissionaisRepositoryCustom {
+
+    /**
+     * Quantidade de linhas buscadas por vez no cursor JDBC das consultas de exportação.
+     */
+    int EXPORT_FETCH_SIZE = 1000;
 	
     /**
      * Retorna uma lista de todos os profissionais que não foram deletados.
@@ -72,19 +90,72 @@ public interface ProfissionaisRepository extends JpaRepository<Profissionais, Lo
     Optional<Profissionais> findByIdAndActive(@Param("id") Long id);
 
     /**
-     * Realiza uma busca por profissionais com base em um termo de pesquisa.
+     * Retorna, dentre os IDs informados, os que pertencem a profissionais ativos (não deletados).
+     * 
+     * <p>Utilizado na criação de contatos em lote para verificar a existência dos profissionais de um bloco
+     * inteiro com uma única consulta.</p>
+     * 
+     * @param ids Os IDs a serem verificados.
+     * @return Os IDs de profissionais ativos.
+     */
+    @Query("SELECT p.id FROM Profissionais p WHERE p.id IN :ids AND p.deleted <> true")
+    List<Long> findActiveIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retorna uma página de profissionais não deletados cujo ID seja maior que o cursor informado.
+     * 
+     * <p>Esta consulta implementa a paginação baseada em cursor (keyset): a condição {@code p.id > :after}
+     * combinada com a ordenação pelo ID permite que o banco de dados percorra apenas o trecho necessário
+     * do índice da chave primária, em vez de descartar registros com {@code OFFSET}.</p>
+     * 
+     * @param after O ID do último profissional da página anterior ({@code 0} para a primeira página).
+     * @param limit A quantidade máxima de registros a ser retornada.
+     * @return Uma lista de profissionais ativos ordenada pelo ID.
+     */
+    @Query("SELECT p FROM Profissionais p WHERE p.deleted <> true AND p.id > :after ORDER BY p.id")
+    List<Profissionais> findActiveAfter(@Param("after") Long after, Limit limit);
+
+    /**
+     * Retorna a quantidade de profissionais não deletados e o instante da alteração mais recente entre eles.
+     * 
+     * <p>Utilizado no cálculo da ETag da listagem. A consulta é atendida pelo índice parcial
+     * {@code profissionais_active_updated_date_idx} (migração V8) com um index-only scan, sem carregar entidades.</p>
+     * 
+     * @return O resumo de versão dos profissionais ativos.
+     */
+    @Query("SELECT count(p) AS total, max(p.updatedDate) AS lastModified FROM Profissionais p WHERE p.deleted <> true")
+    VersionSummary findActiveVersionSummary();
+
+    /**
+     * Retorna um {@link Stream} com todos os profissionais não deletados, ordenados pelo ID.
+     * 
+     * <p>Os registros são lidos do banco de dados em blocos de {@value #EXPORT_FETCH_SIZE} linhas através de um
+     * cursor JDBC, em vez de serem carregados de uma só vez. Este método deve ser chamado dentro de uma transação
+     * somente leitura, e o {@link Stream} deve ser fechado após o uso.</p>
+     * 
+     * @return Um {@link Stream} de profissionais não deletados.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Profissionais p WHERE p.deleted <> true ORDER BY p.id")
+    Stream<Profissionais> streamAllActive();
+
+    /**
+     * Retorna um {@link Stream} com os profissionais alterados a partir do instante informado, incluindo os deletados.
      * 
-     * <p>Este método procura profissionais cujos nomes, cargos ou datas de nascimento contenham
-     * o termo de pesquisa fornecido. A busca é insensível a maiúsculas/minúsculas e os resultados
-     * são filtrados para excluir registros deletados.</p>
+     * <p>Utilizado na sincronização do índice de busca na inicialização da aplicação. A consulta é apoiada pelo índice
+     * {@code profissionais_updated_date_idx} (migração V12); as mesmas condições de {@link #streamAllActive()} se
+     * aplicam.</p>
      * 
-     * @param q O termo de pesquisa a ser usado para a busca.
-     * @return Uma lista de profissionais que correspondam ao termo de pesquisa fornecido.
+     * @param since O instante a partir do qual as alterações são lidas.
+     * @return Um {@link Stream} de profissionais.
      */
-	@Query("SELECT p FROM Profissionais p WHERE "
-		     + "LOWER(p.nome) LIKE LOWER(CONCAT('%', :q, '%')) "
-		     + "OR LOWER(p.cargo) LIKE LOWER(CONCAT('%', :q, '%'))"
-		     + "OR TO_CHAR(p.nascimento, 'YYYY-MM-DD') LIKE CONCAT('%', :q, '%')"
-		     + "AND p.deleted <> true ORDER BY p.id")
-	List<Profissionais> findByQuery(@Param("q") String q);
-}
\ No newline at end of file
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Profissionais p WHERE p.updatedDate >= :since ORDER BY p.id")
+    Stream<Profissionais> streamUpdatedSince(@Param("since") Instant since);
+}
@@ -0,0 +1,63 @@
+package br.com.maicon.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import br.com.maicon.models.Profissionais;
+import jakarta.persistence.Tuple;
+
+/**
+ * Fragmento de repositório com consultas da entidade {@link Profissionais} que não podem ser expressas
+ * por uma única anotação {@link org.springframework.data.jpa.repository.Query}.
+ *
+ * <p>A implementação é fornecida por {@link ProfissionaisRepositoryCustomImpl} e incorporada automaticamente
+ * pelo Spring Data JPA ao {@link ProfissionaisRepository}.</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public interface ProfissionaisRepositoryCustom {
+
+    /**
+     * Campos do profissional que podem ser solicitados através do parâmetro {@code fields}.
+     */
+    List<String> PROJECTABLE_FIELDS = List.of("id", "nome", "cargo", "nascimento");
+
+    /**
+     * Retorna uma página de profissionais não deletados contendo apenas os campos informados.
+     *
+     * <p>Somente as colunas correspondentes aos campos solicitados (e o {@code id}, necessário para o cursor)
+     * são selecionadas no banco de dados.</p>
+     *
+     * @param fields Campos a serem selecionados, contidos em {@link #PROJECTABLE_FIELDS}.
+     * @param after O ID do último profissional da página anterior ({@code 0} para a primeira página).
+     * @param limit A quantidade máxima de registros a ser retornada.
+     * @return Uma lista de {@link Tuple} ordenada pelo ID, cujos elementos possuem o nome do campo como alias.
+     */
+    List<Tuple> findProjectedAfter(Collection<String> fields, Long after, int limit);
+
+    /**
+     * Busca profissionais não deletados cujo nome, cargo ou data de nascimento correspondam ao termo de pesquisa, ordenados por relevância.
+     *
+     * <p>A busca ignora acentos e maiúsculas/minúsculas. Ela é resolvida no índice Lucene
+     * ({@link br.com.maicon.search.ProfissionaisSearchIndex}) quando este está pronto e, caso contrário, nos índices GIN
+     * de texto e de trigramas criados na migração {@code V5} (ver {@link SearchQuery}).</p>
+     *
+     * @param q O termo de pesquisa.
+     * @param limit A quantidade máxima de registros a ser retornada.
+     * @return Uma lista de profissionais ordenada da maior para a menor relevância.
+     */
+    List<Profissionais> search(String q, int limit);
+
+    /**
+     * Busca profissionais não deletados que correspondam ao termo de pesquisa, contendo apenas os campos informados.
+     *
+     * <p>Aplica os mesmos critérios e a mesma ordenação de {@link #search(String, int)}.</p>
+     *
+     * @param fields Campos a serem selecionados, contidos em {@link #PROJECTABLE_FIELDS}.
+     * @param q O termo de pesquisa.
+     * @param limit A quantidade máxima de registros a ser retornada.
+     * @return Uma lista de {@link Tuple} ordenada por relevância, cujos elementos possuem o nome do campo como alias.
+     */
+    List<Tuple> findProjectedByQuery(Collection<String> fields, String q, int limit);
+}
@@ -0,0 +1,101 @@
+package br.com.maicon.repositories;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+
+import br.com.maicon.models.Profissionais;
+import br.com.maicon.search.ProfissionaisSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+
+/**
+ * Implementação do fragmento {@link ProfissionaisRepositoryCustom}.
+ *
+ * <p>As consultas de projeção são montadas com a Criteria API através de {@link FieldProjectionQuery}, de modo
+ * que apenas as colunas solicitadas sejam lidas do banco de dados. As buscas por termo utilizam SQL nativo
+ * sobre as colunas {@code search_text} e {@code search_vector} (ver {@link SearchQuery}).</p>
+ *
+ * <p>Quando o índice Lucene ({@link ProfissionaisSearchIndex}) está pronto, as buscas por termo são resolvidas no índice, sem
+ * acessar o PostgreSQL para a correspondência e a ordenação: apenas os registros dos IDs retornados são lidos.
+ * A busca nativa é utilizada enquanto o índice não existe ou está em reconstrução.</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public class ProfissionaisRepositoryCustomImpl implements ProfissionaisRepositoryCustom {
+
+    static final String SEARCH_SQL = """
+            SELECT %s FROM profissionais p
+            WHERE p.deleted <> true
+              AND (p.search_vector @@ to_tsquery('simple', f_unaccent(:tsquery))
+                   OR p.search_text LIKE f_unaccent(lower(:pattern))
+                   OR f_unaccent(lower(:term)) <%% p.search_text%s)
+            ORDER BY ts_rank(p.search_vector, to_tsquery('simple', f_unaccent(:tsquery)))
+                     + word_similarity(f_unaccent(lower(:term)), p.search_text) DESC, p.id
+            LIMIT :limit
+            """;
+
+    static final String DATE_CRITERIA = "\n       OR (p.nascimento >= :from AND p.nascimento < :to)";
+
+    private static final String FIND_BY_IDS_JPQL = "SELECT p FROM Profissionais p WHERE p.id IN :ids AND p.deleted <> true";
+
+    private final EntityManager entityManager;
+    private final ProfissionaisSearchIndex searchIndex;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param entityManager {@link EntityManager} utilizado nas consultas.
+     * @param searchIndex Índice de busca Lucene.
+     */
+    public ProfissionaisRepositoryCustomImpl(EntityManager entityManager, ProfissionaisSearchIndex searchIndex) {
+        this.entityManager = entityManager;
+        this.searchIndex = searchIndex;
+    }
+
+    @Override
+    public List<Tuple> findProjectedAfter(Collection<String> fields, Long after, int limit) {
+        return FieldProjectionQuery.execute(entityManager, Profissionais.class, fields,
+                (cb, root) -> cb.notEqual(root.get("deleted"), true), after, limit);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Profissionais> search(String q, int limit) {
+        if (searchIndex.isReady()) {
+            List<Long> ids = searchIndex.search(q, limit);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            List<Profissionais> rows = entityManager.createQuery(FIND_BY_IDS_JPQL, Profissionais.class)
+                    .setParameter("ids", ids)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultList();
+            return SearchQuery.inOrder(ids, rows, Profissionais::getId);
+        }
+        return searchQuery("p.*", q, limit, Profissionais.class).getResultList();
+    }
+
+    @Override
+    public List<Tuple> findProjectedByQuery(Collection<String> fields, String q, int limit) {
+        List<Long> ids = searchIndex.isReady()
+                ? searchIndex.search(q, limit)
+                : SearchQuery.toIds(searchQuery("p.id", q, limit, null).getResultList());
+        return FieldProjectionQuery.executeForIds(entityManager, Profissionais.class, fields, ids);
+    }
+
+    private Query searchQuery(String select, String q, int limit, Class<?> resultType) {
+        Optional<LocalDate[]> dateRange = SearchQuery.dateRange(q);
+        String sql = String.format(SEARCH_SQL, select, dateRange.isPresent() ? DATE_CRITERIA : "");
+        Query query = resultType == null
+                ? entityManager.createNativeQuery(sql)
+                : entityManager.createNativeQuery(sql, resultType);
+        dateRange.ifPresent(range -> query.setParameter("from", range[0]).setParameter("to", range[1]));
+        return SearchQuery.bind(query, q, limit);
+    }
+}
@@ -0,0 +1,164 @@
+package br.com.maicon.repositories;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+
+import br.com.maicon.models.Contatos;
+import br.com.maicon.reactive.ReactiveDatabase;
+import br.com.maicon.search.ContatosSearchIndex;
+import io.r2dbc.spi.Row;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Repositório reativo (R2DBC) de leitura da entidade {@link Contatos}, utilizado pela API reativa.
+ *
+ * <p>As consultas são equivalentes às de {@link ContatosRepository} e retornam os registros como {@link Flux}
+ * ou {@link Mono}, sem bloquear a thread que as executa: cada linha é emitida assim que é recebida do PostgreSQL
+ * e respeita a demanda (backpressure) do assinante.</p>
+ *
+ * <b>Métodos principais:</b>
+ * <ul>
+ *   <li>{@link #findAllAfter(Long, int)}: Retorna uma página de contatos com ID maior que o cursor informado.</li>
+ *   <li>{@link #findById(Long)}: Retorna um contato pelo seu ID.</li>
+ *   <li>{@link #streamAll()}: Retorna todos os contatos, lidos do banco de dados sob demanda.</li>
+ *   <li>{@link #search(String, int)}: Busca contatos de profissionais ativos pelo termo de pesquisa, ordenados por relevância.</li>
+ * </ul>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>A busca por termo utiliza o índice Lucene ({@link ContatosSearchIndex}) quando ele está pronto, em uma thread
+ *       do {@link Schedulers#boundedElastic()}, já que a consulta ao índice é bloqueante; caso contrário, utiliza a mesma
+ *       busca nativa de {@link ContatosRepositoryCustomImpl}.</li>
+ *   <li>{@link #streamAll()} lê o resultado em lotes de {@link ContatosRepository#EXPORT_FETCH_SIZE} linhas através
+ *       de um cursor do PostgreSQL, de modo que a tabela nunca é carregada inteira em memória.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Repository
+public class ReactiveContatosRepository {
+
+    private static final String COLUMNS =
+            "c.id, c.nome, c.contato, c.created_date, c.profissional_id, c.deleted_profissional, c.version, c.updated_date";
+
+    private static final String FIND_ALL_AFTER_SQL =
+            "SELECT " + COLUMNS + " FROM contatos c WHERE c.id > :after ORDER BY c.id LIMIT :limit";
+
+    private static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM contatos c WHERE c.id = :id";
+
+    private static final String FIND_BY_IDS_SQL =
+            "SELECT " + COLUMNS + " FROM contatos c WHERE c.id = ANY(:ids) AND c.deleted_profissional <> true";
+
+    private static final String STREAM_ALL_SQL = "SELECT " + COLUMNS + " FROM contatos c ORDER BY c.id";
+
+    private final DatabaseClient client;
+    private final ContatosSearchIndex searchIndex;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param database Pool de conexões R2DBC.
+     * @param searchIndex Índice de busca Lucene.
+     */
+    public ReactiveContatosRepository(ReactiveDatabase database, ContatosSearchIndex searchIndex) {
+        this.client = database.client();
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * Retorna os contatos com ID maior que o cursor informado, ordenados pelo ID.
+     *
+     * @param after ID do último contato da página anterior ({@code 0} para a primeira página).
+     * @param limit Quantidade máxima de registros.
+     * @return Os contatos da página.
+     */
+    public Flux<Contatos> findAllAfter(Long after, int limit) {
+        return client.sql(FIND_ALL_AFTER_SQL)
+                .bind("after", after)
+                .bind("limit", limit)
+                .map((row, metadata) -> toEntity(row))
+                .all();
+    }
+
+    /**
+     * Retorna um contato pelo seu ID.
+     *
+     * @param id ID do contato.
+     * @return O contato, ou um {@link Mono} vazio se ele não existir.
+     */
+    public Mono<Contatos> findById(Long id) {
+        return client.sql(FIND_BY_ID_SQL)
+                .bind("id", id)
+                .map((row, metadata) -> toEntity(row))
+                .one();
+    }
+
+    /**
+     * Retorna todos os contatos, ordenados pelo ID.
+     *
+     * @return Os contatos, lidos do banco de dados conforme a demanda do assinante.
+     */
+    public Flux<Contatos> streamAll() {
+        return client.sql(STREAM_ALL_SQL)
+                .filter((statement, next) -> next.execute(statement.fetchSize(ContatosRepository.EXPORT_FETCH_SIZE)))
+                .map((row, metadata) -> toEntity(row))
+                .all();
+    }
+
+    /**
+     * Busca contatos de profissionais ativos que correspondam ao termo de pesquisa, ordenados por relevância.
+     *
+     * @param q O termo de pesquisa.
+     * @param limit A quantidade máxima de registros a ser retornada.
+     * @return Os contatos encontrados, do mais relevante para o menos relevante.
+     */
+    public Flux<Contatos> search(String q, int limit) {
+        if (!searchIndex.isReady()) {
+            return nativeSearch(q, limit);
+        }
+        return Mono.fromCallable(() -> searchIndex.search(q, limit))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(ids -> ids.isEmpty() ? Flux.empty() : findByIds(ids));
+    }
+
+    private Flux<Contatos> findByIds(List<Long> ids) {
+        return client.sql(FIND_BY_IDS_SQL)
+                .bind("ids", ids.toArray(Long[]::new))
+                .map((row, metadata) -> toEntity(row))
+                .all()
+                .collectList()
+                .flatMapIterable(rows -> SearchQuery.inOrder(ids, rows, Contatos::getId));
+    }
+
+    private Flux<Contatos> nativeSearch(String q, int limit) {
+        Optional<Long> profissionalId = SearchQuery.number(q);
+        GenericExecuteSpec spec = client.sql(String.format(ContatosRepositoryCustomImpl.SEARCH_SQL, COLUMNS,
+                profissionalId.isPresent() ? ContatosRepositoryCustomImpl.PROFISSIONAL_CRITERIA : ""));
+        if (profissionalId.isPresent()) {
+            spec = spec.bind("profissionalId", profissionalId.get());
+        }
+        return SearchQuery.bind(spec, q, limit)
+                .map((row, metadata) -> toEntity(row))
+                .all();
+    }
+
+    private static Contatos toEntity(Row row) {
+        Contatos entity = new Contatos();
+        entity.setId(ReactiveRows.toLong(row, "id"));
+        entity.setNome(row.get("nome", String.class));
+        entity.setContato(row.get("contato", String.class));
+        entity.setCreatedDate(ReactiveRows.toDate(row, "created_date"));
+        entity.setProfissionalId(ReactiveRows.toLong(row, "profissional_id"));
+        entity.setDeletedProfissional(row.get("deleted_profissional", Boolean.class));
+        entity.setVersion(ReactiveRows.toLong(row, "version"));
+        entity.setUpdatedDate(ReactiveRows.toInstant(row, "updated_date"));
+        return entity;
+    }
+}
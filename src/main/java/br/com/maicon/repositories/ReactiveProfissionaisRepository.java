@@ -0,0 +1,168 @@
+package br.com.maicon.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+
+import br.com.maicon.models.Profissionais;
+import br.com.maicon.reactive.ReactiveDatabase;
+import br.com.maicon.search.ProfissionaisSearchIndex;
+import io.r2dbc.spi.Row;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Repositório reativo (R2DBC) de leitura da entidade {@link Profissionais}, utilizado pela API reativa.
+ *
+ * <p>As consultas são equivalentes às de {@link ProfissionaisRepository} e retornam os registros como {@link Flux}
+ * ou {@link Mono}, sem bloquear a thread que as executa: cada linha é emitida assim que é recebida do PostgreSQL
+ * e respeita a demanda (backpressure) do assinante.</p>
+ *
+ * <b>Métodos principais:</b>
+ * <ul>
+ *   <li>{@link #findActiveAfter(Long, int)}: Retorna uma página de profissionais ativos com ID maior que o cursor informado.</li>
+ *   <li>{@link #findByIdAndActive(Long)}: Retorna um profissional pelo seu ID, desde que ele não esteja deletado.</li>
+ *   <li>{@link #streamAllActive()}: Retorna todos os profissionais não deletados, lidos do banco de dados sob demanda.</li>
+ *   <li>{@link #search(String, int)}: Busca profissionais ativos pelo termo de pesquisa, ordenados por relevância.</li>
+ * </ul>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>A busca por termo utiliza o índice Lucene ({@link ProfissionaisSearchIndex}) quando ele está pronto, em uma thread
+ *       do {@link Schedulers#boundedElastic()}, já que a consulta ao índice é bloqueante; caso contrário, utiliza a mesma
+ *       busca nativa de {@link ProfissionaisRepositoryCustomImpl}.</li>
+ *   <li>{@link #streamAllActive()} lê o resultado em lotes de {@link ProfissionaisRepository#EXPORT_FETCH_SIZE} linhas
+ *       através de um cursor do PostgreSQL, de modo que a tabela nunca é carregada inteira em memória.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Repository
+public class ReactiveProfissionaisRepository {
+
+    private static final String COLUMNS =
+            "p.id, p.nome, p.cargo, p.nascimento, p.created_date, p.deleted, p.deleted_date, p.version, p.updated_date";
+
+    private static final String FIND_ACTIVE_AFTER_SQL =
+            "SELECT " + COLUMNS + " FROM profissionais p WHERE p.deleted <> true AND p.id > :after ORDER BY p.id LIMIT :limit";
+
+    private static final String FIND_BY_ID_AND_ACTIVE_SQL =
+            "SELECT " + COLUMNS + " FROM profissionais p WHERE p.id = :id AND p.deleted <> true";
+
+    private static final String FIND_BY_IDS_SQL =
+            "SELECT " + COLUMNS + " FROM profissionais p WHERE p.id = ANY(:ids) AND p.deleted <> true";
+
+    private static final String STREAM_ALL_ACTIVE_SQL =
+            "SELECT " + COLUMNS + " FROM profissionais p WHERE p.deleted <> true ORDER BY p.id";
+
+    private final DatabaseClient client;
+    private final ProfissionaisSearchIndex searchIndex;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param database Pool de conexões R2DBC.
+     * @param searchIndex Índice de busca Lucene.
+     */
+    public ReactiveProfissionaisRepository(ReactiveDatabase database, ProfissionaisSearchIndex searchIndex) {
+        this.client = database.client();
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * Retorna os profissionais ativos com ID maior que o cursor informado, ordenados pelo ID.
+     *
+     * @param after ID do último profissional da página anterior ({@code 0} para a primeira página).
+     * @param limit Quantidade máxima de registros.
+     * @return Os profissionais da página.
+     */
+    public Flux<Profissionais> findActiveAfter(Long after, int limit) {
+        return client.sql(FIND_ACTIVE_AFTER_SQL)
+                .bind("after", after)
+                .bind("limit", limit)
+                .map((row, metadata) -> toEntity(row))
+                .all();
+    }
+
+    /**
+     * Retorna um profissional pelo seu ID, desde que ele não esteja deletado.
+     *
+     * @param id ID do profissional.
+     * @return O profissional, ou um {@link Mono} vazio se ele não existir ou estiver deletado.
+     */
+    public Mono<Profissionais> findByIdAndActive(Long id) {
+        return client.sql(FIND_BY_ID_AND_ACTIVE_SQL)
+                .bind("id", id)
+                .map((row, metadata) -> toEntity(row))
+                .one();
+    }
+
+    /**
+     * Retorna todos os profissionais não deletados, ordenados pelo ID.
+     *
+     * @return Os profissionais, lidos do banco de dados conforme a demanda do assinante.
+     */
+    public Flux<Profissionais> streamAllActive() {
+        return client.sql(STREAM_ALL_ACTIVE_SQL)
+                .filter((statement, next) -> next.execute(statement.fetchSize(ProfissionaisRepository.EXPORT_FETCH_SIZE)))
+                .map((row, metadata) -> toEntity(row))
+                .all();
+    }
+
+    /**
+     * Busca profissionais ativos que correspondam ao termo de pesquisa, ordenados por relevância.
+     *
+     * @param q O termo de pesquisa.
+     * @param limit A quantidade máxima de registros a ser retornada.
+     * @return Os profissionais encontrados, do mais relevante para o menos relevante.
+     */
+    public Flux<Profissionais> search(String q, int limit) {
+        if (!searchIndex.isReady()) {
+            return nativeSearch(q, limit);
+        }
+        return Mono.fromCallable(() -> searchIndex.search(q, limit))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(ids -> ids.isEmpty() ? Flux.empty() : findByIds(ids));
+    }
+
+    private Flux<Profissionais> findByIds(List<Long> ids) {
+        return client.sql(FIND_BY_IDS_SQL)
+                .bind("ids", ids.toArray(Long[]::new))
+                .map((row, metadata) -> toEntity(row))
+                .all()
+                .collectList()
+                .flatMapIterable(rows -> SearchQuery.inOrder(ids, rows, Profissionais::getId));
+    }
+
+    private Flux<Profissionais> nativeSearch(String q, int limit) {
+        Optional<LocalDate[]> dateRange = SearchQuery.dateRange(q);
+        GenericExecuteSpec spec = client.sql(String.format(ProfissionaisRepositoryCustomImpl.SEARCH_SQL, COLUMNS,
+                dateRange.isPresent() ? ProfissionaisRepositoryCustomImpl.DATE_CRITERIA : ""));
+        if (dateRange.isPresent()) {
+            spec = spec.bind("from", dateRange.get()[0]).bind("to", dateRange.get()[1]);
+        }
+        return SearchQuery.bind(spec, q, limit)
+                .map((row, metadata) -> toEntity(row))
+                .all();
+    }
+
+    private static Profissionais toEntity(Row row) {
+        Profissionais entity = new Profissionais();
+        entity.setId(ReactiveRows.toLong(row, "id"));
+        entity.setNome(row.get("nome", String.class));
+        entity.setCargo(row.get("cargo", String.class));
+        entity.setNascimento(ReactiveRows.toDate(row, "nascimento"));
+        entity.setCreatedDate(ReactiveRows.toDate(row, "created_date"));
+        entity.setDeleted(Boolean.TRUE.equals(row.get("deleted", Boolean.class)));
+        entity.setDeletedDate(ReactiveRows.toDate(row, "deleted_date"));
+        entity.setVersion(ReactiveRows.toLong(row, "version"));
+        entity.setUpdatedDate(ReactiveRows.toInstant(row, "updated_date"));
+        return entity;
+    }
+}
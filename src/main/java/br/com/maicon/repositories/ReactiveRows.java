@@ -0,0 +1,76 @@
+package br.com.maicon.repositories;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import io.r2dbc.spi.Row;
+
+/**
+ * Classe utilitária que converte as colunas lidas pelos repositórios reativos (R2DBC) nos tipos das entidades JPA.
+ *
+ * <p>As colunas {@code date} e {@code timestamp} (sem fuso horário) são lidas como {@link LocalDate} e
+ * {@link LocalDateTime} e interpretadas no fuso horário de São Paulo, o mesmo configurado para o JDBC em
+ * {@code hibernate.jdbc.time_zone}, de modo que os DTOs retornados pela API reativa sejam idênticos aos da API MVC.</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+final class ReactiveRows {
+
+    private static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+
+    private ReactiveRows() {}
+
+    /**
+     * Lê uma coluna inteira ({@code integer} ou {@code bigint}) como {@link Long}.
+     *
+     * @param row A linha lida.
+     * @param column O nome da coluna.
+     * @return O valor da coluna, ou {@code null}.
+     */
+    static Long toLong(Row row, String column) {
+        return row.get(column, Long.class);
+    }
+
+    /**
+     * Lê uma coluna {@code date}, {@code timestamp} ou {@code timestamptz} como {@link Date}.
+     *
+     * @param row A linha lida.
+     * @param column O nome da coluna.
+     * @return O valor da coluna, ou {@code null}.
+     */
+    static Date toDate(Row row, String column) {
+        Object value = row.get(column);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof LocalDate date) {
+            return Date.from(date.atStartOfDay(ZONE).toInstant());
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return Date.from(dateTime.atZone(ZONE).toInstant());
+        }
+        if (value instanceof OffsetDateTime dateTime) {
+            return Date.from(dateTime.toInstant());
+        }
+        if (value instanceof Instant instant) {
+            return Date.from(instant);
+        }
+        throw new IllegalStateException("Unsupported date value in column " + column + ": " + value.getClass().getName());
+    }
+
+    /**
+     * Lê uma coluna {@code timestamptz} como {@link Instant}.
+     *
+     * @param row A linha lida.
+     * @param column O nome da coluna.
+     * @return O valor da coluna, ou {@code null}.
+     */
+    static Instant toInstant(Row row, String column) {
+        return row.get(column, Instant.class);
+    }
+}
@@ -0,0 +1,193 @@
+package br.com.maicon.repositories;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+
+import jakarta.persistence.Query;
+
+/**
+ * Classe utilitária que prepara os parâmetros das buscas por termo (parâmetro {@code q}) dos repositórios.
+ *
+ * <p>As buscas são executadas com SQL nativo sobre as colunas geradas {@code search_text} e {@code search_vector}
+ * (migração {@code V5}), que contêm os campos pesquisáveis em letras minúsculas e sem acentos. Três critérios
+ * são combinados com {@code OR}, cada um atendido por um índice GIN:</p>
+ *
+ * <ul>
+ *   <li>Busca textual: {@code search_vector @@ to_tsquery(...)}, com correspondência por prefixo de cada palavra.</li>
+ *   <li>Substring: {@code search_text LIKE '%termo%'}, acelerada pelo índice de trigramas ({@code pg_trgm}).</li>
+ *   <li>Similaridade: {@code termo <% search_text}, que tolera pequenos erros de digitação.</li>
+ * </ul>
+ *
+ * <p>Os resultados são ordenados por relevância ({@code ts_rank} somado a {@code word_similarity}) e limitados
+ * pela quantidade solicitada.</p>
+ *
+ * <p>A associação dos parâmetros às consultas é restrita aos repositórios deste pacote; a preparação dos termos é
+ * pública, pois não depende do banco de dados e é verificada isoladamente pelos testes unitários.</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public final class SearchQuery {
+
+    private static final Pattern DATE_PREFIX = Pattern.compile("(\\d{4})(?:-(\\d{2})(?:-(\\d{2}))?)?");
+    private static final Pattern NUMBER = Pattern.compile("\\d{1,18}");
+
+    private SearchQuery() {}
+
+    /**
+     * Associa à consulta os parâmetros comuns a todas as buscas: {@code :tsquery}, {@code :pattern},
+     * {@code :term} e {@code :limit}.
+     *
+     * @param query A consulta nativa de busca.
+     * @param q O termo de pesquisa.
+     * @param limit A quantidade máxima de registros a ser retornada.
+     * @return A própria consulta, somente leitura.
+     */
+    static Query bind(Query query, String q, int limit) {
+        return query.setParameter("tsquery", tsQuery(q))
+                .setParameter("pattern", containsPattern(q))
+                .setParameter("term", q)
+                .setParameter("limit", limit)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+
+    /**
+     * Associa os parâmetros comuns a todas as buscas a uma consulta R2DBC, como em {@link #bind(Query, String, int)}.
+     *
+     * @param spec A consulta nativa de busca.
+     * @param q O termo de pesquisa.
+     * @param limit A quantidade máxima de registros a ser retornada.
+     * @return A consulta com os parâmetros associados.
+     */
+    static GenericExecuteSpec bind(GenericExecuteSpec spec, String q, int limit) {
+        return spec.bind("tsquery", tsQuery(q))
+                .bind("pattern", containsPattern(q))
+                .bind("term", q)
+                .bind("limit", limit);
+    }
+
+    /**
+     * Converte o termo de pesquisa em uma expressão {@code tsquery} em que todas as palavras devem
+     * estar presentes, cada uma como prefixo ({@code joao:* & silva:*}).
+     *
+     * <p>Apenas letras e dígitos são mantidos, de modo que o termo nunca é interpretado como sintaxe de {@code tsquery}.</p>
+     *
+     * @param q O termo de pesquisa.
+     * @return A expressão {@code tsquery}, ou uma string vazia se o termo não contiver palavras.
+     */
+    public static String tsQuery(String q) {
+        List<String> terms = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < q.length(); i++) {
+            char c = q.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (!current.isEmpty()) {
+                terms.add(current + ":*");
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            terms.add(current + ":*");
+        }
+        return String.join(" & ", terms);
+    }
+
+    /**
+     * Monta o padrão {@code LIKE} de substring, escapando os caracteres curinga do termo.
+     *
+     * @param q O termo de pesquisa.
+     * @return O padrão {@code %termo%}.
+     */
+    public static String containsPattern(String q) {
+        String escaped = q.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    /**
+     * Interpreta o termo como uma data ou prefixo de data no formato ISO ({@code yyyy}, {@code yyyy-MM}
+     * ou {@code yyyy-MM-dd}).
+     *
+     * @param q O termo de pesquisa.
+     * @return O intervalo {@code [início, fim)} correspondente, ou vazio se o termo não for uma data válida.
+     */
+    public static Optional<LocalDate[]> dateRange(String q) {
+        Matcher matcher = DATE_PREFIX.matcher(q.trim());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        try {
+            int year = Integer.parseInt(matcher.group(1));
+            if (matcher.group(2) == null) {
+                LocalDate from = LocalDate.of(year, 1, 1);
+                return Optional.of(new LocalDate[] {from, from.plusYears(1)});
+            }
+            int month = Integer.parseInt(matcher.group(2));
+            if (matcher.group(3) == null) {
+                LocalDate from = LocalDate.of(year, month, 1);
+                return Optional.of(new LocalDate[] {from, from.plusMonths(1)});
+            }
+            LocalDate from = LocalDate.of(year, month, Integer.parseInt(matcher.group(3)));
+            return Optional.of(new LocalDate[] {from, from.plusDays(1)});
+        } catch (DateTimeException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Interpreta o termo como um número inteiro.
+     *
+     * @param q O termo de pesquisa.
+     * @return O número correspondente, ou vazio se o termo não for numérico.
+     */
+    public static Optional<Long> number(String q) {
+        String trimmed = q.trim();
+        return NUMBER.matcher(trimmed).matches() ? Optional.of(Long.valueOf(trimmed)) : Optional.empty();
+    }
+
+    /**
+     * Converte o resultado de uma consulta nativa que seleciona apenas o ID em uma lista de {@link Long}.
+     *
+     * @param rows As linhas retornadas pela consulta.
+     * @return Os IDs, na mesma ordem.
+     */
+    public static List<Long> toIds(List<?> rows) {
+        return rows.stream().map(row -> ((Number) row).longValue()).toList();
+    }
+
+    /**
+     * Reordena registros carregados por ID para a ordem de relevância retornada pela busca.
+     *
+     * @param <T> O tipo dos registros.
+     * @param ids Os IDs na ordem de relevância.
+     * @param rows Os registros carregados, em qualquer ordem.
+     * @param idExtractor Função que extrai o ID de um registro.
+     * @return Os registros na ordem de {@code ids}.
+     */
+    public static <T> List<T> inOrder(List<Long> ids, Collection<T> rows, Function<T, Long> idExtractor) {
+        Map<Long, T> byId = new HashMap<>(rows.size() * 2);
+        for (T row : rows) {
+            byId.put(idExtractor.apply(row), row);
+        }
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T row = byId.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+}
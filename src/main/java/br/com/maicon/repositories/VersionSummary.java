@@ -0,0 +1,36 @@
+package br.com.maicon.repositories;
+
+import java.time.Instant;
+
+/**
+ * Projeção com o resumo de versão de um conjunto de registros, utilizada no cálculo da ETag das listagens.
+ *
+ * <p>Os valores são obtidos por uma única consulta de agregação ({@code count} e {@code max(updatedDate)}) sobre
+ * um índice da coluna {@code updated_date}, o que permite ao PostgreSQL respondê-la com um index-only scan,
+ * sem carregar nenhuma entidade.</p>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>Inclusões e alterações avançam o maior {@code updatedDate}; exclusões (lógicas ou físicas) alteram a contagem.</li>
+ *   <li>{@link #getLastModified()} é {@code null} quando o conjunto está vazio.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public interface VersionSummary {
+
+    /**
+     * Quantidade de registros do conjunto.
+     *
+     * @return A quantidade de registros.
+     */
+    long getTotal();
+
+    /**
+     * Instante da alteração mais recente entre os registros do conjunto.
+     *
+     * @return O instante da alteração mais recente, ou {@code null} se o conjunto estiver vazio.
+     */
+    Instant getLastModified();
+}
@@ -0,0 +1,511 @@
+package br.com.maicon.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.custom.CustomAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilterFactory;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.standard.StandardTokenizerFactory;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Base dos índices de busca Lucene embarcados, armazenados em disco local.
+ *
+ * <p>Cada índice mantém um {@link IndexWriter} aberto durante toda a vida da aplicação e um {@link SearcherManager}
+ * em modo near-real-time: após cada escrita, o leitor é reaberto a partir do próprio {@link IndexWriter}, de modo
+ * que a alteração fica visível nas buscas sem esperar por um {@code commit}. Os {@code commits} (gravação
+ * durável em disco) são feitos periodicamente e no encerramento da aplicação.</p>
+ *
+ * <p>Cada {@code commit} grava, nos seus dados de usuário ({@value #HIGH_WATER_MARK}), o maior {@code updatedDate}
+ * entre as entidades indexadas. Na inicialização, o índice existente só é considerado pronto depois de sincronizado
+ * com o banco de dados ({@link #catchUp(Stream, long)}): as entidades alteradas desde essa marca, menos uma margem de
+ * {@link #CATCH_UP_MARGIN}, são reindexadas, o que recupera as escritas perdidas entre o último {@code commit} e uma
+ * queda da aplicação e as alterações feitas por outras instâncias. Se a quantidade de documentos não corresponder à
+ * do banco de dados (por exemplo, após deleções físicas feitas por outra instância), o índice é reconstruído.</p>
+ *
+ * <b>Sintaxe de busca:</b>
+ * <ul>
+ *   <li>Termos simples ({@code joao silva}): todas as palavras devem estar presentes, como palavra completa
+ *       ou prefixo; correspondências exatas têm maior relevância.</li>
+ *   <li>Sintaxe do Lucene: prefixo ({@code jo*}), aproximação ({@code joao~}), campo ({@code cargo:tester})
+ *       e operadores ({@code AND}, {@code OR}, parênteses).</li>
+ * </ul>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>Os campos textuais ignoram acentos e maiúsculas/minúsculas; os campos declarados como {@code keywordFields}
+ *       são indexados sem análise (valor exato).</li>
+ *   <li>Enquanto {@link #isReady()} for falso (índice em sincronização ou em reconstrução), os repositórios utilizam
+ *       a busca do PostgreSQL.</li>
+ *   <li>As escritas ({@link #index(Object)}, {@link #indexAll(Collection)}, {@link #delete(Long)}) chamadas dentro de
+ *       uma transação só são aplicadas após o {@code commit}, e descartadas se ela for revertida, pois o índice não
+ *       participa da transação do banco de dados. Fora de uma transação, são aplicadas imediatamente.</li>
+ * </ul>
+ *
+ * @param <E> O tipo da entidade indexada.
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public abstract class AbstractSearchIndex<E> {
+
+    /**
+     * Nome do campo que contém o ID da entidade.
+     */
+    protected static final String ID_FIELD = "id";
+
+    /**
+     * Chave, nos dados de usuário de cada {@code commit}, do maior {@code updatedDate} (em milissegundos) entre as
+     * entidades indexadas.
+     */
+    public static final String HIGH_WATER_MARK = "highWaterMark";
+
+    /**
+     * Margem subtraída da marca na sincronização, para incluir as alterações gravadas com um {@code updatedDate}
+     * anterior a ela mas confirmadas depois (transações longas, outras instâncias, diferenças de relógio).
+     */
+    public static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(5);
+
+    private static final long NO_MARK = -1;
+
+    private static final Pattern QUERY_SYNTAX = Pattern.compile("[:*?~\"()\\[\\]{}^\\\\]|(^|\\s)[+-]|\\b(AND|OR|NOT)\\b");
+
+    private final String[] defaultFields;
+    private final Analyzer analyzer;
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final AtomicLong highWaterMark = new AtomicLong(NO_MARK);
+    private volatile boolean ready;
+
+    /**
+     * Abre (ou cria) o índice no diretório informado.
+     *
+     * <p>O índice só fica pronto após {@link #catchUp(Stream, long)} ou {@link #rebuild(Stream)}.</p>
+     *
+     * @param path Diretório do índice.
+     * @param defaultFields Campos pesquisados quando a busca não indica um campo específico.
+     * @param keywordFields Campos indexados sem análise (valor exato), como datas e IDs.
+     * @throws IOException se o índice não puder ser aberto.
+     */
+    protected AbstractSearchIndex(Path path, String[] defaultFields, List<String> keywordFields) throws IOException {
+        Files.createDirectories(path);
+        this.defaultFields = defaultFields;
+        this.analyzer = new PerFieldAnalyzerWrapper(textAnalyzer(), Stream.concat(Stream.of(ID_FIELD), keywordFields.stream())
+                .collect(Collectors.toMap(field -> field, field -> (Analyzer) new KeywordAnalyzer())));
+        this.directory = FSDirectory.open(path);
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (HIGH_WATER_MARK.equals(entry.getKey())) {
+                    highWaterMark.set(Long.parseLong(entry.getValue()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Indica se a entidade deve estar presente no índice (por exemplo, se não foi deletada logicamente).
+     *
+     * @param entity A entidade.
+     * @return {@code true} se a entidade deve ser indexada.
+     */
+    protected abstract boolean isSearchable(E entity);
+
+    /**
+     * Extrai o ID da entidade.
+     *
+     * @param entity A entidade.
+     * @return O ID.
+     */
+    protected abstract Long idOf(E entity);
+
+    /**
+     * Extrai o instante da última alteração da entidade.
+     *
+     * @param entity A entidade.
+     * @return O instante, ou {@code null} se desconhecido.
+     */
+    protected abstract Instant updatedDateOf(E entity);
+
+    /**
+     * Adiciona ao documento os campos pesquisáveis da entidade.
+     *
+     * @param entity A entidade.
+     * @param document O documento já contendo o campo {@link #ID_FIELD}.
+     */
+    protected abstract void addFields(E entity, Document document);
+
+    /**
+     * Retorna uma consulta exata adicional para o termo de pesquisa, combinada com a busca nos campos padrão
+     * (qualquer uma das duas basta). Por padrão, nenhuma.
+     *
+     * @param q O termo de pesquisa, sem espaços nas extremidades.
+     * @return A consulta exata, ou {@code null}.
+     */
+    protected Query exactQuery(String q) {
+        return null;
+    }
+
+    /**
+     * Indica se o índice está pronto para atender buscas.
+     *
+     * @return {@code true} se o índice existe e não está em reconstrução.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Retorna o instante a partir do qual as alterações devem ser lidas do banco de dados para sincronizar o índice: a
+     * marca gravada no último {@code commit}, menos {@link #CATCH_UP_MARGIN}.
+     *
+     * @return O instante, ou vazio se o índice não existe ou não possui marca, caso em que deve ser reconstruído.
+     */
+    public Optional<Instant> getCatchUpStart() {
+        long mark = highWaterMark.get();
+        return mark == NO_MARK ? Optional.empty() : Optional.of(Instant.ofEpochMilli(mark).minus(CATCH_UP_MARGIN));
+    }
+
+    /**
+     * Sincroniza o índice existente com as entidades alteradas desde {@link #getCatchUpStart()} e o marca como pronto.
+     *
+     * <p>As entidades informadas devem incluir as que deixaram de ser pesquisáveis (como as deletadas logicamente),
+     * para que sejam removidas. Deleções físicas não são detectadas pela marca: se, ao final, a quantidade de
+     * documentos for diferente de {@code expectedCount}, o índice não é marcado como pronto e deve ser
+     * reconstruído.</p>
+     *
+     * @param changed As entidades alteradas, lidas sob demanda.
+     * @param expectedCount A quantidade de entidades pesquisáveis no banco de dados.
+     * @return A quantidade de entidades processadas, ou {@code -1} se o índice deve ser reconstruído.
+     */
+    public long catchUp(Stream<E> changed, long expectedCount) {
+        try {
+            long count = 0;
+            for (E entity : (Iterable<E>) changed::iterator) {
+                writeDocument(entity);
+                count++;
+            }
+            searcherManager.maybeRefreshBlocking();
+            IndexSearcher searcher = searcherManager.acquire();
+            int numDocs;
+            try {
+                numDocs = searcher.getIndexReader().numDocs();
+            } finally {
+                searcherManager.release(searcher);
+            }
+            if (numDocs != expectedCount) {
+                logger.warn("Search index has {} documents but the database has {}", numDocs, expectedCount);
+                return -1;
+            }
+            commit();
+            ready = true;
+            return count;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Adiciona ou atualiza a entidade no índice, ou a remove se ela não for mais pesquisável.
+     *
+     * <p>Dentro de uma transação, a escrita é aplicada após o {@code commit}.</p>
+     *
+     * @param entity A entidade.
+     */
+    public void index(E entity) {
+        afterCommit(() -> {
+            writeDocument(entity);
+            searcherManager.maybeRefreshBlocking();
+        });
+    }
+
+    /**
+     * Adiciona ou atualiza várias entidades no índice, reabrindo o leitor uma única vez ao final.
+     *
+     * <p>Dentro de uma transação, as escritas são aplicadas após o {@code commit}.</p>
+     *
+     * @param entities As entidades.
+     */
+    public void indexAll(Collection<E> entities) {
+        afterCommit(() -> {
+            for (E entity : entities) {
+                writeDocument(entity);
+            }
+            searcherManager.maybeRefreshBlocking();
+        });
+    }
+
+    /**
+     * Remove a entidade do índice.
+     *
+     * <p>Dentro de uma transação, a remoção é aplicada após o {@code commit}.</p>
+     *
+     * @param id O ID da entidade.
+     */
+    public void delete(Long id) {
+        deleteByTerm(new Term(ID_FIELD, String.valueOf(id)));
+    }
+
+    /**
+     * Remove do índice todos os documentos que possuem o valor exato informado em um campo não analisado.
+     *
+     * <p>Dentro de uma transação, a remoção é aplicada após o {@code commit}.</p>
+     *
+     * @param term O campo e o valor.
+     */
+    protected void deleteByTerm(Term term) {
+        afterCommit(() -> {
+            writer.deleteDocuments(term);
+            searcherManager.maybeRefreshBlocking();
+        });
+    }
+
+    /**
+     * Reconstrói o índice a partir das entidades informadas.
+     *
+     * <p>Durante a reconstrução, {@link #isReady()} retorna {@code false}. O índice anterior é descartado
+     * e o novo é gravado em disco com um {@code commit} ao final.</p>
+     *
+     * @param entities As entidades a serem indexadas, lidas sob demanda.
+     * @return A quantidade de documentos indexados.
+     */
+    public long rebuild(Stream<E> entities) {
+        ready = false;
+        try {
+            writer.deleteAll();
+            highWaterMark.set(0);
+            long count = 0;
+            for (E entity : (Iterable<E>) entities::iterator) {
+                if (writeDocument(entity)) {
+                    count++;
+                }
+            }
+            setCommitData();
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            ready = true;
+            return count;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Busca os IDs das entidades que correspondem ao termo de pesquisa, ordenados por relevância.
+     *
+     * @param q O termo de pesquisa.
+     * @param limit A quantidade máxima de IDs a ser retornada.
+     * @return Os IDs, do mais para o menos relevante.
+     */
+    public List<Long> search(String q, int limit) {
+        Query query = parse(q);
+        if (query == null) {
+            return List.of();
+        }
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] hits = searcher.search(query, limit).scoreDocs;
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(hits.length);
+                for (ScoreDoc hit : hits) {
+                    ids.add(Long.valueOf(storedFields.document(hit.doc).get(ID_FIELD)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Grava em disco as alterações pendentes, junto com a marca {@value #HIGH_WATER_MARK}.
+     */
+    @Scheduled(fixedDelayString = "${app.search.commit-interval-ms:5000}")
+    public synchronized void commit() {
+        try {
+            if (writer.isOpen() && writer.hasUncommittedChanges()) {
+                setCommitData();
+                writer.commit();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Grava as alterações pendentes e fecha o índice.
+     *
+     * @throws IOException se ocorrer um erro ao fechar o índice.
+     */
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        searcherManager.close();
+        setCommitData();
+        writer.close();
+        directory.close();
+    }
+
+    private void afterCommit(IndexWrite write) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(write);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    apply(write);
+                } catch (UncheckedIOException ex) {
+                    logger.error("Failed to update the search index after commit; it stays stale until rebuilt", ex);
+                }
+            }
+        });
+    }
+
+    private static void apply(IndexWrite write) {
+        try {
+            write.run();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private boolean writeDocument(E entity) throws IOException {
+        Term idTerm = new Term(ID_FIELD, String.valueOf(idOf(entity)));
+        if (!isSearchable(entity)) {
+            writer.deleteDocuments(idTerm);
+            advanceHighWaterMark(entity);
+            return false;
+        }
+        Document document = new Document();
+        document.add(new StringField(ID_FIELD, idTerm.text(), Field.Store.YES));
+        addFields(entity, document);
+        writer.updateDocument(idTerm, document);
+        advanceHighWaterMark(entity);
+        return true;
+    }
+
+    private void advanceHighWaterMark(E entity) {
+        Instant updatedDate = updatedDateOf(entity);
+        if (updatedDate != null) {
+            highWaterMark.accumulateAndGet(updatedDate.toEpochMilli(), Math::max);
+        }
+    }
+
+    private void setCommitData() {
+        long mark = highWaterMark.get();
+        if (mark != NO_MARK) {
+            writer.setLiveCommitData(Map.of(HIGH_WATER_MARK, Long.toString(mark)).entrySet());
+        }
+    }
+
+    private Query parse(String q) {
+        Query query = parseDefaultFields(q);
+        Query exact = exactQuery(q.trim());
+        if (exact == null) {
+            return query;
+        }
+        if (query == null) {
+            return exact;
+        }
+        return new BooleanQuery.Builder()
+                .add(query, BooleanClause.Occur.SHOULD)
+                .add(exact, BooleanClause.Occur.SHOULD)
+                .build();
+    }
+
+    private Query parseDefaultFields(String q) {
+        QueryParser parser = new MultiFieldQueryParser(defaultFields, analyzer);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            if (QUERY_SYNTAX.matcher(q).find()) {
+                try {
+                    return parser.parse(q);
+                } catch (ParseException ex) {
+                    // Sintaxe inválida: a busca é tratada como termos simples.
+                }
+            }
+            return parser.parse(plainQuery(q));
+        } catch (ParseException ex) {
+            return null;
+        }
+    }
+
+    private static String plainQuery(String q) {
+        StringBuilder query = new StringBuilder();
+        for (String token : q.trim().split("\\s+")) {
+            if (token.codePoints().noneMatch(Character::isLetterOrDigit)) {
+                continue;
+            }
+            String escaped = QueryParser.escape(token);
+            query.append("(").append(escaped).append("^2 OR ").append(escaped).append("*) ");
+        }
+        return query.toString().trim();
+    }
+
+    private static Analyzer textAnalyzer() throws IOException {
+        return CustomAnalyzer.builder()
+                .withTokenizer(StandardTokenizerFactory.class)
+                .addTokenFilter(LowerCaseFilterFactory.class)
+                .addTokenFilter(ASCIIFoldingFilterFactory.class)
+                .build();
+    }
+
+    /**
+     * Escrita no índice, aplicada imediatamente ou após o {@code commit} da transação corrente.
+     */
+    @FunctionalInterface
+    private interface IndexWrite {
+
+        void run() throws IOException;
+    }
+}
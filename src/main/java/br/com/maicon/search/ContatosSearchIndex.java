@@ -0,0 +1,92 @@
+package br.com.maicon.search;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import br.com.maicon.models.Contatos;
+
+/**
+ * Índice de busca Lucene dos contatos de profissionais não deletados.
+ *
+ * <b>Campos:</b>
+ * <ul>
+ *   <li>{@code nome} e {@code contato}: texto, sem diferenciar acentos e maiúsculas/minúsculas.</li>
+ *   <li>{@code profissionalId}: valor exato ({@code profissionalId:5}). Não é um campo padrão, pois a busca por prefixo
+ *       dos termos simples faria {@code 5} encontrar também os contatos dos profissionais {@code 50}, {@code 500} etc.;
+ *       uma busca composta apenas por um número encontra os contatos desse profissional exato, como a busca do
+ *       PostgreSQL.</li>
+ * </ul>
+ *
+ * @see AbstractSearchIndex
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Component
+public class ContatosSearchIndex extends AbstractSearchIndex<Contatos> {
+
+    private static final String PROFISSIONAL_ID_FIELD = "profissionalId";
+    private static final Pattern NUMBER = Pattern.compile("\\d{1,18}");
+
+    /**
+     * Construtor que abre o índice no subdiretório {@code contatos} do diretório de índices.
+     *
+     * @param indexDir Diretório base dos índices de busca.
+     * @throws IOException se o índice não puder ser aberto.
+     */
+    public ContatosSearchIndex(@Value("${app.search.index-dir:data/search-index}") Path indexDir) throws IOException {
+        super(indexDir.resolve("contatos"), new String[] {"nome", "contato"}, List.of(PROFISSIONAL_ID_FIELD));
+    }
+
+    /**
+     * Remove do índice todos os contatos de um profissional.
+     *
+     * @param profissionalId O ID do profissional.
+     */
+    public void deleteByProfissional(Long profissionalId) {
+        deleteByTerm(new Term(PROFISSIONAL_ID_FIELD, String.valueOf(profissionalId)));
+    }
+
+    @Override
+    protected Query exactQuery(String q) {
+        if (!NUMBER.matcher(q).matches()) {
+            return null;
+        }
+        return new TermQuery(new Term(PROFISSIONAL_ID_FIELD, String.valueOf(Long.parseLong(q))));
+    }
+
+    @Override
+    protected boolean isSearchable(Contatos contato) {
+        return !Boolean.TRUE.equals(contato.getDeletedProfissional());
+    }
+
+    @Override
+    protected Long idOf(Contatos contato) {
+        return contato.getId();
+    }
+
+    @Override
+    protected Instant updatedDateOf(Contatos contato) {
+        return contato.getUpdatedDate();
+    }
+
+    @Override
+    protected void addFields(Contatos contato, Document document) {
+        document.add(new TextField("nome", contato.getNome(), Field.Store.NO));
+        document.add(new TextField("contato", contato.getContato(), Field.Store.NO));
+        document.add(new StringField(PROFISSIONAL_ID_FIELD, String.valueOf(contato.getProfissionalId()), Field.Store.NO));
+    }
+}
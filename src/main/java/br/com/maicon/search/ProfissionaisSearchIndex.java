@@ -0,0 +1,73 @@
+package br.com.maicon.search;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import br.com.maicon.models.Profissionais;
+
+/**
+ * Índice de busca Lucene dos profissionais não deletados.
+ *
+ * <b>Campos:</b>
+ * <ul>
+ *   <li>{@code nome} e {@code cargo}: texto, sem diferenciar acentos e maiúsculas/minúsculas.</li>
+ *   <li>{@code nascimento}: valor exato no formato {@code yyyy-MM-dd}, permitindo buscas por prefixo
+ *       ({@code nascimento:1990-05*}).</li>
+ * </ul>
+ *
+ * @see AbstractSearchIndex
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Component
+public class ProfissionaisSearchIndex extends AbstractSearchIndex<Profissionais> {
+
+    /**
+     * Construtor que abre o índice no subdiretório {@code profissionais} do diretório de índices.
+     *
+     * @param indexDir Diretório base dos índices de busca.
+     * @throws IOException se o índice não puder ser aberto.
+     */
+    public ProfissionaisSearchIndex(@Value("${app.search.index-dir:data/search-index}") Path indexDir) throws IOException {
+        super(indexDir.resolve("profissionais"), new String[] {"nome", "cargo", "nascimento"}, List.of("nascimento"));
+    }
+
+    @Override
+    protected boolean isSearchable(Profissionais profissional) {
+        return !profissional.isDeleted();
+    }
+
+    @Override
+    protected Long idOf(Profissionais profissional) {
+        return profissional.getId();
+    }
+
+    @Override
+    protected Instant updatedDateOf(Profissionais profissional) {
+        return profissional.getUpdatedDate();
+    }
+
+    @Override
+    protected void addFields(Profissionais profissional, Document document) {
+        document.add(new TextField("nome", profissional.getNome(), Field.Store.NO));
+        document.add(new TextField("cargo", profissional.getCargo(), Field.Store.NO));
+        if (profissional.getNascimento() != null) {
+            String nascimento = Instant.ofEpochMilli(profissional.getNascimento().getTime())
+                    .atZone(ZoneId.systemDefault())
+                    .toLocalDate()
+                    .toString();
+            document.add(new StringField("nascimento", nascimento, Field.Store.NO));
+        }
+    }
+}
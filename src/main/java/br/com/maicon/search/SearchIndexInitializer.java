@@ -0,0 +1,66 @@
+package br.com.maicon.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import br.com.maicon.services.ContatosService;
+import br.com.maicon.services.ProfissionaisService;
+
+/**
+ * Sincroniza os índices de busca com o banco de dados na inicialização da aplicação.
+ *
+ * <p>Um índice existente é atualizado com as alterações feitas desde o seu último {@code commit} (ver
+ * {@link AbstractSearchIndex#catchUp(java.util.stream.Stream, long)}); um índice inexistente, sem marca de
+ * sincronização ou divergente do banco de dados é reconstruído. A reconstrução também pode ser forçada iniciando a
+ * aplicação com a opção {@value #REBUILD_OPTION} ({@code java -jar app.jar --rebuild-search-index}). Ambas ocorrem em
+ * uma thread separada, sem atrasar a inicialização; até que terminem, as buscas são atendidas pelo PostgreSQL.</p>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Component
+public class SearchIndexInitializer implements ApplicationRunner {
+
+    /**
+     * Opção de linha de comando que força a reconstrução dos índices.
+     */
+    public static final String REBUILD_OPTION = "rebuild-search-index";
+
+    private final ProfissionaisService profissionaisService;
+    private final ContatosService contatosService;
+    private final Logger logger = LoggerFactory.getLogger(SearchIndexInitializer.class);
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param profissionaisService Serviço que sincroniza o índice dos profissionais.
+     * @param contatosService Serviço que sincroniza o índice dos contatos.
+     */
+    public SearchIndexInitializer(ProfissionaisService profissionaisService, ContatosService contatosService) {
+        this.profissionaisService = profissionaisService;
+        this.contatosService = contatosService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        boolean force = args.containsOption(REBUILD_OPTION);
+        Thread rebuild = new Thread(() -> {
+            try {
+                if (force) {
+                    profissionaisService.rebuildSearchIndex();
+                    contatosService.rebuildSearchIndex();
+                } else {
+                    profissionaisService.catchUpSearchIndex();
+                    contatosService.catchUpSearchIndex();
+                }
+            } catch (RuntimeException ex) {
+                logger.error("Search index rebuild failed; searches will keep using the database", ex);
+            }
+        }, "search-index-rebuild");
+        rebuild.setDaemon(true);
+        rebuild.start();
+    }
+}
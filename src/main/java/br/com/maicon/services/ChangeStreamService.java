@@ -0,0 +1,306 @@
+package br.com.maicon.services;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import br.com.maicon.data.dto.v1.ChangeEventDTO;
+import br.com.maicon.repositories.OutboxRepository;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Serviço do fluxo de alterações de profissionais e contatos, enviado aos clientes por Server-Sent Events (SSE).
+ *
+ * <p>
+ * As alterações são gravadas no outbox transacional pelos serviços de profissionais e contatos (ver
+ * {@link OutboxRepository}). Este serviço publica periodicamente os eventos gravados, atribuindo-lhes posições
+ * sequenciais, e envia aos clientes conectados a esta instância os eventos publicados após a posição que cada um já
+ * recebeu. Assim, os clientes não precisam consultar as listagens repetidamente para detectar alterações.
+ * </p>
+ *
+ * <b>Métodos principais:</b>
+ * <ul>
+ *   <li>{@link #subscribe(String)}: Conecta um cliente ao fluxo, opcionalmente a partir do último evento recebido.</li>
+ *   <li>{@link #publish()}: Publica os eventos gravados no outbox.</li>
+ *   <li>{@link #broadcast()}: Envia aos clientes conectados os eventos publicados.</li>
+ *   <li>{@link #purgeExpired()}: Remove os eventos publicados há mais de {@code app.changes.retention}.</li>
+ * </ul>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>Todas as instâncias da aplicação publicam e leem o outbox; a publicação é feita por uma instância de cada vez,
+ *       e cada instância envia todos os eventos aos seus próprios clientes.</li>
+ *   <li>A posição de cada evento é o seu {@code id} SSE. Ao reconectar, o navegador envia o cabeçalho
+ *       {@code Last-Event-ID}, e o cliente recebe os eventos perdidos durante a desconexão. Se algum deles já tiver sido
+ *       removido, o evento {@value #RESET_EVENT} é enviado antes dos demais, indicando que o cliente deve recarregar as
+ *       listagens.</li>
+ *   <li>Os clientes que estão na mesma posição compartilham uma única consulta por ciclo, de modo que a quantidade de
+ *       consultas não cresce com a quantidade de clientes atualizados.</li>
+ *   <li>Cada cliente tem uma fila limitada ({@code app.changes.subscriber-queue-size}) e uma virtual thread que escreve
+ *       a resposta; um cliente lento não atrasa os demais. Se a fila encher, a conexão é encerrada, e o cliente
+ *       retoma o fluxo pelo {@code Last-Event-ID} ao reconectar.</li>
+ *   <li>Sem eventos, um comentário é enviado a cada {@code app.changes.heartbeat-interval}, para que proxies não
+ *       encerrem a conexão ociosa e conexões interrompidas sejam detectadas.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Service
+public class ChangeStreamService {
+
+    /**
+     * Nome dos eventos SSE de alteração.
+     */
+    public static final String CHANGE_EVENT = "change";
+
+    /**
+     * Nome do evento SSE enviado quando eventos posteriores ao {@code Last-Event-ID} do cliente já foram removidos.
+     */
+    public static final String RESET_EVENT = "reset";
+
+    private final OutboxRepository outboxRepository;
+    private final int batchSize;
+    private final Duration retention;
+    private final long emitterTimeoutMs;
+    private final int subscriberQueueSize;
+    private final long heartbeatIntervalNanos;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Logger logger = LoggerFactory.getLogger(ChangeStreamService.class);
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param outboxRepository Repositório do outbox transacional.
+     * @param batchSize Quantidade máxima de eventos publicados ou lidos por consulta.
+     * @param retention Tempo durante o qual os eventos publicados permanecem disponíveis para os clientes que
+     *        reconectam.
+     * @param emitterTimeout Tempo máximo de cada conexão; ao fim dele, o cliente reconecta pelo {@code Last-Event-ID}.
+     * @param subscriberQueueSize Quantidade máxima de eventos aguardando envio para cada cliente.
+     * @param heartbeatInterval Intervalo máximo sem envio para cada cliente.
+     */
+    public ChangeStreamService(OutboxRepository outboxRepository,
+            @Value("${app.changes.batch-size:500}") int batchSize,
+            @Value("${app.changes.retention:24h}") Duration retention,
+            @Value("${app.changes.emitter-timeout:30m}") Duration emitterTimeout,
+            @Value("${app.changes.subscriber-queue-size:1000}") int subscriberQueueSize,
+            @Value("${app.changes.heartbeat-interval:15s}") Duration heartbeatInterval) {
+        this.outboxRepository = outboxRepository;
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.emitterTimeoutMs = emitterTimeout.toMillis();
+        this.subscriberQueueSize = subscriberQueueSize;
+        this.heartbeatIntervalNanos = heartbeatInterval.toNanos();
+    }
+
+    /**
+     * Conecta um cliente ao fluxo de alterações.
+     *
+     * @param lastEventId Posição do último evento recebido pelo cliente (cabeçalho {@code Last-Event-ID}), ou
+     *        {@code null} para receber apenas as alterações publicadas a partir de agora.
+     * @return O {@link SseEmitter} da conexão.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(emitterTimeoutMs), lastEventId);
+    }
+
+    /**
+     * Conecta um cliente ao fluxo de alterações, utilizando o {@link SseEmitter} informado.
+     *
+     * <p>Um {@code lastEventId} inválido não é rejeitado, pois a resposta de erro não poderia ser enviada como
+     * {@code text/event-stream}: o cliente recebe o evento {@value #RESET_EVENT} e as alterações publicadas a partir de
+     * agora.</p>
+     *
+     * @param emitter O {@link SseEmitter} da conexão.
+     * @param lastEventId Posição do último evento recebido pelo cliente, ou {@code null} para receber apenas as
+     *        alterações publicadas a partir de agora.
+     * @return O {@link SseEmitter} informado.
+     */
+    public SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        Long requested = lastEventId == null || lastEventId.isBlank() ? null : parsePosicao(lastEventId.trim());
+        long posicao = requested != null ? requested : outboxRepository.findLastPosicao();
+        Subscriber subscriber = new Subscriber(emitter, posicao, subscriberQueueSize);
+        if (requested == null && lastEventId != null && !lastEventId.isBlank()) {
+            subscriber.queue.add(resetEvent(posicao));
+        }
+        subscriber.writer = Thread.ofVirtual().name("change-stream-writer").unstarted(() -> write(subscriber));
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(ex -> close(subscriber));
+        subscribers.add(subscriber);
+        subscriber.writer.start();
+        return emitter;
+    }
+
+    /**
+     * Retorna a quantidade de clientes conectados a esta instância.
+     *
+     * @return A quantidade de clientes conectados.
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Publica os eventos gravados no outbox, atribuindo-lhes posições.
+     *
+     * <p>Executado periodicamente, a cada {@code app.changes.publish-interval-ms} milissegundos, em todas as
+     * instâncias. Se outra instância estiver publicando, nada é feito (ver {@link OutboxRepository#publishPending(int)}).</p>
+     */
+    @Scheduled(fixedDelayString = "${app.changes.publish-interval-ms:500}")
+    @Transactional
+    public void publish() {
+        int published = outboxRepository.publishPending(batchSize);
+        if (published > 0) {
+            logger.debug("Published {} change events", published);
+        }
+    }
+
+    /**
+     * Envia aos clientes conectados a esta instância os eventos publicados após a posição de cada um.
+     *
+     * <p>Executado periodicamente, a cada {@code app.changes.poll-interval-ms} milissegundos. Sem clientes conectados,
+     * nenhuma consulta é feita. Os clientes na mesma posição compartilham a mesma consulta; um cliente atrasado recebe
+     * até {@code app.changes.batch-size} eventos por ciclo até alcançar os demais.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.changes.poll-interval-ms:500}")
+    @Transactional(readOnly = true)
+    public void broadcast() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        Map<Long, List<ChangeEventDTO>> eventsByPosicao = new HashMap<>();
+        for (Subscriber subscriber : subscribers) {
+            List<ChangeEventDTO> events = eventsByPosicao.computeIfAbsent(subscriber.posicao,
+                    posicao -> outboxRepository.findPublishedAfter(posicao, batchSize));
+            if (!events.isEmpty()) {
+                deliver(subscriber, events, now);
+            } else if (now - subscriber.lastOfferNanos >= heartbeatIntervalNanos) {
+                offer(subscriber, List.of(SseEmitter.event().comment("heartbeat")), now);
+            }
+        }
+    }
+
+    /**
+     * Remove os eventos publicados há mais de {@code app.changes.retention}.
+     *
+     * <p>Executado periodicamente, a cada {@code app.changes.purge-interval-ms} milissegundos. Os clientes que
+     * reconectarem com uma posição anterior aos eventos removidos recebem o evento {@value #RESET_EVENT}.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.changes.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = outboxRepository.deletePublishedBefore(Instant.now().minus(retention));
+        if (deleted > 0) {
+            logger.info("Purged {} expired change events", deleted);
+        }
+    }
+
+    /**
+     * Encerra as conexões dos clientes quando a aplicação é finalizada; os clientes reconectam a outra instância.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            close(subscriber);
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void deliver(Subscriber subscriber, List<ChangeEventDTO> events, long now) {
+        List<SseEventBuilder> builders = new ArrayList<>(events.size() + 1);
+        if (events.get(0).getPosicao() != subscriber.posicao + 1) {
+            builders.add(resetEvent(events.get(0).getPosicao() - 1));
+        }
+        for (ChangeEventDTO event : events) {
+            builders.add(SseEmitter.event()
+                    .id(Long.toString(event.getPosicao()))
+                    .name(CHANGE_EVENT)
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+        if (offer(subscriber, builders, now)) {
+            subscriber.posicao = events.get(events.size() - 1).getPosicao();
+        }
+    }
+
+    private boolean offer(Subscriber subscriber, List<SseEventBuilder> builders, long now) {
+        if (subscriber.queue.remainingCapacity() < builders.size()) {
+            logger.info("Closing change stream of a slow client after its queue of {} events filled up", subscriberQueueSize);
+            close(subscriber);
+            subscriber.emitter.complete();
+            return false;
+        }
+        subscriber.queue.addAll(builders);
+        subscriber.lastOfferNanos = now;
+        return true;
+    }
+
+    private void write(Subscriber subscriber) {
+        try {
+            while (true) {
+                subscriber.emitter.send(subscriber.queue.take());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException ex) {
+            close(subscriber);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.writer.interrupt();
+        }
+    }
+
+    private static SseEventBuilder resetEvent(long posicao) {
+        return SseEmitter.event().id(Long.toString(posicao)).name(RESET_EVENT).data("");
+    }
+
+    private static Long parsePosicao(String lastEventId) {
+        try {
+            long posicao = Long.parseLong(lastEventId);
+            return posicao >= 0 ? posicao : null;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Cliente conectado ao fluxo. A posição e o instante do último envio são acessados apenas pela thread de
+     * {@link #broadcast()}.
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEventBuilder> queue;
+        private Thread writer;
+        private long posicao;
+        private long lastOfferNanos = System.nanoTime();
+
+        Subscriber(SseEmitter emitter, long posicao, int queueSize) {
+            this.emitter = emitter;
+            this.posicao = posicao;
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+        }
+    }
+}
@@ -1,23 +1,67 @@
 package br.com.maicon.services;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.logging.Logger;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.maicon.cache.ContatosCache;
+import br.com.maicon.cache.ReadCoalescer;
+import br.com.maicon.data.dto.v1.ChangeEventDTO.Operacao;
 import br.com.maicon.data.dto.v1.ContatosDTO;
+import br.com.maicon.data.dto.v1.utils.DtoUtils;
+import br.com.maicon.exception.BadRequestException;
 import br.com.maicon.exception.ResourceNotFoundException;
+import br.com.maicon.logging.LogMarkers;
 import br.com.maicon.mapper.DozerMapper;
 import br.com.maicon.models.Contatos;
 import br.com.maicon.models.Profissionais;
 import br.com.maicon.repositories.ContatosRepository;
+import br.com.maicon.repositories.ContatosRepositoryCustom;
+import br.com.maicon.repositories.ContatosRepositoryCustom.StagedContato;
+import br.com.maicon.repositories.OutboxRepository;
 import br.com.maicon.repositories.ProfissionaisRepository;
+import br.com.maicon.repositories.VersionSummary;
+import br.com.maicon.search.ContatosSearchIndex;
 import br.com.maicon.services.validation.base.ValidatorBase;
 import br.com.maicon.utils.ApiRestResponse;
+import br.com.maicon.utils.BatchItemResult;
+import br.com.maicon.utils.BatchResponse;
+import br.com.maicon.utils.CsvReader;
+import br.com.maicon.utils.ExportFormat;
+import br.com.maicon.utils.ExportWriter;
+import br.com.maicon.utils.ImportResponse;
+import br.com.maicon.utils.JsonArrayReader;
+import br.com.maicon.utils.KeysetPage;
+import br.com.maicon.utils.ResourceVersion;
+import jakarta.persistence.EntityManager;
 import jakarta.validation.Validator;
 
 
@@ -34,8 +78,16 @@ import jakarta.validation.Validator;
  * <ul>
  *   <li>{@link #findAll()}: Retorna todos os contatos cadastrados.</li>
  *   <li>{@link #findAll(String)}: Retorna uma lista de contatos filtrados por um texto específico em seus atributos.</li>
+ *   <li>{@link #findAll(String, List, Long, int)}: Retorna uma página de contatos contendo apenas os campos solicitados.</li>
+ *   <li>{@link #findAll(String, Long, int)}: Retorna uma página de contatos, opcionalmente filtrados por um texto, a partir de um cursor.</li>
+ *   <li>{@link #export(ExportFormat, OutputStream)}: Exporta todos os contatos sem carregá-los em memória.</li>
+ *   <li>{@link #rebuildSearchIndex()}: Reconstrói o índice de busca a partir do banco de dados.</li>
+ *   <li>{@link #catchUpSearchIndex()}: Sincroniza o índice de busca existente com as alterações do banco de dados.</li>
+ *   <li>{@link #findListVersion()}: Retorna os validadores de cache HTTP da listagem, sem carregar entidades.</li>
  *   <li>{@link #findById(Long)}: Retorna um contato específico pelo seu ID.</li>
  *   <li>{@link #create(ContatosDTO)}: Cria um novo contato.</li>
+ *   <li>{@link #createBatch(InputStream)}: Cria contatos em lote a partir de um array JSON, lido de forma incremental.</li>
+ *   <li>{@link #importCsv(InputStream)}: Importa contatos em massa a partir de um arquivo CSV, através do comando {@code COPY} do PostgreSQL.</li>
  *   <li>{@link #update(ContatosDTO)}: Atualiza os dados de um contato existente.</li>
  *   <li>{@link #delete(Long)}: Deleta um contato pelo seu ID.</li>
  * </ul>
@@ -43,7 +95,11 @@ import jakarta.validation.Validator;
  * <b>Considerações:</b>
  *  <ul>
  *    <li>A classe utiliza o validador de bean {@link Validator} para garantir que os dados dos contatos estejam corretos antes de serem persistidos.</li>
- *    <li>Operações críticas, como criação, atualização e deleção de contatos, são registradas via {@link Logger} para facilitar a auditoria e o monitoramento.</li>
+ *    <li>Operações críticas, como criação, atualização e deleção de contatos, são registradas via {@link Logger} com o marcador {@link LogMarkers#AUDIT}, para facilitar a auditoria e o monitoramento; esses logs nunca são descartados pela amostragem dos logs de sucesso.</li>
+ *    <li>Criações, atualizações e deleções são refletidas no {@link ContatosSearchIndex} após o {@code commit} da transação, de modo que uma alteração revertida não deixa documentos inexistentes (ou ausentes) no índice.</li>
+ *    <li>A busca por ID é atendida pelo {@link ContatosCache}; atualizações e deleções invalidam o contato em cache.</li>
+ *    <li>Leituras idênticas e simultâneas da listagem são agrupadas pelo {@link ReadCoalescer} em uma única consulta; os resultados são compartilhados entre as requisições e não devem ser modificados.</li>
+ *    <li>Criações, importações, atualizações e deleções são gravadas no outbox ({@link OutboxRepository}) na mesma transação que a alteração, e enviadas aos clientes do fluxo de alterações pelo {@link ChangeStreamService}.</li>
  * </ul>
  * 
  * @author Maicon
@@ -52,11 +108,23 @@ import jakarta.validation.Validator;
 @Service
 public class ContatosService {
 
+    private static final int NOME_MAX_LENGTH = 50;
+    private static final int CONTATO_MAX_LENGTH = 100;
+    private static final String PROFISSIONAL_NOT_FOUND_MESSAGE = "Profissional não encontrado para adição de contato";
+
     @Autowired
     private ContatosRepository contatosRepository;
     private ProfissionaisRepository profissionaisRepository;
     private final ValidatorBase<ContatosDTO> validator;
-    private final Logger logger = Logger.getLogger(ContatosService.class.getName());
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final ContatosSearchIndex contatosSearchIndex;
+    private final ContatosCache contatosCache;
+    private final ReadCoalescer readCoalescer;
+    private final OutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Logger logger = LoggerFactory.getLogger(ContatosService.class);
 
     /**
      * Construtor para injeção de dependências.
@@ -66,11 +134,28 @@ public class ContatosService {
      * @param contatosRepository Repositório para acesso aos dados da entidade {@link Contatos}.
      * @param profissionaisRepository Repositório para acesso aos dados da entidade {@link Profissionais}.
      * @param validator Validador responsável por garantir a conformidade dos dados dos contatos.
+     * @param objectMapper {@link ObjectMapper} da aplicação, utilizado na exportação.
+     * @param entityManager {@link EntityManager} utilizado para liberar as entidades já exportadas.
+     * @param contatosSearchIndex Índice de busca dos contatos.
+     * @param contatosCache Cache dos contatos buscados por ID.
+     * @param readCoalescer Agrupador das leituras idênticas e simultâneas da listagem.
+     * @param outboxRepository Repositório do outbox transacional, no qual as alterações são gravadas.
+     * @param transactionManager Gerenciador de transações, utilizado na gravação de cada bloco da criação em lote e no
+     *        carregamento do cache por ID.
      */
-    public ContatosService(ContatosRepository contatosRepository, ProfissionaisRepository profissionaisRepository, ValidatorBase<ContatosDTO> validator) {
+    public ContatosService(ContatosRepository contatosRepository, ProfissionaisRepository profissionaisRepository, ValidatorBase<ContatosDTO> validator, ObjectMapper objectMapper, EntityManager entityManager, ContatosSearchIndex contatosSearchIndex, ContatosCache contatosCache, ReadCoalescer readCoalescer, OutboxRepository outboxRepository, PlatformTransactionManager transactionManager) {
         this.contatosRepository = contatosRepository;
         this.profissionaisRepository = profissionaisRepository;
         this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.contatosSearchIndex = contatosSearchIndex;
+        this.contatosCache = contatosCache;
+        this.readCoalescer = readCoalescer;
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
@@ -82,8 +167,10 @@ public class ContatosService {
      * @return Lista de contatos cadastrados.
      */
     public List<ContatosDTO> findAll() {
-        logger.info("Finding all contacts");
-        return DozerMapper.parseListObjects(contatosRepository.findAll(), ContatosDTO.class);
+        return readCoalescer.execute(List.of("contatos.findAll"), () -> {
+            logger.info("Finding all contacts");
+            return DozerMapper.parseListObjects(contatosRepository.findAll(), ContatosDTO.class);
+        });
     }
     
     /**
@@ -96,30 +183,188 @@ public class ContatosService {
      * @return Lista de contatos filtrados ou todos os contatos cadastrados.
      */
     public List<ContatosDTO> findAll(String q) {
-        if (q != null && !q.isEmpty()) {
-            return DozerMapper.parseListObjects(
-                contatosRepository.findByQuery(q), ContatosDTO.class);
-        } else {
-            return DozerMapper.parseListObjects(
-                contatosRepository.findAll(), ContatosDTO.class);
+        return readCoalescer.execute(Arrays.asList("contatos.findAll", q), () -> {
+            if (q != null && !q.isEmpty()) {
+                return DozerMapper.parseListObjects(
+                    contatosRepository.search(q, KeysetPage.MAX_LIMIT), ContatosDTO.class);
+            } else {
+                return DozerMapper.parseListObjects(
+                    contatosRepository.findAll(), ContatosDTO.class);
+            }
+        });
+    }
+
+    /**
+     * Retorna uma página de contatos, possivelmente filtrados por um texto, a partir de um cursor.
+     * 
+     * <p>A página é obtida por paginação baseada em cursor (keyset): são buscados até {@code limit + 1} registros
+     * com ID maior que {@code after}, e o registro excedente, se existir, apenas indica que há uma próxima página.</p>
+     * 
+     * <p>Se o termo de pesquisa for informado, o cursor é ignorado: a busca retorna os {@code limit} contatos mais
+     * relevantes, ordenados por relevância e sem próxima página (ver {@link ContatosRepositoryCustom#search(String, int)}).</p>
+     * 
+     * @param q Texto para filtrar contatos pelo nome ou informação de contato (opcional).
+     * @param after ID do último contato da página anterior ({@code 0} para a primeira página).
+     * @param limit Tamanho da página.
+     * @return Página de contatos com o cursor da próxima página, se houver.
+     */
+    public KeysetPage<ContatosDTO> findAll(String q, Long after, int limit) {
+        return readCoalescer.execute(Arrays.asList("contatos.findAll", q, after, limit), () -> {
+            if (q != null && !q.isEmpty()) {
+                return new KeysetPage<>(DozerMapper.parseListObjects(contatosRepository.search(q, limit), ContatosDTO.class), null);
+            }
+            Long cursor = after == null ? 0L : after;
+            List<Contatos> rows = contatosRepository.findAllAfter(cursor, Limit.of(limit + 1));
+            return KeysetPage.of(DozerMapper.parseListObjects(rows, ContatosDTO.class), limit, ContatosDTO::getId);
+        });
+    }
+
+    /**
+     * Retorna uma página de contatos, possivelmente filtrados por um texto, contendo apenas os campos solicitados.
+     * 
+     * <p>Se a lista de campos for fornecida, apenas as colunas correspondentes são lidas do banco de dados
+     * através de uma consulta de projeção, sem carregar a entidade completa nem utilizar o {@link DozerMapper}.
+     * Os campos devem pertencer a {@link ContatosRepositoryCustom#PROJECTABLE_FIELDS}. Caso contrário, o
+     * comportamento é o mesmo de {@link #findAll(String, Long, int)}, inclusive na busca por termo.</p>
+     * 
+     * @param q Texto para filtrar contatos (opcional).
+     * @param fields Lista de campos a serem retornados (opcional).
+     * @param after ID do último contato da página anterior ({@code 0} para a primeira página).
+     * @param limit Tamanho da página.
+     * @return Página de contatos com o cursor da próxima página, se houver.
+     * @throws br.com.maicon.exception.BadRequestException se algum campo solicitado não puder ser projetado.
+     */
+    public KeysetPage<ContatosDTO> findAll(String q, List<String> fields, Long after, int limit) {
+        if (fields == null || fields.isEmpty()) {
+            return findAll(q, after, limit);
+        }
+        return readCoalescer.execute(Arrays.asList("contatos.findAll", q, fields, after, limit), () -> {
+            DtoUtils.requireProjectableFields(fields, ContatosRepositoryCustom.PROJECTABLE_FIELDS);
+
+            if (q != null && !q.isEmpty()) {
+                return new KeysetPage<>(contatosRepository.findProjectedByQuery(fields, q, limit).stream()
+                        .map(tuple -> DtoUtils.fromTuple(tuple, ContatosDTO.class))
+                        .toList(), null);
+            }
+            Long cursor = after == null ? 0L : after;
+            List<ContatosDTO> rows = contatosRepository.findProjectedAfter(fields, cursor, limit + 1).stream()
+                    .map(tuple -> DtoUtils.fromTuple(tuple, ContatosDTO.class))
+                    .toList();
+            return KeysetPage.of(rows, limit, ContatosDTO::getId);
+        });
+    }
+
+    /**
+     * Exporta todos os contatos no formato informado.
+     * 
+     * <p>Os registros são lidos através de um {@link Stream} do repositório, em uma transação somente leitura,
+     * e cada um é convertido e escrito no {@link OutputStream} assim que é recebido. Após a escrita, a entidade
+     * é desanexada do contexto de persistência, de modo que o consumo de memória permanece constante
+     * independentemente da quantidade de contatos.</p>
+     * 
+     * @param format Formato de exportação.
+     * @param out {@link OutputStream} de destino.
+     * @throws IOException se ocorrer um erro de escrita.
+     */
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, OutputStream out) throws IOException {
+        logger.info("Exporting all contacts as {}", format);
+        try (Stream<Contatos> rows = contatosRepository.streamAll();
+             ExportWriter<ContatosDTO> writer = new ExportWriter<>(objectMapper, format, out, ContatosDTO.class)) {
+            Iterator<Contatos> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Contatos contato = iterator.next();
+                writer.write(DozerMapper.parseObject(contato, ContatosDTO.class));
+                entityManager.detach(contato);
+            }
         }
     }
 
+    /**
+     * Reconstrói o índice de busca dos contatos a partir do banco de dados.
+     * 
+     * <p>Os contatos são lidos através de um {@link Stream}, da mesma forma que na exportação, e cada entidade
+     * é desanexada do contexto de persistência assim que é lida. Contatos de profissionais deletados não são indexados.</p>
+     * 
+     * @return Quantidade de contatos indexados.
+     */
+    @Transactional(readOnly = true)
+    public long rebuildSearchIndex() {
+        logger.info("Rebuilding contacts search index");
+        try (Stream<Contatos> rows = contatosRepository.streamAll()) {
+            long count = contatosSearchIndex.rebuild(rows.peek(entityManager::detach));
+            logger.info("Indexed {} contacts", count);
+            return count;
+        }
+    }
+
+    /**
+     * Sincroniza o índice de busca dos contatos com as alterações feitas no banco de dados desde o seu último
+     * {@code commit} (ver {@link ContatosSearchIndex#getCatchUpStart()}).
+     * 
+     * <p>Se o índice não possui marca de sincronização, ou se a quantidade de documentos não corresponde à de contatos
+     * pesquisáveis após a sincronização, o índice é reconstruído com {@link #rebuildSearchIndex()}.</p>
+     * 
+     * @return Quantidade de contatos sincronizados ou indexados.
+     */
+    @Transactional(readOnly = true)
+    public long catchUpSearchIndex() {
+        Optional<Instant> since = contatosSearchIndex.getCatchUpStart();
+        if (since.isPresent()) {
+            logger.info("Catching up contacts search index from {}", since.get());
+            try (Stream<Contatos> rows = contatosRepository.streamUpdatedSince(since.get())) {
+                long count = contatosSearchIndex.catchUp(rows.peek(entityManager::detach),
+                        contatosRepository.countSearchable());
+                if (count >= 0) {
+                    logger.info("Caught up {} contacts", count);
+                    return count;
+                }
+            }
+        }
+        return rebuildSearchIndex();
+    }
+
+    /**
+     * Retorna os validadores de cache HTTP ({@code ETag} e {@code Last-Modified}) da listagem de contatos.
+     * 
+     * <p>Os valores são calculados a partir da quantidade de registros e do instante da alteração mais recente,
+     * obtidos com uma única consulta de agregação respondida pelo índice da coluna {@code updated_date}, sem
+     * carregar entidades. Permite ao controlador responder HTTP 304 (Not Modified) antes de buscar a página.</p>
+     * 
+     * @return Os validadores de cache da listagem.
+     */
+    public ResourceVersion findListVersion() {
+        return readCoalescer.execute(List.of("contatos.findListVersion"), () -> {
+            VersionSummary summary = contatosRepository.findVersionSummary();
+            return ResourceVersion.ofCollection(summary.getTotal(), summary.getLastModified());
+        });
+    }
+
     /**
      * Retorna um contato pelo seu ID.
      * 
      * <p>Se o ID não corresponder a nenhum contato, uma exceção {@link ResourceNotFoundException} será lançada.</p>
      * 
+     * <p>O DTO é mantido no {@link ContatosCache}: as buscas seguintes pelo mesmo ID não acessam o banco de dados
+     * até que o contato seja alterado, deletado ou que a entrada expire.</p>
+     * 
+     * <p>Em caso de falta no cache, o registro é lido em uma transação somente leitura, atendida por uma réplica que
+     * já tenha aplicado a posição atual do WAL do primário. Uma requisição que envia um
+     * {@link br.com.maicon.datasource.ConsistencyToken} lê o registro sem passar pelo cache, em uma réplica que já
+     * tenha aplicado a posição exigida.</p>
+     * 
      * @param id ID do contato.
      * @return Contato encontrado.
      * @throws ResourceNotFoundException se nenhum contato for encontrado com o ID fornecido.
      */
     public ContatosDTO findById(Long id) {
-        logger.info("Finding contato with ID " + id);
-        var contato = contatosRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Contato não encontrado"));
-        
-        return DozerMapper.parseObject(contato, ContatosDTO.class);
+        return contatosCache.get(id, key -> readOnlyTransaction.execute(status -> {
+            logger.info("Finding contato with ID {}", key);
+            var contato = contatosRepository.findById(key)
+                    .orElseThrow(() -> new ResourceNotFoundException("Contato não encontrado"));
+
+            return DozerMapper.parseObject(contato, ContatosDTO.class);
+        }));
     }
 
     /**
@@ -136,10 +381,14 @@ public class ContatosService {
      * <p>Este método utiliza o {@link DozerMapper} para converter o {@link ContatosDTO} 
      * em uma entidade {@link Contatos} antes de persistir no banco de dados.</p>
      * 
+     * <p>A gravação e o evento do fluxo de alterações ({@link OutboxRepository}) ocorrem na mesma transação; o índice
+     * de busca só é atualizado após o {@code commit}.</p>
+     * 
      * @param contato Dados do contato a ser criado.
      * @return Resposta contendo o sucesso ou falha da operação de criação, incluindo o ID do contato criado em caso de sucesso.
      * @throws IllegalArgumentException se os dados do contato forem inválidos.
      */
+    @Transactional
     public ApiRestResponse create(ContatosDTO contato) {
         ApiRestResponse validationResponse = validator.validateBase(contato);
         
@@ -155,12 +404,80 @@ public class ContatosService {
         contato.setDeletedProfissional(false);
         var converterContato = DozerMapper.parseObject(contato, Contatos.class);
         contatosRepository.save(converterContato);
+        outboxRepository.record(OutboxRepository.CONTATOS, converterContato.getId(), Operacao.CREATED);
+        contatosSearchIndex.index(converterContato);
 
-        logger.info("Created contato with ID " + converterContato.getId());
+        logger.info(LogMarkers.AUDIT, "Created contato with ID {}", converterContato.getId());
 
         return new ApiRestResponse(true, "Contato com ID " + converterContato.getId() + " cadastrado com sucesso!");
     }
 
+    /**
+     * Cria contatos em lote a partir de um array JSON.
+     * 
+     * <p>O array é lido de forma incremental em blocos de {@value JsonArrayReader#CHUNK_SIZE} itens. Cada item passa
+     * pela mesma validação de {@link #create(ContatosDTO)}; a existência dos profissionais de um bloco é verificada
+     * com uma única consulta, e os itens válidos são gravados com um único {@code saveAll}, em uma transação por bloco,
+     * o que permite ao Hibernate enviar os {@code INSERT}s em lotes JDBC. Os eventos de criação do bloco são gravados
+     * no outbox na mesma transação, com uma única instrução.</p>
+     * 
+     * <p>Um item inválido, ou associado a um profissional inexistente, não impede a gravação dos demais. Se a gravação
+     * de um bloco falhar, todos os seus itens válidos são informados como rejeitados.</p>
+     * 
+     * @param body Corpo da requisição contendo o array JSON de contatos.
+     * @return Resposta contendo o resultado de cada item, na ordem do array recebido.
+     * @throws IOException se ocorrer um erro de leitura do corpo da requisição.
+     * @throws br.com.maicon.exception.BadRequestException se o corpo não for um array JSON bem formado.
+     */
+    public BatchResponse createBatch(InputStream body) throws IOException {
+        BatchResponse response = new BatchResponse();
+        JsonArrayReader.read(objectMapper, body, ContatosDTO.class, chunk -> saveChunk(chunk, response));
+        logger.info(LogMarkers.AUDIT, "Batch created {} contacts, rejected {}", response.getCreated(), response.getFailed());
+        return response;
+    }
+
+    /**
+     * Importa contatos em massa a partir de um arquivo CSV.
+     * 
+     * <p>O arquivo deve conter uma linha de cabeçalho com as colunas {@code nome}, {@code contato} e
+     * {@code profissionalId}, em qualquer ordem; outras colunas (como as produzidas pela exportação) são ignoradas.
+     * Os registros são lidos um a um, validados com as mesmas regras de {@link #create(ContatosDTO)} e enviados
+     * ao banco de dados com o comando {@code COPY}, sem que o arquivo seja carregado em memória. A verificação dos
+     * profissionais e a inserção em {@code contatos} são feitas com uma única instrução
+     * (ver {@link ContatosRepositoryCustom#importStaged}).</p>
+     * 
+     * <p>Registros inválidos ou associados a profissionais inexistentes não impedem a importação dos demais, e são
+     * informados na resposta com a linha do arquivo em que começam. A importação é executada em uma única transação.</p>
+     * 
+     * <p>Os contatos importados só são adicionados ao {@link ContatosSearchIndex} após o {@code commit}: se a inserção
+     * ou o {@code commit} falharem, nenhum deles aparece nas buscas.</p>
+     * 
+     * @param body Conteúdo do arquivo CSV, em UTF-8.
+     * @return Resposta contendo a quantidade de contatos importados e as linhas rejeitadas.
+     * @throws IOException se ocorrer um erro de leitura do arquivo.
+     * @throws BadRequestException se o arquivo estiver vazio, não possuir as colunas obrigatórias ou não for um CSV válido.
+     */
+    @Transactional
+    public ImportResponse importCsv(InputStream body) throws IOException {
+        logger.info("Importing contacts from CSV");
+        ImportResponse response = new ImportResponse();
+        try (CsvReader reader = new CsvReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            contatosRepository.importStaged(new CsvRows(reader, response),
+                    imported -> {
+                        outboxRepository.recordAll(OutboxRepository.CONTATOS,
+                                imported.stream().map(Contatos::getId).toList(), Operacao.CREATED);
+                        contatosSearchIndex.indexAll(imported);
+                        response.addImported(imported.size());
+                    },
+                    line -> response.reject(line, PROFISSIONAL_NOT_FOUND_MESSAGE));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        response.sortRejections();
+        logger.info(LogMarkers.AUDIT, "Imported {} contacts, rejected {}", response.getImported(), response.getRejected());
+        return response;
+    }
+
     /**
      * Atualiza os dados de um contato existente.
      * 
@@ -170,14 +487,22 @@ public class ContatosService {
      * 
      * <p>O campo {@code createdDate} do contato não é alterado durante a atualização.</p>
      * 
+     * <p>A versão lida do banco de dados é mantida na entidade gravada: se o contato for alterado por outra
+     * requisição entre a leitura e a gravação, o bloqueio otimista ({@code @Version}) rejeita a atualização com uma
+     * {@link org.springframework.orm.ObjectOptimisticLockingFailureException}.</p>
+     * 
      * <p>Este método utiliza o {@link DozerMapper} para converter o {@link ContatosDTO} 
      * em uma entidade {@link Contatos} antes de persistir no banco de dados.</p>
      * 
+     * <p>A gravação e o evento do fluxo de alterações ({@link OutboxRepository}) ocorrem na mesma transação; o índice
+     * de busca só é atualizado após o {@code commit}.</p>
+     * 
      * @param contato Dados do contato a ser atualizado.
      * @return Resposta contendo o sucesso ou falha da operação de atualização.
      * @throws IllegalArgumentException se os dados do contato forem inválidos.
      * @throws ResourceNotFoundException se o contato não for encontrado para atualização.
      */
+    @Transactional
     public ApiRestResponse update(ContatosDTO contato) {
         ApiRestResponse validationResponse = validator.validateBase(contato);
         
@@ -189,11 +514,15 @@ public class ContatosService {
                 .orElseThrow(() -> new ResourceNotFoundException("Contato não encontrado para atualização"));
         
         contato.setCreatedDate(existingContact.getCreatedDate());
+        contato.setVersion(existingContact.getVersion());
         
-        logger.info("Updating contact with ID " + contato.getId());
+        logger.info(LogMarkers.AUDIT, "Updating contact with ID {}", contato.getId());
         
         var converterContact = DozerMapper.parseObject(contato, Contatos.class);
         contatosRepository.save(converterContact);
+        outboxRepository.record(OutboxRepository.CONTATOS, converterContact.getId(), Operacao.UPDATED);
+        contatosCache.invalidate(converterContact.getId());
+        contatosSearchIndex.index(converterContact);
         
         return new ApiRestResponse(true, "Cadastro alterado com sucesso!");
     }
@@ -205,16 +534,190 @@ public class ContatosService {
      * {@link br.com.maicon.repositories.ContatosRepository#findByIdAndActive(Long)}. Se o contato não for encontrado ou já estiver deletado, 
      * uma exceção {@link ResourceNotFoundException} será lançada. No entanto, ele realiza a deleção física do banco.</p>
      * 
+     * <p>A deleção e o evento do fluxo de alterações ({@link OutboxRepository}) ocorrem na mesma transação; o contato
+     * só é removido do índice de busca após o {@code commit}.</p>
+     * 
      * @param id ID do contato a ser deletado.
      * @return Resposta contendo o sucesso da operação de deleção.
      * @throws ResourceNotFoundException se o contato não for encontrado ou já estiver marcado como deletado.
      */
+    @Transactional
     public ApiRestResponse delete(Long id) {
         contatosRepository.findByIdAndActive(id)
             .orElseThrow(() -> new ResourceNotFoundException("Contato com ID " + id + " não encontrado."));
         
-        logger.info("Deleting contato with ID " + id);
+        logger.info(LogMarkers.AUDIT, "Deleting contato with ID {}", id);
         contatosRepository.deleteById(id);
+        outboxRepository.record(OutboxRepository.CONTATOS, id, Operacao.DELETED);
+        contatosCache.invalidate(id);
+        contatosSearchIndex.delete(id);
         return new ApiRestResponse(true, "Contato deletado com sucesso!");
     }
+
+    private void saveChunk(List<JsonArrayReader.Item<ContatosDTO>> chunk, BatchResponse response) {
+        Date createdDate = Date.from(ZonedDateTime.now(ZoneId.of("America/Sao_Paulo")).toInstant());
+        BatchItemResult[] results = new BatchItemResult[chunk.size()];
+        List<Integer> valid = new ArrayList<>(chunk.size());
+        Set<Long> profissionalIds = new HashSet<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            JsonArrayReader.Item<ContatosDTO> item = chunk.get(i);
+            if (item.error() != null) {
+                results[i] = BatchItemResult.failed(item.index(), item.error());
+                continue;
+            }
+            ApiRestResponse validationResponse = validator.validateBase(item.value());
+            if (!validationResponse.isSuccess()) {
+                results[i] = BatchItemResult.failed(item.index(), validationResponse.getMessage());
+                continue;
+            }
+            valid.add(i);
+            profissionalIds.add(item.value().getProfissionalId());
+        }
+
+        Set<Long> activeIds = profissionalIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(profissionaisRepository.findActiveIds(profissionalIds));
+        List<Integer> positions = new ArrayList<>(valid.size());
+        List<Contatos> entities = new ArrayList<>(valid.size());
+        for (int position : valid) {
+            ContatosDTO contato = chunk.get(position).value();
+            if (!activeIds.contains(contato.getProfissionalId())) {
+                results[position] = BatchItemResult.failed(chunk.get(position).index(), PROFISSIONAL_NOT_FOUND_MESSAGE);
+                continue;
+            }
+            contato.setId(null);
+            contato.setCreatedDate(createdDate);
+            contato.setDeletedProfissional(false);
+            positions.add(position);
+            entities.add(DozerMapper.parseObject(contato, Contatos.class));
+        }
+
+        if (!entities.isEmpty()) {
+            try {
+                List<Contatos> saved = transactionTemplate.execute(status -> {
+                    List<Contatos> savedEntities = contatosRepository.saveAll(entities);
+                    outboxRepository.recordAll(OutboxRepository.CONTATOS,
+                            savedEntities.stream().map(Contatos::getId).toList(), Operacao.CREATED);
+                    return savedEntities;
+                });
+                contatosSearchIndex.indexAll(saved);
+                for (int i = 0; i < saved.size(); i++) {
+                    int position = positions.get(i);
+                    results[position] = BatchItemResult.created(chunk.get(position).index(), saved.get(i).getId());
+                }
+            } catch (DataAccessException ex) {
+                logger.warn("Failed to save batch of {} contacts: {}", entities.size(), ex.getMessage());
+                for (int position : positions) {
+                    results[position] = BatchItemResult.failed(chunk.get(position).index(), "Falha ao gravar o contato.");
+                }
+            }
+        }
+
+        for (BatchItemResult result : results) {
+            response.add(result);
+        }
+    }
+
+    /**
+     * Converte, sob demanda, os registros de um arquivo CSV em contatos validados, registrando as linhas rejeitadas.
+     */
+    private final class CsvRows implements Iterator<StagedContato> {
+
+        private final CsvReader reader;
+        private final ImportResponse response;
+        private final int columnCount;
+        private final int nomeColumn;
+        private final int contatoColumn;
+        private final int profissionalIdColumn;
+        private StagedContato next;
+
+        CsvRows(CsvReader reader, ImportResponse response) throws IOException {
+            this.reader = reader;
+            this.response = response;
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new BadRequestException("O arquivo CSV está vazio.");
+            }
+            List<String> columns = header.stream().map(column -> column.trim().toLowerCase()).toList();
+            this.columnCount = columns.size();
+            this.nomeColumn = columns.indexOf("nome");
+            this.contatoColumn = columns.indexOf("contato");
+            this.profissionalIdColumn = columns.indexOf("profissionalid");
+            if (nomeColumn < 0 || contatoColumn < 0 || profissionalIdColumn < 0) {
+                throw new BadRequestException("O arquivo CSV deve conter as colunas nome, contato e profissionalId.");
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public StagedContato next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            StagedContato row = next;
+            next = null;
+            return row;
+        }
+
+        private StagedContato advance() {
+            try {
+                List<String> fields;
+                while ((fields = reader.readRecord()) != null) {
+                    StagedContato row = toRow(fields, reader.getLineNumber());
+                    if (row != null) {
+                        return row;
+                    }
+                }
+                return null;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        private StagedContato toRow(List<String> fields, long line) {
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                return null;
+            }
+            if (fields.size() != columnCount) {
+                response.reject(line, "Quantidade de colunas inválida: esperadas " + columnCount + ", encontradas " + fields.size() + ".");
+                return null;
+            }
+
+            ContatosDTO contato = new ContatosDTO();
+            contato.setNome(fields.get(nomeColumn));
+            contato.setContato(fields.get(contatoColumn));
+            String profissionalId = fields.get(profissionalIdColumn).trim();
+            if (!profissionalId.isEmpty()) {
+                try {
+                    contato.setProfissionalId(Long.valueOf(profissionalId));
+                } catch (NumberFormatException ex) {
+                    response.reject(line, "O campo profissionalId deve ser numérico.");
+                    return null;
+                }
+            }
+
+            ApiRestResponse validationResponse = validator.validateBase(contato);
+            if (!validationResponse.isSuccess()) {
+                response.reject(line, validationResponse.getMessage());
+                return null;
+            }
+            if (contato.getNome().length() > NOME_MAX_LENGTH) {
+                response.reject(line, "O campo nome deve ter no máximo " + NOME_MAX_LENGTH + " caracteres.");
+                return null;
+            }
+            if (contato.getContato().length() > CONTATO_MAX_LENGTH) {
+                response.reject(line, "O campo contato deve ter no máximo " + CONTATO_MAX_LENGTH + " caracteres.");
+                return null;
+            }
+            return new StagedContato(line, contato.getNome(), contato.getContato(), contato.getProfissionalId());
+        }
+    }
 }
@@ -0,0 +1,98 @@
+package br.com.maicon.services;
+
+import java.util.Date;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.maicon.data.dto.v1.EstatisticasDTO;
+import br.com.maicon.repositories.EstatisticasRepository;
+
+/**
+ * Serviço responsável pelas estatísticas agregadas de profissionais e contatos.
+ *
+ * <p>
+ * As estatísticas são pré-calculadas em views materializadas (migração V9) e atualizadas periodicamente, a cada
+ * {@code app.stats.refresh-interval-ms} milissegundos, com {@code REFRESH MATERIALIZED VIEW CONCURRENTLY}. A consulta
+ * das estatísticas lê apenas as poucas linhas das views, em vez de percorrer as tabelas de profissionais e contatos.
+ * </p>
+ *
+ * <b>Métodos principais:</b>
+ * <ul>
+ *   <li>{@link #findEstatisticas()}: Retorna as estatísticas da última atualização.</li>
+ *   <li>{@link #refresh()}: Atualiza as views materializadas.</li>
+ * </ul>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>As estatísticas podem estar defasadas em até um intervalo de atualização; o instante da última atualização é
+ *       retornado em {@link EstatisticasDTO#getAtualizadoEm()}.</li>
+ *   <li>A atualização periódica foi preferida à manutenção das tabelas de resumo pelos métodos de escrita, pois a
+ *       importação de contatos ({@code COPY}) e a exclusão lógica em massa não passam pelas entidades, e contadores
+ *       atualizados a cada escrita seriam um ponto de contenção entre transações concorrentes.</li>
+ *   <li>A atualização não bloqueia as leituras das views, e apenas uma instância da aplicação a executa por vez.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Service
+public class EstatisticasService {
+
+    private final EstatisticasRepository repository;
+    private final Logger logger = LoggerFactory.getLogger(EstatisticasService.class);
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param repository Repositório das estatísticas.
+     */
+    public EstatisticasService(EstatisticasRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Retorna as estatísticas agregadas de profissionais e contatos.
+     *
+     * <p>Os totais de profissionais e de contatos são calculados a partir da distribuição de contatos por
+     * profissional, sem consultas adicionais.</p>
+     *
+     * @return As estatísticas da última atualização das views.
+     */
+    @Transactional(readOnly = true)
+    public EstatisticasDTO findEstatisticas() {
+        List<EstatisticasDTO.ContatosTotal> contatosPorProfissional = repository.findContatosPorProfissional();
+
+        EstatisticasDTO estatisticas = new EstatisticasDTO();
+        estatisticas.setAtualizadoEm(Date.from(repository.findAtualizadoEm()));
+        estatisticas.setProfissionaisPorCargo(repository.findProfissionaisPorCargo());
+        estatisticas.setContatosPorProfissional(contatosPorProfissional);
+        estatisticas.setContratacoesPorMes(repository.findContratacoesPorMes());
+        estatisticas.setTotalProfissionais(contatosPorProfissional.stream()
+                .mapToLong(EstatisticasDTO.ContatosTotal::getProfissionais).sum());
+        estatisticas.setTotalContatos(contatosPorProfissional.stream()
+                .mapToLong(total -> total.getContatos() * total.getProfissionais()).sum());
+        return estatisticas;
+    }
+
+    /**
+     * Atualiza as views materializadas das estatísticas.
+     *
+     * <p>Executado periodicamente, a cada {@code app.stats.refresh-interval-ms} milissegundos após o término da
+     * execução anterior. Se outra instância da aplicação estiver atualizando as views, a execução é ignorada.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.stats.refresh-interval-ms:60000}")
+    @Transactional
+    public void refresh() {
+        long start = System.nanoTime();
+        if (repository.refresh()) {
+            logger.debug("Refreshed statistics views in {} ms", (System.nanoTime() - start) / 1_000_000);
+        } else {
+            logger.debug("Statistics views are being refreshed by another instance");
+        }
+    }
+}
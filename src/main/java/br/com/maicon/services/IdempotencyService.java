@@ -0,0 +1,182 @@
+package br.com.maicon.services;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.maicon.exception.BadRequestException;
+import br.com.maicon.repositories.IdempotencyKeyRepository;
+import br.com.maicon.repositories.IdempotencyKeyRepository.StoredResponse;
+import br.com.maicon.utils.ApiRestResponse;
+
+/**
+ * Serviço que torna idempotentes as criações enviadas com o cabeçalho {@value #HEADER}.
+ *
+ * <p>
+ * A primeira requisição com uma chave executa a criação normalmente, e a mensagem da resposta de sucesso é gravada na
+ * tabela {@code idempotency_keys} na mesma transação em que o registro é criado. As novas tentativas com a mesma chave
+ * recebem a resposta gravada, sem que o corpo seja validado, convertido ou gravado novamente. As respostas mais
+ * recentes também são mantidas em um cache em memória de curta duração, consultado antes do banco de dados.
+ * </p>
+ *
+ * <b>Métodos principais:</b>
+ * <ul>
+ *   <li>{@link #execute(String, String, Object, Supplier)}: Executa a criação, ou retorna a resposta gravada para a
+ *       chave.</li>
+ *   <li>{@link #purgeExpired()}: Remove as chaves gravadas há mais de {@code app.idempotency.ttl}.</li>
+ * </ul>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>Apenas as respostas de sucesso são gravadas. Se a validação falhar ou a criação lançar uma exceção, a chave é
+ *       liberada junto com o rollback da transação, e a requisição pode ser repetida com os dados corrigidos.</li>
+ *   <li>Requisições simultâneas com a mesma chave são serializadas pela chave primária da tabela: a segunda aguarda o
+ *       término da primeira e recebe a sua resposta.</li>
+ *   <li>A reutilização de uma chave com um corpo diferente resulta em uma resposta HTTP 400 (Bad Request).</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Service
+public class IdempotencyService {
+
+    /**
+     * Nome do cabeçalho HTTP que contém a chave de idempotência.
+     */
+    public static final String HEADER = "Idempotency-Key";
+
+    /**
+     * Tamanho máximo da chave de idempotência.
+     */
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Cache<String, StoredResponse> responses;
+    private final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param repository Repositório das chaves de idempotência.
+     * @param transactionManager Gerenciador de transações, utilizado para que a chave e o registro criado sejam
+     *        gravados na mesma transação.
+     * @param objectMapper {@link ObjectMapper} utilizado no cálculo do hash do corpo da requisição.
+     * @param ttl Tempo durante o qual uma chave é mantida.
+     * @param cacheMaximumSize Quantidade máxima de respostas mantidas em memória.
+     * @param cacheExpireAfterWrite Tempo de vida das respostas mantidas em memória.
+     */
+    public IdempotencyService(IdempotencyKeyRepository repository, PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper, @Value("${app.idempotency.ttl:24h}") Duration ttl,
+            @Value("${app.idempotency.cache.maximum-size:10000}") long cacheMaximumSize,
+            @Value("${app.idempotency.cache.expire-after-write:5m}") Duration cacheExpireAfterWrite) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(cacheExpireAfterWrite.compareTo(ttl) < 0 ? cacheExpireAfterWrite : ttl)
+                .build();
+    }
+
+    /**
+     * Executa uma criação de forma idempotente.
+     *
+     * <p>Sem chave, a criação é executada diretamente. Com uma chave já utilizada pelo mesmo corpo, a resposta gravada
+     * é retornada e a criação não é executada.</p>
+     *
+     * @param escopo Recurso da criação, por exemplo {@code profissionais}.
+     * @param key Valor do cabeçalho {@value #HEADER}, ou {@code null} se não foi enviado.
+     * @param request Corpo da requisição, utilizado para detectar a reutilização da chave com outro conteúdo.
+     * @param create A criação a ser executada.
+     * @return A resposta da criação, ou a resposta gravada para a chave.
+     * @throws BadRequestException se a chave for inválida ou já tiver sido utilizada com outro corpo.
+     */
+    public ApiRestResponse execute(String escopo, String key, Object request, Supplier<ApiRestResponse> create) {
+        if (key == null) {
+            return create.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException("O cabeçalho " + HEADER + " deve conter entre 1 e " + MAX_KEY_LENGTH + " caracteres.");
+        }
+
+        String requestHash = hash(request);
+        String cacheKey = escopo + ":" + key;
+        StoredResponse cached = responses.getIfPresent(cacheKey);
+        if (cached != null) {
+            return replay(key, requestHash, cached);
+        }
+
+        ApiRestResponse response = transactionTemplate.execute(status -> {
+            if (!repository.claim(escopo, key, requestHash)) {
+                return replay(key, requestHash, repository.find(escopo, key)
+                        .orElseThrow(() -> new IllegalStateException("Idempotency key " + key + " was not stored")));
+            }
+            ApiRestResponse created = create.get();
+            if (created.isSuccess()) {
+                repository.complete(escopo, key, created.getMessage());
+            } else {
+                status.setRollbackOnly();
+            }
+            return created;
+        });
+        if (response.isSuccess()) {
+            responses.put(cacheKey, new StoredResponse(requestHash, response.getMessage()));
+        }
+        return response;
+    }
+
+    /**
+     * Remove as chaves gravadas há mais de {@code app.idempotency.ttl}.
+     *
+     * <p>Executado periodicamente, a cada {@code app.idempotency.purge-interval-ms} milissegundos após o término da
+     * execução anterior.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = repository.deleteCreatedBefore(Instant.now().minus(ttl));
+        if (deleted > 0) {
+            logger.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    private ApiRestResponse replay(String key, String requestHash, StoredResponse stored) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new BadRequestException("A chave " + key + " do cabeçalho " + HEADER
+                    + " já foi utilizada em uma requisição com outro conteúdo.");
+        }
+        logger.debug("Replaying response of idempotency key {}", key);
+        return new ApiRestResponse(true, stored.message());
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException ex) {
+            throw new IllegalStateException("Could not hash the request body", ex);
+        }
+    }
+}
@@ -1,23 +1,62 @@
 package br.com.maicon.services;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
-import java.util.logging.Logger;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.maicon.cache.ContatosCache;
+import br.com.maicon.cache.ProfissionaisCache;
+import br.com.maicon.cache.ReadCoalescer;
+import br.com.maicon.data.dto.v1.ChangeEventDTO.Operacao;
+import br.com.maicon.data.dto.v1.ContatosDTO;
 import br.com.maicon.data.dto.v1.ProfissionaisDTO;
+import br.com.maicon.data.dto.v1.utils.DtoUtils;
 import br.com.maicon.exception.ResourceNotFoundException;
+import br.com.maicon.logging.LogMarkers;
 import br.com.maicon.mapper.DozerMapper;
-import br.com.maicon.models.Contatos;
 import br.com.maicon.models.Profissionais;
 import br.com.maicon.repositories.ContatosRepository;
+import br.com.maicon.repositories.OutboxRepository;
 import br.com.maicon.repositories.ProfissionaisRepository;
+import br.com.maicon.repositories.ProfissionaisRepositoryCustom;
+import br.com.maicon.repositories.VersionSummary;
+import br.com.maicon.search.ContatosSearchIndex;
+import br.com.maicon.search.ProfissionaisSearchIndex;
 import br.com.maicon.services.validation.ProfissionaisValidator;
 import br.com.maicon.utils.ApiRestResponse;
+import br.com.maicon.utils.BatchItemResult;
+import br.com.maicon.utils.BatchResponse;
+import br.com.maicon.utils.ExportFormat;
+import br.com.maicon.utils.ExportWriter;
+import br.com.maicon.utils.JsonArrayReader;
+import br.com.maicon.utils.KeysetPage;
+import br.com.maicon.utils.ResourceVersion;
+import jakarta.persistence.EntityManager;
 import jakarta.validation.Validator;
 
 /**
@@ -32,8 +71,18 @@ import jakarta.validation.Validator;
  * <b>Métodos principais:</b>
  * <ul>
  *   <li>{@link #findAll()}: Retorna todos os profissionais cadastrados.</li>
+ *   <li>{@link #findAll(String, List, Long, int)}: Retorna uma página de profissionais contendo apenas os campos solicitados.</li>
+ *   <li>{@link #findAll(String, Long, int)}: Retorna uma página de profissionais, opcionalmente filtrados por um texto, a partir de um cursor.</li>
+ *   <li>{@link #export(ExportFormat, OutputStream)}: Exporta todos os profissionais sem carregá-los em memória.</li>
+ *   <li>{@link #rebuildSearchIndex()}: Reconstrói o índice de busca a partir do banco de dados.</li>
+ *   <li>{@link #catchUpSearchIndex()}: Sincroniza o índice de busca existente com as alterações do banco de dados.</li>
+ *   <li>{@link #expandContatos(List)}: Inclui nos profissionais os seus contatos, lidos com uma única consulta.</li>
+ *   <li>{@link #findListVersion()}: Retorna os validadores de cache HTTP da listagem, sem carregar entidades.</li>
+ *   <li>{@link #findExpandedListVersion()}: Retorna os validadores de cache HTTP da listagem com os contatos expandidos.</li>
+ *   <li>{@link #findExpandedVersion(ProfissionaisDTO)}: Retorna os validadores de cache HTTP de um profissional com os contatos expandidos.</li>
  *   <li>{@link #findById(Long)}: Retorna um profissional específico pelo seu ID.</li>
  *   <li>{@link #create(ProfissionaisDTO)}: Cria um novo profissional.</li>
+ *   <li>{@link #createBatch(InputStream)}: Cria profissionais em lote a partir de um array JSON, lido de forma incremental.</li>
  *   <li>{@link #update(ProfissionaisDTO)}: Atualiza os dados de um profissional existente.</li>
  *   <li>{@link #delete(Long)}: Deleta um profissional pelo seu ID.</li>
  * </ul>
@@ -41,7 +90,11 @@ import jakarta.validation.Validator;
  * <b>Considerações:</b>
  *  <ul>
  *    <li>A classe utiliza o validador de bean {@link Validator} para garantir que os dados dos profissionais estejam corretos antes de serem persistidos.</li>
- *    <li>Operações críticas, como criação, atualização e deleção de profissionais, são registradas via {@link Logger} para facilitar a auditoria e o monitoramento.</li>
+ *    <li>Operações críticas, como criação, atualização e deleção de profissionais, são registradas via {@link Logger} com o marcador {@link LogMarkers#AUDIT}, para facilitar a auditoria e o monitoramento; esses logs nunca são descartados pela amostragem dos logs de sucesso.</li>
+ *    <li>Criações, atualizações e deleções são refletidas no {@link ProfissionaisSearchIndex} após o {@code commit} da transação; a deleção também remove do {@link ContatosSearchIndex} os contatos do profissional.</li>
+ *    <li>A busca por ID é atendida pelo {@link ProfissionaisCache}; atualizações e deleções invalidam o profissional em cache e, na deleção, também os seus contatos no {@link ContatosCache}.</li>
+ *    <li>Leituras idênticas e simultâneas da listagem são agrupadas pelo {@link ReadCoalescer} em uma única consulta; os resultados são compartilhados entre as requisições e não devem ser modificados.</li>
+ *    <li>Criações, atualizações e deleções são gravadas no outbox ({@link OutboxRepository}) na mesma transação que a alteração, e enviadas aos clientes do fluxo de alterações pelo {@link ChangeStreamService}; a deleção também grava a deleção dos contatos do profissional.</li>
  * </ul>
  * 
  * @author Maicon
@@ -50,11 +103,31 @@ import jakarta.validation.Validator;
 @Service
 public class ProfissionaisService {
 
+    /**
+     * Nome da expansão que inclui os contatos de cada profissional na resposta.
+     */
+    public static final String EXPAND_CONTATOS = "contatos";
+
+    /**
+     * Expansões suportadas pelos endpoints de leitura de profissionais.
+     */
+    public static final List<String> EXPANDABLE_FIELDS = List.of(EXPAND_CONTATOS);
+
     @Autowired
     private ProfissionaisRepository profissionaisRepository;
     private ContatosRepository contatosRepository;
     private final ProfissionaisValidator profissionaisValidator;
-    private final Logger logger = Logger.getLogger(ProfissionaisService.class.getName());
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final ProfissionaisSearchIndex profissionaisSearchIndex;
+    private final ContatosSearchIndex contatosSearchIndex;
+    private final ProfissionaisCache profissionaisCache;
+    private final ContatosCache contatosCache;
+    private final ReadCoalescer readCoalescer;
+    private final OutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Logger logger = LoggerFactory.getLogger(ProfissionaisService.class);
 
     /**
      * Construtor para injeção de dependências.
@@ -63,11 +136,32 @@ public class ProfissionaisService {
      * 
      * @param profissionaisRepository Repositório para acesso aos dados da entidade {@link Profissionais}.
      * @param profissionaisValidator Validador responsável por garantir a conformidade dos dados dos profissionais.
+     * @param objectMapper {@link ObjectMapper} da aplicação, utilizado na exportação.
+     * @param entityManager {@link EntityManager} utilizado para liberar as entidades já exportadas.
+     * @param profissionaisSearchIndex Índice de busca dos profissionais.
+     * @param contatosSearchIndex Índice de busca dos contatos.
+     * @param profissionaisCache Cache dos profissionais buscados por ID.
+     * @param contatosCache Cache dos contatos buscados por ID.
+     * @param readCoalescer Agrupador das leituras idênticas e simultâneas da listagem.
+     * @param outboxRepository Repositório do outbox transacional, no qual as alterações são gravadas.
+     * @param transactionManager Gerenciador de transações, utilizado na gravação de cada bloco da criação em lote e no
+     *        carregamento do cache por ID.
      */
-    public ProfissionaisService(ProfissionaisRepository profissionaisRepository, ContatosRepository contatosRepository, ProfissionaisValidator profissionaisValidator) {
+    public ProfissionaisService(ProfissionaisRepository profissionaisRepository, ContatosRepository contatosRepository, ProfissionaisValidator profissionaisValidator, ObjectMapper objectMapper, EntityManager entityManager, ProfissionaisSearchIndex profissionaisSearchIndex, ContatosSearchIndex contatosSearchIndex, ProfissionaisCache profissionaisCache, ContatosCache contatosCache, ReadCoalescer readCoalescer, OutboxRepository outboxRepository, PlatformTransactionManager transactionManager) {
         this.profissionaisRepository = profissionaisRepository;
         this.contatosRepository = contatosRepository;
         this.profissionaisValidator = profissionaisValidator;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.profissionaisSearchIndex = profissionaisSearchIndex;
+        this.contatosSearchIndex = contatosSearchIndex;
+        this.profissionaisCache = profissionaisCache;
+        this.contatosCache = contatosCache;
+        this.readCoalescer = readCoalescer;
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
@@ -79,8 +173,10 @@ public class ProfissionaisService {
      * @return Lista de profissionais cadastrados e não deletados.
      */
     public List<ProfissionaisDTO> findAll() {
-        logger.info("Finding all professionals");
-        return DozerMapper.parseListObjects(profissionaisRepository.findAllActive(), ProfissionaisDTO.class);
+        return readCoalescer.execute(List.of("profissionais.findAll"), () -> {
+            logger.info("Finding all professionals");
+            return DozerMapper.parseListObjects(profissionaisRepository.findAllActive(), ProfissionaisDTO.class);
+        });
     }
     
     /**
@@ -93,13 +189,222 @@ public class ProfissionaisService {
      * @return Lista de profissionais filtrados ou todos os profissionais cadastrados, não deletados.
      */
     public List<ProfissionaisDTO> findAll(String q) {
-        if (q != null && !q.isEmpty()) {
-            return DozerMapper.parseListObjects(
-                profissionaisRepository.findByQuery(q), ProfissionaisDTO.class);
-        } else {
-            return DozerMapper.parseListObjects(
-                profissionaisRepository.findAllActive(), ProfissionaisDTO.class);
+        return readCoalescer.execute(Arrays.asList("profissionais.findAll", q), () -> {
+            if (q != null && !q.isEmpty()) {
+                return DozerMapper.parseListObjects(
+                    profissionaisRepository.search(q, KeysetPage.MAX_LIMIT), ProfissionaisDTO.class);
+            } else {
+                return DozerMapper.parseListObjects(
+                    profissionaisRepository.findAllActive(), ProfissionaisDTO.class);
+            }
+        });
+    }
+
+    /**
+     * Retorna uma página de profissionais não deletados, possivelmente filtrados por um texto, a partir de um cursor.
+     * 
+     * <p>A página é obtida por paginação baseada em cursor (keyset): são buscados até {@code limit + 1} registros
+     * com ID maior que {@code after}, e o registro excedente, se existir, apenas indica que há uma próxima página.</p>
+     * 
+     * <p>Se o termo de pesquisa for informado, o cursor é ignorado: a busca retorna os {@code limit} profissionais mais
+     * relevantes, ordenados por relevância e sem próxima página (ver {@link ProfissionaisRepositoryCustom#search(String, int)}).</p>
+     * 
+     * @param q Texto para filtrar profissionais pelo nome ou cargo (opcional).
+     * @param after ID do último profissional da página anterior ({@code 0} para a primeira página).
+     * @param limit Tamanho da página.
+     * @return Página de profissionais com o cursor da próxima página, se houver.
+     */
+    public KeysetPage<ProfissionaisDTO> findAll(String q, Long after, int limit) {
+        return readCoalescer.execute(Arrays.asList("profissionais.findAll", q, after, limit), () -> {
+            if (q != null && !q.isEmpty()) {
+                return new KeysetPage<>(DozerMapper.parseListObjects(profissionaisRepository.search(q, limit), ProfissionaisDTO.class), null);
+            }
+            Long cursor = after == null ? 0L : after;
+            List<Profissionais> rows = profissionaisRepository.findActiveAfter(cursor, Limit.of(limit + 1));
+            return KeysetPage.of(DozerMapper.parseListObjects(rows, ProfissionaisDTO.class), limit, ProfissionaisDTO::getId);
+        });
+    }
+
+    /**
+     * Retorna uma página de profissionais não deletados, possivelmente filtrados por um texto, contendo apenas os campos solicitados.
+     * 
+     * <p>Se a lista de campos for fornecida, apenas as colunas correspondentes são lidas do banco de dados
+     * através de uma consulta de projeção, sem carregar a entidade completa nem utilizar o {@link DozerMapper}.
+     * Os campos devem pertencer a {@link ProfissionaisRepositoryCustom#PROJECTABLE_FIELDS}. Caso contrário, o
+     * comportamento é o mesmo de {@link #findAll(String, Long, int)}, inclusive na busca por termo.</p>
+     * 
+     * @param q Texto para filtrar profissionais (opcional).
+     * @param fields Lista de campos a serem retornados (opcional).
+     * @param after ID do último profissional da página anterior ({@code 0} para a primeira página).
+     * @param limit Tamanho da página.
+     * @return Página de profissionais com o cursor da próxima página, se houver.
+     * @throws br.com.maicon.exception.BadRequestException se algum campo solicitado não puder ser projetado.
+     */
+    public KeysetPage<ProfissionaisDTO> findAll(String q, List<String> fields, Long after, int limit) {
+        if (fields == null || fields.isEmpty()) {
+            return findAll(q, after, limit);
+        }
+        return readCoalescer.execute(Arrays.asList("profissionais.findAll", q, fields, after, limit), () -> {
+            DtoUtils.requireProjectableFields(fields, ProfissionaisRepositoryCustom.PROJECTABLE_FIELDS);
+
+            if (q != null && !q.isEmpty()) {
+                return new KeysetPage<>(profissionaisRepository.findProjectedByQuery(fields, q, limit).stream()
+                        .map(tuple -> DtoUtils.fromTuple(tuple, ProfissionaisDTO.class))
+                        .toList(), null);
+            }
+            Long cursor = after == null ? 0L : after;
+            List<ProfissionaisDTO> rows = profissionaisRepository.findProjectedAfter(fields, cursor, limit + 1).stream()
+                    .map(tuple -> DtoUtils.fromTuple(tuple, ProfissionaisDTO.class))
+                    .toList();
+            return KeysetPage.of(rows, limit, ProfissionaisDTO::getId);
+        });
+    }
+
+    /**
+     * Exporta todos os profissionais não deletados no formato informado.
+     * 
+     * <p>Os registros são lidos através de um {@link Stream} do repositório, em uma transação somente leitura,
+     * e cada um é convertido e escrito no {@link OutputStream} assim que é recebido. Após a escrita, a entidade
+     * é desanexada do contexto de persistência, de modo que o consumo de memória permanece constante
+     * independentemente da quantidade de profissionais.</p>
+     * 
+     * @param format Formato de exportação.
+     * @param out {@link OutputStream} de destino.
+     * @throws IOException se ocorrer um erro de escrita.
+     */
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, OutputStream out) throws IOException {
+        logger.info("Exporting all professionals as {}", format);
+        try (Stream<Profissionais> rows = profissionaisRepository.streamAllActive();
+             ExportWriter<ProfissionaisDTO> writer = new ExportWriter<>(objectMapper, format, out, ProfissionaisDTO.class)) {
+            Iterator<Profissionais> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Profissionais profissional = iterator.next();
+                writer.write(DozerMapper.parseObject(profissional, ProfissionaisDTO.class));
+                entityManager.detach(profissional);
+            }
+        }
+    }
+
+    /**
+     * Reconstrói o índice de busca dos profissionais a partir do banco de dados.
+     * 
+     * <p>Os profissionais não deletados são lidos através de um {@link Stream}, da mesma forma que na exportação,
+     * e cada entidade é desanexada do contexto de persistência assim que é lida.</p>
+     * 
+     * @return Quantidade de profissionais indexados.
+     */
+    @Transactional(readOnly = true)
+    public long rebuildSearchIndex() {
+        logger.info("Rebuilding professionals search index");
+        try (Stream<Profissionais> rows = profissionaisRepository.streamAllActive()) {
+            long count = profissionaisSearchIndex.rebuild(rows.peek(entityManager::detach));
+            logger.info("Indexed {} professionals", count);
+            return count;
+        }
+    }
+
+    /**
+     * Sincroniza o índice de busca dos profissionais com as alterações feitas no banco de dados desde o seu último
+     * {@code commit} (ver {@link ProfissionaisSearchIndex#getCatchUpStart()}).
+     * 
+     * <p>Se o índice não possui marca de sincronização, ou se a quantidade de documentos não corresponde à de
+     * profissionais não deletados após a sincronização, o índice é reconstruído com {@link #rebuildSearchIndex()}.</p>
+     * 
+     * @return Quantidade de profissionais sincronizados ou indexados.
+     */
+    @Transactional(readOnly = true)
+    public long catchUpSearchIndex() {
+        Optional<Instant> since = profissionaisSearchIndex.getCatchUpStart();
+        if (since.isPresent()) {
+            logger.info("Catching up professionals search index from {}", since.get());
+            try (Stream<Profissionais> rows = profissionaisRepository.streamUpdatedSince(since.get())) {
+                long count = profissionaisSearchIndex.catchUp(rows.peek(entityManager::detach),
+                        profissionaisRepository.findActiveVersionSummary().getTotal());
+                if (count >= 0) {
+                    logger.info("Caught up {} professionals", count);
+                    return count;
+                }
+            }
+        }
+        return rebuildSearchIndex();
+    }
+
+    /**
+     * Retorna cópias dos profissionais informados com os seus contatos ativos.
+     * 
+     * <p>Os contatos de todos os profissionais são lidos com uma única consulta
+     * ({@link ContatosRepository#findActiveByProfissionalIdIn(java.util.Collection)}) e agrupados em memória pelo
+     * profissional, de modo que a quantidade de instruções SQL não depende do tamanho da página. Os DTOs recebidos não
+     * são alterados, pois podem ser os mesmos mantidos no {@link ProfissionaisCache}.</p>
+     * 
+     * @param profissionais Profissionais a serem expandidos, com o {@code id} preenchido.
+     * @return Cópias dos profissionais, na mesma ordem, com a lista de contatos preenchida (vazia se não houver contatos).
+     */
+    @Transactional(readOnly = true)
+    public List<ProfissionaisDTO> expandContatos(List<ProfissionaisDTO> profissionais) {
+        if (profissionais.isEmpty()) {
+            return profissionais;
         }
+        List<Long> ids = profissionais.stream().map(ProfissionaisDTO::getId).distinct().toList();
+        Map<Long, List<ContatosDTO>> contatosByProfissional = DozerMapper.parseListObjects(
+                contatosRepository.findActiveByProfissionalIdIn(ids), ContatosDTO.class).stream()
+                .collect(Collectors.groupingBy(ContatosDTO::getProfissionalId));
+
+        List<ProfissionaisDTO> expanded = new ArrayList<>(profissionais.size());
+        for (ProfissionaisDTO profissional : profissionais) {
+            ProfissionaisDTO copy = new ProfissionaisDTO();
+            BeanUtils.copyProperties(profissional, copy);
+            copy.setContatos(contatosByProfissional.getOrDefault(profissional.getId(), List.of()));
+            expanded.add(copy);
+        }
+        return expanded;
+    }
+
+    /**
+     * Retorna os validadores de cache HTTP ({@code ETag} e {@code Last-Modified}) da listagem de profissionais não deletados.
+     * 
+     * <p>Os valores são calculados a partir da quantidade de registros e do instante da alteração mais recente,
+     * obtidos com uma única consulta de agregação respondida pelo índice da coluna {@code updated_date}, sem
+     * carregar entidades. Permite ao controlador responder HTTP 304 (Not Modified) antes de buscar a página.</p>
+     * 
+     * @return Os validadores de cache da listagem.
+     */
+    public ResourceVersion findListVersion() {
+        return readCoalescer.execute(List.of("profissionais.findListVersion"), () -> {
+            VersionSummary summary = profissionaisRepository.findActiveVersionSummary();
+            return ResourceVersion.ofCollection(summary.getTotal(), summary.getLastModified());
+        });
+    }
+
+    /**
+     * Retorna os validadores de cache HTTP da listagem de profissionais com os contatos expandidos.
+     * 
+     * <p>Combina os validadores de {@link #findListVersion()} com os da tabela de contatos, de modo que a inclusão,
+     * alteração ou exclusão de qualquer contato também altere a ETag da listagem expandida.</p>
+     * 
+     * @return Os validadores de cache da listagem expandida.
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion findExpandedListVersion() {
+        VersionSummary contatos = contatosRepository.findVersionSummary();
+        return findListVersion().combine(ResourceVersion.ofCollection(contatos.getTotal(), contatos.getLastModified()));
+    }
+
+    /**
+     * Retorna os validadores de cache HTTP de um profissional com os contatos expandidos.
+     * 
+     * <p>Combina a versão do profissional com a quantidade e a data da última alteração dos seus contatos, obtidas com
+     * uma consulta de agregação, o que permite responder HTTP 304 (Not Modified) sem carregar os contatos.</p>
+     * 
+     * @param profissional O profissional, obtido de {@link #findById(Long)}.
+     * @return Os validadores de cache do profissional expandido.
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion findExpandedVersion(ProfissionaisDTO profissional) {
+        VersionSummary contatos = contatosRepository.findVersionSummaryByProfissionalId(profissional.getId());
+        return ResourceVersion.of(profissional.getId(), profissional.getVersion(), profissional.getUpdatedDate())
+                .combine(ResourceVersion.ofCollection(contatos.getTotal(), contatos.getLastModified()));
     }
 
     /**
@@ -107,16 +412,26 @@ public class ProfissionaisService {
      * 
      * <p>Se o ID não corresponder a nenhum profissional ativo (não deletado), uma exceção {@link ResourceNotFoundException} será lançada.</p>
      * 
+     * <p>O DTO é mantido no {@link ProfissionaisCache}: as buscas seguintes pelo mesmo ID não acessam o banco de dados
+     * até que o profissional seja alterado, deletado ou que a entrada expire.</p>
+     * 
+     * <p>Em caso de falta no cache, o registro é lido em uma transação somente leitura, atendida por uma réplica que
+     * já tenha aplicado a posição atual do WAL do primário. Uma requisição que envia um
+     * {@link br.com.maicon.datasource.ConsistencyToken} lê o registro sem passar pelo cache, em uma réplica que já
+     * tenha aplicado a posição exigida.</p>
+     * 
      * @param id ID do profissional.
      * @return Profissional encontrado.
      * @throws ResourceNotFoundException se nenhum profissional for encontrado com o ID fornecido.
      */
     public ProfissionaisDTO findById(Long id) {
-        logger.info("Finding professional with ID " + id);
-        var professional = profissionaisRepository.findByIdAndActive(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Profissional não encontrado"));
-        
-        return DozerMapper.parseObject(professional, ProfissionaisDTO.class);
+        return profissionaisCache.get(id, key -> readOnlyTransaction.execute(status -> {
+            logger.info("Finding professional with ID {}", key);
+            var professional = profissionaisRepository.findByIdAndActive(key)
+                    .orElseThrow(() -> new ResourceNotFoundException("Profissional não encontrado"));
+
+            return DozerMapper.parseObject(professional, ProfissionaisDTO.class);
+        }));
     }
 
     /**
@@ -131,10 +446,14 @@ public class ProfissionaisService {
      * <p>Este método utiliza o {@link DozerMapper} para converter o {@link ProfissionaisDTO} 
      * em uma entidade {@link Profissionais} antes de persistir no banco de dados.</p>
      * 
+     * <p>A gravação e o evento do fluxo de alterações ({@link OutboxRepository}) ocorrem na mesma transação; o índice
+     * de busca só é atualizado após o {@code commit}.</p>
+     * 
      * @param professional Dados do profissional a ser criado.
      * @return Resposta contendo o sucesso ou falha da operação de criação, incluindo o ID do profissional criado em caso de sucesso.
      * @throws IllegalArgumentException se os dados do profissional forem inválidos.
      */
+    @Transactional
     public ApiRestResponse create(ProfissionaisDTO professional) {
         ApiRestResponse validationResponse = profissionaisValidator.validate(professional);
         
@@ -146,12 +465,38 @@ public class ProfissionaisService {
         professional.setCreatedDate(Date.from(now.toInstant()));        
         var converterProfessional = DozerMapper.parseObject(professional, Profissionais.class);
         profissionaisRepository.save(converterProfessional);
+        outboxRepository.record(OutboxRepository.PROFISSIONAIS, converterProfessional.getId(), Operacao.CREATED);
+        profissionaisSearchIndex.index(converterProfessional);
 
-        logger.info("Created professional with ID " + converterProfessional.getId());
+        logger.info(LogMarkers.AUDIT, "Created professional with ID {}", converterProfessional.getId());
 
         return new ApiRestResponse(true, "Profissional com ID " + converterProfessional.getId() + " cadastrado com sucesso!");
     }
 
+    /**
+     * Cria profissionais em lote a partir de um array JSON.
+     * 
+     * <p>O array é lido de forma incremental em blocos de {@value JsonArrayReader#CHUNK_SIZE} itens. Cada item passa
+     * pela mesma validação de {@link #create(ProfissionaisDTO)}; os itens válidos de um bloco são gravados com um único
+     * {@code saveAll}, em uma transação por bloco, o que permite ao Hibernate enviar os {@code INSERT}s em lotes JDBC;
+     * os eventos de criação do bloco são gravados no outbox na mesma transação, com uma única instrução.
+     * Os profissionais gravados são adicionados ao {@link ProfissionaisSearchIndex} ao final de cada bloco.</p>
+     * 
+     * <p>Um item inválido não impede a gravação dos demais. Se a gravação de um bloco falhar, todos os seus itens
+     * válidos são informados como rejeitados, e os blocos seguintes continuam sendo processados.</p>
+     * 
+     * @param body Corpo da requisição contendo o array JSON de profissionais.
+     * @return Resposta contendo o resultado de cada item, na ordem do array recebido.
+     * @throws IOException se ocorrer um erro de leitura do corpo da requisição.
+     * @throws br.com.maicon.exception.BadRequestException se o corpo não for um array JSON bem formado.
+     */
+    public BatchResponse createBatch(InputStream body) throws IOException {
+        BatchResponse response = new BatchResponse();
+        JsonArrayReader.read(objectMapper, body, ProfissionaisDTO.class, chunk -> saveChunk(chunk, response));
+        logger.info(LogMarkers.AUDIT, "Batch created {} professionals, rejected {}", response.getCreated(), response.getFailed());
+        return response;
+    }
+
     /**
      * Atualiza os dados de um profissional existente.
      * 
@@ -161,14 +506,22 @@ public class ProfissionaisService {
      * 
      * <p>O campo {@code createdDate} do profissional não é alterado durante a atualização.</p>
      * 
+     * <p>A versão lida do banco de dados é mantida na entidade gravada: se o profissional for alterado por outra
+     * requisição entre a leitura e a gravação, o bloqueio otimista ({@code @Version}) rejeita a atualização com uma
+     * {@link org.springframework.orm.ObjectOptimisticLockingFailureException}.</p>
+     * 
      * <p>Este método utiliza o {@link DozerMapper} para converter o {@link ProfissionaisDTO} 
      * em uma entidade {@link Profissionais} antes de persistir no banco de dados.</p>
      * 
+     * <p>A gravação e o evento do fluxo de alterações ({@link OutboxRepository}) ocorrem na mesma transação; o índice
+     * de busca só é atualizado após o {@code commit}.</p>
+     * 
      * @param professional Dados do profissional a ser atualizado.
      * @return Resposta contendo o sucesso ou falha da operação de atualização.
      * @throws IllegalArgumentException se os dados do profissional forem inválidos.
      * @throws ResourceNotFoundException se o profissional não for encontrado para atualização.
      */
+    @Transactional
     public ApiRestResponse update(ProfissionaisDTO professional) {
         ApiRestResponse validationResponse = profissionaisValidator.validate(professional);
         
@@ -180,11 +533,15 @@ public class ProfissionaisService {
                 .orElseThrow(() -> new ResourceNotFoundException("Profissional não encontrado para atualização"));
         
         professional.setCreatedDate(existingProfessional.getCreatedDate());
+        professional.setVersion(existingProfessional.getVersion());
         
-        logger.info("Updating professional with ID " + professional.getId());
+        logger.info(LogMarkers.AUDIT, "Updating professional with ID {}", professional.getId());
         
         var converterProfessional = DozerMapper.parseObject(professional, Profissionais.class);
         profissionaisRepository.save(converterProfessional);
+        outboxRepository.record(OutboxRepository.PROFISSIONAIS, converterProfessional.getId(), Operacao.UPDATED);
+        profissionaisCache.invalidate(converterProfessional.getId());
+        profissionaisSearchIndex.index(converterProfessional);
         
         return new ApiRestResponse(true, "Cadastro alterado com sucesso!");
     }
@@ -194,7 +551,11 @@ public class ProfissionaisService {
      * 
      * <p>Este método realiza a deleção lógica de um profissional, marcando o campo {@code deleted} como verdadeiro e 
      * atribuindo a data atual ao campo {@code deletedDate}. Além disso, todos os contatos associados ao profissional 
-     * terão o campo {@code deletedProfissional} marcado como verdadeiro.</p>
+     * terão o campo {@code deletedProfissional} marcado como verdadeiro através de uma única instrução {@code UPDATE},
+     * executada na mesma transação que a deleção do profissional.</p>
+     * 
+     * <p>O profissional e os seus contatos só são removidos dos índices de busca após o {@code commit}: se a transação
+     * for revertida, eles continuam sendo encontrados nas buscas.</p>
      * 
      * <p>Se o ID fornecido não corresponder a nenhum profissional existente, uma exceção {@link ResourceNotFoundException} 
      * será lançada. O mesmo ocorrerá se o profissional já estiver marcado como deletado.</p>
@@ -203,6 +564,7 @@ public class ProfissionaisService {
      * @return Resposta contendo o sucesso da operação de deleção.
      * @throws ResourceNotFoundException se o profissional não for encontrado ou já estiver marcado como deletado.
      */
+    @Transactional
     public ApiRestResponse delete(Long id) {
         String errorMessage = "Profissional não encontrado com o ID " + id;
 
@@ -212,16 +574,64 @@ public class ProfissionaisService {
         profissional.setDeleted(true);
         profissional.setDeletedDate(new Date());
         
-        List<Contatos> contatosList = contatosRepository.findAll();
-        
-        for (Contatos contato : contatosList) {
-            if (contato.getProfissionalId().equals(id)) {
-                contato.setDeletedProfissional(true);
-                contatosRepository.save(contato);
-            }
-        }
+        outboxRepository.recordProfissionalDeleted(id);
+        int contatosCount = contatosRepository.markDeletedByProfissionalId(id);
         profissionaisRepository.save(profissional);
-        logger.info("Logically deleting professional with ID " + id + ": " + profissional.getNome());
+        profissionaisCache.invalidate(id);
+        contatosCache.invalidateIf(contato -> id.equals(contato.getProfissionalId()));
+        profissionaisSearchIndex.delete(id);
+        contatosSearchIndex.deleteByProfissional(id);
+        logger.info(LogMarkers.AUDIT, "Logically deleting professional with ID {}: {} ({} contacts)", id, profissional.getNome(),
+                contatosCount);
         return new ApiRestResponse(true, "Profissional excluído com sucesso!");
     }
+
+    private void saveChunk(List<JsonArrayReader.Item<ProfissionaisDTO>> chunk, BatchResponse response) {
+        Date createdDate = Date.from(ZonedDateTime.now(ZoneId.of("America/Sao_Paulo")).toInstant());
+        BatchItemResult[] results = new BatchItemResult[chunk.size()];
+        List<Integer> positions = new ArrayList<>(chunk.size());
+        List<Profissionais> entities = new ArrayList<>(chunk.size());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            JsonArrayReader.Item<ProfissionaisDTO> item = chunk.get(i);
+            if (item.error() != null) {
+                results[i] = BatchItemResult.failed(item.index(), item.error());
+                continue;
+            }
+            ApiRestResponse validationResponse = profissionaisValidator.validate(item.value());
+            if (!validationResponse.isSuccess()) {
+                results[i] = BatchItemResult.failed(item.index(), validationResponse.getMessage());
+                continue;
+            }
+            item.value().setId(null);
+            item.value().setCreatedDate(createdDate);
+            positions.add(i);
+            entities.add(DozerMapper.parseObject(item.value(), Profissionais.class));
+        }
+
+        if (!entities.isEmpty()) {
+            try {
+                List<Profissionais> saved = transactionTemplate.execute(status -> {
+                    List<Profissionais> savedEntities = profissionaisRepository.saveAll(entities);
+                    outboxRepository.recordAll(OutboxRepository.PROFISSIONAIS,
+                            savedEntities.stream().map(Profissionais::getId).toList(), Operacao.CREATED);
+                    return savedEntities;
+                });
+                profissionaisSearchIndex.indexAll(saved);
+                for (int i = 0; i < saved.size(); i++) {
+                    int position = positions.get(i);
+                    results[position] = BatchItemResult.created(chunk.get(position).index(), saved.get(i).getId());
+                }
+            } catch (DataAccessException ex) {
+                logger.warn("Failed to save batch of {} professionals: {}", entities.size(), ex.getMessage());
+                for (int position : positions) {
+                    results[position] = BatchItemResult.failed(chunk.get(position).index(), "Falha ao gravar o profissional.");
+                }
+            }
+        }
+
+        for (BatchItemResult result : results) {
+            response.add(result);
+        }
+    }
 }
@@ -5,6 +5,8 @@ import java.util.Set;
 import org.springframework.stereotype.Component;
 
 import br.com.maicon.utils.ApiRestResponse;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 
@@ -15,10 +17,30 @@ import jakarta.validation.Validator;
  * Esta classe fornece um método genérico de validação que pode ser reutilizado
  * em diferentes validadores, permitindo a validação de qualquer tipo de classe.
  * </p>
+ * 
+ * <p>
+ * A duração de cada validação, inclusive das que falham, é registrada no {@link Timer} {@value #METRIC_NAME}
+ * do registro global do Micrometer, com a tag {@code type} (classe validada).
+ * </p>
  */
 @Component
 public class ValidatorBase<T> {
 
+    /**
+     * Nome da métrica com a duração das validações.
+     */
+    public static final String METRIC_NAME = "app.validation";
+
+    private static final ClassValue<Timer> TIMERS = new ClassValue<>() {
+        @Override
+        protected Timer computeValue(Class<?> type) {
+            return Timer.builder(METRIC_NAME)
+                    .description("Time spent in Bean Validation of request DTOs")
+                    .tag("type", type.getSimpleName())
+                    .register(Metrics.globalRegistry);
+        }
+    };
+
     private final Validator validator;
 
     /**
@@ -37,6 +59,10 @@ public class ValidatorBase<T> {
      * @return {@link ApiRestResponse} com o resultado da validação.
      */
     public ApiRestResponse validateBase(T entity) {
+        return TIMERS.get(entity.getClass()).record(() -> validate(entity));
+    }
+
+    private ApiRestResponse validate(T entity) {
         Set<ConstraintViolation<T>> violations = validator.validate(entity);
         if (!violations.isEmpty()) {
             StringBuilder errorMessage = new StringBuilder("Erros de validação: ");
@@ -0,0 +1,63 @@
+package br.com.maicon.utils;
+
+import lombok.Data;
+
+/**
+ * Classe que representa o resultado de um item de uma requisição de criação em lote.
+ *
+ * <b>Campos:</b>
+ * <ul>
+ *   <li>{@link #index}: Posição do item no array JSON recebido, iniciando em zero.</li>
+ *   <li>{@link #success}: Indica se o item foi gravado.</li>
+ *   <li>{@link #id}: ID gerado para o item, ou {@code null} se ele não foi gravado.</li>
+ *   <li>{@link #message}: Mensagem de erro do item, ou {@code null} se ele foi gravado.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Data
+public class BatchItemResult {
+
+    /**
+     * Posição do item no array JSON recebido, iniciando em zero.
+     */
+    private final int index;
+
+    /**
+     * Indica se o item foi gravado.
+     */
+    private final boolean success;
+
+    /**
+     * ID gerado para o item, ou {@code null} se ele não foi gravado.
+     */
+    private final Long id;
+
+    /**
+     * Mensagem de erro do item, ou {@code null} se ele foi gravado.
+     */
+    private final String message;
+
+    /**
+     * Cria o resultado de um item gravado com sucesso.
+     *
+     * @param index Posição do item no array JSON recebido.
+     * @param id ID gerado para o item.
+     * @return O resultado do item.
+     */
+    public static BatchItemResult created(int index, Long id) {
+        return new BatchItemResult(index, true, id, null);
+    }
+
+    /**
+     * Cria o resultado de um item rejeitado.
+     *
+     * @param index Posição do item no array JSON recebido.
+     * @param message Motivo da rejeição.
+     * @return O resultado do item.
+     */
+    public static BatchItemResult failed(int index, String message) {
+        return new BatchItemResult(index, false, null, message);
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.maicon.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Data;
+
+/**
+ * Classe que representa a resposta de uma requisição de criação em lote.
+ *
+ * <p>Os itens do lote são tratados de forma independente: um item inválido não impede a gravação dos demais.
+ * O resultado de cada item é informado em {@link #items}, na mesma ordem do array JSON recebido.</p>
+ *
+ * <b>Campos:</b>
+ * <ul>
+ *   <li>{@link #created}: Quantidade de itens gravados.</li>
+ *   <li>{@link #failed}: Quantidade de itens rejeitados.</li>
+ *   <li>{@link #items}: Resultado de cada item do lote.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Data
+public class BatchResponse {
+
+    /**
+     * Quantidade de itens gravados.
+     */
+    private int created;
+
+    /**
+     * Quantidade de itens rejeitados.
+     */
+    private int failed;
+
+    /**
+     * Resultado de cada item do lote.
+     */
+    private final List<BatchItemResult> items = new ArrayList<>();
+
+    /**
+     * Registra o resultado de um item e atualiza os contadores.
+     *
+     * @param result Resultado do item.
+     */
+    public void add(BatchItemResult result) {
+        items.add(result);
+        if (result.isSuccess()) {
+            created++;
+        } else {
+            failed++;
+        }
+    }
+
+    /**
+     * Indica se todos os itens do lote foram gravados.
+     *
+     * @return {@code true} se nenhum item foi rejeitado.
+     */
+    @JsonIgnore
+    public boolean isComplete() {
+        return failed == 0;
+    }
+}
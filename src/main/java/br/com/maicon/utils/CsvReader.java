@@ -0,0 +1,140 @@
+package br.com.maicon.utils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import br.com.maicon.exception.BadRequestException;
+
+/**
+ * Leitor incremental de arquivos CSV (RFC 4180) para os endpoints de importação.
+ *
+ * <p>Os registros são lidos um a um a partir do {@link Reader}, sem que o arquivo completo seja carregado
+ * em memória. O formato aceito é o mesmo produzido por {@link ExportWriter}: campos separados por vírgula,
+ * opcionalmente entre aspas duplas (com aspas internas duplicadas), e registros separados por {@code \n}
+ * ou {@code \r\n}.</p>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>Campos entre aspas podem conter vírgulas e quebras de linha; por isso {@link #getLineNumber()} informa
+ *       a linha física em que o último registro começou.</li>
+ *   <li>Uma marca de ordem de bytes (BOM) no início do arquivo é ignorada.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public class CsvReader implements Closeable {
+
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private int pushedBack = NONE;
+    private boolean started;
+    private long line = 1;
+    private long recordLine;
+
+    /**
+     * Construtor que inicializa o leitor.
+     *
+     * @param reader {@link Reader} de origem.
+     */
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Lê o próximo registro.
+     *
+     * @return Os campos do registro, ou {@code null} se o fim do arquivo foi atingido. Uma linha em branco
+     *         é retornada como um registro com um único campo vazio.
+     * @throws IOException se ocorrer um erro de leitura.
+     * @throws BadRequestException se um campo entre aspas não for finalizado.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = read();
+            }
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new BadRequestException("Aspas não finalizadas no registro da linha " + recordLine + ".");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushedBack = next;
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Retorna a linha física em que o último registro lido começou.
+     *
+     * @return O número da linha, iniciando em 1.
+     */
+    public long getLineNumber() {
+        return recordLine;
+    }
+
+    /**
+     * Fecha o {@link Reader} de origem.
+     *
+     * @throws IOException se ocorrer um erro ao fechar o {@link Reader}.
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.maicon.utils;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.MediaType;
+
+import br.com.maicon.exception.BadRequestException;
+
+/**
+ * Formatos suportados pelos endpoints de exportação.
+ *
+ * <p>Cada formato define o tipo de mídia da resposta e a extensão do arquivo sugerido ao cliente.</p>
+ *
+ * <b>Valores:</b>
+ * <ul>
+ *   <li>{@link #NDJSON}: Um objeto JSON por linha ({@code application/x-ndjson}).</li>
+ *   <li>{@link #CSV}: Valores separados por vírgula com linha de cabeçalho ({@code text/csv}).</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public enum ExportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    /**
+     * Retorna o tipo de mídia da resposta.
+     *
+     * @return O tipo de mídia do formato.
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Retorna a extensão do arquivo exportado.
+     *
+     * @return A extensão do arquivo, sem o ponto.
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Converte o valor do parâmetro {@code format} no formato correspondente.
+     *
+     * @param format Nome do formato ({@code ndjson} ou {@code csv}), sem diferenciar maiúsculas/minúsculas.
+     * @return O formato correspondente.
+     * @throws BadRequestException se o formato não for suportado.
+     */
+    public static ExportFormat from(String format) {
+        for (ExportFormat value : values()) {
+            if (value.extension.equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new BadRequestException("Formato de exportação não suportado: " + format + ". Utilize ndjson ou csv.");
+    }
+}
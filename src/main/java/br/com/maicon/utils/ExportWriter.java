@@ -0,0 +1,127 @@
+package br.com.maicon.utils;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+/**
+ * Escritor incremental de registros para os endpoints de exportação.
+ *
+ * <p>Cada registro é serializado e enviado ao {@link OutputStream} assim que é recebido, sem acumular
+ * a lista completa em memória. O consumo de memória é constante, independentemente da quantidade de registros.</p>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>A serialização utiliza o {@link ObjectMapper} da aplicação, respeitando as anotações Jackson dos DTOs
+ *       (como {@code @JsonFormat} e {@code @JsonIgnore}).</li>
+ *   <li>No formato {@link ExportFormat#CSV}, as colunas são as mesmas propriedades serializadas em JSON, na mesma ordem.</li>
+ *   <li>O método {@link #close()} descarrega os dados pendentes, mas não fecha o {@link OutputStream} de destino.</li>
+ * </ul>
+ *
+ * @param <T> O tipo do DTO exportado.
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public class ExportWriter<T> implements Closeable {
+
+    private final ExportFormat format;
+    private final ObjectMapper mapper;
+    private final ObjectWriter objectWriter;
+    private final List<String> columns;
+    private final JsonGenerator generator;
+    private final Writer writer;
+
+    /**
+     * Construtor que prepara o escritor e, no formato CSV, escreve a linha de cabeçalho.
+     *
+     * @param mapper {@link ObjectMapper} utilizado na serialização.
+     * @param format Formato de exportação.
+     * @param out {@link OutputStream} de destino.
+     * @param type Classe do DTO exportado.
+     * @throws IOException se ocorrer um erro de escrita.
+     */
+    public ExportWriter(ObjectMapper mapper, ExportFormat format, OutputStream out, Class<T> type) throws IOException {
+        this.format = format;
+        this.mapper = mapper;
+        this.objectWriter = mapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.columns = mapper.getSerializationConfig()
+                .introspect(mapper.constructType(type))
+                .findProperties().stream()
+                .filter(BeanPropertyDefinition::couldSerialize)
+                .map(BeanPropertyDefinition::getName)
+                .toList();
+
+        if (format == ExportFormat.NDJSON) {
+            this.writer = null;
+            this.generator = mapper.getFactory().createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        } else {
+            this.generator = null;
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeCsvLine(columns);
+        }
+    }
+
+    /**
+     * Serializa um registro no formato configurado.
+     *
+     * @param dto Registro a ser exportado.
+     * @throws IOException se ocorrer um erro de escrita.
+     */
+    public void write(T dto) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            objectWriter.writeValue(generator, dto);
+            generator.writeRaw('\n');
+            return;
+        }
+
+        JsonNode node = mapper.valueToTree(dto);
+        writeCsvLine(columns.stream()
+                .map(column -> node.hasNonNull(column) ? node.get(column).asText() : "")
+                .toList());
+    }
+
+    /**
+     * Descarrega os dados pendentes sem fechar o {@link OutputStream} de destino.
+     *
+     * @throws IOException se ocorrer um erro de escrita.
+     */
+    @Override
+    public void close() throws IOException {
+        if (generator != null) {
+            generator.close();
+        } else {
+            writer.flush();
+        }
+    }
+
+    private void writeCsvLine(List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
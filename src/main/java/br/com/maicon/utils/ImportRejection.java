@@ -0,0 +1,29 @@
+package br.com.maicon.utils;
+
+import lombok.Data;
+
+/**
+ * Classe que representa uma linha rejeitada em uma importação de arquivo.
+ *
+ * <b>Campos:</b>
+ * <ul>
+ *   <li>{@link #line}: Linha do arquivo em que o registro rejeitado começa.</li>
+ *   <li>{@link #message}: Motivo da rejeição.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Data
+public class ImportRejection {
+
+    /**
+     * Linha do arquivo em que o registro rejeitado começa.
+     */
+    private final long line;
+
+    /**
+     * Motivo da rejeição.
+     */
+    private final String message;
+}
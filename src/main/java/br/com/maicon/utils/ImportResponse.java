@@ -0,0 +1,79 @@
+package br.com.maicon.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * Classe que representa a resposta de uma importação de arquivo.
+ *
+ * <b>Campos:</b>
+ * <ul>
+ *   <li>{@link #imported}: Quantidade de registros importados.</li>
+ *   <li>{@link #rejected}: Quantidade de registros rejeitados.</li>
+ *   <li>{@link #rejections}: Linhas rejeitadas e seus motivos, ordenadas pela linha.</li>
+ * </ul>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>Para que a resposta tenha tamanho limitado, apenas as primeiras {@value #MAX_REPORTED_REJECTIONS} rejeições
+ *       são detalhadas em {@link #rejections}; {@link #rejected} contabiliza todas.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Data
+public class ImportResponse {
+
+    /**
+     * Quantidade máxima de rejeições detalhadas na resposta.
+     */
+    public static final int MAX_REPORTED_REJECTIONS = 1000;
+
+    /**
+     * Quantidade de registros importados.
+     */
+    private long imported;
+
+    /**
+     * Quantidade de registros rejeitados.
+     */
+    private long rejected;
+
+    /**
+     * Linhas rejeitadas e seus motivos, ordenadas pela linha.
+     */
+    private final List<ImportRejection> rejections = new ArrayList<>();
+
+    /**
+     * Contabiliza registros importados.
+     *
+     * @param count Quantidade de registros importados.
+     */
+    public void addImported(long count) {
+        imported += count;
+    }
+
+    /**
+     * Registra uma linha rejeitada.
+     *
+     * @param line Linha do arquivo em que o registro rejeitado começa.
+     * @param message Motivo da rejeição.
+     */
+    public void reject(long line, String message) {
+        rejected++;
+        if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+            rejections.add(new ImportRejection(line, message));
+        }
+    }
+
+    /**
+     * Ordena as rejeições detalhadas pela linha do arquivo.
+     */
+    public void sortRejections() {
+        rejections.sort(Comparator.comparingLong(ImportRejection::getLine));
+    }
+}
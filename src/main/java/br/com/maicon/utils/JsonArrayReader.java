@@ -0,0 +1,107 @@
+package br.com.maicon.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.maicon.exception.BadRequestException;
+
+/**
+ * Leitor incremental de arrays JSON para os endpoints de criação em lote.
+ *
+ * <p>O corpo da requisição é lido elemento a elemento com a API de streaming do Jackson e entregue em blocos
+ * de tamanho fixo, sem que o array completo seja carregado em memória. Cada elemento é convertido de forma
+ * independente: um elemento que não pode ser convertido para o tipo esperado é entregue com uma mensagem de erro,
+ * sem interromper a leitura dos demais.</p>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>Um corpo que não seja um array JSON bem formado resulta em {@link BadRequestException}. Os blocos
+ *       entregues antes do erro já terão sido processados.</li>
+ *   <li>O {@link InputStream} não é fechado pelo leitor.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+public final class JsonArrayReader {
+
+    /**
+     * Quantidade de elementos entregue por bloco.
+     */
+    public static final int CHUNK_SIZE = 1000;
+
+    /**
+     * Elemento lido do array.
+     *
+     * @param <T> O tipo do elemento.
+     * @param index Posição do elemento no array, iniciando em zero.
+     * @param value Elemento convertido, ou {@code null} se a conversão falhou.
+     * @param error Mensagem de erro da conversão, ou {@code null} se ela foi bem-sucedida.
+     */
+    public record Item<T>(int index, T value, String error) {
+    }
+
+    private JsonArrayReader() {
+    }
+
+    /**
+     * Lê o array JSON e entrega os elementos em blocos de até {@link #CHUNK_SIZE} itens.
+     *
+     * @param <T> O tipo dos elementos.
+     * @param mapper {@link ObjectMapper} utilizado na conversão dos elementos.
+     * @param in Corpo da requisição.
+     * @param type Classe dos elementos.
+     * @param chunkConsumer Função que processa cada bloco.
+     * @throws IOException se ocorrer um erro de leitura.
+     * @throws BadRequestException se o corpo não for um array JSON bem formado.
+     */
+    public static <T> void read(ObjectMapper mapper, InputStream in, Class<T> type, Consumer<List<Item<T>>> chunkConsumer) throws IOException {
+        try (JsonParser parser = mapper.createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BadRequestException("O corpo da requisição deve ser um array JSON.");
+            }
+
+            List<Item<T>> chunk = new ArrayList<>(CHUNK_SIZE);
+            int index = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new BadRequestException("O array JSON não foi finalizado.");
+                }
+                chunk.add(convert(mapper, mapper.readTree(parser), type, index++));
+                if (chunk.size() == CHUNK_SIZE) {
+                    chunkConsumer.accept(chunk);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(chunk);
+            }
+        } catch (JsonProcessingException ex) {
+            throw new BadRequestException("JSON inválido: " + ex.getOriginalMessage());
+        }
+    }
+
+    private static <T> Item<T> convert(ObjectMapper mapper, JsonNode node, Class<T> type, int index) {
+        if (node == null || !node.isObject()) {
+            return new Item<>(index, null, "O item deve ser um objeto JSON.");
+        }
+        try {
+            return new Item<>(index, mapper.treeToValue(node, type), null);
+        } catch (JsonProcessingException ex) {
+            return new Item<>(index, null, "Item inválido: " + ex.getOriginalMessage());
+        } catch (IllegalArgumentException ex) {
+            return new Item<>(index, null, "Item inválido: " + ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package br.com.maicon.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import br.com.maicon.exception.BadRequestException;
+import lombok.Data;
+
+/**
+ * Classe que representa uma página de resultados obtida por paginação baseada em cursor (keyset).
+ *
+ * <p>Em vez de utilizar {@code OFFSET}, cada página é buscada a partir do último ID da página anterior
+ * ({@code WHERE id > :after ORDER BY id}), o que permite ao banco de dados utilizar o índice da chave
+ * primária e manter a latência constante independentemente do tamanho das tabelas.</p>
+ *
+ * <b>Campos:</b>
+ * <ul>
+ *   <li>{@link #content}: Registros da página atual.</li>
+ *   <li>{@link #nextCursor}: Cursor opaco para a próxima página, ou {@code null} se esta for a última.</li>
+ * </ul>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>O tamanho da página é limitado a {@link #MAX_LIMIT} registros, independentemente do valor solicitado pelo cliente.</li>
+ *   <li>Os repositórios devem buscar {@code limit + 1} registros para que seja possível saber se existe uma próxima página
+ *       sem executar uma consulta de contagem.</li>
+ * </ul>
+ *
+ * @param <T> O tipo dos registros da página.
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Data
+public class KeysetPage<T> {
+
+    /**
+     * Tamanho de página utilizado quando o cliente não informa o parâmetro {@code limit}.
+     */
+    public static final int DEFAULT_LIMIT = 50;
+
+    /**
+     * Tamanho máximo de página aceito pelo servidor.
+     */
+    public static final int MAX_LIMIT = 200;
+
+    /**
+     * Nome do cabeçalho HTTP que contém o cursor opaco da próxima página.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * Registros da página atual.
+     */
+    private final List<T> content;
+
+    /**
+     * Cursor opaco para a próxima página, ou {@code null} se esta for a última.
+     */
+    private final String nextCursor;
+
+    /**
+     * Construtor que inicializa a página com seus registros e o cursor da próxima página.
+     *
+     * @param content Registros da página atual.
+     * @param nextCursor Cursor opaco para a próxima página, ou {@code null} se esta for a última.
+     */
+    public KeysetPage(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Monta uma página a partir dos registros buscados com {@code limit + 1} itens.
+     *
+     * <p>Se mais de {@code limit} registros forem fornecidos, o excedente é descartado e o ID do último
+     * registro mantido é codificado como cursor da próxima página.</p>
+     *
+     * @param <T> O tipo dos registros da página.
+     * @param rows Registros buscados no repositório (até {@code limit + 1}).
+     * @param limit Tamanho da página solicitado.
+     * @param idExtractor Função que extrai o ID de um registro.
+     * @return A página montada.
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int limit, Function<T, Long> idExtractor) {
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> content = new ArrayList<>(rows.subList(0, limit));
+        return new KeysetPage<>(content, encodeCursor(idExtractor.apply(content.get(limit - 1))));
+    }
+
+    /**
+     * Resolve o tamanho de página a ser utilizado, aplicando o valor padrão e o limite máximo do servidor.
+     *
+     * @param limit Tamanho de página solicitado pelo cliente (opcional).
+     * @return Tamanho de página entre 1 e {@link #MAX_LIMIT}.
+     * @throws BadRequestException se o tamanho solicitado for menor que 1.
+     */
+    public static int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new BadRequestException("O parâmetro limit deve ser maior que zero.");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * Codifica um ID como cursor opaco.
+     *
+     * @param id ID do último registro da página.
+     * @return Cursor opaco em Base64 (URL safe).
+     */
+    public static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor opaco para o ID a partir do qual a próxima página deve ser buscada.
+     *
+     * @param cursor Cursor opaco recebido do cliente (opcional).
+     * @return O ID decodificado, ou {@code 0} se nenhum cursor for informado.
+     * @throws BadRequestException se o cursor for inválido.
+     */
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            long id = Long.parseLong(decoded);
+            if (id < 0) {
+                throw new BadRequestException("Cursor de paginação inválido.");
+            }
+            return id;
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Cursor de paginação inválido.");
+        }
+    }
+
+    /**
+     * Indica se existe uma próxima página.
+     *
+     * @return {@code true} se houver uma próxima página.
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Monta os cabeçalhos HTTP de navegação da página.
+     *
+     * <p>Quando existe uma próxima página, são incluídos o cabeçalho {@code Link} com {@code rel="next"},
+     * apontando para a requisição atual com os parâmetros {@code after} e {@code limit} atualizados,
+     * e o cabeçalho {@value #NEXT_CURSOR_HEADER} com o cursor opaco.</p>
+     *
+     * @param limit Tamanho da página utilizado na requisição atual.
+     * @return Cabeçalhos HTTP de navegação.
+     */
+    public HttpHeaders toHeaders(int limit) {
+        return hasNext() ? toHeaders(limit, ServletUriComponentsBuilder.fromCurrentRequest()) : new HttpHeaders();
+    }
+
+    /**
+     * Monta os cabeçalhos HTTP de navegação da página a partir da URI da requisição atual.
+     *
+     * <p>Utilizado fora do contexto de uma requisição Spring MVC, como nos endpoints da API reativa, em que a
+     * requisição atual não está associada à thread.</p>
+     *
+     * @param limit Tamanho da página utilizado na requisição atual.
+     * @param currentRequest URI da requisição atual.
+     * @return Cabeçalhos HTTP de navegação.
+     */
+    public HttpHeaders toHeaders(int limit, UriComponentsBuilder currentRequest) {
+        HttpHeaders headers = new HttpHeaders();
+        if (hasNext()) {
+            String nextUri = currentRequest
+                    .replaceQueryParam("after", nextCursor)
+                    .replaceQueryParam("limit", limit)
+                    .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + nextUri + ">; rel=\"next\"");
+            headers.add(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.maicon.utils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import lombok.Data;
+
+/**
+ * Validadores de cache HTTP ({@code ETag} e {@code Last-Modified}) de um recurso ou de uma listagem.
+ *
+ * <p>Os controladores comparam estes valores com os cabeçalhos {@code If-None-Match} e {@code If-Modified-Since} da
+ * requisição através de {@link org.springframework.web.context.request.WebRequest#checkNotModified(String, long)}
+ * e respondem HTTP 304 (Not Modified), sem corpo, quando o cliente já possui a representação atual.</p>
+ *
+ * <b>Considerações:</b>
+ * <ul>
+ *   <li>A ETag de um registro é forte e formada pelo ID e pela versão ({@code @Version}) da entidade.</li>
+ *   <li>A ETag de uma listagem é formada pela quantidade de registros e pelo instante da alteração mais recente,
+ *       em microssegundos: inclusões e alterações avançam esse instante, e exclusões alteram a quantidade.</li>
+ *   <li>{@link #lastModified} é {@code -1} quando não há data de alteração, caso em que apenas a ETag é considerada.</li>
+ * </ul>
+ *
+ * @author Maicon
+ * @version 1.0
+ */
+@Data
+public class ResourceVersion {
+
+    /**
+     * ETag entre aspas, pronta para ser enviada no cabeçalho HTTP.
+     */
+    private final String eTag;
+
+    /**
+     * Data da última alteração, em milissegundos desde a época, ou {@code -1} se desconhecida.
+     */
+    private final long lastModified;
+
+    /**
+     * Construtor que inicializa os validadores.
+     *
+     * @param eTag ETag entre aspas.
+     * @param lastModified Data da última alteração, em milissegundos desde a época, ou {@code -1} se desconhecida.
+     */
+    public ResourceVersion(String eTag, long lastModified) {
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Monta os validadores de um registro.
+     *
+     * @param id ID do registro.
+     * @param version Versão do registro ({@code null} é tratado como {@code 0}).
+     * @param updatedDate Data da última alteração do registro (opcional).
+     * @return Os validadores do registro.
+     */
+    public static ResourceVersion of(Long id, Long version, Date updatedDate) {
+        return new ResourceVersion("\"" + id + "-" + (version == null ? 0L : version) + "\"",
+                updatedDate == null ? -1L : updatedDate.getTime());
+    }
+
+    /**
+     * Monta os validadores de uma listagem.
+     *
+     * @param total Quantidade de registros da listagem.
+     * @param lastModified Instante da alteração mais recente entre os registros, ou {@code null} se não houver registros.
+     * @return Os validadores da listagem.
+     */
+    public static ResourceVersion ofCollection(long total, Instant lastModified) {
+        long micros = lastModified == null ? 0L : ChronoUnit.MICROS.between(Instant.EPOCH, lastModified);
+        return new ResourceVersion("\"" + total + "-" + Long.toHexString(micros) + "\"",
+                lastModified == null ? -1L : lastModified.toEpochMilli());
+    }
+
+    /**
+     * Combina estes validadores com os de um recurso incluído na mesma representação.
+     *
+     * <p>Utilizado quando a resposta expande recursos relacionados, como os contatos de um profissional: a ETag
+     * resultante muda sempre que qualquer uma das partes mudar. O {@code Last-Modified} resultante é a data mais recente
+     * entre as partes, ou {@code -1} se alguma delas for desconhecida.</p>
+     *
+     * @param other Os validadores do recurso incluído.
+     * @return Os validadores combinados.
+     */
+    public ResourceVersion combine(ResourceVersion other) {
+        String combined = eTag.substring(0, eTag.length() - 1) + "+" + other.eTag.substring(1);
+        long modified = lastModified < 0 || other.lastModified < 0 ? -1L : Math.max(lastModified, other.lastModified);
+        return new ResourceVersion(combined, modified);
+    }
+}
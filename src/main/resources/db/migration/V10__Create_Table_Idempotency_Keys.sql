@@ -0,0 +1,22 @@
+BEGIN;
+
+-- Respostas das criações enviadas com o cabeçalho Idempotency-Key. Uma nova tentativa com a mesma chave recebe a
+-- resposta gravada, sem que o registro seja criado novamente. As chaves expiram após app.idempotency.ttl e são
+-- removidas periodicamente pela aplicação.
+-- escopo: recurso da criação (profissionais ou contatos), para que a mesma chave possa ser usada em ambos.
+-- request_hash: SHA-256 do corpo da requisição, que impede o reuso da chave com outro conteúdo.
+CREATE TABLE IF NOT EXISTS public.idempotency_keys
+(
+    escopo character varying(20) NOT NULL,
+    idempotency_key character varying(255) NOT NULL,
+    request_hash character(64) NOT NULL,
+    message text,
+    created_date timestamp(6) with time zone NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT idempotency_keys_pkey PRIMARY KEY (escopo, idempotency_key)
+);
+
+-- Permite remover as chaves expiradas sem varrer a tabela.
+CREATE INDEX IF NOT EXISTS idempotency_keys_created_date_idx
+    ON public.idempotency_keys USING btree (created_date);
+
+END;
@@ -0,0 +1,40 @@
+BEGIN;
+
+-- Eventos de alteração de profissionais e contatos (outbox transacional). Cada criação, atualização ou deleção grava
+-- o seu evento na mesma transação que a alteração, de modo que um evento existe se, e somente se, a alteração foi
+-- confirmada. Os eventos são enviados aos clientes do endpoint /api/changes/v1/stream.
+-- posicao: posição do evento no fluxo de alterações, atribuída pela publicação (ver outbox_publication). As posições
+--          são sequenciais e sem lacunas, na ordem de publicação, e são o Last-Event-ID dos clientes.
+CREATE TABLE IF NOT EXISTS public.outbox_events
+(
+    id bigserial NOT NULL,
+    recurso character varying(20) NOT NULL,
+    recurso_id bigint NOT NULL,
+    operacao character varying(10) NOT NULL,
+    created_date timestamp(6) with time zone NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    posicao bigint,
+    CONSTRAINT outbox_events_pkey PRIMARY KEY (id),
+    CONSTRAINT outbox_events_posicao_key UNIQUE (posicao)
+);
+
+-- Permite encontrar os eventos ainda não publicados sem varrer a tabela.
+CREATE INDEX IF NOT EXISTS outbox_events_pendentes_idx
+    ON public.outbox_events USING btree (id) WHERE posicao IS NULL;
+
+-- Permite remover os eventos expirados sem varrer a tabela.
+CREATE INDEX IF NOT EXISTS outbox_events_created_date_idx
+    ON public.outbox_events USING btree (created_date);
+
+-- Registro único com a última posição publicada. A publicação bloqueia este registro com FOR UPDATE SKIP LOCKED:
+-- apenas uma instância da aplicação publica por vez, e as demais seguem sem aguardar.
+CREATE TABLE IF NOT EXISTS public.outbox_publication
+(
+    id smallint NOT NULL,
+    last_posicao bigint NOT NULL DEFAULT 0,
+    CONSTRAINT outbox_publication_pkey PRIMARY KEY (id),
+    CONSTRAINT outbox_publication_single_row CHECK (id = 1)
+);
+
+INSERT INTO public.outbox_publication (id, last_posicao) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
+
+END;
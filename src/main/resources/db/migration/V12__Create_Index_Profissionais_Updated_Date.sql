@@ -0,0 +1,8 @@
+BEGIN;
+
+-- O índice profissionais_active_updated_date_idx (V8) é parcial e não inclui os profissionais deletados; a
+-- sincronização do índice de busca na inicialização lê também as deleções (WHERE updated_date >= :since).
+CREATE INDEX IF NOT EXISTS profissionais_updated_date_idx
+    ON public.profissionais USING btree (updated_date);
+
+END;
@@ -0,0 +1,43 @@
+BEGIN;
+
+-- Busca por termo (parâmetro q): trigramas para substring/similaridade e tsvector para busca textual,
+-- ambos sobre o texto em letras minúsculas e sem acentos.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() é STABLE; o wrapper IMMUTABLE com dicionário explícito permite o uso em colunas geradas e índices.
+CREATE OR REPLACE FUNCTION public.f_unaccent(text)
+    RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$
+    SELECT public.unaccent('public.unaccent'::regdictionary, $1)
+$$;
+
+ALTER TABLE IF EXISTS public.profissionais
+    ADD COLUMN search_text text
+        GENERATED ALWAYS AS (public.f_unaccent(lower(nome || ' ' || cargo))) STORED,
+    ADD COLUMN search_vector tsvector
+        GENERATED ALWAYS AS (to_tsvector('simple', public.f_unaccent(lower(nome || ' ' || cargo)))) STORED;
+
+CREATE INDEX IF NOT EXISTS profissionais_search_text_trgm_idx
+    ON public.profissionais USING gin (search_text gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS profissionais_search_vector_idx
+    ON public.profissionais USING gin (search_vector);
+
+CREATE INDEX IF NOT EXISTS profissionais_nascimento_idx
+    ON public.profissionais (nascimento);
+
+ALTER TABLE IF EXISTS public.contatos
+    ADD COLUMN search_text text
+        GENERATED ALWAYS AS (public.f_unaccent(lower(nome || ' ' || contato))) STORED,
+    ADD COLUMN search_vector tsvector
+        GENERATED ALWAYS AS (to_tsvector('simple', public.f_unaccent(lower(nome || ' ' || contato)))) STORED;
+
+CREATE INDEX IF NOT EXISTS contatos_search_text_trgm_idx
+    ON public.contatos USING gin (search_text gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS contatos_search_vector_idx
+    ON public.contatos USING gin (search_vector);
+
+END;
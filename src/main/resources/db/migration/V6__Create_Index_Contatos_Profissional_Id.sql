@@ -0,0 +1,8 @@
+BEGIN;
+
+-- A chave estrangeira contatos.profissional_id não cria índice no PostgreSQL; sem ele, a exclusão lógica
+-- de um profissional (UPDATE contatos ... WHERE profissional_id = :id) exigiria uma varredura completa da tabela.
+CREATE INDEX IF NOT EXISTS contatos_profissional_id_idx
+    ON public.contatos USING btree (profissional_id);
+
+END;
@@ -0,0 +1,19 @@
+BEGIN;
+
+-- As entidades passaram a gerar IDs com o otimizador pooled do Hibernate (allocationSize = 50): cada nextval
+-- reserva um bloco de 50 IDs, permitindo o agrupamento dos INSERTs em lotes JDBC. O incremento das sequências
+-- deve ser igual ao allocationSize das entidades.
+ALTER SEQUENCE IF EXISTS public.profissionais_id_seq INCREMENT BY 50;
+
+-- A coluna contatos.id foi criada como serial (integer), e seu DEFAULT nextval('contatos_id_seq') é mantido: os
+-- INSERTs feitos fora do Hibernate continuam recebendo IDs que não colidem com os blocos reservados pela aplicação,
+-- mas consomem um bloco de 50 valores cada. Para que esse consumo não esgote a faixa de integer, contatos.id, a
+-- chave estrangeira contatos.profissional_id (que referencia profissionais.id, bigint) e a própria sequência passam
+-- a bigint, como em profissionais. A importação em massa de contatos reserva os IDs em blocos, como o Hibernate.
+ALTER TABLE IF EXISTS public.contatos
+    ALTER COLUMN id TYPE bigint,
+    ALTER COLUMN profissional_id TYPE bigint;
+
+ALTER SEQUENCE IF EXISTS public.contatos_id_seq AS bigint INCREMENT BY 50;
+
+END;
@@ -0,0 +1,23 @@
+BEGIN;
+
+-- version: contador de bloqueio otimista (@Version), base da ETag de cada registro.
+-- updated_date: instante da última alteração; o maior valor, junto com a contagem de registros,
+-- compõe a ETag e o Last-Modified das listagens.
+ALTER TABLE IF EXISTS public.profissionais
+    ADD COLUMN version bigint NOT NULL DEFAULT 0,
+    ADD COLUMN updated_date timestamp(6) with time zone NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+ALTER TABLE IF EXISTS public.contatos
+    ADD COLUMN version bigint NOT NULL DEFAULT 0,
+    ADD COLUMN updated_date timestamp(6) with time zone NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+-- Permitem calcular count(*) e max(updated_date) das listagens com um index-only scan, sem ler a tabela.
+-- O predicado do índice parcial é o mesmo utilizado pelas consultas de profissionais ativos (deleted <> true).
+CREATE INDEX IF NOT EXISTS profissionais_active_updated_date_idx
+    ON public.profissionais USING btree (updated_date)
+    WHERE deleted <> true;
+
+CREATE INDEX IF NOT EXISTS contatos_updated_date_idx
+    ON public.contatos USING btree (updated_date);
+
+END;
@@ -0,0 +1,55 @@
+BEGIN;
+
+-- Agregados servidos pelo endpoint /api/stats/v1. As views são atualizadas periodicamente pela aplicação com
+-- REFRESH MATERIALIZED VIEW CONCURRENTLY, que não bloqueia as leituras e exige um índice único em cada view.
+
+-- Profissionais ativos por cargo. O predicado é o mesmo das consultas de profissionais ativos (deleted <> true).
+CREATE MATERIALIZED VIEW IF NOT EXISTS public.estatisticas_profissionais_por_cargo AS
+    SELECT p.cargo, count(*) AS total
+    FROM public.profissionais p
+    WHERE p.deleted <> true
+    GROUP BY p.cargo
+WITH DATA;
+
+CREATE UNIQUE INDEX IF NOT EXISTS estatisticas_profissionais_por_cargo_idx
+    ON public.estatisticas_profissionais_por_cargo USING btree (cargo);
+
+-- Distribuição da quantidade de contatos ativos por profissional ativo: quantos profissionais têm 0, 1, 2... contatos.
+CREATE MATERIALIZED VIEW IF NOT EXISTS public.estatisticas_contatos_por_profissional AS
+    SELECT t.contatos, count(*) AS profissionais
+    FROM (
+        SELECT p.id, count(c.id) AS contatos
+        FROM public.profissionais p
+        LEFT JOIN public.contatos c ON c.profissional_id = p.id AND c.deleted_profissional <> true
+        WHERE p.deleted <> true
+        GROUP BY p.id
+    ) t
+    GROUP BY t.contatos
+WITH DATA;
+
+CREATE UNIQUE INDEX IF NOT EXISTS estatisticas_contatos_por_profissional_idx
+    ON public.estatisticas_contatos_por_profissional USING btree (contatos);
+
+-- Contratações (cadastros de profissionais) por mês, incluindo os profissionais deletados posteriormente.
+CREATE MATERIALIZED VIEW IF NOT EXISTS public.estatisticas_contratacoes_por_mes AS
+    SELECT date_trunc('month', p.created_date)::date AS mes, count(*) AS total
+    FROM public.profissionais p
+    WHERE p.created_date IS NOT NULL
+    GROUP BY 1
+WITH DATA;
+
+CREATE UNIQUE INDEX IF NOT EXISTS estatisticas_contratacoes_por_mes_idx
+    ON public.estatisticas_contratacoes_por_mes USING btree (mes);
+
+-- Instante da última atualização das views, compartilhado entre as instâncias da aplicação.
+CREATE TABLE IF NOT EXISTS public.estatisticas_atualizacao
+(
+    id integer NOT NULL CHECK (id = 1),
+    atualizado_em timestamp(6) with time zone NOT NULL,
+    CONSTRAINT estatisticas_atualizacao_pkey PRIMARY KEY (id)
+);
+
+INSERT INTO public.estatisticas_atualizacao (id, atualizado_em) VALUES (1, CURRENT_TIMESTAMP)
+    ON CONFLICT (id) DO NOTHING;
+
+END;
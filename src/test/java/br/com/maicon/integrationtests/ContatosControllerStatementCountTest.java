@@ -0,0 +1,189 @@
+package br.com.maicon.integrationtests;
+
+import static br.com.maicon.integrationtests.StatementCountMatchers.sqlStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Orçamento de instruções SQL de cada endpoint do {@code ContatosController}.
+ *
+ * <p>Requer o banco de dados configurado em {@code application.yml}. Os registros de teste são criados diretamente
+ * com JDBC, fora das requisições medidas, e removidos ao final de cada teste.</p>
+ */
+@SpringBootTest(properties = "app.rate-limit.enabled=false")
+@ActiveProfiles("statement-count")
+@AutoConfigureMockMvc
+class ContatosControllerStatementCountTest {
+
+    private static final String BASE_URL = "/api/contatos/v1";
+    private static final String NAME_PREFIX = "IT Statement Count ";
+    private static final String CONTATO_JSON =
+            "{\"nome\":\"" + NAME_PREFIX + "%s\",\"contato\":\"11999999999\",\"profissionalId\":%d}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long profissionalId;
+    private Long contatoId;
+
+    @BeforeEach
+    void setUp() {
+        profissionalId = jdbcTemplate.queryForObject("""
+                INSERT INTO profissionais (nome, cargo, nascimento, created_date, deleted)
+                VALUES (?, 'Desenvolvedor', DATE '1990-01-01', CURRENT_TIMESTAMP, false) RETURNING id
+                """, Long.class, NAME_PREFIX + "Fixture");
+        contatoId = jdbcTemplate.queryForObject("""
+                INSERT INTO contatos (nome, contato, created_date, profissional_id, deleted_profissional)
+                VALUES (?, '11999999999', CURRENT_DATE, ?, false) RETURNING id
+                """, Long.class, NAME_PREFIX + "Fixture", profissionalId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM contatos WHERE profissional_id IN (SELECT id FROM profissionais WHERE nome LIKE ?)",
+                NAME_PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM profissionais WHERE nome LIKE ?", NAME_PREFIX + "%");
+    }
+
+    @Test
+    void testFindAll() throws Exception {
+        mockMvc.perform(get(BASE_URL).param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().atMost(2));
+    }
+
+    @Test
+    void testFindAllWithQuery() throws Exception {
+        mockMvc.perform(get(BASE_URL).param("q", "Statement"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().atMost(2));
+    }
+
+    @Test
+    void testExport() throws Exception {
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        sqlStatements().atMost(1).match(result);
+    }
+
+    @Test
+    void testFindById() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/" + contatoId))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().atMost(1));
+    }
+
+    @Test
+    void testCreate() throws Exception {
+        mockMvc.perform(post(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(CONTATO_JSON.formatted("Create", profissionalId)))
+                .andExpect(status().isCreated())
+                .andExpect(sqlStatements().atMost(4));
+    }
+
+    @Test
+    void testCreateBatch() throws Exception {
+        String body = "[" + CONTATO_JSON.formatted("Batch 1", profissionalId) + ","
+                + CONTATO_JSON.formatted("Batch 2", profissionalId) + ","
+                + CONTATO_JSON.formatted("Batch 3", profissionalId) + "]";
+
+        mockMvc.perform(post(BASE_URL + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(sqlStatements().atMost(5));
+    }
+
+    @Test
+    void testImportCsv() throws Exception {
+        mockMvc.perform(post(BASE_URL + "/import")
+                .contentType("text/csv")
+                .content(csv()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().atMost(5));
+    }
+
+    @Test
+    void testImportCsvFile() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "contatos.csv", "text/csv",
+                csv().getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(multipart(BASE_URL + "/import").file(file))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().atMost(5));
+    }
+
+    @Test
+    void testImportCsvAllocatesConsecutiveIds() throws Exception {
+        StringBuilder csv = new StringBuilder("nome,contato,profissionalId\n");
+        for (int line = 1; line <= 120; line++) {
+            csv.append(NAME_PREFIX).append("Import %03d,11911111111,".formatted(line)).append(profissionalId).append('\n');
+        }
+
+        mockMvc.perform(post(BASE_URL + "/import")
+                .contentType("text/csv")
+                .content(csv.toString()))
+                .andExpect(status().isOk());
+
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM contatos WHERE nome LIKE ? ORDER BY nome",
+                Long.class, NAME_PREFIX + "Import %");
+        assertEquals(120, ids.size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertEquals(ids.get(0) + i, ids.get(i));
+        }
+    }
+
+    @Test
+    void testUpdate() throws Exception {
+        mockMvc.perform(put(BASE_URL + "/" + contatoId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(CONTATO_JSON.formatted("Updated", profissionalId)))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().atMost(4));
+    }
+
+    @Test
+    void testDelete() throws Exception {
+        mockMvc.perform(delete(BASE_URL + "/" + contatoId))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().atMost(4));
+    }
+
+    private String csv() {
+        return "nome,contato,profissionalId\n"
+                + NAME_PREFIX + "Import 1,11911111111," + profissionalId + "\n"
+                + NAME_PREFIX + "Import 2,11922222222," + profissionalId + "\n"
+                + NAME_PREFIX + "Import 3,11933333333,0\n";
+    }
+}
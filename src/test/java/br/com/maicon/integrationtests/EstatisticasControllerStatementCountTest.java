@@ -0,0 +1,36 @@
+package br.com.maicon.integrationtests;
+
+import static br.com.maicon.integrationtests.StatementCountMatchers.sqlStatements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Orçamento de instruções SQL do {@code EstatisticasController}.
+ *
+ * <p>Requer o banco de dados configurado em {@code application.yml}. As estatísticas são lidas das views
+ * materializadas, com uma consulta por view e uma pelo instante da última atualização.</p>
+ */
+@SpringBootTest(properties = "app.rate-limit.enabled=false")
+@ActiveProfiles("statement-count")
+@AutoConfigureMockMvc
+class EstatisticasControllerStatementCountTest {
+
+    private static final String BASE_URL = "/api/stats/v1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testFindEstatisticas() throws Exception {
+        mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().atMost(4));
+    }
+}
@@ -0,0 +1,184 @@
+package br.com.maicon.integrationtests;
+
+import static br.com.maicon.integrationtests.StatementCountMatchers.sqlStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import br.com.maicon.services.IdempotencyService;
+
+/**
+ * Orçamento de instruções SQL de cada endpoint do {@code ProfissionaisController}.
+ *
+ * <p>Requer o banco de dados configurado em {@code application.yml}. Os registros de teste são criados diretamente
+ * com JDBC, fora das requisições medidas, e removidos ao final de cada teste.</p>
+ */
+@SpringBootTest(properties = "app.rate-limit.enabled=false")
+@ActiveProfiles("statement-count")
+@AutoConfigureMockMvc
+class ProfissionaisControllerStatementCountTest {
+
+    private static final String BASE_URL = "/api/profissionais/v1";
+    private static final String NAME_PREFIX = "IT Statement Count ";
+    private static final String PROFISSIONAL_JSON =
+            "{\"nome\":\"" + NAME_PREFIX + "%s\",\"cargo\":\"Desenvolvedor\",\"nascimento\":\"1990-01-01\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long profissionalId;
+
+    @BeforeEach
+    void setUp() {
+        profissionalId = jdbcTemplate.queryForObject("""
+                INSERT INTO profissionais (nome, cargo, nascimento, created_date, deleted)
+                VALUES (?, 'Desenvolvedor', DATE '1990-01-01', CURRENT_TIMESTAMP, false) RETURNING id
+                """, Long.class, NAME_PREFIX + "Fixture");
+        jdbcTemplate.update("""
+                INSERT INTO contatos (nome, contato, created_date, profissional_id, deleted_profissional)
+                VALUES (?, '11999999999', CURRENT_DATE, ?, false)
+                """, NAME_PREFIX + "Fixture", profissionalId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM contatos WHERE profissional_id IN (SELECT id FROM profissionais WHERE nome LIKE ?)",
+                NAME_PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM profissionais WHERE nome LIKE ?", NAME_PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key LIKE ?", NAME_PREFIX + "%");
+    }
+
+    @Test
+    void testFindAll() throws Exception {
+        mockMvc.perform(get(BASE_URL).param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().atMost(2));
+    }
+
+    @Test
+    void testFindAllWithFields() throws Exception {
+        mockMvc.perform(get(BASE_URL).param("fields", "id,nome"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().atMost(2));
+    }
+
+    @Test
+    void testFindAllWithQuery() throws Exception {
+        mockMvc.perform(get(BASE_URL).param("q", "Statement"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().atMost(2));
+    }
+
+    @Test
+    void testFindAllWithExpandContatos() throws Exception {
+        mockMvc.perform(get(BASE_URL).param("limit", "50").param("expand", "contatos"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().atMost(4));
+    }
+
+    @Test
+    void testExport() throws Exception {
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        sqlStatements().atMost(1).match(result);
+    }
+
+    @Test
+    void testFindById() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/" + profissionalId))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().atMost(1));
+    }
+
+    @Test
+    void testFindByIdWithExpandContatos() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/" + profissionalId).param("expand", "contatos"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().atMost(3));
+    }
+
+    @Test
+    void testCreate() throws Exception {
+        mockMvc.perform(post(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(PROFISSIONAL_JSON.formatted("Create")))
+                .andExpect(status().isCreated())
+                .andExpect(sqlStatements().atMost(3));
+    }
+
+    @Test
+    void testCreate_IdempotencyKey() throws Exception {
+        String idempotencyKey = NAME_PREFIX + UUID.randomUUID();
+
+        mockMvc.perform(post(BASE_URL)
+                .header(IdempotencyService.HEADER, idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(PROFISSIONAL_JSON.formatted("Idempotent")))
+                .andExpect(status().isCreated())
+                .andExpect(sqlStatements().atMost(5));
+
+        mockMvc.perform(post(BASE_URL)
+                .header(IdempotencyService.HEADER, idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(PROFISSIONAL_JSON.formatted("Idempotent")))
+                .andExpect(status().isCreated())
+                .andExpect(sqlStatements().atMost(0));
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM profissionais WHERE nome = ?", Integer.class,
+                NAME_PREFIX + "Idempotent"));
+    }
+
+    @Test
+    void testCreateBatch() throws Exception {
+        String body = "[" + PROFISSIONAL_JSON.formatted("Batch 1") + "," + PROFISSIONAL_JSON.formatted("Batch 2") + ","
+                + PROFISSIONAL_JSON.formatted("Batch 3") + "]";
+
+        mockMvc.perform(post(BASE_URL + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(sqlStatements().atMost(4));
+    }
+
+    @Test
+    void testUpdate() throws Exception {
+        mockMvc.perform(put(BASE_URL + "/" + profissionalId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(PROFISSIONAL_JSON.formatted("Updated")))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().atMost(4));
+    }
+
+    @Test
+    void testDelete() throws Exception {
+        mockMvc.perform(delete(BASE_URL + "/" + profissionalId))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().atMost(4));
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.maicon.integrationtests;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import br.com.maicon.diagnostics.StatementCounter;
+
+/**
+ * Asserções sobre a quantidade de instruções SQL executadas em uma requisição do {@code MockMvc}.
+ *
+ * <p>Exemplo: {@code mockMvc.perform(delete("/api/profissionais/v1/1")).andExpect(sqlStatements().atMost(3));}</p>
+ *
+ * <p>Em requisições assíncronas, a asserção deve ser aplicada ao resultado da requisição original após o
+ * {@code asyncDispatch}, com {@code sqlStatements().atMost(n).match(result)}.</p>
+ */
+public final class StatementCountMatchers {
+
+    private StatementCountMatchers() {}
+
+    /**
+     * Ponto de entrada das asserções.
+     *
+     * @return As asserções disponíveis.
+     */
+    public static StatementCountMatchers sqlStatements() {
+        return new StatementCountMatchers();
+    }
+
+    /**
+     * Verifica que a requisição executou no máximo a quantidade informada de instruções.
+     *
+     * @param max Quantidade máxima de instruções.
+     * @return O {@link ResultMatcher} da asserção.
+     */
+    public ResultMatcher atMost(long max) {
+        return result -> {
+            StatementCounter counter = counter(result);
+            assertTrue(counter.getTotal() <= max, () -> describe(result)
+                    + " executed " + counter.getTotal() + " SQL statements, expected at most " + max + " (" + counter + ")");
+        };
+    }
+
+    /**
+     * Verifica que a requisição executou no máximo a quantidade informada de instruções {@code SELECT}.
+     *
+     * @param max Quantidade máxima de instruções {@code SELECT}.
+     * @return O {@link ResultMatcher} da asserção.
+     */
+    public ResultMatcher selectsAtMost(long max) {
+        return result -> {
+            StatementCounter counter = counter(result);
+            assertTrue(counter.getSelect() <= max, () -> describe(result)
+                    + " executed " + counter.getSelect() + " SELECT statements, expected at most " + max + " (" + counter + ")");
+        };
+    }
+
+    /**
+     * Retorna o contador de instruções da requisição.
+     *
+     * @param result O resultado da requisição.
+     * @return O contador registrado pelo {@code StatementCountingFilter}.
+     */
+    public static StatementCounter counter(MvcResult result) {
+        StatementCounter counter = (StatementCounter) result.getRequest().getAttribute(StatementCounter.REQUEST_ATTRIBUTE);
+        assertNotNull(counter, "No statement counter found; is StatementCountingFilter registered?");
+        return counter;
+    }
+
+    private static String describe(MvcResult result) {
+        return result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+    }
+}
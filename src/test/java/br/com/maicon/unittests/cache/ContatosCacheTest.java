@@ -0,0 +1,184 @@
+package br.com.maicon.unittests.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.maicon.cache.CacheStatistics;
+import br.com.maicon.cache.ContatosCache;
+import br.com.maicon.data.dto.v1.ContatosDTO;
+import br.com.maicon.datasource.ConsistencyToken;
+import br.com.maicon.diagnostics.StatementCounter;
+import br.com.maicon.exception.ResourceNotFoundException;
+
+class ContatosCacheTest {
+
+    private ContatosCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ContatosCache(2, Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testGetLoadsOnce() {
+        // Act
+        ContatosDTO first = cache.get(1L, this::load);
+        ContatosDTO second = cache.get(1L, this::load);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        CacheStatistics stats = cache.stats();
+        assertEquals("contatos", stats.getName());
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(0.5, stats.getHitRate());
+    }
+
+    @Test
+    void testInvalidate() {
+        // Arrange
+        cache.get(1L, this::load);
+
+        // Act
+        cache.invalidate(1L);
+        cache.get(1L, this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testInvalidateIf() {
+        // Arrange
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        // Act
+        cache.invalidateIf(contato -> contato.getProfissionalId().equals(10L));
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        // Assert
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testLoaderExceptionIsNotCached() {
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> cache.get(3L, id -> {
+            throw new ResourceNotFoundException("Contato não encontrado");
+        }));
+        assertEquals(0, cache.stats().getSize());
+    }
+
+    @Test
+    void testLoaderRecordsInRequestStatementCounter() {
+        // Arrange
+        StatementCounter counter = StatementCounter.start();
+
+        // Act
+        try {
+            cache.get(1L, id -> {
+                StatementCounter.current().record("select 1");
+                return load(id);
+            });
+        } finally {
+            StatementCounter.stop();
+        }
+
+        // Assert
+        assertEquals(1, counter.getSelect());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testLoaderRequiresCurrentPrimaryPosition() {
+        // Arrange
+        long[] required = new long[1];
+
+        // Act
+        cache.get(1L, id -> {
+            required[0] = ConsistencyToken.required();
+            return load(id);
+        });
+
+        // Assert
+        assertEquals(ConsistencyToken.CURRENT_PRIMARY, required[0]);
+    }
+
+    @Test
+    void testStaleReplicaLoadAfterInvalidation() {
+        // Arrange
+        long[] required = new long[1];
+        cache.get(1L, this::load);
+
+        // Act
+        cache.invalidate(1L);
+        cache.get(1L, id -> {
+            required[0] = ConsistencyToken.required();
+            return load(id);
+        });
+
+        // Assert
+        assertEquals(ConsistencyToken.CURRENT_PRIMARY, required[0]);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testRequestWithConsistencyTokenBypassesCache() {
+        // Arrange
+        long[] required = new long[1];
+        ContatosDTO cached = cache.get(1L, this::load);
+        ConsistencyToken.require(42L);
+
+        // Act
+        ContatosDTO result;
+        try {
+            result = cache.get(1L, id -> {
+                required[0] = ConsistencyToken.required();
+                return load(id);
+            });
+        } finally {
+            ConsistencyToken.clear();
+        }
+
+        // Assert
+        assertNotSame(cached, result);
+        assertEquals(42L, required[0]);
+        assertEquals(2, loads.get());
+        assertSame(cached, cache.get(1L, this::load));
+        assertEquals(1, cache.stats().getMissCount());
+    }
+
+    @Test
+    void testEvictionBySize() {
+        // Act
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.get(3L, this::load);
+
+        // Assert
+        CacheStatistics stats = cache.stats();
+        assertEquals(2, stats.getSize());
+        assertEquals(1, stats.getEvictionCount());
+    }
+
+    private ContatosDTO load(Long id) {
+        loads.incrementAndGet();
+        ContatosDTO contato = new ContatosDTO();
+        contato.setId(id);
+        contato.setProfissionalId(id == 1L ? 10L : 20L);
+        return contato;
+    }
+}
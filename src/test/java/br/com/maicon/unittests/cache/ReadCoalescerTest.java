@@ -0,0 +1,198 @@
+package br.com.maicon.unittests.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import br.com.maicon.cache.ReadCoalescer;
+import br.com.maicon.datasource.ConsistencyToken;
+import br.com.maicon.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReadCoalescerTest {
+
+    private SimpleMeterRegistry registry;
+    private ReadCoalescer coalescer;
+    private ExecutorService executor;
+    private AtomicInteger reads;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        coalescer = new ReadCoalescer(mock(PlatformTransactionManager.class), 100, registry);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        reads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        ConsistencyToken.clear();
+    }
+
+    @Test
+    void testConcurrentIdenticalReadsShareOneExecution() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        Future<List<String>> leader = executor.submit(() -> coalescer.execute(List.of("contatos.findAll"), blockingRead(release)));
+        awaitReads(1);
+
+        // Act
+        Future<List<String>> follower = executor.submit(() -> coalescer.execute(List.of("contatos.findAll"), blockingRead(release)));
+        awaitShared(1);
+        release.countDown();
+
+        // Assert
+        assertSame(leader.get(5, TimeUnit.SECONDS), follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    void testDifferentKeysAreNotShared() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        Future<List<String>> first = executor.submit(() -> coalescer.execute(List.of("contatos.findAll", "a"), blockingRead(release)));
+        awaitReads(1);
+
+        // Act
+        Future<List<String>> second = executor.submit(() -> coalescer.execute(List.of("contatos.findAll", "b"), blockingRead(release)));
+        awaitReads(2);
+        release.countDown();
+
+        // Assert
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertEquals(2, reads.get());
+        assertEquals(0.0, registry.get(ReadCoalescer.METRIC_NAME).counter().count());
+    }
+
+    @Test
+    void testDifferentConsistencyTokensAreNotShared() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        Future<List<String>> stale = executor.submit(() -> coalescer.execute(List.of("contatos.findAll"), blockingRead(release)));
+        awaitReads(1);
+
+        // Act
+        Future<List<String>> readYourWrites = executor.submit(() -> {
+            ConsistencyToken.require(5L);
+            return coalescer.execute(List.of("contatos.findAll"), blockingRead(release));
+        });
+        awaitReads(2);
+        release.countDown();
+
+        // Assert
+        stale.get(5, TimeUnit.SECONDS);
+        readYourWrites.get(5, TimeUnit.SECONDS);
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    void testExceptionIsPropagatedToFollowers() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<List<String>> failingRead = () -> {
+            reads.incrementAndGet();
+            await(release);
+            throw new ResourceNotFoundException("Nenhum registro encontrado");
+        };
+        Future<List<String>> leader = executor.submit(() -> coalescer.execute(List.of("contatos.findAll"), failingRead));
+        awaitReads(1);
+
+        // Act
+        Future<List<String>> follower = executor.submit(() -> coalescer.execute(List.of("contatos.findAll"), failingRead));
+        awaitShared(1);
+        release.countDown();
+
+        // Assert
+        ExecutionException leaderException = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerException = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertTrue(leaderException.getCause() instanceof ResourceNotFoundException);
+        assertTrue(followerException.getCause() instanceof ResourceNotFoundException);
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    void testSequentialReadsAreExecutedAgain() {
+        // Act
+        coalescer.execute(List.of("contatos.findAll"), this::read);
+        coalescer.execute(List.of("contatos.findAll"), this::read);
+
+        // Assert
+        assertEquals(2, reads.get());
+        assertEquals(0.0, registry.get("app.coalescing.in-flight").gauge().value());
+    }
+
+    @Test
+    void testFullInFlightTableBypassesCoalescing() throws Exception {
+        // Arrange
+        coalescer = new ReadCoalescer(mock(PlatformTransactionManager.class), 1, new SimpleMeterRegistry());
+        CountDownLatch release = new CountDownLatch(1);
+        Future<List<String>> first = executor.submit(() -> coalescer.execute(List.of("contatos.findAll", "a"), blockingRead(release)));
+        awaitReads(1);
+
+        // Act
+        Future<List<String>> second = executor.submit(() -> coalescer.execute(List.of("contatos.findAll", "a"), blockingRead(release)));
+        awaitReads(2);
+        release.countDown();
+
+        // Assert
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertEquals(2, reads.get());
+    }
+
+    private List<String> read() {
+        reads.incrementAndGet();
+        return List.of("contato");
+    }
+
+    private Supplier<List<String>> blockingRead(CountDownLatch release) {
+        return () -> {
+            reads.incrementAndGet();
+            await(release);
+            return List.of("contato");
+        };
+    }
+
+    private void awaitReads(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (reads.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, reads.get());
+    }
+
+    private void awaitShared(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get(ReadCoalescer.METRIC_NAME).counter().count() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, (int) registry.get(ReadCoalescer.METRIC_NAME).counter().count());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.maicon.unittests.controllers;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import br.com.maicon.cache.ContatosCache;
+import br.com.maicon.cache.ProfissionaisCache;
+import br.com.maicon.controllers.CacheController;
+import br.com.maicon.data.dto.v1.ProfissionaisDTO;
+
+class CacheControllerTest {
+
+    private MockMvc mockMvc;
+    private ProfissionaisCache profissionaisCache;
+
+    @BeforeEach
+    void setUp() {
+        profissionaisCache = new ProfissionaisCache(100, Duration.ofMinutes(1));
+        ContatosCache contatosCache = new ContatosCache(100, Duration.ofMinutes(1));
+        mockMvc = MockMvcBuilders.standaloneSetup(new CacheController(List.of(profissionaisCache, contatosCache))).build();
+    }
+
+    @Test
+    void testStats() throws Exception {
+        // Arrange
+        profissionaisCache.get(1L, id -> new ProfissionaisDTO());
+        profissionaisCache.get(1L, id -> new ProfissionaisDTO());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/cache/v1/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("profissionais"))
+                .andExpect(jsonPath("$[0].size").value(1))
+                .andExpect(jsonPath("$[0].hitCount").value(1))
+                .andExpect(jsonPath("$[0].missCount").value(1))
+                .andExpect(jsonPath("$[1].name").value("contatos"))
+                .andExpect(jsonPath("$[1].hitCount").value(0));
+    }
+}
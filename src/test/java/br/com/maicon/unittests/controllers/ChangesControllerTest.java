@@ -0,0 +1,61 @@
+package br.com.maicon.unittests.controllers;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import br.com.maicon.controllers.ChangesController;
+import br.com.maicon.services.ChangeStreamService;
+
+class ChangesControllerTest {
+
+    private static final String BASE_URL = "/api/changes/v1";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ChangeStreamService changeStreamService;
+
+    @InjectMocks
+    private ChangesController changesController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(changesController).build();
+    }
+
+    @Test
+    void testStream() throws Exception {
+        // Arrange
+        when(changeStreamService.subscribe(null)).thenReturn(new SseEmitter());
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL + "/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+        verify(changeStreamService, times(1)).subscribe(null);
+    }
+
+    @Test
+    void testStreamResumesFromLastEventId() throws Exception {
+        // Arrange
+        when(changeStreamService.subscribe("12")).thenReturn(new SseEmitter());
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL + "/stream").header("Last-Event-ID", "12"))
+                .andExpect(request().asyncStarted());
+        verify(changeStreamService, times(1)).subscribe("12");
+    }
+}
@@ -1,31 +1,56 @@
 package br.com.maicon.unittests.controllers;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import br.com.maicon.controllers.ContatosController;
 import br.com.maicon.data.dto.v1.ContatosDTO;
 import br.com.maicon.data.dto.v1.utils.DtoUtils;
+import br.com.maicon.exception.BadRequestException;
 import br.com.maicon.services.ContatosService;
+import br.com.maicon.services.IdempotencyService;
 import br.com.maicon.utils.ApiRestResponse;
+import br.com.maicon.utils.ExportFormat;
+import br.com.maicon.utils.ImportResponse;
+import br.com.maicon.utils.KeysetPage;
+import br.com.maicon.utils.ResourceVersion;
 
 class ContatosControllerTest {
 
@@ -43,10 +68,14 @@ class ContatosControllerTest {
     private static final String FIELD_SUCCESS = "$.success";
     private static final String FIELD_MESSAGE = "$.message";
     private static final Long MOCK_ID = 1L;
+    private static final ResourceVersion LIST_VERSION = ResourceVersion.ofCollection(1, Instant.parse("2024-01-01T00:00:00Z"));
 
     @Mock
     private ContatosService contatosService;
 
+    @Mock
+    private IdempotencyService idempotencyService;
+
     @InjectMocks
     private ContatosController contatosController;
 
@@ -54,6 +83,9 @@ class ContatosControllerTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         mockMvc = MockMvcBuilders.standaloneSetup(contatosController).build();
+        when(idempotencyService.execute(anyString(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(3, Supplier.class).get());
+        when(contatosService.findListVersion()).thenReturn(LIST_VERSION);
     }
 
     @Test
@@ -62,12 +94,13 @@ class ContatosControllerTest {
         ContatosDTO contatoDTO = new ContatosDTO();
         contatoDTO.setId(MOCK_ID);
         contatoDTO.setNome("Nome Teste");
-        when(contatosService.findAll(null)).thenReturn(List.of(contatoDTO));
+        when(contatosService.findAll(null, null, 0L, KeysetPage.DEFAULT_LIMIT)).thenReturn(new KeysetPage<>(List.of(contatoDTO), null));
 
         // Act & Assert
         mockMvc.perform(get(BASE_URL)
                 .contentType(APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, LIST_VERSION.getETag()))
                 .andExpect(jsonPath(FIELD_ID).value(MOCK_ID))
                 .andExpect(jsonPath(FIELD_NAME).value("Nome Teste"));
     }
@@ -78,7 +111,7 @@ class ContatosControllerTest {
         ContatosDTO contatoDTO = new ContatosDTO();
         contatoDTO.setId(MOCK_ID);
         contatoDTO.setNome("Nome Teste");
-        when(contatosService.findAll("Nome")).thenReturn(List.of(contatoDTO));
+        when(contatosService.findAll("Nome", null, 0L, KeysetPage.DEFAULT_LIMIT)).thenReturn(new KeysetPage<>(List.of(contatoDTO), null));
 
         // Act & Assert
         mockMvc.perform(get(BASE_URL)
@@ -97,7 +130,7 @@ class ContatosControllerTest {
         contatoDTO.setNome("Nome Teste");
         List<String> fields = List.of("id", "nome");
         Map<String, Object> filteredFields = DtoUtils.filterFields(contatoDTO, fields);
-        when(contatosService.findAll(null)).thenReturn(List.of(contatoDTO));
+        when(contatosService.findAll(null, fields, 0L, KeysetPage.DEFAULT_LIMIT)).thenReturn(new KeysetPage<>(List.of(contatoDTO), null));
 
         // Act & Assert
         mockMvc.perform(get(BASE_URL)
@@ -105,7 +138,96 @@ class ContatosControllerTest {
                 .contentType(APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath(FIELD_ID).value(filteredFields.get("id")))
-                .andExpect(jsonPath(FIELD_NAME).value(filteredFields.get("nome")));
+                .andExpect(jsonPath(FIELD_NAME).value(filteredFields.get("nome")))
+                .andExpect(jsonPath("$[0].contato").doesNotExist());
+    }
+
+    @Test
+    void testFindAllWithInvalidField() throws Exception {
+        // Arrange
+        when(contatosService.findAll(null, List.of("senha"), 0L, KeysetPage.DEFAULT_LIMIT))
+            .thenThrow(new BadRequestException("Campo inválido: senha."));
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL)
+                .param("fields", "senha")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testFindAllWithNextPage() throws Exception {
+        // Arrange
+        ContatosDTO contatoDTO = new ContatosDTO();
+        contatoDTO.setId(MOCK_ID);
+        contatoDTO.setNome("Nome Teste");
+        String nextCursor = KeysetPage.encodeCursor(MOCK_ID);
+        when(contatosService.findAll(null, null, 0L, 1)).thenReturn(new KeysetPage<>(List.of(contatoDTO), nextCursor));
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL)
+                .param("limit", "1")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(FIELD_ID).value(MOCK_ID))
+                .andExpect(header().string(KeysetPage.NEXT_CURSOR_HEADER, nextCursor))
+                .andExpect(header().string("Link", "<http://localhost" + BASE_URL + "?after=" + nextCursor + "&limit=1>; rel=\"next\""));
+    }
+
+    @Test
+    void testFindAllWithCursorAndLimitAboveMaximum() throws Exception {
+        // Arrange
+        ContatosDTO contatoDTO = new ContatosDTO();
+        contatoDTO.setId(MOCK_ID + 1);
+        when(contatosService.findAll(null, null, MOCK_ID, KeysetPage.MAX_LIMIT)).thenReturn(new KeysetPage<>(List.of(contatoDTO), null));
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL)
+                .param("after", KeysetPage.encodeCursor(MOCK_ID))
+                .param("limit", String.valueOf(KeysetPage.MAX_LIMIT + 1))
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(FIELD_ID).value(MOCK_ID + 1))
+                .andExpect(header().doesNotExist(KeysetPage.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void testFindAllWithInvalidCursor() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL)
+                .param("after", "cursor-invalido")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testExport() throws Exception {
+        // Arrange
+        String ndjson = "{\"id\":1}\n";
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write(ndjson.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(contatosService).export(eq(ExportFormat.NDJSON), any(OutputStream.class));
+
+        // Act
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ExportFormat.NDJSON.getMediaType()))
+                .andExpect(content().string(ndjson));
+    }
+
+    @Test
+    void testExport_InvalidFormat() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL + "/export")
+                .param("format", "xml"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -124,6 +246,50 @@ class ContatosControllerTest {
                 .andExpect(jsonPath("$.nome").value("Nome Teste"));
     }
 
+    @Test
+    void testFindAll_NotModified() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL)
+                .header(HttpHeaders.IF_NONE_MATCH, LIST_VERSION.getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, LIST_VERSION.getETag()))
+                .andExpect(content().string(""));
+
+        verify(contatosService, never()).findAll(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void testFindById_NotModified() throws Exception {
+        // Arrange
+        ContatosDTO contatoDTO = new ContatosDTO();
+        contatoDTO.setId(MOCK_ID);
+        contatoDTO.setVersion(3L);
+        when(contatosService.findById(MOCK_ID)).thenReturn(contatoDTO);
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL + "/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testFindById_Modified() throws Exception {
+        // Arrange
+        ContatosDTO contatoDTO = new ContatosDTO();
+        contatoDTO.setId(MOCK_ID);
+        contatoDTO.setNome("Nome Teste");
+        contatoDTO.setVersion(3L);
+        when(contatosService.findById(MOCK_ID)).thenReturn(contatoDTO);
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL + "/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1-2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""))
+                .andExpect(jsonPath("$.version").value(3));
+    }
+
     @Test
     void testCreate() throws Exception {
         // Arrange
@@ -141,6 +307,22 @@ class ContatosControllerTest {
                 .andExpect(jsonPath(FIELD_MESSAGE).value(SUCCESS_MESSAGE_CREATE));
     }
 
+    @Test
+    void testCreate_WithIdempotencyKey() throws Exception {
+        // Arrange
+        ApiRestResponse apiResponse = new ApiRestResponse(true, SUCCESS_MESSAGE_CREATE);
+        when(idempotencyService.execute(eq("contatos"), eq("chave-1"), any(ContatosDTO.class), any())).thenReturn(apiResponse);
+
+        // Act & Assert
+        mockMvc.perform(post(BASE_URL)
+                .header(IdempotencyService.HEADER, "chave-1")
+                .contentType(APPLICATION_JSON)
+                .content("{\"nome\":\"Nome Teste\",\"contato\":\"Contato Teste\",\"profissionalId\":1}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath(FIELD_MESSAGE).value(SUCCESS_MESSAGE_CREATE));
+        verify(contatosService, never()).create(any(ContatosDTO.class));
+    }
+
     @Test
     void testCreate_InvalidData() throws Exception {
         // Arrange
@@ -156,6 +338,40 @@ class ContatosControllerTest {
 		        .andExpect(jsonPath(FIELD_MESSAGE).value(ERROR_MESSAGE_INVALID_DATA));
     }
 
+    @Test
+    void testImportCsv() throws Exception {
+        // Arrange
+        ImportResponse importResponse = new ImportResponse();
+        importResponse.addImported(1);
+        importResponse.reject(3, "Profissional não encontrado para adição de contato");
+        when(contatosService.importCsv(any(InputStream.class))).thenReturn(importResponse);
+
+        // Act & Assert
+        mockMvc.perform(post(BASE_URL + "/import")
+                .contentType("text/csv")
+                .content("nome,contato,profissionalId\ncelular,999999999,1\nfixo,33333333,99\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rejections[0].line").value(3));
+    }
+
+    @Test
+    void testImportCsvFile() throws Exception {
+        // Arrange
+        ImportResponse importResponse = new ImportResponse();
+        importResponse.addImported(1);
+        when(contatosService.importCsv(any(InputStream.class))).thenReturn(importResponse);
+        MockMultipartFile file = new MockMultipartFile("file", "contatos.csv", "text/csv",
+                "nome,contato,profissionalId\ncelular,999999999,1\n".getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        mockMvc.perform(multipart(BASE_URL + "/import").file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(0));
+    }
+
     @Test
     void testUpdate() throws Exception {
         // Arrange
@@ -0,0 +1,74 @@
+package br.com.maicon.unittests.controllers;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import br.com.maicon.controllers.EstatisticasController;
+import br.com.maicon.data.dto.v1.EstatisticasDTO;
+import br.com.maicon.services.EstatisticasService;
+
+class EstatisticasControllerTest {
+
+    private static final String BASE_URL = "/api/stats/v1";
+    private static final Instant ATUALIZADO_EM = Instant.parse("2024-01-01T00:00:00Z");
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private EstatisticasService estatisticasService;
+
+    @InjectMocks
+    private EstatisticasController estatisticasController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(estatisticasController).build();
+
+        EstatisticasDTO estatisticas = new EstatisticasDTO();
+        estatisticas.setAtualizadoEm(Date.from(ATUALIZADO_EM));
+        estatisticas.setTotalProfissionais(3);
+        estatisticas.setProfissionaisPorCargo(List.of(new EstatisticasDTO.CargoTotal("Desenvolvedor", 3)));
+        estatisticas.setContatosPorProfissional(List.of(new EstatisticasDTO.ContatosTotal(1, 3)));
+        estatisticas.setContratacoesPorMes(List.of(new EstatisticasDTO.MesTotal("2024-01", 3)));
+        when(estatisticasService.findEstatisticas()).thenReturn(estatisticas);
+    }
+
+    @Test
+    void testFindEstatisticas() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, ATUALIZADO_EM.toEpochMilli()))
+                .andExpect(jsonPath("$.totalProfissionais").value(3))
+                .andExpect(jsonPath("$.profissionaisPorCargo[0].cargo").value("Desenvolvedor"))
+                .andExpect(jsonPath("$.contatosPorProfissional[0].contatos").value(1))
+                .andExpect(jsonPath("$.contratacoesPorMes[0].mes").value("2024-01"));
+    }
+
+    @Test
+    void testFindEstatisticas_NotModified() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL)
+                .header(HttpHeaders.IF_MODIFIED_SINCE, ATUALIZADO_EM.toEpochMilli()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+}
@@ -1,32 +1,57 @@
 package br.com.maicon.unittests.controllers;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDate;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import br.com.maicon.controllers.ProfissionaisController;
+import br.com.maicon.data.dto.v1.ContatosDTO;
 import br.com.maicon.data.dto.v1.ProfissionaisDTO;
 import br.com.maicon.data.dto.v1.utils.DtoUtils;
+import br.com.maicon.exception.BadRequestException;
+import br.com.maicon.services.IdempotencyService;
 import br.com.maicon.services.ProfissionaisService;
 import br.com.maicon.utils.ApiRestResponse;
+import br.com.maicon.utils.BatchItemResult;
+import br.com.maicon.utils.BatchResponse;
+import br.com.maicon.utils.ExportFormat;
+import br.com.maicon.utils.KeysetPage;
+import br.com.maicon.utils.ResourceVersion;
 
 class ProfissionaisControllerTest {
 
@@ -45,6 +70,7 @@ class ProfissionaisControllerTest {
     private static final String FIELD_SUCCESS = "$.success";
     private static final String FIELD_MESSAGE = "$.message";
     private static final Long MOCK_ID = 1L;
+    private static final ResourceVersion LIST_VERSION = ResourceVersion.ofCollection(1, Instant.parse("2024-01-01T00:00:00Z"));
     private static final String MOCK_NAME = "Nome Teste";
     private static final String MOCK_CARGO = "Desenvolvedor";
 
@@ -53,6 +79,9 @@ class ProfissionaisControllerTest {
     @Mock
     private ProfissionaisService profissionaisService;
 
+    @Mock
+    private IdempotencyService idempotencyService;
+
     @InjectMocks
     private ProfissionaisController profissionaisController;
 
@@ -60,6 +89,9 @@ class ProfissionaisControllerTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         mockMvc = MockMvcBuilders.standaloneSetup(profissionaisController).build();
+        when(idempotencyService.execute(anyString(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(3, Supplier.class).get());
+        when(profissionaisService.findListVersion()).thenReturn(LIST_VERSION);
     }
 
     @Test
@@ -68,12 +100,13 @@ class ProfissionaisControllerTest {
         ProfissionaisDTO profissionalDTO = new ProfissionaisDTO();
         profissionalDTO.setId(MOCK_ID);
         profissionalDTO.setNome(MOCK_NAME);
-        when(profissionaisService.findAll(null)).thenReturn(List.of(profissionalDTO));
+        when(profissionaisService.findAll(null, null, 0L, KeysetPage.DEFAULT_LIMIT)).thenReturn(new KeysetPage<>(List.of(profissionalDTO), null));
 
         // Act & Assert
         mockMvc.perform(get(BASE_URL)
                 .contentType(APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, LIST_VERSION.getETag()))
                 .andExpect(jsonPath(FIELD_ID).value(MOCK_ID))
                 .andExpect(jsonPath(FIELD_NAME).value(MOCK_NAME));
     }
@@ -84,7 +117,7 @@ class ProfissionaisControllerTest {
         ProfissionaisDTO profissionalDTO = new ProfissionaisDTO();
         profissionalDTO.setId(MOCK_ID);
         profissionalDTO.setNome(MOCK_NAME);
-        when(profissionaisService.findAll(MOCK_NAME)).thenReturn(List.of(profissionalDTO));
+        when(profissionaisService.findAll(MOCK_NAME, null, 0L, KeysetPage.DEFAULT_LIMIT)).thenReturn(new KeysetPage<>(List.of(profissionalDTO), null));
 
         // Act & Assert
         mockMvc.perform(get(BASE_URL)
@@ -103,7 +136,7 @@ class ProfissionaisControllerTest {
         profissionalDTO.setNome(MOCK_NAME);
         List<String> fields = List.of("id", "nome");
         Map<String, Object> filteredFields = DtoUtils.filterFields(profissionalDTO, fields);
-        when(profissionaisService.findAll(null)).thenReturn(List.of(profissionalDTO));
+        when(profissionaisService.findAll(null, fields, 0L, KeysetPage.DEFAULT_LIMIT)).thenReturn(new KeysetPage<>(List.of(profissionalDTO), null));
 
         // Act & Assert
         mockMvc.perform(get(BASE_URL)
@@ -111,7 +144,153 @@ class ProfissionaisControllerTest {
                 .contentType(APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath(FIELD_ID).value(filteredFields.get("id")))
-                .andExpect(jsonPath(FIELD_NAME).value(filteredFields.get("nome")));
+                .andExpect(jsonPath(FIELD_NAME).value(filteredFields.get("nome")))
+                .andExpect(jsonPath("$[0].cargo").doesNotExist());
+    }
+
+    @Test
+    void testFindAllWithInvalidField() throws Exception {
+        // Arrange
+        when(profissionaisService.findAll(null, List.of("senha"), 0L, KeysetPage.DEFAULT_LIMIT))
+            .thenThrow(new BadRequestException("Campo inválido: senha."));
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL)
+                .param("fields", "senha")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testFindAllWithExpandContatos() throws Exception {
+        // Arrange
+        ResourceVersion expandedVersion = LIST_VERSION.combine(ResourceVersion.ofCollection(2, Instant.parse("2024-02-01T00:00:00Z")));
+        when(profissionaisService.findExpandedListVersion()).thenReturn(expandedVersion);
+        ProfissionaisDTO profissionalDTO = new ProfissionaisDTO();
+        profissionalDTO.setId(MOCK_ID);
+        profissionalDTO.setNome(MOCK_NAME);
+        ContatosDTO contatoDTO = new ContatosDTO();
+        contatoDTO.setId(10L);
+        contatoDTO.setProfissionalId(MOCK_ID);
+        ProfissionaisDTO expandedDTO = new ProfissionaisDTO();
+        expandedDTO.setId(MOCK_ID);
+        expandedDTO.setNome(MOCK_NAME);
+        expandedDTO.setContatos(List.of(contatoDTO));
+        when(profissionaisService.findAll(null, List.of("nome", "id"), 0L, KeysetPage.DEFAULT_LIMIT)).thenReturn(new KeysetPage<>(List.of(profissionalDTO), null));
+        when(profissionaisService.expandContatos(List.of(profissionalDTO))).thenReturn(List.of(expandedDTO));
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL)
+                .param("fields", "nome")
+                .param("expand", "contatos")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, expandedVersion.getETag()))
+                .andExpect(jsonPath(FIELD_NAME).value(MOCK_NAME))
+                .andExpect(jsonPath(FIELD_ID).doesNotExist())
+                .andExpect(jsonPath("$[0].contatos[0].id").value(10));
+
+        verify(profissionaisService, never()).findListVersion();
+    }
+
+    @Test
+    void testFindAllWithoutExpand_OmitsContatos() throws Exception {
+        // Arrange
+        ProfissionaisDTO profissionalDTO = new ProfissionaisDTO();
+        profissionalDTO.setId(MOCK_ID);
+        when(profissionaisService.findAll(null, null, 0L, KeysetPage.DEFAULT_LIMIT)).thenReturn(new KeysetPage<>(List.of(profissionalDTO), null));
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].contatos").doesNotExist());
+
+        verify(profissionaisService, never()).expandContatos(any());
+    }
+
+    @Test
+    void testFindAllWithInvalidExpand() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL)
+                .param("expand", "enderecos"))
+                .andExpect(status().isBadRequest());
+
+        verify(profissionaisService, never()).findAll(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void testFindAllWithNextPage() throws Exception {
+        // Arrange
+        ProfissionaisDTO profissionalDTO = new ProfissionaisDTO();
+        profissionalDTO.setId(MOCK_ID);
+        profissionalDTO.setNome(MOCK_NAME);
+        String nextCursor = KeysetPage.encodeCursor(MOCK_ID);
+        when(profissionaisService.findAll(null, null, 0L, 1)).thenReturn(new KeysetPage<>(List.of(profissionalDTO), nextCursor));
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL)
+                .param("limit", "1")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(FIELD_ID).value(MOCK_ID))
+                .andExpect(header().string(KeysetPage.NEXT_CURSOR_HEADER, nextCursor))
+                .andExpect(header().string("Link", "<http://localhost" + BASE_URL + "?after=" + nextCursor + "&limit=1>; rel=\"next\""));
+    }
+
+    @Test
+    void testFindAllWithCursorAndLimitAboveMaximum() throws Exception {
+        // Arrange
+        ProfissionaisDTO profissionalDTO = new ProfissionaisDTO();
+        profissionalDTO.setId(MOCK_ID + 1);
+        when(profissionaisService.findAll(null, null, MOCK_ID, KeysetPage.MAX_LIMIT)).thenReturn(new KeysetPage<>(List.of(profissionalDTO), null));
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL)
+                .param("after", KeysetPage.encodeCursor(MOCK_ID))
+                .param("limit", String.valueOf(KeysetPage.MAX_LIMIT + 1))
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(FIELD_ID).value(MOCK_ID + 1))
+                .andExpect(header().doesNotExist(KeysetPage.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void testFindAllWithInvalidCursor() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL)
+                .param("after", "cursor-invalido")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testExport() throws Exception {
+        // Arrange
+        String ndjson = "{\"id\":1}\n";
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write(ndjson.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(profissionaisService).export(eq(ExportFormat.NDJSON), any(OutputStream.class));
+
+        // Act
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ExportFormat.NDJSON.getMediaType()))
+                .andExpect(content().string(ndjson));
+    }
+
+    @Test
+    void testExport_InvalidFormat() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL + "/export")
+                .param("format", "xml"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -130,6 +309,93 @@ class ProfissionaisControllerTest {
                 .andExpect(jsonPath("$.nome").value(MOCK_NAME));
     }
 
+    @Test
+    void testFindByIdWithExpandContatos() throws Exception {
+        // Arrange
+        ProfissionaisDTO profissionalDTO = new ProfissionaisDTO();
+        profissionalDTO.setId(MOCK_ID);
+        profissionalDTO.setVersion(3L);
+        ContatosDTO contatoDTO = new ContatosDTO();
+        contatoDTO.setId(10L);
+        ProfissionaisDTO expandedDTO = new ProfissionaisDTO();
+        expandedDTO.setId(MOCK_ID);
+        expandedDTO.setContatos(List.of(contatoDTO));
+        ResourceVersion expandedVersion = ResourceVersion.of(MOCK_ID, 3L, null).combine(ResourceVersion.ofCollection(1, null));
+        when(profissionaisService.findById(MOCK_ID)).thenReturn(profissionalDTO);
+        when(profissionaisService.findExpandedVersion(profissionalDTO)).thenReturn(expandedVersion);
+        when(profissionaisService.expandContatos(List.of(profissionalDTO))).thenReturn(List.of(expandedDTO));
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL + "/1")
+                .param("expand", "contatos"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, expandedVersion.getETag()))
+                .andExpect(jsonPath("$.contatos[0].id").value(10));
+    }
+
+    @Test
+    void testFindByIdWithExpandContatos_NotModified() throws Exception {
+        // Arrange
+        ProfissionaisDTO profissionalDTO = new ProfissionaisDTO();
+        profissionalDTO.setId(MOCK_ID);
+        profissionalDTO.setVersion(3L);
+        ResourceVersion expandedVersion = ResourceVersion.of(MOCK_ID, 3L, null).combine(ResourceVersion.ofCollection(1, null));
+        when(profissionaisService.findById(MOCK_ID)).thenReturn(profissionalDTO);
+        when(profissionaisService.findExpandedVersion(profissionalDTO)).thenReturn(expandedVersion);
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL + "/1")
+                .param("expand", "contatos")
+                .header(HttpHeaders.IF_NONE_MATCH, expandedVersion.getETag()))
+                .andExpect(status().isNotModified());
+
+        verify(profissionaisService, never()).expandContatos(any());
+    }
+
+    @Test
+    void testFindAll_NotModified() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL)
+                .header(HttpHeaders.IF_NONE_MATCH, LIST_VERSION.getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, LIST_VERSION.getETag()))
+                .andExpect(content().string(""));
+
+        verify(profissionaisService, never()).findAll(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void testFindById_NotModified() throws Exception {
+        // Arrange
+        ProfissionaisDTO profissionalDTO = new ProfissionaisDTO();
+        profissionalDTO.setId(MOCK_ID);
+        profissionalDTO.setVersion(3L);
+        when(profissionaisService.findById(MOCK_ID)).thenReturn(profissionalDTO);
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL + "/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testFindById_Modified() throws Exception {
+        // Arrange
+        ProfissionaisDTO profissionalDTO = new ProfissionaisDTO();
+        profissionalDTO.setId(MOCK_ID);
+        profissionalDTO.setNome(MOCK_NAME);
+        profissionalDTO.setVersion(3L);
+        when(profissionaisService.findById(MOCK_ID)).thenReturn(profissionalDTO);
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_URL + "/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1-2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""))
+                .andExpect(jsonPath("$.version").value(3));
+    }
+
     @Test
     void testCreate() throws Exception {
         // Arrange
@@ -147,6 +413,57 @@ class ProfissionaisControllerTest {
                 .andExpect(jsonPath(FIELD_MESSAGE).value(SUCCESS_MESSAGE_CREATE));
     }
 
+    @Test
+    void testCreateBatch() throws Exception {
+        // Arrange
+        BatchResponse batchResponse = new BatchResponse();
+        batchResponse.add(BatchItemResult.created(0, MOCK_ID));
+        when(profissionaisService.createBatch(any(InputStream.class))).thenReturn(batchResponse);
+
+        // Act & Assert
+        mockMvc.perform(post(BASE_URL + "/batch")
+                .contentType(APPLICATION_JSON)
+                .content("[{\"nome\":\"" + MOCK_NAME + "\",\"cargo\":\"" + MOCK_CARGO + "\",\"nascimento\":\"" + mockDateString + "\"}]"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andExpect(jsonPath("$.items[0].id").value(MOCK_ID));
+    }
+
+    @Test
+    void testCreateBatch_PartiallyCreated() throws Exception {
+        // Arrange
+        BatchResponse batchResponse = new BatchResponse();
+        batchResponse.add(BatchItemResult.created(0, MOCK_ID));
+        batchResponse.add(BatchItemResult.failed(1, ERROR_MESSAGE_INVALID_CARGO));
+        when(profissionaisService.createBatch(any(InputStream.class))).thenReturn(batchResponse);
+
+        // Act & Assert
+        mockMvc.perform(post(BASE_URL + "/batch")
+                .contentType(APPLICATION_JSON)
+                .content("[{\"nome\":\"" + MOCK_NAME + "\",\"cargo\":\"" + MOCK_CARGO + "\"},{\"nome\":\"" + MOCK_NAME + "\",\"cargo\":\"Gerente\"}]"))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[1].success").value(false))
+                .andExpect(jsonPath("$.items[1].message").value(ERROR_MESSAGE_INVALID_CARGO));
+    }
+
+    @Test
+    void testCreate_WithIdempotencyKey() throws Exception {
+        // Arrange
+        ApiRestResponse apiResponse = new ApiRestResponse(true, SUCCESS_MESSAGE_CREATE);
+        when(idempotencyService.execute(eq("profissionais"), eq("chave-1"), any(ProfissionaisDTO.class), any())).thenReturn(apiResponse);
+
+        // Act & Assert
+        mockMvc.perform(post(BASE_URL)
+                .header(IdempotencyService.HEADER, "chave-1")
+                .contentType(APPLICATION_JSON)
+                .content("{\"nome\":\"" + MOCK_NAME + "\",\"cargo\":\"" + MOCK_CARGO + "\",\"nascimento\":\"" + mockDateString + "\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath(FIELD_MESSAGE).value(SUCCESS_MESSAGE_CREATE));
+        verify(profissionaisService, never()).create(any(ProfissionaisDTO.class));
+    }
+
     @Test
     void testCreate_InvalidData() throws Exception {
         // Arrange
@@ -0,0 +1,91 @@
+package br.com.maicon.unittests.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import br.com.maicon.datasource.ConsistencyToken;
+
+class ConsistencyTokenTest {
+
+    @AfterEach
+    void tearDown() {
+        ConsistencyToken.clear();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testParseAndFormat() {
+        // Act
+        long lsn = ConsistencyToken.parse("16/b374d848");
+
+        // Assert
+        assertEquals((0x16L << 32) | 0xB374D848L, lsn);
+        assertEquals("16/B374D848", ConsistencyToken.format(lsn));
+        assertEquals("0/0", ConsistencyToken.format(ConsistencyToken.parse("0/0")));
+    }
+
+    @Test
+    void testParse_Invalid() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ConsistencyToken.parse(null));
+        assertThrows(IllegalArgumentException.class, () -> ConsistencyToken.parse("16B374D848"));
+        assertThrows(IllegalArgumentException.class, () -> ConsistencyToken.parse("/B374D848"));
+        assertThrows(IllegalArgumentException.class, () -> ConsistencyToken.parse("16/"));
+        assertThrows(IllegalArgumentException.class, () -> ConsistencyToken.parse("-1/B374D848"));
+        assertThrows(IllegalArgumentException.class, () -> ConsistencyToken.parse("16/B374D848Z"));
+        assertThrows(IllegalArgumentException.class, () -> ConsistencyToken.parse("123456789/0"));
+    }
+
+    @Test
+    void testRequireKeepsHighestPosition() {
+        // Act
+        ConsistencyToken.require(20L);
+        ConsistencyToken.require(10L);
+
+        // Assert
+        assertEquals(20L, ConsistencyToken.required());
+    }
+
+    @Test
+    void testRequiredIsNotInheritedByChildThreads() throws InterruptedException {
+        // Arrange
+        ConsistencyToken.require(42L);
+        long[] required = {-1L};
+
+        // Act
+        Thread.ofVirtual().start(() -> required[0] = ConsistencyToken.required()).join();
+
+        // Assert
+        assertEquals(0L, required[0]);
+    }
+
+    @Test
+    void testIssue() {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+
+        // Act
+        ConsistencyToken.issue(ConsistencyToken.parse("1/A0"));
+
+        // Assert
+        assertEquals("1/A0", response.getHeader(ConsistencyToken.HEADER));
+        assertEquals(ConsistencyToken.parse("1/A0"), ConsistencyToken.required());
+    }
+
+    @Test
+    void testIssue_OutsideRequest() {
+        // Act
+        ConsistencyToken.issue(100L);
+
+        // Assert
+        assertEquals(0L, ConsistencyToken.required());
+    }
+}
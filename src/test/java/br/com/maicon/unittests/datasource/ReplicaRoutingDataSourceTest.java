@@ -0,0 +1,174 @@
+package br.com.maicon.unittests.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import br.com.maicon.datasource.ConsistencyToken;
+import br.com.maicon.datasource.ReplicaDataSources;
+import br.com.maicon.datasource.ReplicaRoutingDataSource;
+
+class ReplicaRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica0;
+    private HikariDataSource replica1;
+    private ReplicaDataSources dataSources;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = pool("primary", "0/100");
+        replica0 = pool("replica-0", "0/50");
+        replica1 = pool("replica-1", "0/100");
+        dataSources = new ReplicaDataSources(primary, List.of(replica0, replica1));
+        dataSources.refreshReplayedLsn();
+        routingDataSource = new ReplicaRoutingDataSource(dataSources);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ConsistencyToken.clear();
+    }
+
+    @Test
+    void testRefreshReplayedLsn() {
+        // Assert
+        assertEquals(0x50L, dataSources.getReplicas().get(0).getReplayedLsn());
+        assertEquals(0x100L, dataSources.getReplicas().get(1).getReplayedLsn());
+    }
+
+    @Test
+    void testSelectReplica_RoundRobin() {
+        // Act
+        String first = dataSources.selectReplica(0L).orElseThrow().getName();
+        String second = dataSources.selectReplica(0L).orElseThrow().getName();
+
+        // Assert
+        assertEquals(List.of("replica-0", "replica-1"), List.of(first, second).stream().sorted().toList());
+    }
+
+    @Test
+    void testSelectReplica_SkipsLaggingReplicas() {
+        // Act & Assert
+        for (int i = 0; i < 4; i++) {
+            assertEquals("replica-1", dataSources.selectReplica(0x80L).orElseThrow().getName());
+        }
+        assertFalse(dataSources.selectReplica(0x101L).isPresent());
+        assertFalse(dataSources.selectReplica(ConsistencyToken.PRIMARY_ONLY).isPresent());
+    }
+
+    @Test
+    void testSelectReplica_SkipsUnavailableReplicas() throws SQLException {
+        // Arrange
+        when(replica1.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // Act
+        dataSources.refreshReplayedLsn();
+
+        // Assert
+        for (int i = 0; i < 4; i++) {
+            assertEquals("replica-0", dataSources.selectReplica(0L).orElseThrow().getName());
+        }
+        assertFalse(dataSources.selectReplica(0x80L).isPresent());
+    }
+
+    @Test
+    void testCurrentPrimaryLsn() throws SQLException {
+        // Act & Assert
+        assertEquals(0x100L, dataSources.currentPrimaryLsn());
+    }
+
+    @Test
+    void testRoutesWritesToPrimary() throws SQLException {
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(primary.getConnection(), connection);
+    }
+
+    @Test
+    void testRoutesReadOnlyTransactionsToReplicas() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertTrue(connection == replica0.getConnection() || connection == replica1.getConnection());
+    }
+
+    @Test
+    void testRoutesReadOnlyTransactionsToPrimaryUntilReplicasCatchUp() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ConsistencyToken.require(0x101L);
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(primary.getConnection(), connection);
+    }
+
+    @Test
+    void testRoutesCacheLoadsToReplicasAtCurrentPrimaryPosition() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ConsistencyToken.require(ConsistencyToken.CURRENT_PRIMARY);
+
+        // Act & Assert
+        for (int i = 0; i < 4; i++) {
+            assertSame(replica1.getConnection(), routingDataSource.getConnection());
+        }
+    }
+
+    @Test
+    void testStaleReplicaLoadAfterInvalidation() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ConsistencyToken.require(ConsistencyToken.CURRENT_PRIMARY);
+        ResultSet primaryLsn = primary.getConnection().createStatement().executeQuery("");
+        when(primaryLsn.getString(1)).thenReturn("0/150");
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(primary.getConnection(), connection);
+    }
+
+    private static HikariDataSource pool(String name, String lsn) throws SQLException {
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(dataSource.getPoolName()).thenReturn(name);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn(lsn);
+        return dataSource;
+    }
+}
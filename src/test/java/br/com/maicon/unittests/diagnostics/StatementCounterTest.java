@@ -0,0 +1,83 @@
+package br.com.maicon.unittests.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.maicon.diagnostics.StatementCounter;
+
+class StatementCounterTest {
+
+    @AfterEach
+    void tearDown() {
+        StatementCounter.stop();
+    }
+
+    @Test
+    void testRecord() {
+        // Arrange
+        StatementCounter counter = StatementCounter.start();
+
+        // Act
+        counter.record("select p1_0.id from profissionais p1_0");
+        counter.record("  WITH rejected AS (SELECT 1) SELECT * FROM rejected");
+        counter.record("(select 1) union (select 2)");
+        counter.record("insert into contatos (nome) values (?)");
+        counter.record("update profissionais set nome=? where id=?");
+        counter.record("delete from contatos where id=?");
+        counter.record("ANALYZE contatos_import");
+
+        // Assert
+        assertEquals(3, counter.getSelect());
+        assertEquals(1, counter.getInsert());
+        assertEquals(1, counter.getUpdate());
+        assertEquals(1, counter.getDelete());
+        assertEquals(1, counter.getOther());
+        assertEquals(7, counter.getTotal());
+    }
+
+    @Test
+    void testCurrentIsNotInheritedByChildThreads() throws InterruptedException {
+        // Arrange
+        StatementCounter.start();
+        StatementCounter[] child = new StatementCounter[1];
+
+        // Act
+        Thread.ofVirtual().start(() -> child[0] = StatementCounter.current()).join();
+
+        // Assert
+        assertNull(child[0]);
+    }
+
+    @Test
+    void testAttach() throws InterruptedException {
+        // Arrange
+        StatementCounter counter = StatementCounter.start();
+
+        // Act
+        Thread.ofVirtual().start(() -> {
+            StatementCounter.attach(counter);
+            StatementCounter.current().record("select 1");
+            StatementCounter.stop();
+        }).join();
+
+        // Assert
+        assertSame(counter, StatementCounter.current());
+        assertEquals(1, counter.getSelect());
+    }
+
+    @Test
+    void testStop() {
+        // Arrange
+        StatementCounter.start();
+
+        // Act
+        StatementCounter.stop();
+
+        // Assert
+        assertNull(StatementCounter.current());
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.maicon.unittests.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.maicon.diagnostics.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VirtualThreadPinningMonitorTest {
+
+    private SimpleMeterRegistry registry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(registry, Duration.ofMillis(20));
+    }
+
+    @Test
+    void testRecord() {
+        // Act
+        monitor.record(Duration.ofMillis(30), "br.com.maicon.Example.run:10");
+        monitor.record(Duration.ofMillis(50), "br.com.maicon.Example.run:10");
+
+        // Assert
+        Timer timer = registry.get(VirtualThreadPinningMonitor.METRIC_NAME).timer();
+        assertEquals(2, timer.count());
+        assertEquals(80, timer.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(50, timer.max(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testLifecycle() {
+        // Act
+        monitor.start();
+        boolean running = monitor.isRunning();
+        monitor.stop();
+
+        // Assert
+        assertTrue(running);
+        assertFalse(monitor.isRunning());
+    }
+}
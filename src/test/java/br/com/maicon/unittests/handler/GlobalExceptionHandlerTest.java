@@ -1,12 +1,15 @@
 package br.com.maicon.unittests.handler;
 
+import br.com.maicon.exception.BadRequestException;
 import br.com.maicon.exception.ExceptionResponse;
 import br.com.maicon.exception.ResourceNotFoundException;
 import br.com.maicon.handler.GlobalExceptionHandler;
+import br.com.maicon.models.Profissionais;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.context.request.WebRequest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -32,6 +35,36 @@ class GlobalExceptionHandlerTest {
         assertEquals("Resource not found", response.getBody().getMessage());
     }
 
+    @Test
+    void testHandleBadRequestException() {
+        // Arrange
+        BadRequestException exception = new BadRequestException("Invalid parameter");
+        WebRequest request = mock(WebRequest.class);
+        when(request.getDescription(false)).thenReturn("uri=/test");
+
+        // Act
+        ResponseEntity<ExceptionResponse> response = handler.handleBadRequestException(exception, request);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Invalid parameter", response.getBody().getMessage());
+    }
+
+    @Test
+    void testHandleOptimisticLockingFailureException() {
+        // Arrange
+        ObjectOptimisticLockingFailureException exception = new ObjectOptimisticLockingFailureException(Profissionais.class, 1L);
+        WebRequest request = mock(WebRequest.class);
+        when(request.getDescription(false)).thenReturn("uri=/test");
+
+        // Act
+        ResponseEntity<ExceptionResponse> response = handler.handleOptimisticLockingFailureException(exception, request);
+
+        // Assert
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("O registro foi alterado por outra requisição. Tente novamente.", response.getBody().getMessage());
+    }
+
     @Test
     void testHandleGlobalException() {
         // Arrange
@@ -0,0 +1,83 @@
+package br.com.maicon.unittests.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.KeyValuePair;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.maicon.logging.JsonLayout;
+import br.com.maicon.logging.LogMarkers;
+import br.com.maicon.logging.RequestLoggingFilter;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+
+class JsonLayoutTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JsonLayout layout;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        LoggerContext context = new LoggerContext();
+        layout = new JsonLayout();
+        layout.setContext(context);
+        layout.start();
+        logger = context.getLogger("br.com.maicon.services.ContatosService");
+    }
+
+    @Test
+    void testWritesEventAsSingleJsonLine() throws Exception {
+        // Arrange
+        LoggingEvent event = new LoggingEvent(Logger.FQCN, logger, Level.INFO, "Created contato with ID {}", null,
+                new Object[] { 7L });
+        event.setMDCPropertyMap(Map.of(RequestLoggingFilter.MDC_REQUEST_ID, "req-1",
+                RequestLoggingFilter.MDC_SAMPLED, "true"));
+        event.addMarker(LogMarkers.AUDIT);
+        event.addKeyValuePair(new KeyValuePair("durationMs", 12L));
+
+        // Act
+        String line = layout.doLayout(event);
+
+        // Assert
+        assertTrue(line.endsWith(System.lineSeparator()));
+        assertEquals(1, line.strip().lines().count());
+        JsonNode json = objectMapper.readTree(line);
+        assertEquals("INFO", json.get("level").asText());
+        assertEquals("br.com.maicon.services.ContatosService", json.get("logger").asText());
+        assertEquals("Created contato with ID 7", json.get("message").asText());
+        assertEquals("req-1", json.get("requestId").asText());
+        assertFalse(json.has(RequestLoggingFilter.MDC_SAMPLED));
+        assertEquals(12L, json.get("durationMs").asLong());
+        assertEquals("AUDIT", json.get("markers").get(0).asText());
+        assertTrue(json.has("@timestamp"));
+    }
+
+    @Test
+    void testEscapesMessageAndWritesStackTrace() throws Exception {
+        // Arrange
+        LoggingEvent event = new LoggingEvent(Logger.FQCN, logger, Level.WARN, "Failed to save batch: {}",
+                new IllegalStateException("falha"), new Object[] { "linha 1\n\"linha 2\"" });
+
+        // Act
+        String line = layout.doLayout(event);
+
+        // Assert
+        assertEquals(1, line.strip().lines().count());
+        JsonNode json = objectMapper.readTree(line);
+        assertEquals("Failed to save batch: linha 1\n\"linha 2\"", json.get("message").asText());
+        assertTrue(json.get("stackTrace").asText().contains("java.lang.IllegalStateException: falha"));
+        assertFalse(json.has("markers"));
+    }
+}
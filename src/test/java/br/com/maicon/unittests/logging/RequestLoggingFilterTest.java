@@ -0,0 +1,140 @@
+package br.com.maicon.unittests.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.event.KeyValuePair;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import br.com.maicon.logging.RequestLoggingFilter;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.FilterChain;
+
+class RequestLoggingFilterTest {
+
+    private static final String URL = "/api/contatos/v1/1";
+
+    private Logger filterLogger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        filterLogger = (Logger) LoggerFactory.getLogger(RequestLoggingFilter.class);
+        appender = new ListAppender<>();
+        appender.start();
+        filterLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        filterLogger.detachAppender(appender);
+        MDC.clear();
+    }
+
+    @Test
+    void testGeneratesRequestId() throws Exception {
+        // Arrange
+        AtomicReference<Map<String, String>> mdc = new AtomicReference<>();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        new RequestLoggingFilter(1.0).doFilter(new MockHttpServletRequest("GET", URL), response,
+                (req, res) -> mdc.set(MDC.getCopyOfContextMap()));
+
+        // Assert
+        String requestId = response.getHeader(RequestLoggingFilter.HEADER);
+        assertNotNull(requestId);
+        assertEquals(requestId, mdc.get().get(RequestLoggingFilter.MDC_REQUEST_ID));
+        assertEquals("true", mdc.get().get(RequestLoggingFilter.MDC_SAMPLED));
+        assertNull(MDC.get(RequestLoggingFilter.MDC_REQUEST_ID));
+        assertNull(MDC.get(RequestLoggingFilter.MDC_SAMPLED));
+    }
+
+    @Test
+    void testKeepsValidRequestIdAndReplacesInvalidOne() throws Exception {
+        // Arrange
+        MockHttpServletRequest valid = new MockHttpServletRequest("GET", URL);
+        valid.addHeader(RequestLoggingFilter.HEADER, "req-123.abc_DEF");
+        MockHttpServletRequest invalid = new MockHttpServletRequest("GET", URL);
+        invalid.addHeader(RequestLoggingFilter.HEADER, "req\n{\"level\":\"ERROR\"}");
+        MockHttpServletResponse validResponse = new MockHttpServletResponse();
+        MockHttpServletResponse invalidResponse = new MockHttpServletResponse();
+
+        // Act
+        new RequestLoggingFilter(1.0).doFilter(valid, validResponse, ok());
+        new RequestLoggingFilter(1.0).doFilter(invalid, invalidResponse, ok());
+
+        // Assert
+        assertEquals("req-123.abc_DEF", validResponse.getHeader(RequestLoggingFilter.HEADER));
+        assertNotEquals("req\n{\"level\":\"ERROR\"}", invalidResponse.getHeader(RequestLoggingFilter.HEADER));
+        assertTrue(invalidResponse.getHeader(RequestLoggingFilter.HEADER).matches("[0-9a-f-]{36}"));
+    }
+
+    @Test
+    void testSampledRequestLogsCompletionWithTiming() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", URL);
+        request.addHeader(RequestLoggingFilter.HEADER, "req-1");
+
+        // Act
+        new RequestLoggingFilter(1.0).doFilter(request, new MockHttpServletResponse(), ok());
+
+        // Assert
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals(Level.INFO, event.getLevel());
+        assertEquals("req-1", event.getMDCPropertyMap().get(RequestLoggingFilter.MDC_REQUEST_ID));
+        Map<String, Object> fields = keyValues(event);
+        assertEquals("GET", fields.get("method"));
+        assertEquals(URL, fields.get("path"));
+        assertEquals(200, fields.get("status"));
+        assertTrue((Long) fields.get("durationMs") >= 0);
+    }
+
+    @Test
+    void testUnsampledRequestLogsOnlyServerErrors() throws Exception {
+        // Arrange
+        AtomicReference<String> sampled = new AtomicReference<>();
+        RequestLoggingFilter filter = new RequestLoggingFilter(0.0);
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", URL), new MockHttpServletResponse(),
+                (req, res) -> sampled.set(MDC.get(RequestLoggingFilter.MDC_SAMPLED)));
+        filter.doFilter(new MockHttpServletRequest("GET", URL), new MockHttpServletResponse(),
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(503));
+
+        // Assert
+        assertEquals("false", sampled.get());
+        assertEquals(1, appender.list.size());
+        assertEquals(Level.WARN, appender.list.get(0).getLevel());
+        assertEquals(503, keyValues(appender.list.get(0)).get("status"));
+    }
+
+    private static FilterChain ok() {
+        return (req, res) -> {};
+    }
+
+    private static Map<String, Object> keyValues(ILoggingEvent event) {
+        Map<String, Object> fields = new HashMap<>();
+        for (KeyValuePair pair : event.getKeyValuePairs()) {
+            fields.put(pair.key, pair.value);
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.maicon.unittests.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import br.com.maicon.logging.LogMarkers;
+import br.com.maicon.logging.RequestLoggingFilter;
+import br.com.maicon.logging.SamplingTurboFilter;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+
+class SamplingTurboFilterTest {
+
+    private SamplingTurboFilter filter;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SamplingTurboFilter();
+        logger = new LoggerContext().getLogger("br.com.maicon.services.ContatosService");
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void testUnsampledRequestDropsInfo() {
+        // Arrange
+        MDC.put(RequestLoggingFilter.MDC_SAMPLED, "false");
+
+        // Act & Assert
+        assertEquals(FilterReply.DENY, filter.decide(null, logger, Level.INFO, "Finding contato with ID {}", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.WARN, "Failed to save batch", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(LogMarkers.AUDIT, logger, Level.INFO, "Created contato", null, null));
+    }
+
+    @Test
+    void testSampledRequestKeepsInfo() {
+        // Arrange
+        MDC.put(RequestLoggingFilter.MDC_SAMPLED, "true");
+
+        // Act & Assert
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.INFO, "Finding contato with ID {}", null, null));
+    }
+
+    @Test
+    void testOutsideRequestKeepsInfo() {
+        // Act & Assert
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.INFO, "Rebuilding contacts search index", null, null));
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.maicon.unittests.mapper;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
@@ -10,10 +11,14 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import br.com.maicon.data.dto.v1.ContatosDTO;
 import br.com.maicon.data.dto.v1.ProfissionaisDTO;
 import br.com.maicon.mapper.DozerMapper;
+import br.com.maicon.models.Contatos;
 import br.com.maicon.models.Profissionais;
 import br.com.maicon.unittests.mapper.mocks.MockProfissionais;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 public class DozerMapperTest {
 
@@ -139,4 +144,54 @@ public class DozerMapperTest {
         assertEquals(expectedDate, outputTen.getDeletedDate());
     }
 
+    @Test
+    public void parseContatosEntityToDTOTest() {
+        // Arrange
+        Contatos contato = new Contatos();
+        contato.setId(ID_ONE);
+        contato.setNome(EXPECTED_NAME_PREFIX + "1");
+        contato.setContato("11999999999");
+        contato.setCreatedDate(expectedDate);
+        contato.setProfissionalId(ID_FIVE);
+        contato.setDeletedProfissional(DELETED_FLAG);
+
+        // Act
+        ContatosDTO output = DozerMapper.parseObject(contato, ContatosDTO.class);
+
+        // Assert
+        assertEquals(ID_ONE, output.getId());
+        assertEquals(EXPECTED_NAME_PREFIX + "1", output.getNome());
+        assertEquals("11999999999", output.getContato());
+        assertEquals(expectedDate, output.getCreatedDate());
+        assertEquals(ID_FIVE, output.getProfissionalId());
+        assertEquals(DELETED_FLAG, output.getDeletedProfissional());
+    }
+
+    @Test
+    public void parseUnsupportedTypeTest() {
+        // Arrange & Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> DozerMapper.parseObject(inputObject.mockEntity(), ContatosDTO.class));
+    }
+
+    @Test
+    public void parseRecordsTimerTest() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+
+        try {
+            // Act
+            DozerMapper.parseObject(inputObject.mockEntity(), ProfissionaisDTO.class);
+            DozerMapper.parseListObjects(inputObject.mockEntityList(), ProfissionaisDTO.class);
+
+            // Assert
+            assertEquals(1, registry.get(DozerMapper.METRIC_NAME)
+                    .tag("destination", "ProfissionaisDTO").tag("operation", "object").timer().count());
+            assertEquals(1, registry.get(DozerMapper.METRIC_NAME)
+                    .tag("destination", "ProfissionaisDTO").tag("operation", "list").timer().count());
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
 }
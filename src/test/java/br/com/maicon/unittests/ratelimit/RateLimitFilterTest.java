@@ -0,0 +1,236 @@
+package br.com.maicon.unittests.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.maicon.ratelimit.RateLimitFilter;
+import br.com.maicon.ratelimit.RouteCost;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+class RateLimitFilterTest {
+
+    private static final String BASE_URL = "/api/contatos/v1";
+
+    private SimpleMeterRegistry registry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = filter(0);
+    }
+
+    @Test
+    void testRouteCost() {
+        // Act & Assert
+        assertEquals(RouteCost.FIND_BY_ID, RouteCost.of(new MockHttpServletRequest("GET", BASE_URL + "/1")));
+        assertEquals(RouteCost.LIST, RouteCost.of(new MockHttpServletRequest("GET", BASE_URL)));
+        assertEquals(RouteCost.SEARCH, RouteCost.of(search("Maria")));
+        assertEquals(RouteCost.LIST, RouteCost.of(search("")));
+        assertEquals(RouteCost.EXPORT, RouteCost.of(new MockHttpServletRequest("GET", BASE_URL + "/export")));
+        assertEquals(RouteCost.EXPORT, RouteCost.of(new MockHttpServletRequest("GET", "/api/reactive/contatos/v1/stream")));
+        assertEquals(RouteCost.WRITE, RouteCost.of(new MockHttpServletRequest("POST", BASE_URL)));
+        assertEquals(RouteCost.WRITE, RouteCost.of(new MockHttpServletRequest("DELETE", BASE_URL + "/1")));
+        assertEquals(RouteCost.BULK_WRITE, RouteCost.of(new MockHttpServletRequest("POST", BASE_URL + "/import")));
+    }
+
+    @Test
+    void testSearchesConsumeMoreTokensThanFindById() throws Exception {
+        // Act
+        MockHttpServletResponse first = perform(search("Maria"));
+        MockHttpServletResponse second = perform(search("Maria"));
+        MockHttpServletResponse findById = perform(new MockHttpServletRequest("GET", BASE_URL + "/1"));
+
+        // Assert
+        assertEquals(200, first.getStatus());
+        assertEquals(429, second.getStatus());
+        assertNotNull(second.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(second.getContentAsString().contains("Limite de requisições excedido"));
+        assertEquals(200, findById.getStatus());
+        assertEquals(1.0, registry.get(RateLimitFilter.METRIC_NAME)
+                .tag("reason", "rate_limit").tag("route", "SEARCH").counter().count());
+    }
+
+    @Test
+    void testClientsHaveSeparateBuckets() throws Exception {
+        // Arrange
+        MockHttpServletRequest otherAddress = search("Maria");
+        otherAddress.setRemoteAddr("10.0.0.2");
+        MockHttpServletRequest apiKey = search("Maria");
+        apiKey.addHeader("X-API-Key", "integracao");
+
+        // Act
+        perform(search("Maria"));
+        MockHttpServletResponse otherAddressResponse = perform(otherAddress);
+        MockHttpServletResponse apiKeyResponse = perform(apiKey);
+
+        // Assert
+        assertEquals(200, otherAddressResponse.getStatus());
+        assertEquals(200, apiKeyResponse.getStatus());
+    }
+
+    @Test
+    void testUnknownApiKeysShareTheAddressBucket() throws Exception {
+        // Arrange
+        MockHttpServletRequest first = search("Maria");
+        first.addHeader("X-API-Key", "aleatoria-1");
+        MockHttpServletRequest second = search("Maria");
+        second.addHeader("X-API-Key", "aleatoria-2");
+
+        // Act
+        MockHttpServletResponse firstResponse = perform(first);
+        MockHttpServletResponse secondResponse = perform(second);
+
+        // Assert
+        assertEquals(200, firstResponse.getStatus());
+        assertEquals(429, secondResponse.getStatus());
+    }
+
+    @Test
+    void testNonApiPathsAreNotLimited() throws Exception {
+        // Act
+        for (int i = 0; i < 20; i++) {
+            assertEquals(200, perform(new MockHttpServletRequest("GET", "/actuator/prometheus")).getStatus());
+        }
+    }
+
+    @Test
+    void testLoadShedding() throws Exception {
+        // Arrange
+        filter = filter(1);
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[1];
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                try {
+                    nested[0] = new MockHttpServletResponse();
+                    filter.doFilter(new MockHttpServletRequest("GET", BASE_URL + "/2"), nested[0], new MockFilterChain());
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        };
+
+        // Act
+        MockHttpServletResponse outer = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", BASE_URL + "/1"), outer, chain);
+        MockHttpServletResponse after = perform(new MockHttpServletRequest("GET", BASE_URL + "/3"));
+
+        // Assert
+        assertEquals(503, nested[0].getStatus());
+        assertEquals("1", nested[0].getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(200, after.getStatus());
+        assertEquals(1.0, registry.get(RateLimitFilter.METRIC_NAME).tag("reason", "overload").counter().count());
+    }
+
+    @Test
+    void testLoadSheddingDoesNotConsumeTokens() throws Exception {
+        // Arrange
+        filter = filter(1);
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[1];
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                try {
+                    nested[0] = new MockHttpServletResponse();
+                    filter.doFilter(search("Maria"), nested[0], new MockFilterChain());
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        };
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", BASE_URL + "/1"), new MockHttpServletResponse(), chain);
+        MockHttpServletResponse after = perform(search("Maria"));
+
+        // Assert
+        assertEquals(503, nested[0].getStatus());
+        assertEquals(200, after.getStatus());
+    }
+
+    @Test
+    void testRateLimitedRequestsAreNotCountedInFlight() throws Exception {
+        // Arrange
+        filter = filter(1);
+        perform(search("Maria"));
+
+        // Act
+        MockHttpServletResponse limited = perform(search("Maria"));
+        MockHttpServletResponse after = perform(new MockHttpServletRequest("GET", BASE_URL + "/1"));
+
+        // Assert
+        assertEquals(429, limited.getStatus());
+        assertEquals(200, after.getStatus());
+    }
+
+    @Test
+    void testEventStreamIsReleasedWhenStarted() throws Exception {
+        // Arrange
+        filter = filter(1);
+        MockHttpServletRequest stream = new MockHttpServletRequest("GET", "/api/changes/v1/stream");
+        stream.setAsyncSupported(true);
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                request.startAsync();
+                response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+            }
+        };
+
+        // Act
+        filter.doFilter(stream, new MockHttpServletResponse(), chain);
+        MockHttpServletResponse after = perform(new MockHttpServletRequest("GET", BASE_URL + "/1"));
+
+        // Assert
+        assertTrue(stream.isAsyncStarted());
+        assertEquals(200, after.getStatus());
+    }
+
+    @Test
+    void testCostAboveCapacity() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitFilter(10, 1, 1, 2, 10, 50, 2, 50, 0, 100,
+                "X-API-Key", Set.of(), new ObjectMapper(), registry));
+    }
+
+    private RateLimitFilter filter(int maxConcurrentRequests) {
+        return new RateLimitFilter(15, 0.001, 1, 2, 10, 15, 2, 15, maxConcurrentRequests, 100, "X-API-Key",
+                Set.of("integracao"), new ObjectMapper(), registry);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        if (response.getStatus() == 200) {
+            assertNotNull(chain.getRequest());
+        } else {
+            assertNull(chain.getRequest());
+        }
+        return response;
+    }
+
+    private static MockHttpServletRequest search(String q) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", BASE_URL);
+        request.setParameter("q", q);
+        return request;
+    }
+}
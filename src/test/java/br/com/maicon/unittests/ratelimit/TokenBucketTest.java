@@ -0,0 +1,90 @@
+package br.com.maicon.unittests.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.maicon.ratelimit.TokenBucket;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void testConsumeUpToCapacity() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(10, 1, 0L);
+
+        // Act & Assert
+        assertEquals(0L, bucket.tryConsume(4, 0L));
+        assertEquals(0L, bucket.tryConsume(6, 0L));
+        assertEquals(0L, bucket.available(0L));
+        assertEquals(SECOND, bucket.tryConsume(1, 0L));
+    }
+
+    @Test
+    void testRejectionDoesNotConsumeTokens() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(10, 1, 0L);
+        bucket.tryConsume(8, 0L);
+
+        // Act
+        long wait = bucket.tryConsume(5, 0L);
+
+        // Assert
+        assertEquals(3 * SECOND, wait);
+        assertEquals(2L, bucket.available(0L));
+        assertEquals(0L, bucket.tryConsume(2, 0L));
+    }
+
+    @Test
+    void testRefill() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(10, 2, 0L);
+        bucket.tryConsume(10, 0L);
+
+        // Act & Assert
+        assertEquals(4L, bucket.available(2 * SECOND));
+        assertEquals(0L, bucket.tryConsume(4, 2 * SECOND));
+        assertEquals(10L, bucket.available(100 * SECOND));
+        assertEquals(0L, bucket.tryConsume(10, 100 * SECOND));
+    }
+
+    @Test
+    void testConcurrentConsumers() throws InterruptedException {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(1000, 0.001, 0L);
+        AtomicInteger accepted = new AtomicInteger();
+        Thread[] threads = new Thread[16];
+
+        // Act
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = Thread.ofVirtual().start(() -> {
+                for (int j = 0; j < 200; j++) {
+                    if (bucket.tryConsume(1, 0L) == 0L) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        assertEquals(1000, accepted.get());
+        assertTrue(bucket.tryConsume(1, 0L) > 0);
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1, 0L));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(10, 0, 0L));
+    }
+}
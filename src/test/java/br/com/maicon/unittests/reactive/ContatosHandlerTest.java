@@ -0,0 +1,192 @@
+package br.com.maicon.unittests.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import br.com.maicon.data.dto.v1.ContatosDTO;
+import br.com.maicon.models.Contatos;
+import br.com.maicon.reactive.ContatosHandler;
+import br.com.maicon.reactive.ProfissionaisHandler;
+import br.com.maicon.reactive.ReactiveApiConfig;
+import br.com.maicon.repositories.ReactiveContatosRepository;
+import br.com.maicon.utils.KeysetPage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class ContatosHandlerTest {
+
+    private WebTestClient client;
+
+    private static final String BASE_URL = "/contatos/v1";
+    private static final Instant UPDATED_DATE = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private ReactiveContatosRepository repository;
+
+    @Mock
+    private ProfissionaisHandler profissionaisHandler;
+
+    @InjectMocks
+    private ContatosHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        client = WebTestClient.bindToRouterFunction(ReactiveApiConfig.routes(profissionaisHandler, handler)).build();
+    }
+
+    @Test
+    void testFindAll_WithNextPage() {
+        // Arrange
+        when(repository.findAllAfter(0L, 3)).thenReturn(Flux.just(contato(1L), contato(2L), contato(3L)));
+
+        // Act & Assert
+        client.get().uri(BASE_URL + "?limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectHeader().valueEquals(KeysetPage.NEXT_CURSOR_HEADER, KeysetPage.encodeCursor(2L))
+                .expectBodyList(ContatosDTO.class).hasSize(2);
+    }
+
+    @Test
+    void testFindAll_AfterCursor() {
+        // Arrange
+        when(repository.findAllAfter(2L, KeysetPage.DEFAULT_LIMIT + 1)).thenReturn(Flux.just(contato(3L)));
+
+        // Act & Assert
+        client.get().uri(BASE_URL + "?after=" + KeysetPage.encodeCursor(2L))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(KeysetPage.NEXT_CURSOR_HEADER)
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(3);
+    }
+
+    @Test
+    void testFindAllWithQuery() {
+        // Arrange
+        when(repository.search("Nome", KeysetPage.DEFAULT_LIMIT)).thenReturn(Flux.just(contato(7L)));
+
+        // Act & Assert
+        client.get().uri(BASE_URL + "?q=Nome")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(7)
+                .jsonPath("$[0].profissionalId").isEqualTo(10);
+        verify(repository, never()).findAllAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void testFindAllWithQuery_Ndjson() {
+        // Arrange
+        when(repository.search("Nome", KeysetPage.DEFAULT_LIMIT)).thenReturn(Flux.just(contato(7L), contato(4L)));
+
+        // Act
+        List<ContatosDTO> result = client.get().uri(BASE_URL + "?q=Nome")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .returnResult(ContatosDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Assert
+        assertEquals(List.of(7L, 4L), result.stream().map(ContatosDTO::getId).toList());
+    }
+
+    @Test
+    void testStream() {
+        // Arrange
+        when(repository.streamAll()).thenReturn(Flux.just(contato(1L), contato(2L), contato(3L)));
+
+        // Act
+        List<ContatosDTO> result = client.get().uri(BASE_URL + "/stream")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .returnResult(ContatosDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L), result.stream().map(ContatosDTO::getId).toList());
+    }
+
+    @Test
+    void testFindById() {
+        // Arrange
+        when(repository.findById(1L)).thenReturn(Mono.just(contato(1L)));
+
+        // Act & Assert
+        client.get().uri(BASE_URL + "/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1-3\"")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.nome").isEqualTo("Nome 1")
+                .jsonPath("$.contato").isEqualTo("11999999999");
+    }
+
+    @Test
+    void testFindById_NotModified() {
+        // Arrange
+        when(repository.findById(1L)).thenReturn(Mono.just(contato(1L)));
+
+        // Act & Assert
+        client.get().uri(BASE_URL + "/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1-3\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void testFindById_NotFound() {
+        // Arrange
+        when(repository.findById(99L)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        client.get().uri(BASE_URL + "/99")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Contato não encontrado")
+                .jsonPath("$.details").isEqualTo("uri=" + BASE_URL + "/99");
+    }
+
+    private static Contatos contato(Long id) {
+        Contatos contato = new Contatos();
+        contato.setId(id);
+        contato.setNome("Nome " + id);
+        contato.setContato("11999999999");
+        contato.setCreatedDate(new Date());
+        contato.setProfissionalId(10L);
+        contato.setDeletedProfissional(false);
+        contato.setVersion(3L);
+        contato.setUpdatedDate(UPDATED_DATE);
+        return contato;
+    }
+}
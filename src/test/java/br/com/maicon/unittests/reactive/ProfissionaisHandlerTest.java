@@ -0,0 +1,187 @@
+package br.com.maicon.unittests.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import br.com.maicon.data.dto.v1.ProfissionaisDTO;
+import br.com.maicon.models.Profissionais;
+import br.com.maicon.reactive.ContatosHandler;
+import br.com.maicon.reactive.ProfissionaisHandler;
+import br.com.maicon.reactive.ReactiveApiConfig;
+import br.com.maicon.repositories.ReactiveProfissionaisRepository;
+import br.com.maicon.utils.KeysetPage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class ProfissionaisHandlerTest {
+
+    private WebTestClient client;
+
+    private static final String BASE_URL = "/profissionais/v1";
+    private static final Instant UPDATED_DATE = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private ReactiveProfissionaisRepository repository;
+
+    @Mock
+    private ContatosHandler contatosHandler;
+
+    @InjectMocks
+    private ProfissionaisHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        client = WebTestClient.bindToRouterFunction(ReactiveApiConfig.routes(handler, contatosHandler)).build();
+    }
+
+    @Test
+    void testFindAll_WithNextPage() {
+        // Arrange
+        when(repository.findActiveAfter(0L, 3)).thenReturn(Flux.just(profissional(1L), profissional(2L), profissional(3L)));
+
+        // Act & Assert
+        client.get().uri(BASE_URL + "?limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectHeader().valueEquals(KeysetPage.NEXT_CURSOR_HEADER, KeysetPage.encodeCursor(2L))
+                .expectBodyList(ProfissionaisDTO.class).hasSize(2);
+    }
+
+    @Test
+    void testFindAll_Ndjson() {
+        // Arrange
+        when(repository.findActiveAfter(0L, KeysetPage.DEFAULT_LIMIT + 1)).thenReturn(Flux.just(profissional(1L), profissional(2L)));
+
+        // Act
+        List<ProfissionaisDTO> result = client.get().uri(BASE_URL)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .expectHeader().doesNotExist(KeysetPage.NEXT_CURSOR_HEADER)
+                .returnResult(ProfissionaisDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Assert
+        assertEquals(List.of(1L, 2L), result.stream().map(ProfissionaisDTO::getId).toList());
+    }
+
+    @Test
+    void testFindAllWithQuery() {
+        // Arrange
+        when(repository.search("Nome", KeysetPage.DEFAULT_LIMIT)).thenReturn(Flux.just(profissional(7L)));
+
+        // Act & Assert
+        client.get().uri(BASE_URL + "?q=Nome")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(7);
+        verify(repository, never()).findActiveAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void testFindAll_InvalidLimit() {
+        // Act & Assert
+        client.get().uri(BASE_URL + "?limit=abc")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(false)
+                .jsonPath("$.message").isEqualTo("O parâmetro limit deve ser um número inteiro.");
+    }
+
+    @Test
+    void testStream() {
+        // Arrange
+        when(repository.streamAllActive()).thenReturn(Flux.just(profissional(1L), profissional(2L), profissional(3L)));
+
+        // Act
+        List<ProfissionaisDTO> result = client.get().uri(BASE_URL + "/stream")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .returnResult(ProfissionaisDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L), result.stream().map(ProfissionaisDTO::getId).toList());
+    }
+
+    @Test
+    void testFindById() {
+        // Arrange
+        when(repository.findByIdAndActive(1L)).thenReturn(Mono.just(profissional(1L)));
+
+        // Act & Assert
+        client.get().uri(BASE_URL + "/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1-3\"")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.nome").isEqualTo("Nome 1");
+    }
+
+    @Test
+    void testFindById_NotModified() {
+        // Arrange
+        when(repository.findByIdAndActive(1L)).thenReturn(Mono.just(profissional(1L)));
+
+        // Act & Assert
+        client.get().uri(BASE_URL + "/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1-3\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void testFindById_NotFound() {
+        // Arrange
+        when(repository.findByIdAndActive(99L)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        client.get().uri(BASE_URL + "/99")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Profissional não encontrado")
+                .jsonPath("$.details").isEqualTo("uri=" + BASE_URL + "/99");
+    }
+
+    private static Profissionais profissional(Long id) {
+        Profissionais profissional = new Profissionais();
+        profissional.setId(id);
+        profissional.setNome("Nome " + id);
+        profissional.setCargo("Desenvolvedor");
+        profissional.setNascimento(new Date());
+        profissional.setCreatedDate(new Date());
+        profissional.setVersion(3L);
+        profissional.setUpdatedDate(UPDATED_DATE);
+        return profissional;
+    }
+}
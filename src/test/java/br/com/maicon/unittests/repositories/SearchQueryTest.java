@@ -0,0 +1,122 @@
+package br.com.maicon.unittests.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.maicon.repositories.SearchQuery;
+
+class SearchQueryTest {
+
+    @Test
+    void testTsQuery() {
+        // Act & Assert
+        assertEquals("João:* & Silva:*", SearchQuery.tsQuery("João  Silva"));
+        assertEquals("maria:*", SearchQuery.tsQuery("maria"));
+        assertEquals("51:* & 99999:* & 9999:*", SearchQuery.tsQuery("(51) 99999-9999"));
+    }
+
+    @Test
+    void testTsQueryIgnoresTsquerySyntax() {
+        // Act & Assert
+        assertEquals("a:* & b:* & c:*", SearchQuery.tsQuery("a & b | !c:*"));
+        assertEquals("", SearchQuery.tsQuery(" !&|():* "));
+        assertEquals("", SearchQuery.tsQuery(""));
+    }
+
+    @Test
+    void testContainsPattern() {
+        // Act & Assert
+        assertEquals("%maria%", SearchQuery.containsPattern("maria"));
+        assertEquals("%50\\%%", SearchQuery.containsPattern("50%"));
+        assertEquals("%a\\_b%", SearchQuery.containsPattern("a_b"));
+        assertEquals("%c:\\\\temp%", SearchQuery.containsPattern("c:\\temp"));
+        assertEquals("%\\\\\\%\\_%", SearchQuery.containsPattern("\\%_"));
+    }
+
+    @Test
+    void testDateRange() {
+        // Act & Assert
+        assertRange("1990-01-01", "1991-01-01", SearchQuery.dateRange("1990"));
+        assertRange("1990-02-01", "1990-03-01", SearchQuery.dateRange("1990-02"));
+        assertRange("1990-12-01", "1991-01-01", SearchQuery.dateRange("1990-12"));
+        assertRange("1990-05-12", "1990-05-13", SearchQuery.dateRange(" 1990-05-12 "));
+        assertRange("2024-02-29", "2024-03-01", SearchQuery.dateRange("2024-02-29"));
+    }
+
+    @Test
+    void testDateRange_Invalid() {
+        // Act & Assert
+        assertFalse(SearchQuery.dateRange("199").isPresent());
+        assertFalse(SearchQuery.dateRange("1990-1").isPresent());
+        assertFalse(SearchQuery.dateRange("1990-13").isPresent());
+        assertFalse(SearchQuery.dateRange("2023-02-29").isPresent());
+        assertFalse(SearchQuery.dateRange("12/05/1990").isPresent());
+        assertFalse(SearchQuery.dateRange("maria").isPresent());
+    }
+
+    @Test
+    void testNumber() {
+        // Act & Assert
+        assertEquals(Optional.of(42L), SearchQuery.number("42"));
+        assertEquals(Optional.of(7L), SearchQuery.number(" 007 "));
+        assertEquals(Optional.of(999_999_999_999_999_999L), SearchQuery.number("999999999999999999"));
+    }
+
+    @Test
+    void testNumber_Invalid() {
+        // Act & Assert
+        assertFalse(SearchQuery.number("-1").isPresent());
+        assertFalse(SearchQuery.number("1.5").isPresent());
+        assertFalse(SearchQuery.number("9999999999999999999").isPresent());
+        assertFalse(SearchQuery.number("").isPresent());
+        assertFalse(SearchQuery.number("12a").isPresent());
+    }
+
+    @Test
+    void testToIds() {
+        // Act
+        List<Long> ids = SearchQuery.toIds(List.of(1, 2L, BigInteger.valueOf(3)));
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L), ids);
+    }
+
+    @Test
+    void testInOrder() {
+        // Arrange
+        List<String> rows = List.of("1:maria", "2:joao", "3:joana");
+        Function<String, Long> idExtractor = row -> Long.valueOf(row.substring(0, row.indexOf(':')));
+
+        // Act
+        List<String> ordered = SearchQuery.inOrder(List.of(3L, 1L, 2L), rows, idExtractor);
+
+        // Assert
+        assertEquals(List.of("3:joana", "1:maria", "2:joao"), ordered);
+    }
+
+    @Test
+    void testInOrderSkipsMissingRows() {
+        // Arrange
+        List<String> rows = List.of("1:maria", "3:joana");
+        Function<String, Long> idExtractor = row -> Long.valueOf(row.substring(0, row.indexOf(':')));
+
+        // Act
+        List<String> ordered = SearchQuery.inOrder(List.of(3L, 2L, 1L), rows, idExtractor);
+
+        // Assert
+        assertEquals(List.of("3:joana", "1:maria"), ordered);
+    }
+
+    private static void assertRange(String from, String to, Optional<LocalDate[]> range) {
+        assertArrayEquals(new LocalDate[] {LocalDate.parse(from), LocalDate.parse(to)}, range.orElseThrow());
+    }
+}
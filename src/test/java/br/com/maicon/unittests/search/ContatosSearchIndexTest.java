@@ -0,0 +1,111 @@
+package br.com.maicon.unittests.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.maicon.models.Contatos;
+import br.com.maicon.search.ContatosSearchIndex;
+
+class ContatosSearchIndexTest {
+
+    @TempDir
+    Path indexDir;
+
+    private ContatosSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndex = new ContatosSearchIndex(indexDir);
+        searchIndex.rebuild(Stream.of(
+                contato(1L, "Celular", "99999-9999", 5L),
+                contato(2L, "Email", "joao@exemplo.com", 50L),
+                contato(3L, "Telefone Comercial", "3333-3333", 500L),
+                contato(4L, "Fixo", "4444-4444", 5L)));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Test
+    void testSearchIgnoresAccentsAndCase() {
+        // Act
+        List<Long> ids = searchIndex.search("COMÉRCIAL", 10);
+
+        // Assert
+        assertEquals(List.of(3L), ids);
+    }
+
+    @Test
+    void testNumberMatchesExactProfissionalIdOnly() {
+        // Act
+        List<Long> ids = searchIndex.search("5", 10);
+
+        // Assert
+        assertEquals(2, ids.size());
+        assertTrue(ids.containsAll(List.of(1L, 4L)));
+    }
+
+    @Test
+    void testNumberAlsoMatchesContatoText() {
+        // Act
+        List<Long> ids = searchIndex.search("3333", 10);
+
+        // Assert
+        assertEquals(List.of(3L), ids);
+    }
+
+    @Test
+    void testSearchByProfissionalIdIsExact() {
+        // Act
+        List<Long> ids = searchIndex.search("profissionalId:5", 10);
+
+        // Assert
+        assertEquals(2, ids.size());
+        assertTrue(ids.containsAll(List.of(1L, 4L)));
+    }
+
+    @Test
+    void testDeleteByProfissional() {
+        // Act
+        searchIndex.deleteByProfissional(5L);
+
+        // Assert
+        assertTrue(searchIndex.search("profissionalId:5", 10).isEmpty());
+        assertEquals(List.of(2L), searchIndex.search("email", 10));
+    }
+
+    @Test
+    void testContatoOfDeletedProfissionalIsRemoved() {
+        // Arrange
+        Contatos contato = contato(2L, "Email", "joao@exemplo.com", 50L);
+        contato.setDeletedProfissional(true);
+
+        // Act
+        searchIndex.index(contato);
+
+        // Assert
+        assertTrue(searchIndex.search("email", 10).isEmpty());
+    }
+
+    private static Contatos contato(Long id, String nome, String valor, Long profissionalId) {
+        Contatos contato = new Contatos();
+        contato.setId(id);
+        contato.setNome(nome);
+        contato.setContato(valor);
+        contato.setProfissionalId(profissionalId);
+        contato.setDeletedProfissional(false);
+        return contato;
+    }
+}
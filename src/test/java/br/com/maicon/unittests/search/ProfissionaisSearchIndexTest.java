@@ -0,0 +1,251 @@
+package br.com.maicon.unittests.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.maicon.models.Profissionais;
+import br.com.maicon.search.AbstractSearchIndex;
+import br.com.maicon.search.ProfissionaisSearchIndex;
+
+class ProfissionaisSearchIndexTest {
+
+    @TempDir
+    Path indexDir;
+
+    private ProfissionaisSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndex = new ProfissionaisSearchIndex(indexDir);
+        searchIndex.rebuild(Stream.of(
+                profissional(1L, "João Silva", "Desenvolvedor", "1990-01-15"),
+                profissional(2L, "Maria Oliveira", "Designer", "1985-07-23"),
+                profissional(3L, "Joana Souza", "Tester", "1990-05-12")));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Test
+    void testRebuildMarksIndexReady() {
+        // Arrange & Act & Assert
+        assertTrue(searchIndex.isReady());
+    }
+
+    @Test
+    void testSearchIgnoresAccentsAndCase() {
+        // Act
+        List<Long> ids = searchIndex.search("JOAO", 10);
+
+        // Assert
+        assertEquals(List.of(1L), ids);
+    }
+
+    @Test
+    void testSearchByPrefix() {
+        // Act
+        List<Long> ids = searchIndex.search("jo", 10);
+
+        // Assert
+        assertEquals(2, ids.size());
+        assertTrue(ids.containsAll(List.of(1L, 3L)));
+    }
+
+    @Test
+    void testSearchFuzzy() {
+        // Act
+        List<Long> ids = searchIndex.search("oliviera~", 10);
+
+        // Assert
+        assertEquals(List.of(2L), ids);
+    }
+
+    @Test
+    void testSearchFieldScoped() {
+        // Act
+        List<Long> byCargo = searchIndex.search("cargo:tester", 10);
+        List<Long> byNascimento = searchIndex.search("nascimento:1990*", 10);
+
+        // Assert
+        assertEquals(List.of(3L), byCargo);
+        assertEquals(2, byNascimento.size());
+    }
+
+    @Test
+    void testSearchRespectsLimit() {
+        // Act
+        List<Long> ids = searchIndex.search("jo", 1);
+
+        // Assert
+        assertEquals(1, ids.size());
+    }
+
+    @Test
+    void testIndexUpdatesAreVisibleImmediately() {
+        // Arrange
+        Profissionais updated = profissional(2L, "Maria Costa", "Designer", "1985-07-23");
+
+        // Act
+        searchIndex.index(updated);
+
+        // Assert
+        assertTrue(searchIndex.search("oliveira", 10).isEmpty());
+        assertEquals(List.of(2L), searchIndex.search("costa", 10));
+    }
+
+    @Test
+    void testDeletedProfissionalIsRemoved() {
+        // Arrange
+        Profissionais deleted = profissional(1L, "João Silva", "Desenvolvedor", "1990-01-15");
+        deleted.setDeleted(true);
+
+        // Act
+        searchIndex.index(deleted);
+
+        // Assert
+        assertFalse(searchIndex.search("silva", 10).contains(1L));
+    }
+
+    @Test
+    void testWritesInTransactionAreAppliedAfterCommit() {
+        // Arrange
+        Profissionais updated = profissional(2L, "Maria Costa", "Designer", "1985-07-23");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            searchIndex.index(updated);
+            searchIndex.delete(1L);
+
+            // Assert
+            assertEquals(List.of(2L), searchIndex.search("oliveira", 10));
+            assertEquals(List.of(1L), searchIndex.search("silva", 10));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(List.of(2L), searchIndex.search("costa", 10));
+        assertTrue(searchIndex.search("silva", 10).isEmpty());
+    }
+
+    @Test
+    void testWritesInRolledBackTransactionAreDiscarded() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            searchIndex.delete(1L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        assertEquals(List.of(1L), searchIndex.search("silva", 10));
+    }
+
+    @Test
+    void testNewIndexIsNotReadyAndHasNoCatchUpStart(@TempDir Path emptyDir) throws IOException {
+        // Act
+        ProfissionaisSearchIndex newIndex = new ProfissionaisSearchIndex(emptyDir);
+
+        // Assert
+        try {
+            assertFalse(newIndex.isReady());
+            assertEquals(Optional.empty(), newIndex.getCatchUpStart());
+        } finally {
+            newIndex.close();
+        }
+    }
+
+    @Test
+    void testReopenedIndexIsNotReadyAndKeepsHighWaterMark() throws IOException {
+        // Arrange
+        Instant updatedDate = Instant.parse("2024-03-10T12:00:00Z");
+        Profissionais updated = profissional(2L, "Maria Costa", "Designer", "1985-07-23");
+        updated.setUpdatedDate(updatedDate);
+        searchIndex.index(updated);
+        searchIndex.close();
+
+        // Act
+        searchIndex = new ProfissionaisSearchIndex(indexDir);
+
+        // Assert
+        assertFalse(searchIndex.isReady());
+        assertEquals(Optional.of(updatedDate.minus(AbstractSearchIndex.CATCH_UP_MARGIN)), searchIndex.getCatchUpStart());
+        assertEquals(List.of(2L), searchIndex.search("costa", 10));
+    }
+
+    @Test
+    void testCatchUpAppliesChangesAndMarksIndexReady() throws IOException {
+        // Arrange
+        searchIndex.close();
+        searchIndex = new ProfissionaisSearchIndex(indexDir);
+        Profissionais updated = profissional(2L, "Maria Costa", "Designer", "1985-07-23");
+        Profissionais deleted = profissional(3L, "Joana Souza", "Tester", "1990-05-12");
+        deleted.setDeleted(true);
+
+        // Act
+        long count = searchIndex.catchUp(Stream.of(updated, deleted), 2);
+
+        // Assert
+        assertEquals(2, count);
+        assertTrue(searchIndex.isReady());
+        assertEquals(List.of(2L), searchIndex.search("costa", 10));
+        assertTrue(searchIndex.search("joana", 10).isEmpty());
+    }
+
+    @Test
+    void testCatchUpWithDivergentCountRequiresRebuild() throws IOException {
+        // Arrange
+        searchIndex.close();
+        searchIndex = new ProfissionaisSearchIndex(indexDir);
+
+        // Act
+        long count = searchIndex.catchUp(Stream.empty(), 2);
+
+        // Assert
+        assertEquals(-1, count);
+        assertFalse(searchIndex.isReady());
+    }
+
+    @Test
+    void testInvalidSyntaxFallsBackToPlainTerms() {
+        // Act
+        List<Long> ids = searchIndex.search("maria (", 10);
+
+        // Assert
+        assertEquals(List.of(2L), ids);
+    }
+
+    private static Profissionais profissional(Long id, String nome, String cargo, String nascimento) {
+        Profissionais profissional = new Profissionais();
+        profissional.setId(id);
+        profissional.setNome(nome);
+        profissional.setCargo(cargo);
+        profissional.setNascimento(Date.from(LocalDate.parse(nascimento).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        profissional.setDeleted(false);
+        return profissional;
+    }
+}
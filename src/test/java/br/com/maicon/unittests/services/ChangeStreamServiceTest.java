@@ -0,0 +1,220 @@
+package br.com.maicon.unittests.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import br.com.maicon.data.dto.v1.ChangeEventDTO;
+import br.com.maicon.data.dto.v1.ChangeEventDTO.Operacao;
+import br.com.maicon.repositories.OutboxRepository;
+import br.com.maicon.services.ChangeStreamService;
+
+class ChangeStreamServiceTest {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    private ChangeStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        service = service(1000, Duration.ofSeconds(15));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void testSubscribeStartsAtLastPosicao() throws Exception {
+        // Arrange
+        when(outboxRepository.findLastPosicao()).thenReturn(5L);
+        when(outboxRepository.findPublishedAfter(5L, BATCH_SIZE)).thenReturn(List.of(event(6), event(7)));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // Act
+        service.subscribe(emitter, null);
+        service.broadcast();
+
+        // Assert
+        assertTrue(emitter.next().startsWith("id:6\nevent:" + ChangeStreamService.CHANGE_EVENT + "\n"));
+        assertTrue(emitter.next().startsWith("id:7\n"));
+        assertEquals(1, service.getSubscriberCount());
+    }
+
+    @Test
+    void testBroadcastSharesQueryBetweenSubscribersAtSamePosicao() throws Exception {
+        // Arrange
+        when(outboxRepository.findPublishedAfter(3L, BATCH_SIZE)).thenReturn(List.of(event(4)));
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        service.subscribe(first, "3");
+        service.subscribe(second, "3");
+
+        // Act
+        service.broadcast();
+        service.broadcast();
+
+        // Assert
+        assertTrue(first.next().startsWith("id:4\n"));
+        assertTrue(second.next().startsWith("id:4\n"));
+        verify(outboxRepository, times(1)).findPublishedAfter(3L, BATCH_SIZE);
+        verify(outboxRepository, times(1)).findPublishedAfter(4L, BATCH_SIZE);
+        verify(outboxRepository, never()).findLastPosicao();
+    }
+
+    @Test
+    void testBroadcastSendsResetWhenEventsWerePurged() throws Exception {
+        // Arrange
+        when(outboxRepository.findPublishedAfter(3L, BATCH_SIZE)).thenReturn(List.of(event(10)));
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.subscribe(emitter, "3");
+
+        // Act
+        service.broadcast();
+
+        // Assert
+        assertTrue(emitter.next().startsWith("id:9\nevent:" + ChangeStreamService.RESET_EVENT + "\n"));
+        assertTrue(emitter.next().startsWith("id:10\n"));
+    }
+
+    @Test
+    void testSubscribeWithInvalidLastEventIdSendsReset() throws Exception {
+        // Arrange
+        when(outboxRepository.findLastPosicao()).thenReturn(8L);
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // Act
+        service.subscribe(emitter, "abc");
+
+        // Assert
+        assertTrue(emitter.next().startsWith("id:8\nevent:" + ChangeStreamService.RESET_EVENT + "\n"));
+        verify(outboxRepository, times(1)).findLastPosicao();
+    }
+
+    @Test
+    void testBroadcastClosesSubscriberWhenQueueIsFull() throws Exception {
+        // Arrange
+        service = service(1, Duration.ofSeconds(15));
+        when(outboxRepository.findPublishedAfter(0L, BATCH_SIZE)).thenReturn(List.of(event(1), event(2)));
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.subscribe(emitter, "0");
+
+        // Act
+        service.broadcast();
+
+        // Assert
+        assertEquals(0, service.getSubscriberCount());
+        assertTrue(emitter.completed);
+        assertNull(emitter.events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testBroadcastSendsHeartbeatWhenIdle() throws Exception {
+        // Arrange
+        service = service(1000, Duration.ZERO);
+        when(outboxRepository.findPublishedAfter(2L, BATCH_SIZE)).thenReturn(List.of());
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.subscribe(emitter, "2");
+
+        // Act
+        service.broadcast();
+
+        // Assert
+        assertTrue(emitter.next().startsWith(":heartbeat\n"));
+    }
+
+    @Test
+    void testBroadcastWithoutSubscribers() {
+        // Act
+        service.broadcast();
+
+        // Assert
+        verify(outboxRepository, never()).findPublishedAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void testPublishAndPurge() {
+        // Arrange
+        when(outboxRepository.publishPending(BATCH_SIZE)).thenReturn(3);
+
+        // Act
+        service.publish();
+        service.purgeExpired();
+
+        // Assert
+        verify(outboxRepository, times(1)).publishPending(BATCH_SIZE);
+        verify(outboxRepository, times(1)).deletePublishedBefore(any(Instant.class));
+    }
+
+    private ChangeStreamService service(int subscriberQueueSize, Duration heartbeatInterval) {
+        return new ChangeStreamService(outboxRepository, BATCH_SIZE, Duration.ofHours(24), Duration.ofMinutes(30),
+                subscriberQueueSize, heartbeatInterval);
+    }
+
+    private static ChangeEventDTO event(long posicao) {
+        ChangeEventDTO event = new ChangeEventDTO();
+        event.setPosicao(posicao);
+        event.setRecurso(OutboxRepository.CONTATOS);
+        event.setId(posicao);
+        event.setOperacao(Operacao.CREATED);
+        event.setOcorridoEm(new Date());
+        return event;
+    }
+
+    /**
+     * {@link SseEmitter} que registra os eventos enviados, com os dados de cada evento que não são texto omitidos.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(builder.build().stream()
+                    .map(data -> data.getData() instanceof String text ? text : "")
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            super.complete();
+        }
+
+        String next() throws InterruptedException {
+            String event = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event);
+            return event;
+        }
+    }
+}
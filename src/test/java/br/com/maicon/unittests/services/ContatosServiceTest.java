@@ -3,33 +3,80 @@ package br.com.maicon.unittests.services;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-
+import org.mockito.Spy;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.maicon.cache.ContatosCache;
+import br.com.maicon.cache.ReadCoalescer;
+import br.com.maicon.data.dto.v1.ChangeEventDTO.Operacao;
 import br.com.maicon.data.dto.v1.ContatosDTO;
+import br.com.maicon.datasource.ConsistencyToken;
+import br.com.maicon.exception.BadRequestException;
 import br.com.maicon.exception.ResourceNotFoundException;
 import br.com.maicon.mapper.DozerMapper;
 import br.com.maicon.models.Contatos;
 import br.com.maicon.models.Profissionais;
 import br.com.maicon.repositories.ContatosRepository;
+import br.com.maicon.repositories.ContatosRepositoryCustom.StagedContato;
+import br.com.maicon.repositories.OutboxRepository;
 import br.com.maicon.repositories.ProfissionaisRepository;
+import br.com.maicon.repositories.VersionSummary;
+import br.com.maicon.search.ContatosSearchIndex;
 import br.com.maicon.services.ContatosService;
 import br.com.maicon.services.validation.base.ValidatorBase;
 import br.com.maicon.utils.ApiRestResponse;
+import br.com.maicon.utils.BatchResponse;
+import br.com.maicon.utils.ExportFormat;
+import br.com.maicon.utils.ImportResponse;
+import br.com.maicon.utils.KeysetPage;
+import br.com.maicon.utils.ResourceVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
 
 class ContatosServiceTest {
 
@@ -50,6 +97,27 @@ class ContatosServiceTest {
     @Mock
     private ValidatorBase<ContatosDTO> validator;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ContatosSearchIndex contatosSearchIndex;
+
+    @Spy
+    private ContatosCache contatosCache = new ContatosCache(100, Duration.ofMinutes(1));
+
+    @Spy
+    private ReadCoalescer readCoalescer = new ReadCoalescer(mock(PlatformTransactionManager.class), 100, new SimpleMeterRegistry());
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private ContatosService contatosService;
 
@@ -87,7 +155,7 @@ class ContatosServiceTest {
     @Test
     void testFindAllWithQuery() {
         // Arrange
-        when(contatosRepository.findByQuery(MOCK_NAME)).thenReturn(List.of(contato));
+        when(contatosRepository.search(MOCK_NAME, KeysetPage.MAX_LIMIT)).thenReturn(List.of(contato));
 
         // Act
         List<ContatosDTO> result = contatosService.findAll(MOCK_NAME);
@@ -126,6 +194,117 @@ class ContatosServiceTest {
         assertEquals(contatoDto.getId(), result.get(0).getId());
     }
 
+    @Test
+    void testFindAllPage() {
+        // Arrange
+        Contatos nextContato = new Contatos();
+        nextContato.setId(MOCK_ID + 1);
+        when(contatosRepository.findAllAfter(0L, Limit.of(2))).thenReturn(List.of(contato, nextContato));
+
+        // Act
+        KeysetPage<ContatosDTO> result = contatosService.findAll(null, null, 1);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertEquals(MOCK_ID, result.getContent().get(0).getId());
+        assertEquals(KeysetPage.encodeCursor(MOCK_ID), result.getNextCursor());
+    }
+
+    @Test
+    void testFindAllPageWithQuery() {
+        // Arrange
+        when(contatosRepository.search(MOCK_NAME, 10)).thenReturn(List.of(contato));
+
+        // Act
+        KeysetPage<ContatosDTO> result = contatosService.findAll(MOCK_NAME, MOCK_ID, 10);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.hasNext());
+        verify(contatosRepository, never()).findAllAfter(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFindAllPageWithFields() {
+        // Arrange
+        TupleElement<Object> idElement = mock(TupleElement.class);
+        TupleElement<Object> nomeElement = mock(TupleElement.class);
+        when(idElement.getAlias()).thenReturn("id");
+        when(nomeElement.getAlias()).thenReturn("nome");
+        Tuple tuple = mock(Tuple.class);
+        doReturn(List.of(idElement, nomeElement)).when(tuple).getElements();
+        when(tuple.get(idElement)).thenReturn(MOCK_ID);
+        when(tuple.get(nomeElement)).thenReturn(MOCK_NAME);
+        when(contatosRepository.findProjectedAfter(List.of("nome"), 0L, 11)).thenReturn(List.of(tuple));
+
+        // Act
+        KeysetPage<ContatosDTO> result = contatosService.findAll(null, List.of("nome"), null, 10);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertEquals(MOCK_ID, result.getContent().get(0).getId());
+        assertEquals(MOCK_NAME, result.getContent().get(0).getNome());
+        assertNull(result.getContent().get(0).getContato());
+        assertFalse(result.hasNext());
+        verify(contatosRepository, never()).findAllAfter(any(), any());
+    }
+
+    @Test
+    void testFindAllPageWithInvalidField() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> contatosService.findAll(null, List.of("deletedProfissional"), null, 10));
+    }
+
+    @Test
+    void testExportNdjson() throws IOException {
+        // Arrange
+        when(contatosRepository.streamAll()).thenReturn(Stream.of(contato));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        contatosService.export(ExportFormat.NDJSON, out);
+
+        // Assert
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertTrue(body.startsWith("{\"id\":1,\"nome\":\"Nome Teste\""));
+        assertTrue(body.endsWith("}\n"));
+        verify(entityManager, times(1)).detach(contato);
+    }
+
+    @Test
+    void testExportCsv() throws IOException {
+        // Arrange
+        when(contatosRepository.streamAll()).thenReturn(Stream.of(contato));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        contatosService.export(ExportFormat.CSV, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,nome,"));
+        assertTrue(lines[1].startsWith("1,Nome Teste,Contato Teste,"));
+    }
+
+    @Test
+    void testFindListVersion() {
+        // Arrange
+        Instant lastModified = Instant.parse("2024-01-01T00:00:00Z");
+        VersionSummary summary = mock(VersionSummary.class);
+        when(summary.getTotal()).thenReturn(2L);
+        when(summary.getLastModified()).thenReturn(lastModified);
+        when(contatosRepository.findVersionSummary()).thenReturn(summary);
+
+        // Act
+        ResourceVersion version = contatosService.findListVersion();
+
+        // Assert
+        assertEquals(ResourceVersion.ofCollection(2, lastModified), version);
+        assertEquals(lastModified.toEpochMilli(), version.getLastModified());
+    }
+
     @Test
     void testFindById() {
         // Arrange
@@ -139,6 +318,49 @@ class ContatosServiceTest {
         assertEquals(contatoDto.getId(), result.getId());
     }
 
+    @Test
+    void testFindById_Cached() {
+        // Arrange
+        when(contatosRepository.findById(MOCK_ID)).thenReturn(Optional.of(contato));
+
+        // Act
+        contatosService.findById(MOCK_ID);
+        ContatosDTO result = contatosService.findById(MOCK_ID);
+
+        // Assert
+        assertEquals(MOCK_ID, result.getId());
+        verify(contatosRepository, times(1)).findById(MOCK_ID);
+    }
+
+    @Test
+    void testFindById_LoadsFromReplica() {
+        // Arrange
+        AtomicBoolean readOnly = new AtomicBoolean();
+        AtomicLong requiredLsn = new AtomicLong();
+        when(transactionManager.getTransaction(argThat(TransactionDefinition::isReadOnly))).thenAnswer(invocation -> {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            return mock(TransactionStatus.class);
+        });
+        when(contatosRepository.findById(MOCK_ID)).thenAnswer(invocation -> {
+            readOnly.set(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            requiredLsn.set(ConsistencyToken.required());
+            return Optional.of(contato);
+        });
+        ConsistencyToken.require(0x100L);
+
+        // Act
+        try {
+            contatosService.findById(MOCK_ID);
+        } finally {
+            ConsistencyToken.clear();
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+
+        // Assert
+        assertTrue(readOnly.get());
+        assertEquals(0x100L, requiredLsn.get());
+    }
+
     @Test
     void testFindById_ResourceNotFoundException() {
         // Arrange
@@ -176,6 +398,7 @@ class ContatosServiceTest {
         assertNotNull(response);
         assertTrue(response.isSuccess());
         assertEquals(CREATE_SUCCESS_MESSAGE, response.getMessage());
+        verify(outboxRepository, times(1)).record(OutboxRepository.CONTATOS, MOCK_ID, Operacao.CREATED);
     }
 
     @Test
@@ -205,6 +428,93 @@ class ContatosServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> contatosService.create(contatoDto));
     }
 
+    @Test
+    void testCreateBatch() throws IOException {
+        // Arrange
+        String body = "[{\"nome\":\"" + MOCK_NAME + "\",\"contato\":\"" + MOCK_CONTACT + "\",\"profissionalId\":1},"
+                + "{\"nome\":\"" + MOCK_NAME + "\",\"contato\":\"" + MOCK_CONTACT + "\",\"profissionalId\":2}]";
+
+        when(validator.validateBase(any(ContatosDTO.class)))
+            .thenReturn(new ApiRestResponse(true, VALIDATION_SUCCESS));
+        when(profissionaisRepository.findActiveIds(anyCollection())).thenReturn(List.of(MOCK_ID));
+        when(contatosRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Contatos> argument = invocation.getArgument(0);
+            argument.forEach(contato -> contato.setId(MOCK_ID));
+            return argument;
+        });
+
+        // Act
+        BatchResponse response = contatosService.createBatch(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(1, response.getCreated());
+        assertEquals(1, response.getFailed());
+        assertEquals(MOCK_ID, response.getItems().get(0).getId());
+        assertFalse(response.getItems().get(1).isSuccess());
+        assertEquals("Profissional não encontrado para adição de contato", response.getItems().get(1).getMessage());
+
+        verify(profissionaisRepository, times(1)).findActiveIds(anyCollection());
+        verify(profissionaisRepository, never()).findByIdAndActive(any());
+        verify(outboxRepository, times(1)).recordAll(OutboxRepository.CONTATOS, List.of(MOCK_ID), Operacao.CREATED);
+        verify(transactionManager, times(1)).commit(any());
+        verify(contatosSearchIndex, times(1)).indexAll(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportCsv() throws IOException {
+        // Arrange
+        String csv = "profissionalId,nome,contato\r\n"
+                + "1,celular,\"99999-9999\"\r\n"
+                + "1,,88888888\r\n"
+                + "abc,fixo,77777777\r\n"
+                + "\r\n"
+                + "99,\"email, pessoal\",teste@exemplo.com\r\n";
+        List<StagedContato> staged = new ArrayList<>();
+
+        when(validator.validateBase(any(ContatosDTO.class))).thenAnswer(invocation -> {
+            ContatosDTO argument = invocation.getArgument(0);
+            return argument.getNome().isBlank()
+                    ? new ApiRestResponse(false, VALIDATION_FAILURE)
+                    : new ApiRestResponse(true, VALIDATION_SUCCESS);
+        });
+        doAnswer(invocation -> {
+            Iterator<StagedContato> rows = invocation.getArgument(0);
+            rows.forEachRemaining(staged::add);
+            ((Consumer<List<Contatos>>) invocation.getArgument(1)).accept(List.of(contato));
+            ((LongConsumer) invocation.getArgument(2)).accept(6);
+            return null;
+        }).when(contatosRepository).importStaged(any(), any(), any());
+
+        // Act
+        ImportResponse response = contatosService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(2, staged.size());
+        assertEquals(new StagedContato(2, "celular", "99999-9999", MOCK_ID), staged.get(0));
+        assertEquals(new StagedContato(6, "email, pessoal", "teste@exemplo.com", 99L), staged.get(1));
+
+        assertEquals(1, response.getImported());
+        assertEquals(3, response.getRejected());
+        assertEquals(List.of(3L, 4L, 6L), response.getRejections().stream().map(rejection -> rejection.getLine()).toList());
+        assertEquals(VALIDATION_FAILURE, response.getRejections().get(0).getMessage());
+
+        verify(contatosSearchIndex, times(1)).indexAll(List.of(contato));
+        verify(outboxRepository, times(1)).recordAll(OutboxRepository.CONTATOS, List.of(MOCK_ID), Operacao.CREATED);
+        verify(contatosRepository, never()).save(any(Contatos.class));
+    }
+
+    @Test
+    void testImportCsv_MissingColumns() {
+        // Arrange
+        String csv = "nome,contato\ncelular,99999999\n";
+
+        // Act & Assert
+        assertThrows(BadRequestException.class,
+            () -> contatosService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))));
+        verify(contatosRepository, never()).importStaged(any(), any(), any());
+    }
+
     @Test
     void testUpdate() {
         // Arrange
@@ -215,13 +525,18 @@ class ContatosServiceTest {
         
         when(contatosRepository.save(any(Contatos.class))).thenReturn(contato);
 
+        contato.setVersion(4L);
+
         // Act
         ApiRestResponse response = contatosService.update(contatoDto);
 
         // Assert
+        verify(contatosRepository, times(1)).save(argThat(saved -> Long.valueOf(4L).equals(saved.getVersion())));
         verify(validator, times(1)).validateBase(contatoDto);
         verify(contatosRepository, times(1)).findByIdAndActive(MOCK_ID);
         verify(contatosRepository, times(1)).save(any(Contatos.class));
+        verify(contatosCache, times(1)).invalidate(MOCK_ID);
+        verify(outboxRepository, times(1)).record(OutboxRepository.CONTATOS, MOCK_ID, Operacao.UPDATED);
 
         assertNotNull(response);
         assertTrue(response.isSuccess());
@@ -273,6 +588,9 @@ class ContatosServiceTest {
         assertEquals(DELETE_SUCCESS_MESSAGE, response.getMessage());
 
         verify(contatosRepository, times(1)).deleteById(MOCK_ID);
+        verify(outboxRepository, times(1)).record(OutboxRepository.CONTATOS, MOCK_ID, Operacao.DELETED);
+        verify(contatosSearchIndex, times(1)).delete(MOCK_ID);
+        verify(contatosCache, times(1)).invalidate(MOCK_ID);
     }
 
     @Test
@@ -0,0 +1,67 @@
+package br.com.maicon.unittests.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import br.com.maicon.data.dto.v1.EstatisticasDTO;
+import br.com.maicon.repositories.EstatisticasRepository;
+import br.com.maicon.services.EstatisticasService;
+
+class EstatisticasServiceTest {
+
+    private static final Instant ATUALIZADO_EM = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private EstatisticasRepository repository;
+
+    @InjectMocks
+    private EstatisticasService estatisticasService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testFindEstatisticas() {
+        // Arrange
+        when(repository.findAtualizadoEm()).thenReturn(ATUALIZADO_EM);
+        when(repository.findProfissionaisPorCargo()).thenReturn(List.of(
+                new EstatisticasDTO.CargoTotal("Desenvolvedor", 3), new EstatisticasDTO.CargoTotal("Tester", 2)));
+        when(repository.findContatosPorProfissional()).thenReturn(List.of(
+                new EstatisticasDTO.ContatosTotal(0, 1), new EstatisticasDTO.ContatosTotal(1, 2), new EstatisticasDTO.ContatosTotal(3, 2)));
+        when(repository.findContratacoesPorMes()).thenReturn(List.of(new EstatisticasDTO.MesTotal("2024-01", 5)));
+
+        // Act
+        EstatisticasDTO result = estatisticasService.findEstatisticas();
+
+        // Assert
+        assertEquals(Date.from(ATUALIZADO_EM), result.getAtualizadoEm());
+        assertEquals(5, result.getTotalProfissionais());
+        assertEquals(8, result.getTotalContatos());
+        assertEquals(2, result.getProfissionaisPorCargo().size());
+        assertEquals("2024-01", result.getContratacoesPorMes().get(0).getMes());
+    }
+
+    @Test
+    void testRefresh() {
+        // Arrange
+        when(repository.refresh()).thenReturn(true);
+
+        // Act
+        estatisticasService.refresh();
+
+        // Assert
+        verify(repository, times(1)).refresh();
+    }
+}
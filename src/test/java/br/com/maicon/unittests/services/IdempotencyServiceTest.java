@@ -0,0 +1,206 @@
+package br.com.maicon.unittests.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.maicon.data.dto.v1.ProfissionaisDTO;
+import br.com.maicon.exception.BadRequestException;
+import br.com.maicon.repositories.IdempotencyKeyRepository;
+import br.com.maicon.repositories.IdempotencyKeyRepository.StoredResponse;
+import br.com.maicon.services.IdempotencyService;
+import br.com.maicon.utils.ApiRestResponse;
+
+class IdempotencyServiceTest {
+
+    private static final String ESCOPO = "profissionais";
+    private static final String KEY = "chave-1";
+    private static final String SUCCESS_MESSAGE = "Profissional com ID 1 cadastrado com sucesso!";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private IdempotencyKeyRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleTransactionStatus transactionStatus;
+    private IdempotencyService idempotencyService;
+    private AtomicInteger creates;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        transactionStatus = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        idempotencyService = new IdempotencyService(repository, transactionManager, objectMapper,
+                Duration.ofHours(24), 100, Duration.ofMinutes(5));
+        creates = new AtomicInteger();
+    }
+
+    @Test
+    void testExecute_WithoutKey() {
+        // Act
+        ApiRestResponse response = idempotencyService.execute(ESCOPO, null, profissional("Nome"), create(true));
+
+        // Assert
+        assertTrue(response.isSuccess());
+        assertEquals(1, creates.get());
+        verifyNoInteractions(repository, transactionManager);
+    }
+
+    @Test
+    void testExecute_FirstRequest() throws Exception {
+        // Arrange
+        ProfissionaisDTO profissional = profissional("Nome");
+        when(repository.claim(ESCOPO, KEY, hash(profissional))).thenReturn(true);
+
+        // Act
+        ApiRestResponse response = idempotencyService.execute(ESCOPO, KEY, profissional, create(true));
+
+        // Assert
+        assertEquals(SUCCESS_MESSAGE, response.getMessage());
+        assertEquals(1, creates.get());
+        verify(repository).complete(ESCOPO, KEY, SUCCESS_MESSAGE);
+        verify(transactionManager).commit(transactionStatus);
+        assertFalse(transactionStatus.isRollbackOnly());
+    }
+
+    @Test
+    void testExecute_RetryIsServedFromMemory() {
+        // Arrange
+        when(repository.claim(eq(ESCOPO), eq(KEY), anyString())).thenReturn(true);
+        idempotencyService.execute(ESCOPO, KEY, profissional("Nome"), create(true));
+
+        // Act
+        ApiRestResponse response = idempotencyService.execute(ESCOPO, KEY, profissional("Nome"), create(true));
+
+        // Assert
+        assertTrue(response.isSuccess());
+        assertEquals(SUCCESS_MESSAGE, response.getMessage());
+        assertEquals(1, creates.get());
+        verify(repository, times(1)).claim(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void testExecute_RetryIsServedFromDatabase() throws Exception {
+        // Arrange
+        ProfissionaisDTO profissional = profissional("Nome");
+        when(repository.claim(ESCOPO, KEY, hash(profissional))).thenReturn(false);
+        when(repository.find(ESCOPO, KEY)).thenReturn(Optional.of(new StoredResponse(hash(profissional), SUCCESS_MESSAGE)));
+
+        // Act
+        ApiRestResponse response = idempotencyService.execute(ESCOPO, KEY, profissional, create(true));
+
+        // Assert
+        assertTrue(response.isSuccess());
+        assertEquals(SUCCESS_MESSAGE, response.getMessage());
+        assertEquals(0, creates.get());
+        verify(repository, never()).complete(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void testExecute_KeyReusedWithAnotherBody() {
+        // Arrange
+        when(repository.claim(eq(ESCOPO), eq(KEY), anyString())).thenReturn(true);
+        idempotencyService.execute(ESCOPO, KEY, profissional("Nome"), create(true));
+
+        // Act & Assert
+        assertThrows(BadRequestException.class,
+                () -> idempotencyService.execute(ESCOPO, KEY, profissional("Outro Nome"), create(true)));
+        assertEquals(1, creates.get());
+    }
+
+    @Test
+    void testExecute_SameKeyInAnotherScope() {
+        // Arrange
+        when(repository.claim(anyString(), eq(KEY), anyString())).thenReturn(true);
+        idempotencyService.execute(ESCOPO, KEY, profissional("Nome"), create(true));
+
+        // Act
+        idempotencyService.execute("contatos", KEY, profissional("Nome"), create(true));
+
+        // Assert
+        assertEquals(2, creates.get());
+    }
+
+    @Test
+    void testExecute_FailedValidationIsNotStored() {
+        // Arrange
+        when(repository.claim(eq(ESCOPO), eq(KEY), anyString())).thenReturn(true);
+
+        // Act
+        ApiRestResponse response = idempotencyService.execute(ESCOPO, KEY, profissional("Nome"), create(false));
+
+        // Assert
+        assertFalse(response.isSuccess());
+        assertTrue(transactionStatus.isRollbackOnly());
+        verify(repository, never()).complete(anyString(), anyString(), anyString());
+
+        // Act
+        idempotencyService.execute(ESCOPO, KEY, profissional("Nome"), create(true));
+
+        // Assert
+        assertEquals(2, creates.get());
+    }
+
+    @Test
+    void testExecute_InvalidKey() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> idempotencyService.execute(ESCOPO, " ", profissional("Nome"), create(true)));
+        assertThrows(BadRequestException.class,
+                () -> idempotencyService.execute(ESCOPO, "k".repeat(IdempotencyService.MAX_KEY_LENGTH + 1), profissional("Nome"), create(true)));
+        assertEquals(0, creates.get());
+    }
+
+    @Test
+    void testPurgeExpired() {
+        // Arrange
+        ArgumentCaptor<Instant> instant = ArgumentCaptor.forClass(Instant.class);
+        Instant before = Instant.now().minus(Duration.ofHours(24));
+
+        // Act
+        idempotencyService.purgeExpired();
+
+        // Assert
+        verify(repository).deleteCreatedBefore(instant.capture());
+        assertFalse(instant.getValue().isBefore(before));
+        assertTrue(instant.getValue().isBefore(Instant.now().minus(Duration.ofHours(23))));
+    }
+
+    private Supplier<ApiRestResponse> create(boolean success) {
+        return () -> {
+            creates.incrementAndGet();
+            return success ? new ApiRestResponse(true, SUCCESS_MESSAGE) : new ApiRestResponse(false, "Dados inválidos!");
+        };
+    }
+
+    private ProfissionaisDTO profissional(String nome) {
+        ProfissionaisDTO profissional = new ProfissionaisDTO();
+        profissional.setNome(nome);
+        profissional.setCargo("Desenvolvedor");
+        return profissional;
+    }
+
+    private String hash(ProfissionaisDTO profissional) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(profissional)));
+    }
+}
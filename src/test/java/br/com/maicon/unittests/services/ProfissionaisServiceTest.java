@@ -3,26 +3,61 @@ package br.com.maicon.unittests.services;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-
+import org.mockito.Spy;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.maicon.cache.ContatosCache;
+import br.com.maicon.cache.ProfissionaisCache;
+import br.com.maicon.cache.ReadCoalescer;
+import br.com.maicon.data.dto.v1.ChangeEventDTO.Operacao;
 import br.com.maicon.data.dto.v1.ProfissionaisDTO;
+import br.com.maicon.datasource.ConsistencyToken;
+import br.com.maicon.exception.BadRequestException;
 import br.com.maicon.exception.ResourceNotFoundException;
 import br.com.maicon.mapper.DozerMapper;
 import br.com.maicon.models.Contatos;
 import br.com.maicon.models.Profissionais;
 import br.com.maicon.repositories.ContatosRepository;
+import br.com.maicon.repositories.OutboxRepository;
 import br.com.maicon.repositories.ProfissionaisRepository;
+import br.com.maicon.repositories.VersionSummary;
+import br.com.maicon.search.ContatosSearchIndex;
+import br.com.maicon.search.ProfissionaisSearchIndex;
 import br.com.maicon.services.ProfissionaisService;
 import br.com.maicon.services.validation.ProfissionaisValidator;
 import br.com.maicon.utils.ApiRestResponse;
+import br.com.maicon.utils.BatchResponse;
+import br.com.maicon.utils.ExportFormat;
+import br.com.maicon.utils.KeysetPage;
+import br.com.maicon.utils.ResourceVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
 
 class ProfissionaisServiceTest {
 
@@ -44,13 +79,38 @@ class ProfissionaisServiceTest {
     @Mock
     private ProfissionaisValidator profissionaisValidator;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ProfissionaisSearchIndex profissionaisSearchIndex;
+
+    @Mock
+    private ContatosSearchIndex contatosSearchIndex;
+
+    @Spy
+    private ProfissionaisCache profissionaisCache = new ProfissionaisCache(100, Duration.ofMinutes(1));
+
+    @Spy
+    private ContatosCache contatosCache = new ContatosCache(100, Duration.ofMinutes(1));
+
+    @Spy
+    private ReadCoalescer readCoalescer = new ReadCoalescer(mock(PlatformTransactionManager.class), 100, new SimpleMeterRegistry());
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private ProfissionaisService profissionaisService;
 
     private ProfissionaisDTO mockProfissionalDto;
     private Profissionais mockProfissional;
-    private Contatos mockContato1;
-    private Contatos mockContato2;
 
     @BeforeEach
     void setUp() {
@@ -71,16 +131,6 @@ class ProfissionaisServiceTest {
         mockProfissional.setId(MOCK_ID);
         mockProfissional.setNome(MOCK_NAME);
         mockProfissional.setDeleted(false);
-
-        mockContato1 = new Contatos();
-        mockContato1.setId(1L);
-        mockContato1.setProfissionalId(MOCK_ID);
-        mockContato1.setDeletedProfissional(false);
-
-        mockContato2 = new Contatos();
-        mockContato2.setId(2L);
-        mockContato2.setProfissionalId(MOCK_ID);
-        mockContato2.setDeletedProfissional(false);
     }
 
     @Test
@@ -100,7 +150,7 @@ class ProfissionaisServiceTest {
     @Test
     void testFindAllWithQuery() {
         // Arrange
-        when(profissionaisRepository.findByQuery(MOCK_NAME)).thenReturn(List.of(mockProfissional));
+        when(profissionaisRepository.search(MOCK_NAME, KeysetPage.MAX_LIMIT)).thenReturn(List.of(mockProfissional));
 
         // Act
         List<ProfissionaisDTO> result = profissionaisService.findAll(MOCK_NAME);
@@ -139,6 +189,172 @@ class ProfissionaisServiceTest {
         assertEquals(mockProfissionalDto.getId(), result.get(0).getId());
     }
 
+    @Test
+    void testFindAllPage() {
+        // Arrange
+        Profissionais nextProfissional = new Profissionais();
+        nextProfissional.setId(MOCK_ID + 1);
+        when(profissionaisRepository.findActiveAfter(0L, Limit.of(2))).thenReturn(List.of(mockProfissional, nextProfissional));
+
+        // Act
+        KeysetPage<ProfissionaisDTO> result = profissionaisService.findAll(null, null, 1);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertEquals(MOCK_ID, result.getContent().get(0).getId());
+        assertEquals(KeysetPage.encodeCursor(MOCK_ID), result.getNextCursor());
+    }
+
+    @Test
+    void testFindAllPageWithQuery() {
+        // Arrange
+        when(profissionaisRepository.search(MOCK_NAME, 10)).thenReturn(List.of(mockProfissional));
+
+        // Act
+        KeysetPage<ProfissionaisDTO> result = profissionaisService.findAll(MOCK_NAME, MOCK_ID, 10);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.hasNext());
+        verify(profissionaisRepository, never()).findActiveAfter(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFindAllPageWithFields() {
+        // Arrange
+        TupleElement<Object> idElement = mock(TupleElement.class);
+        TupleElement<Object> nomeElement = mock(TupleElement.class);
+        when(idElement.getAlias()).thenReturn("id");
+        when(nomeElement.getAlias()).thenReturn("nome");
+        Tuple tuple = mock(Tuple.class);
+        doReturn(List.of(idElement, nomeElement)).when(tuple).getElements();
+        when(tuple.get(idElement)).thenReturn(MOCK_ID);
+        when(tuple.get(nomeElement)).thenReturn(MOCK_NAME);
+        when(profissionaisRepository.findProjectedAfter(List.of("nome"), 0L, 11)).thenReturn(List.of(tuple));
+
+        // Act
+        KeysetPage<ProfissionaisDTO> result = profissionaisService.findAll(null, List.of("nome"), null, 10);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertEquals(MOCK_ID, result.getContent().get(0).getId());
+        assertEquals(MOCK_NAME, result.getContent().get(0).getNome());
+        assertNull(result.getContent().get(0).getCargo());
+        assertFalse(result.hasNext());
+        verify(profissionaisRepository, never()).findActiveAfter(any(), any());
+    }
+
+    @Test
+    void testFindAllPageWithInvalidField() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> profissionaisService.findAll(null, List.of("deleted"), null, 10));
+    }
+
+    @Test
+    void testExportNdjson() throws IOException {
+        // Arrange
+        when(profissionaisRepository.streamAllActive()).thenReturn(Stream.of(mockProfissional));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        profissionaisService.export(ExportFormat.NDJSON, out);
+
+        // Assert
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertTrue(body.startsWith("{\"id\":1,\"nome\":\"Nome Teste\""));
+        assertTrue(body.endsWith("}\n"));
+        verify(entityManager, times(1)).detach(mockProfissional);
+    }
+
+    @Test
+    void testExportCsv() throws IOException {
+        // Arrange
+        when(profissionaisRepository.streamAllActive()).thenReturn(Stream.of(mockProfissional));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        profissionaisService.export(ExportFormat.CSV, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,nome,"));
+        assertTrue(lines[1].startsWith("1,Nome Teste,"));
+    }
+
+    @Test
+    void testFindListVersion() {
+        // Arrange
+        Instant lastModified = Instant.parse("2024-01-01T00:00:00Z");
+        VersionSummary summary = mock(VersionSummary.class);
+        when(summary.getTotal()).thenReturn(2L);
+        when(summary.getLastModified()).thenReturn(lastModified);
+        when(profissionaisRepository.findActiveVersionSummary()).thenReturn(summary);
+
+        // Act
+        ResourceVersion version = profissionaisService.findListVersion();
+
+        // Assert
+        assertEquals(ResourceVersion.ofCollection(2, lastModified), version);
+        assertEquals(lastModified.toEpochMilli(), version.getLastModified());
+    }
+
+    @Test
+    void testFindExpandedListVersion() {
+        // Arrange
+        VersionSummary profissionais = mock(VersionSummary.class);
+        when(profissionais.getTotal()).thenReturn(2L);
+        when(profissionais.getLastModified()).thenReturn(Instant.parse("2024-01-01T00:00:00Z"));
+        when(profissionaisRepository.findActiveVersionSummary()).thenReturn(profissionais);
+        VersionSummary contatos = mock(VersionSummary.class);
+        when(contatos.getTotal()).thenReturn(3L);
+        when(contatos.getLastModified()).thenReturn(Instant.parse("2024-02-01T00:00:00Z"));
+        when(contatosRepository.findVersionSummary()).thenReturn(contatos);
+
+        // Act
+        ResourceVersion version = profissionaisService.findExpandedListVersion();
+
+        // Assert
+        assertNotEquals(profissionaisService.findListVersion().getETag(), version.getETag());
+        assertEquals(Instant.parse("2024-02-01T00:00:00Z").toEpochMilli(), version.getLastModified());
+    }
+
+    @Test
+    void testExpandContatos() {
+        // Arrange
+        ProfissionaisDTO other = new ProfissionaisDTO();
+        other.setId(2L);
+        Contatos first = new Contatos();
+        first.setId(10L);
+        first.setProfissionalId(MOCK_ID);
+        Contatos second = new Contatos();
+        second.setId(11L);
+        second.setProfissionalId(MOCK_ID);
+        when(contatosRepository.findActiveByProfissionalIdIn(List.of(MOCK_ID, 2L))).thenReturn(List.of(first, second));
+
+        // Act
+        List<ProfissionaisDTO> result = profissionaisService.expandContatos(List.of(mockProfissionalDto, other));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(MOCK_NAME, result.get(0).getNome());
+        assertEquals(List.of(10L, 11L), result.get(0).getContatos().stream().map(c -> c.getId()).toList());
+        assertEquals(List.of(), result.get(1).getContatos());
+        assertNull(mockProfissionalDto.getContatos());
+        verify(contatosRepository, times(1)).findActiveByProfissionalIdIn(any());
+    }
+
+    @Test
+    void testExpandContatos_Empty() {
+        // Act
+        List<ProfissionaisDTO> result = profissionaisService.expandContatos(List.of());
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(contatosRepository, never()).findActiveByProfissionalIdIn(any());
+    }
+
     @Test
     void testFindById() {
         // Arrange
@@ -152,6 +368,51 @@ class ProfissionaisServiceTest {
         assertEquals(mockProfissionalDto.getId(), result.getId());
     }
 
+    @Test
+    void testFindById_Cached() {
+        // Arrange
+        when(profissionaisRepository.findByIdAndActive(MOCK_ID)).thenReturn(Optional.of(mockProfissional));
+
+        // Act
+        ProfissionaisDTO first = profissionaisService.findById(MOCK_ID);
+        ProfissionaisDTO second = profissionaisService.findById(MOCK_ID);
+
+        // Assert
+        assertSame(first, second);
+        verify(profissionaisRepository, times(1)).findByIdAndActive(MOCK_ID);
+        assertEquals(1, profissionaisCache.stats().getHitCount());
+        assertEquals(1, profissionaisCache.stats().getMissCount());
+    }
+
+    @Test
+    void testFindById_LoadsFromReplica() {
+        // Arrange
+        AtomicBoolean readOnly = new AtomicBoolean();
+        AtomicLong requiredLsn = new AtomicLong();
+        when(transactionManager.getTransaction(argThat(TransactionDefinition::isReadOnly))).thenAnswer(invocation -> {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            return mock(TransactionStatus.class);
+        });
+        when(profissionaisRepository.findByIdAndActive(MOCK_ID)).thenAnswer(invocation -> {
+            readOnly.set(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            requiredLsn.set(ConsistencyToken.required());
+            return Optional.of(mockProfissional);
+        });
+        ConsistencyToken.require(0x100L);
+
+        // Act
+        try {
+            profissionaisService.findById(MOCK_ID);
+        } finally {
+            ConsistencyToken.clear();
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+
+        // Assert
+        assertTrue(readOnly.get());
+        assertEquals(0x100L, requiredLsn.get());
+    }
+
     @Test
     void testFindById_ResourceNotFoundException() {
         // Arrange
@@ -173,6 +434,8 @@ class ProfissionaisServiceTest {
 
         // Assert
         verify(profissionaisValidator, times(1)).validate(mockProfissionalDto);
+        verify(profissionaisSearchIndex, times(1)).index(any(Profissionais.class));
+        verify(outboxRepository, times(1)).record(OutboxRepository.PROFISSIONAIS, MOCK_ID, Operacao.CREATED);
         assertNotNull(response);
         assertTrue(response.isSuccess());
         assertEquals(CREATE_SUCCESS_MESSAGE, response.getMessage());
@@ -189,11 +452,60 @@ class ProfissionaisServiceTest {
 
         // Assert
         verify(profissionaisValidator, times(1)).validate(mockProfissionalDto);
+        verify(outboxRepository, never()).record(any(), any(), any());
         assertNotNull(response);
         assertFalse(response.isSuccess());
         assertEquals(VALIDATION_FAILURE, response.getMessage());
     }
 
+    @Test
+    void testCreateBatch() throws IOException {
+        // Arrange
+        String body = "[{\"nome\":\"" + MOCK_NAME + "\",\"cargo\":\"Tester\"},{\"nome\":\"Inválido\"},42]";
+
+        when(profissionaisValidator.validate(any(ProfissionaisDTO.class))).thenAnswer(invocation -> {
+            ProfissionaisDTO argument = invocation.getArgument(0);
+            return MOCK_NAME.equals(argument.getNome())
+                    ? new ApiRestResponse(true, VALIDATION_SUCCESS)
+                    : new ApiRestResponse(false, VALIDATION_FAILURE);
+        });
+        when(profissionaisRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Profissionais> argument = invocation.getArgument(0);
+            argument.forEach(profissional -> profissional.setId(MOCK_ID));
+            return argument;
+        });
+
+        // Act
+        BatchResponse response = profissionaisService.createBatch(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(1, response.getCreated());
+        assertEquals(2, response.getFailed());
+        assertEquals(3, response.getItems().size());
+        assertTrue(response.getItems().get(0).isSuccess());
+        assertEquals(MOCK_ID, response.getItems().get(0).getId());
+        assertEquals(VALIDATION_FAILURE, response.getItems().get(1).getMessage());
+        assertEquals(2, response.getItems().get(2).getIndex());
+        assertFalse(response.getItems().get(2).isSuccess());
+
+        verify(profissionaisRepository, times(1)).saveAll(anyList());
+        verify(profissionaisRepository, never()).save(any(Profissionais.class));
+        verify(outboxRepository, times(1)).recordAll(OutboxRepository.PROFISSIONAIS, List.of(MOCK_ID), Operacao.CREATED);
+        verify(transactionManager, times(1)).commit(any());
+        verify(profissionaisSearchIndex, times(1)).indexAll(anyList());
+    }
+
+    @Test
+    void testCreateBatch_NotAnArray() {
+        // Arrange
+        String body = "{\"nome\":\"" + MOCK_NAME + "\"}";
+
+        // Act & Assert
+        assertThrows(BadRequestException.class,
+            () -> profissionaisService.createBatch(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))));
+        verify(profissionaisRepository, never()).saveAll(anyList());
+    }
+
     @Test
     void testUpdate() {
         // Arrange
@@ -202,11 +514,16 @@ class ProfissionaisServiceTest {
         when(profissionaisRepository.findByIdAndActive(MOCK_ID)).thenReturn(Optional.of(mockProfissional));
         when(profissionaisRepository.save(any(Profissionais.class))).thenReturn(mockProfissional);
 
+        mockProfissional.setVersion(4L);
+
         // Act
         ApiRestResponse response = profissionaisService.update(mockProfissionalDto);
 
         // Assert
+        verify(profissionaisRepository, times(1)).save(argThat(saved -> Long.valueOf(4L).equals(saved.getVersion())));
         verify(profissionaisValidator, times(1)).validate(mockProfissionalDto);
+        verify(profissionaisCache, times(1)).invalidate(MOCK_ID);
+        verify(outboxRepository, times(1)).record(OutboxRepository.PROFISSIONAIS, MOCK_ID, Operacao.UPDATED);
         assertNotNull(response);
         assertTrue(response.isSuccess());
         assertEquals(UPDATE_SUCCESS_MESSAGE, response.getMessage());
@@ -242,10 +559,8 @@ class ProfissionaisServiceTest {
     @Test
     void testDelete() {
         // Arrange
-        List<Contatos> mockContatosList = List.of(mockContato1, mockContato2);
-
         when(profissionaisRepository.findByIdAndActive(MOCK_ID)).thenReturn(Optional.of(mockProfissional));
-        when(contatosRepository.findAll()).thenReturn(mockContatosList);
+        when(contatosRepository.markDeletedByProfissionalId(MOCK_ID)).thenReturn(2);
 
         // Act
         ApiRestResponse response = profissionaisService.delete(MOCK_ID);
@@ -258,12 +573,15 @@ class ProfissionaisServiceTest {
         assertTrue(mockProfissional.isDeleted());
         assertNotNull(mockProfissional.getDeletedDate());
 
-        for (Contatos contato : mockContatosList) {
-            assertTrue(contato.getDeletedProfissional());
-        }
-
         verify(profissionaisRepository, times(1)).save(mockProfissional);
-        verify(contatosRepository, times(mockContatosList.size())).save(any(Contatos.class));
+        verify(contatosRepository, times(1)).markDeletedByProfissionalId(MOCK_ID);
+        verify(outboxRepository, times(1)).recordProfissionalDeleted(MOCK_ID);
+        verify(contatosRepository, never()).findAll();
+        verify(contatosRepository, never()).save(any(Contatos.class));
+        verify(profissionaisSearchIndex, times(1)).delete(MOCK_ID);
+        verify(contatosSearchIndex, times(1)).deleteByProfissional(MOCK_ID);
+        verify(profissionaisCache, times(1)).invalidate(MOCK_ID);
+        verify(contatosCache, times(1)).invalidateIf(any());
     }
 
     @Test
@@ -18,6 +18,8 @@ import org.mockito.MockitoAnnotations;
 
 import br.com.maicon.services.validation.base.ValidatorBase;
 import br.com.maicon.utils.ApiRestResponse;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
 import jakarta.validation.Validator;
@@ -78,5 +80,24 @@ class ValidatorBaseTest {
         assertTrue(exception.getMessage().contains(EXPECTED_EXCEPTION_MESSAGE));
     }
 
+    @Test
+    void testValidateBase_RecordsTimer() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        when(validator.validate(any(TestDTO.class))).thenReturn(Set.of());
+
+        try {
+            // Act
+            validatorBase.validateBase(testDTO);
+            validatorBase.validateBase(testDTO);
+
+            // Assert
+            assertEquals(2, registry.get(ValidatorBase.METRIC_NAME).tag("type", "TestDTO").timer().count());
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+
     private static class TestDTO {}
 }